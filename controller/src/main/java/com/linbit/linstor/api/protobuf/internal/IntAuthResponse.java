@@ -7,6 +7,7 @@ import com.linbit.linstor.api.ApiCallReactive;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
 import com.linbit.linstor.api.protobuf.ProtobufApiCall;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlAuthResponseApiCallHandler;
+import com.linbit.linstor.netcom.MessageCompression;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass.ApiCallResponse;
 import com.linbit.linstor.proto.common.StltConfigOuterClass.StltConfig;
@@ -73,6 +74,8 @@ public class IntAuthResponse implements ApiCallReactive
 
         final boolean success = msgAuthResponse.getSuccess();
         final Long expectedFullSyncId;
+        final long appliedFullSyncId;
+        final long appliedUpdateId;
         final Integer linstorVersionMajor;
         final Integer linstorVersionMinor;
         final Integer linstorVersionPatch;
@@ -82,6 +85,8 @@ public class IntAuthResponse implements ApiCallReactive
         if (success)
         {
             expectedFullSyncId = msgAuthResponse.getExpectedFullSyncId();
+            appliedFullSyncId = msgAuthResponse.getAppliedFullSyncId();
+            appliedUpdateId = msgAuthResponse.getAppliedUpdateId();
             nodeUname = msgAuthResponse.getNodeUname();
             linstorVersionMajor = msgAuthResponse.getLinstorVersionMajor();
             linstorVersionMinor = msgAuthResponse.getLinstorVersionMinor();
@@ -91,10 +96,16 @@ public class IntAuthResponse implements ApiCallReactive
                 false
             );
             stltConfig = msgAuthResponse.getStltConfig();
+            // the satellite only selects one of the compression algorithms offered by the controller
+            peer.setMessageCompression(MessageCompression.isSupported(msgAuthResponse.getCompression()));
+            // older satellites do not announce it and keep requesting the data of changed objects
+            peer.setPushedUpdates(msgAuthResponse.getPushedUpdates());
         }
         else
         {
             expectedFullSyncId = null;
+            appliedFullSyncId = 0;
+            appliedUpdateId = 0;
             nodeUname = null;
             linstorVersionMajor = null;
             linstorVersionMinor = null;
@@ -107,6 +118,8 @@ public class IntAuthResponse implements ApiCallReactive
             success,
             apiCallResponse,
             expectedFullSyncId,
+            appliedFullSyncId,
+            appliedUpdateId,
             nodeUname,
             linstorVersionMajor,
             linstorVersionMinor,
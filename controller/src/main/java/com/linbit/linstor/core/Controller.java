@@ -58,6 +58,7 @@ import com.linbit.linstor.systemstarter.OpenflexTargetProceMgrInit;
 import com.linbit.linstor.systemstarter.PassphraseInitializer;
 import com.linbit.linstor.systemstarter.ServiceStarter;
 import com.linbit.linstor.systemstarter.StartupInitializer;
+import com.linbit.linstor.tasks.DbCheckpointTask;
 import com.linbit.linstor.tasks.LogArchiveTask;
 import com.linbit.linstor.tasks.PingTask;
 import com.linbit.linstor.tasks.ReconnectorTask;
@@ -121,6 +122,7 @@ public final class Controller
     private final PingTask pingTask;
     private final ReconnectorTask reconnectorTask;
     private final LogArchiveTask logArchiveTask;
+    private final DbCheckpointTask dbCheckpointTask;
 
     private final DebugConsoleCreator debugConsoleCreator;
     private final ControllerNetComInitializer controllerNetComInitializer;
@@ -156,6 +158,7 @@ public final class Controller
         ReconnectorTask reconnectorTaskRef,
         RetryResourcesTask retryResourcesTaskRef,
         LogArchiveTask logArchiveTaskRef,
+        DbCheckpointTask dbCheckpointTaskRef,
         DebugConsoleCreator debugConsoleCreatorRef,
         ControllerNetComInitializer controllerNetComInitializerRef,
         OpenFlexTargetProcessManager openFlexTargetProcessManagerRef,
@@ -182,6 +185,7 @@ public final class Controller
         pingTask = pingTaskRef;
         reconnectorTask = reconnectorTaskRef;
         logArchiveTask = logArchiveTaskRef;
+        dbCheckpointTask = dbCheckpointTaskRef;
         retryResourcesTask = retryResourcesTaskRef;
         debugConsoleCreator = debugConsoleCreatorRef;
         controllerNetComInitializer = controllerNetComInitializerRef;
@@ -238,6 +242,7 @@ public final class Controller
             taskScheduleService.addTask(reconnectorTask);
             taskScheduleService.addTask(retryResourcesTask);
             taskScheduleService.addTask(logArchiveTask);
+            taskScheduleService.addTask(dbCheckpointTask);
 
             systemServicesMap.put(controllerDb.getInstanceName(), controllerDb);
             systemServicesMap.put(taskScheduleService.getInstanceName(), taskScheduleService);
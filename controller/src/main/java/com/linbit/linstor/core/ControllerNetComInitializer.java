@@ -19,6 +19,7 @@ import com.linbit.linstor.netcom.MessageProcessor;
 import com.linbit.linstor.netcom.NetComContainer;
 import com.linbit.linstor.netcom.TcpConnector;
 import com.linbit.linstor.netcom.TcpConnectorService;
+import com.linbit.linstor.netcom.ssl.SslCryptoExecutor;
 import com.linbit.linstor.netcom.ssl.SslTcpConnectorService;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.propscon.InvalidValueException;
@@ -31,6 +32,7 @@ import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
+import com.linbit.utils.MathUtils;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -66,6 +68,10 @@ public final class ControllerNetComInitializer implements StartupInitializer
     private static final String PROPSCON_KEY_NETCOM_KEY_PASSWD = "keyPasswd";
     private static final String PROPSCON_KEY_NETCOM_SSL_PROTOCOL = "sslProtocol";
     private static final String PROPSCON_KEY_NETCOM_ENABLED = "enabled";
+    private static final String PROPSCON_KEY_NETCOM_SELECTOR_THREADS = "selectorThreads";
+    private static final String PROPSCON_KEY_NETCOM_CRYPTO_THREADS = "cryptoThreads";
+    private static final String PROPSCON_KEY_NETCOM_OUT_QUEUE_MAX_MSGS = "outQueueMaxMsgs";
+    private static final String PROPSCON_KEY_NETCOM_OUT_QUEUE_MAX_BYTES = "outQueueMaxBytes";
     private static final String PROPSCON_NETCOM_TYPE_PLAIN = "plain";
     private static final String PROPSCON_NETCOM_TYPE_SSL = "ssl";
     static final String PROPSCON_KEY_DEFAULT_DEBUG_SSL_CON_SVC = "defaultDebugSslConnector";
@@ -269,6 +275,18 @@ public final class ControllerNetComInitializer implements StartupInitializer
         Integer port = Integer.parseInt(loadPropChecked(configProp, PROPSCON_KEY_NETCOM_PORT));
         String type = loadPropChecked(configProp, PROPSCON_KEY_NETCOM_TYPE);
 
+        int selectorCount = loadIntProp(
+            serviceName,
+            configProp,
+            PROPSCON_KEY_NETCOM_SELECTOR_THREADS,
+            MathUtils.bounds(
+                TcpConnectorService.MIN_SELECTOR_COUNT,
+                LinStor.CPU_COUNT,
+                TcpConnectorService.MAX_SELECTOR_COUNT
+            ),
+            errorLogRef
+        );
+
         SocketAddress bindAddress = new InetSocketAddress(bindAddressStr, port);
 
         if (type.equals(PROPSCON_NETCOM_TYPE_PLAIN))
@@ -280,7 +298,8 @@ public final class ControllerNetComInitializer implements StartupInitializer
                 bindAddress,
                 publicCtx,
                 initCtx,
-                ctrlConnTracker
+                ctrlConnTracker,
+                selectorCount
             );
             try
             {
@@ -418,7 +437,19 @@ public final class ControllerNetComInitializer implements StartupInitializer
                         keyStorePw.toCharArray(),
                         keyPw.toCharArray(),
                         trustStoreFilePath.toString(),
-                        trustStorPw.toCharArray()
+                        trustStorPw.toCharArray(),
+                        selectorCount,
+                        loadIntProp(
+                            serviceName,
+                            configProp,
+                            PROPSCON_KEY_NETCOM_CRYPTO_THREADS,
+                            MathUtils.bounds(
+                                SslCryptoExecutor.MIN_THREAD_COUNT,
+                                LinStor.CPU_COUNT,
+                                SslCryptoExecutor.MAX_THREAD_COUNT
+                            ),
+                            errorLogRef
+                        )
                     );
                     try
                     {
@@ -527,6 +558,22 @@ public final class ControllerNetComInitializer implements StartupInitializer
 
         if (netComSvc != null)
         {
+            netComSvc.setOutQueueLimits(
+                loadIntProp(
+                    serviceName,
+                    configProp,
+                    PROPSCON_KEY_NETCOM_OUT_QUEUE_MAX_MSGS,
+                    TcpConnectorService.DEFAULT_OUT_QUEUE_MAX_MSG_COUNT,
+                    errorLogRef
+                ),
+                loadIntProp(
+                    serviceName,
+                    configProp,
+                    PROPSCON_KEY_NETCOM_OUT_QUEUE_MAX_BYTES,
+                    (int) TcpConnectorService.DEFAULT_OUT_QUEUE_MAX_BYTES,
+                    errorLogRef
+                )
+            );
             netComSvc.setServiceInstanceName(serviceName);
             netComContainer.putNetComContainer(serviceName, netComSvc);
             systemServicesMap.put(serviceName, netComSvc);
@@ -625,6 +672,40 @@ public final class ControllerNetComInitializer implements StartupInitializer
         return value;
     }
 
+    /**
+     * Loads an integer setting of the network communication service, such as the number of selector threads.
+     * Uses the default value if the setting is not present or invalid.
+     */
+    private int loadIntProp(
+        ServiceName serviceName,
+        Props configProp,
+        String propKey,
+        int defaultValue,
+        ErrorReporter errorLogRef
+    )
+    {
+        int value = defaultValue;
+        String valueStr = loadProp(configProp, propKey, null);
+        if (valueStr != null)
+        {
+            try
+            {
+                value = Integer.parseInt(valueStr);
+            }
+            catch (NumberFormatException nfExc)
+            {
+                errorLogRef.logWarning(
+                    "The network communication service '%s' has an invalid value '%s' for '%s', using %d instead",
+                    serviceName.displayValue,
+                    valueStr,
+                    propKey,
+                    defaultValue
+                );
+            }
+        }
+        return value;
+    }
+
     private String loadOrAddKey(Props props, String key, List<String> missingKeys)
     {
         String value = null;
@@ -1,5 +1,6 @@
 package com.linbit.linstor.core.apicallhandler.controller;
 
+import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -23,6 +24,7 @@ import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.security.SecurityLevel;
 import com.linbit.locks.LockGuard;
 import com.linbit.locks.LockGuardFactory;
 
@@ -46,6 +48,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
 
@@ -76,6 +80,7 @@ public class CtrlApiCallHandler
     private final Provider<AccessContext> peerAccCtx;
     private final ScopeRunner scopeRunner;
     private final ResponseConverter responseConverter;
+    private final CtrlReadSnapshot readSnapshot;
 
     private final LockGuardFactory lockGuardFactory;
 
@@ -106,7 +111,8 @@ public class CtrlApiCallHandler
         Provider<AccessContext> peerAccCtxRef,
         ErrorReporter errorReporterRef,
         ScopeRunner scopeRunnerRef,
-        ResponseConverter responseConverterRef
+        ResponseConverter responseConverterRef,
+        CtrlReadSnapshot readSnapshotRef
     )
     {
         ctrlConfApiCallHandler = ctrlConfApiCallHandlerRef;
@@ -134,6 +140,7 @@ public class CtrlApiCallHandler
         errorReporter = errorReporterRef;
         scopeRunner = scopeRunnerRef;
         responseConverter = responseConverterRef;
+        readSnapshot = readSnapshotRef;
     }
 
     /**
@@ -194,9 +201,29 @@ public class CtrlApiCallHandler
     public ArrayList<NodeApi> listNodes(List<String> nodeNames, List<String> propFilters)
     {
         ArrayList<NodeApi> nodeList;
-        try (LockGuard lg = lockGuardFactory.build(READ, NODES_MAP))
-        {
-            nodeList = nodeApiCallHandler.listNodes(nodeNames, propFilters);
+        if (isReadSnapshotUsable(propFilters))
+        {
+            List<NodeApi> snapshotNodes = readSnapshot.getNodes();
+            if (snapshotNodes == null)
+            {
+                // only needed once, later commits keep the list up to date
+                try (LockGuard lg = lockGuardFactory.build(READ, NODES_MAP))
+                {
+                    readSnapshot.publishNodes();
+                }
+                snapshotNodes = readSnapshot.getNodes();
+            }
+            Set<String> upperCaseNames = nodeNames.stream()
+                .map(nodeName -> LinstorParsingUtils.asNodeName(nodeName).value)
+                .collect(Collectors.toSet());
+            nodeList = filterByName(snapshotNodes, upperCaseNames, NodeApi::getName);
+        }
+        else
+        {
+            try (LockGuard lg = lockGuardFactory.build(READ, NODES_MAP))
+            {
+                nodeList = nodeApiCallHandler.listNodes(nodeNames, propFilters);
+            }
         }
         return nodeList;
     }
@@ -305,13 +332,63 @@ public class CtrlApiCallHandler
             List<String> filterRscDfnNames, List<String> propFilters)
     {
         ArrayList<ResourceDefinitionApi> resourceDefinitionList;
-        try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+        if (isReadSnapshotUsable(propFilters))
+        {
+            List<ResourceDefinitionApi> snapshotRscDfns = readSnapshot.getResourceDefinitions();
+            if (snapshotRscDfns == null)
+            {
+                // only needed once, later commits keep the list up to date
+                try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+                {
+                    readSnapshot.publishResourceDefinitions();
+                }
+                snapshotRscDfns = readSnapshot.getResourceDefinitions();
+            }
+            Set<String> upperCaseNames = filterRscDfnNames.stream()
+                .map(rscName -> LinstorParsingUtils.asRscName(rscName).value)
+                .collect(Collectors.toSet());
+            resourceDefinitionList = filterByName(
+                snapshotRscDfns,
+                upperCaseNames,
+                ResourceDefinitionApi::getResourceName
+            );
+        }
+        else
         {
-            resourceDefinitionList = rscDfnApiCallHandler.listResourceDefinitions(filterRscDfnNames, propFilters);
+            try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+            {
+                resourceDefinitionList = rscDfnApiCallHandler.listResourceDefinitions(filterRscDfnNames, propFilters);
+            }
         }
         return resourceDefinitionList;
     }
 
+    /**
+     * The read snapshot contains all objects regardless of the access context of the peer, therefore it can
+     * only be used if access control is disabled. Property filters are applied by the Props of the objects.
+     */
+    private boolean isReadSnapshotUsable(List<String> propFilters)
+    {
+        return propFilters.isEmpty() && SecurityLevel.get() == SecurityLevel.NO_SECURITY;
+    }
+
+    private static <T> ArrayList<T> filterByName(
+        List<T> apiList,
+        Set<String> upperCaseNames,
+        Function<T, String> nameGetter
+    )
+    {
+        ArrayList<T> filteredList = new ArrayList<>();
+        for (T apiData : apiList)
+        {
+            if (upperCaseNames.isEmpty() || upperCaseNames.contains(nameGetter.apply(apiData).toUpperCase()))
+            {
+                filteredList.add(apiData);
+            }
+        }
+        return filteredList;
+    }
+
     /**
      * Creates new volume definitions for a given resource definition.
      *
@@ -0,0 +1,266 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.SystemContext;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.apis.NetInterfaceApi;
+import com.linbit.linstor.core.apis.NodeApi;
+import com.linbit.linstor.core.apis.ResourceDefinitionApi;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.repository.NodeRepository;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.CommittedDataPublisher;
+import com.linbit.linstor.utils.externaltools.ExtToolsManager;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable lists of the API data of all nodes and all resource definitions, which are served without
+ * acquiring the locks of the maps
+ *
+ * The lists are built when a transaction that changed data is committed, by the committing thread while it
+ * still holds the locks of the transaction. A list is only rebuilt if the committing thread holds the lock of
+ * its map, since the objects of a map are only changed while its lock is held. Each list is published with a
+ * single volatile store, so a reader either sees the previous or the new committed state.
+ *
+ * The connection status and the supported layers and providers of a node are not part of the committed data.
+ * They are read from the current peer of the node whenever the list is served.
+ */
+@Singleton
+public class CtrlReadSnapshot
+{
+    private final AccessContext sysCtx;
+    private final NodeRepository nodeRepository;
+    private final ResourceDefinitionRepository rscDfnRepository;
+    private final ReentrantReadWriteLock reconfigurationLock;
+    private final ReentrantReadWriteLock nodesMapLock;
+    private final ReentrantReadWriteLock rscDfnMapLock;
+
+    // null until the list was built for the first time
+    private volatile List<NodeApi> nodes = null;
+    private volatile List<ResourceDefinitionApi> rscDfns = null;
+
+    @Inject
+    public CtrlReadSnapshot(
+        @SystemContext AccessContext sysCtxRef,
+        NodeRepository nodeRepositoryRef,
+        ResourceDefinitionRepository rscDfnRepositoryRef,
+        @Named(CoreModule.RECONFIGURATION_LOCK) ReadWriteLock reconfigurationLockRef,
+        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
+        @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
+        CommittedDataPublisher committedDataPublisherRef
+    )
+    {
+        sysCtx = sysCtxRef;
+        nodeRepository = nodeRepositoryRef;
+        rscDfnRepository = rscDfnRepositoryRef;
+        reconfigurationLock = (ReentrantReadWriteLock) reconfigurationLockRef;
+        nodesMapLock = (ReentrantReadWriteLock) nodesMapLockRef;
+        rscDfnMapLock = (ReentrantReadWriteLock) rscDfnMapLockRef;
+
+        committedDataPublisherRef.addListener(this::dataCommitted);
+    }
+
+    /**
+     * Returns the API data of all nodes, or null if the list was not built yet
+     */
+    public List<NodeApi> getNodes()
+    {
+        return nodes;
+    }
+
+    /**
+     * Builds the list of all nodes, must be called while the lock of the nodes map is held
+     */
+    public void publishNodes()
+    {
+        List<NodeApi> nodeList = new ArrayList<>();
+        try
+        {
+            for (Node node : nodeRepository.getMapForView(sysCtx).values())
+            {
+                nodeList.add(new SnapshotNodeApi(node, node.getApiData(sysCtx, null, null)));
+            }
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        nodes = Collections.unmodifiableList(nodeList);
+    }
+
+    /**
+     * Returns the API data of all resource definitions, or null if the list was not built yet
+     */
+    public List<ResourceDefinitionApi> getResourceDefinitions()
+    {
+        return rscDfns;
+    }
+
+    /**
+     * Builds the list of all resource definitions, must be called while the lock of the resource definition map
+     * is held
+     */
+    public void publishResourceDefinitions()
+    {
+        List<ResourceDefinitionApi> rscDfnList = new ArrayList<>();
+        try
+        {
+            for (ResourceDefinition rscDfn : rscDfnRepository.getMapForView(sysCtx).values())
+            {
+                rscDfnList.add(rscDfn.getApiData(sysCtx));
+            }
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        rscDfns = Collections.unmodifiableList(rscDfnList);
+    }
+
+    /**
+     * Rebuilds the lists that were already built and whose objects the committed transaction might have changed
+     */
+    private void dataCommitted()
+    {
+        boolean reconfiguration = reconfigurationLock.isWriteLockedByCurrentThread();
+        if (nodes != null && (reconfiguration || isHeldByCurrentThread(nodesMapLock)))
+        {
+            publishNodes();
+        }
+        if (rscDfns != null && (reconfiguration || isHeldByCurrentThread(rscDfnMapLock)))
+        {
+            publishResourceDefinitions();
+        }
+    }
+
+    private static boolean isHeldByCurrentThread(ReentrantReadWriteLock lock)
+    {
+        return lock.isWriteLockedByCurrentThread() || lock.getReadHoldCount() > 0;
+    }
+
+    /**
+     * The committed API data of a node, combined with the current data of its peer
+     */
+    private class SnapshotNodeApi implements NodeApi
+    {
+        private final Node node;
+        private final NodeApi committedData;
+
+        SnapshotNodeApi(Node nodeRef, NodeApi committedDataRef)
+        {
+            node = nodeRef;
+            committedData = committedDataRef;
+        }
+
+        private Peer getPeer()
+        {
+            try
+            {
+                return node.getPeer(sysCtx);
+            }
+            catch (AccessDeniedException accDeniedExc)
+            {
+                throw new ImplementationError(accDeniedExc);
+            }
+        }
+
+        private ExtToolsManager getExtToolsManager()
+        {
+            Peer peer = getPeer();
+            // no known supported tools without a peer
+            return peer != null ? peer.getExtToolsManager() : new ExtToolsManager();
+        }
+
+        @Override
+        public String getName()
+        {
+            return committedData.getName();
+        }
+
+        @Override
+        public String getType()
+        {
+            return committedData.getType();
+        }
+
+        @Override
+        public UUID getUuid()
+        {
+            return committedData.getUuid();
+        }
+
+        @Override
+        public ApiConsts.ConnectionStatus connectionStatus()
+        {
+            Peer peer = getPeer();
+            return peer != null ? peer.getConnectionStatus() : ApiConsts.ConnectionStatus.UNKNOWN;
+        }
+
+        @Override
+        public Map<String, String> getProps()
+        {
+            return committedData.getProps();
+        }
+
+        @Override
+        public long getFlags()
+        {
+            return committedData.getFlags();
+        }
+
+        @Override
+        public List<NetInterfaceApi> getNetInterfaces()
+        {
+            return committedData.getNetInterfaces();
+        }
+
+        @Override
+        public NetInterfaceApi getActiveStltConn()
+        {
+            return committedData.getActiveStltConn();
+        }
+
+        @Override
+        public List<String> getDeviceLayerKindNames()
+        {
+            return getExtToolsManager().getSupportedLayers().stream()
+                .map(deviceLayerKind -> deviceLayerKind.name()).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<String> getDeviceProviderKindNames()
+        {
+            return getExtToolsManager().getSupportedProviders().stream()
+                .map(deviceProviderKind -> deviceProviderKind.name()).collect(Collectors.toList());
+        }
+
+        @Override
+        public Map<String, List<String>> getUnsupportedLayersWithReasons()
+        {
+            return getExtToolsManager().getUnsupportedLayersWithReasonsAsString();
+        }
+
+        @Override
+        public Map<String, List<String>> getUnsupportedProvidersWithReasons()
+        {
+            return getExtToolsManager().getUnsupportedProvidersWithReasonsAsString();
+        }
+    }
+}
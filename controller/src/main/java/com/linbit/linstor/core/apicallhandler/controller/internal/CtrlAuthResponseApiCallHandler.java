@@ -83,6 +83,8 @@ public class CtrlAuthResponseApiCallHandler
         boolean success,
         ApiCallRcImpl apiCallResponse,
         Long expectedFullSyncId,
+        long appliedFullSyncId,
+        long appliedUpdateId,
         String nodeUname,
         Integer linstorVersionMajor,
         Integer linstorVersionMinor,
@@ -100,6 +102,8 @@ public class CtrlAuthResponseApiCallHandler
                 success,
                 apiCallResponse,
                 expectedFullSyncId,
+                appliedFullSyncId,
+                appliedUpdateId,
                 nodeUname,
                 linstorVersionMajor,
                 linstorVersionMinor,
@@ -116,6 +120,8 @@ public class CtrlAuthResponseApiCallHandler
         boolean success,
         ApiCallRcImpl apiCallResponse,
         Long expectedFullSyncId,
+        long appliedFullSyncId,
+        long appliedUpdateId,
         String nodeUname,
         Integer linstorVersionMajor,
         Integer linstorVersionMinor,
@@ -200,6 +206,8 @@ public class CtrlAuthResponseApiCallHandler
                 flux = ctrlFullSyncApiCallHandler.sendFullSync(
                     peer.getNode(),
                     expectedFullSyncId,
+                    appliedFullSyncId,
+                    appliedUpdateId,
                     waitForFullSyncAnswerRef
                 );
 
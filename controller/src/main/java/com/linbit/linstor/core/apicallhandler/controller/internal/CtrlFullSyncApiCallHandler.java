@@ -34,6 +34,9 @@ import javax.inject.Singleton;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -49,6 +52,10 @@ public class CtrlFullSyncApiCallHandler
 {
     private static final Long FULL_SYNC_RPC_ID = -1L;
 
+    // Maximum number of storage pools, resources and snapshots per full sync message
+    // Larger full syncs are split into chunks, so that no single message has to hold the complete data
+    static final int FULL_SYNC_CHUNK_SIZE = 128;
+
     private final ErrorReporter errorReporter;
     private final AccessContext apiCtx;
     private final ScopeRunner scopeRunner;
@@ -57,6 +64,7 @@ public class CtrlFullSyncApiCallHandler
     private final ReadWriteLock rscDfnMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
     private final IntFullSyncResponse fullSyncResponse;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     CtrlFullSyncApiCallHandler(
@@ -67,7 +75,8 @@ public class CtrlFullSyncApiCallHandler
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
         @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
-        IntFullSyncResponse fullSyncResponseRef
+        IntFullSyncResponse fullSyncResponseRef,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         errorReporter = errorReporterRef;
@@ -78,14 +87,28 @@ public class CtrlFullSyncApiCallHandler
         rscDfnMapLock = rscDfnMapLockRef;
         storPoolDfnMapLock = storPoolDfnMapLockRef;
         fullSyncResponse = fullSyncResponseRef;
+        syncJournal = syncJournalRef;
     }
 
     public Flux<?> sendFullSync(Node satelliteNode, long expectedFullSyncId)
     {
-        return sendFullSync(satelliteNode, expectedFullSyncId, false);
+        return sendFullSync(satelliteNode, expectedFullSyncId, 0, 0, false);
     }
 
-    public Flux<ApiCallRc> sendFullSync(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
+    /**
+     * Sends a full sync to the satellite, or only the changes since the previous connection if the satellite
+     * kept its data and the {@link CtrlSatelliteSyncJournal} still contains all changes since then.
+     *
+     * @param appliedFullSyncId The full sync id of the data the satellite kept, 0 if it has no data
+     * @param appliedUpdateId The next update id the satellite awaited for the kept data
+     */
+    public Flux<ApiCallRc> sendFullSync(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        long appliedFullSyncId,
+        long appliedUpdateId,
+        boolean waitForAnswer
+    )
     {
         Peer peer;
         try
@@ -104,8 +127,40 @@ public class CtrlFullSyncApiCallHandler
                 storPoolDfnMapLock.readLock(),
                 peer.getSerializerLock().writeLock()
             ),
-            () -> sendFullSyncInScope(satelliteNode, expectedFullSyncId, waitForAnswer)
+            () -> sendSyncInScope(
+                satelliteNode,
+                expectedFullSyncId,
+                appliedFullSyncId,
+                appliedUpdateId,
+                waitForAnswer
+            )
+        );
+    }
+
+    private Flux<ApiCallRc> sendSyncInScope(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        long appliedFullSyncId,
+        long appliedUpdateId,
+        boolean waitForAnswer
+    )
+    {
+        List<CtrlSatelliteSyncJournal.Entry> changes = syncJournal.resync(
+            satelliteNode.getName(),
+            appliedFullSyncId,
+            appliedUpdateId,
+            expectedFullSyncId
         );
+        Flux<ApiCallRc> flux;
+        if (changes == null)
+        {
+            flux = sendFullSyncInScope(satelliteNode, expectedFullSyncId, waitForAnswer);
+        }
+        else
+        {
+            flux = sendDeltaSyncInScope(satelliteNode, expectedFullSyncId, changes, waitForAnswer);
+        }
+        return flux;
     }
 
     private Flux<ApiCallRc> sendFullSyncInScope(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
@@ -144,6 +199,15 @@ public class CtrlFullSyncApiCallHandler
 
             errorReporter.logTrace("Sending full sync to " + satelliteNode + ".");
 
+            int chunkCount = 0;
+            if (storPools.size() + rscs.size() + snapshots.size() > FULL_SYNC_CHUNK_SIZE)
+            {
+                chunkCount = sendFullSyncChunks(satellitePeer, storPools, rscs, snapshots, expectedFullSyncId);
+                storPools.clear();
+                rscs.clear();
+                snapshots.clear();
+            }
+
             CtrlStltSerializerBuilder builder;
             if (waitForAnswer)
             {
@@ -158,64 +222,262 @@ public class CtrlFullSyncApiCallHandler
             }
 
             byte[] data = builder
-                .fullSync(nodes, storPools, rscs, snapshots, expectedFullSyncId, FULL_SYNC_RPC_ID)
+                .fullSync(nodes, storPools, rscs, snapshots, expectedFullSyncId, FULL_SYNC_RPC_ID, chunkCount)
                 .build();
 
+            flux = sendSyncData(
+                satelliteNode,
+                satellitePeer,
+                InternalApiConsts.API_FULL_SYNC_DATA,
+                data,
+                Collections.emptyList(),
+                waitForAnswer
+            );
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            errorReporter.reportError(
+                new ImplementationError(
+                    "ApiCtx does not have enough privileges to create a full sync for satellite " +
+                        satelliteNode.getName(),
+                    accDeniedExc
+                )
+            );
+        }
+
+        return flux;
+    }
+
+    private Flux<ApiCallRc> sendDeltaSyncInScope(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        List<CtrlSatelliteSyncJournal.Entry> changes,
+        boolean waitForAnswer
+    )
+    {
+        Flux<ApiCallRc> flux = Flux.empty();
+        try
+        {
+            Peer satellitePeer = satelliteNode.getPeer(apiCtx);
+            satellitePeer.setFullSyncId(expectedFullSyncId);
+
+            errorReporter.logDebug(
+                "Sending %d changes instead of a full sync to %s.",
+                changes.size(),
+                satelliteNode
+            );
+
+            CtrlStltSerializerBuilder builder;
             if (waitForAnswer)
             {
-                StringBuilder details = new StringBuilder();
-                ExtToolsManager extToolsManager = satellitePeer.getExtToolsManager();
-                Map<DeviceLayerKind, List<String>> unsupportedLayersWithResons =
-                    extToolsManager.getUnsupportedLayersWithReasons();
-                Map<DeviceProviderKind, List<String>> unsupportedProvidersWithResons =
-                    extToolsManager.getUnsupportedProvidersWithReasons();
-
-                details.append("Supported storage providers: ")
-                    .append(extToolsManager.getSupportedProviders().toString().toLowerCase())
-                    .append("\nSupported resource layers  : ")
-                    .append(extToolsManager.getSupportedLayers().toString().toLowerCase());
-
-                renderUnsupportedDetails(details, unsupportedProvidersWithResons, "storage providers");
-                renderUnsupportedDetails(details, unsupportedLayersWithResons, "resource layers");
-
-                flux = ((TcpConnectorPeer) satellitePeer).apiCall(
-                        InternalApiConsts.API_FULL_SYNC_DATA,
-                        data,
-                        true,
-                        false
-                    )
-                    .concatMap(inputStream -> handleFullSyncResponse(satellitePeer, inputStream))
-                    .thenMany(
-                        Flux.just(
-                            ApiCallRcImpl.singletonApiCallRc(
-                                ApiCallRcImpl.simpleEntry(
-                                    ApiConsts.ConnectionStatus.AUTHENTICATED.getValue(),
-                                    "Node '" + satelliteNode.getName().displayValue + "' authenticated"
-                                )
-                                .setDetails(details.toString())
-                            )
-                        )
-                    );
+                builder = interComSerializer.headerlessBuilder();
             }
             else
             {
-                satellitePeer.sendMessage(data);
+                builder = interComSerializer.apiCallBuilder(
+                    InternalApiConsts.API_DELTA_SYNC_DATA,
+                    FULL_SYNC_RPC_ID
+                );
+            }
+            byte[] data = builder.deltaSync(expectedFullSyncId).build();
+
+            List<byte[]> changedMessages = new ArrayList<>(changes.size());
+            for (CtrlSatelliteSyncJournal.Entry change : changes)
+            {
+                changedMessages.add(buildChangedMessage(change));
             }
+
+            flux = sendSyncData(
+                satelliteNode,
+                satellitePeer,
+                InternalApiConsts.API_DELTA_SYNC_DATA,
+                data,
+                changedMessages,
+                waitForAnswer
+            );
         }
         catch (AccessDeniedException accDeniedExc)
         {
             errorReporter.reportError(
                 new ImplementationError(
-                    "ApiCtx does not have enough privileges to create a full sync for satellite " +
+                    "ApiCtx does not have enough privileges to create a delta sync for satellite " +
                         satelliteNode.getName(),
                     accDeniedExc
                 )
             );
         }
+        return flux;
+    }
+
+    private byte[] buildChangedMessage(CtrlSatelliteSyncJournal.Entry change)
+    {
+        byte[] msg;
+        switch (change.getType())
+        {
+            case NODE:
+                msg = interComSerializer.onewayBuilder(InternalApiConsts.API_CHANGED_NODE)
+                    .changedNode(change.getUuid(), change.getName())
+                    .build();
+                break;
+            case RESOURCE:
+                msg = interComSerializer.onewayBuilder(InternalApiConsts.API_CHANGED_RSC)
+                    .changedResource(change.getUuid(), change.getName())
+                    .build();
+                break;
+            case STOR_POOL:
+                msg = interComSerializer.onewayBuilder(InternalApiConsts.API_CHANGED_STOR_POOL)
+                    .changedStorPool(change.getUuid(), change.getName())
+                    .build();
+                break;
+            case SNAPSHOT:
+                msg = interComSerializer.onewayBuilder(InternalApiConsts.API_CHANGED_IN_PROGRESS_SNAPSHOT)
+                    .changedSnapshot(change.getName(), change.getUuid(), change.getSnapshotName())
+                    .build();
+                break;
+            default:
+                throw new ImplementationError("Unknown object type " + change.getType());
+        }
+        return msg;
+    }
+
+    /**
+     * Sends the full sync or delta sync data, followed by the given messages once the satellite applied the data
+     */
+    private Flux<ApiCallRc> sendSyncData(
+        Node satelliteNode,
+        Peer satellitePeer,
+        String apiCallName,
+        byte[] data,
+        List<byte[]> followUpMessages,
+        boolean waitForAnswer
+    )
+    {
+        Flux<ApiCallRc> flux = Flux.empty();
+        if (waitForAnswer)
+        {
+            StringBuilder details = new StringBuilder();
+            ExtToolsManager extToolsManager = satellitePeer.getExtToolsManager();
+            Map<DeviceLayerKind, List<String>> unsupportedLayersWithResons =
+                extToolsManager.getUnsupportedLayersWithReasons();
+            Map<DeviceProviderKind, List<String>> unsupportedProvidersWithResons =
+                extToolsManager.getUnsupportedProvidersWithReasons();
+
+            details.append("Supported storage providers: ")
+                .append(extToolsManager.getSupportedProviders().toString().toLowerCase())
+                .append("\nSupported resource layers  : ")
+                .append(extToolsManager.getSupportedLayers().toString().toLowerCase());
 
+            renderUnsupportedDetails(details, unsupportedProvidersWithResons, "storage providers");
+            renderUnsupportedDetails(details, unsupportedLayersWithResons, "resource layers");
+
+            flux = ((TcpConnectorPeer) satellitePeer).apiCall(
+                    apiCallName,
+                    data,
+                    true,
+                    false
+                )
+                .concatMap(inputStream -> handleFullSyncResponse(satellitePeer, inputStream))
+                .doOnComplete(() -> sendMessages(satellitePeer, followUpMessages))
+                .thenMany(
+                    Flux.just(
+                        ApiCallRcImpl.singletonApiCallRc(
+                            ApiCallRcImpl.simpleEntry(
+                                ApiConsts.ConnectionStatus.AUTHENTICATED.getValue(),
+                                "Node '" + satelliteNode.getName().displayValue + "' authenticated"
+                            )
+                            .setDetails(details.toString())
+                        )
+                    )
+                );
+        }
+        else
+        {
+            satellitePeer.sendMessage(data);
+            sendMessages(satellitePeer, followUpMessages);
+        }
         return flux;
     }
 
+    private void sendMessages(Peer satellitePeer, List<byte[]> messages)
+    {
+        for (byte[] msg : messages)
+        {
+            satellitePeer.sendMessage(msg);
+        }
+    }
+
+    /**
+     * Sends the storage pools, resources and snapshots as oneway chunks that the satellite stages until the
+     * final full sync message arrives. The peer processes messages in order, therefore all chunks are staged
+     * before the final message is processed.
+     *
+     * @return the number of sent chunks
+     */
+    private int sendFullSyncChunks(
+        Peer satellitePeer,
+        Set<StorPool> storPools,
+        Set<Resource> rscs,
+        Set<Snapshot> snapshots,
+        long expectedFullSyncId
+    )
+    {
+        int chunkNr = 0;
+        for (List<StorPool> storPoolChunk : partition(storPools))
+        {
+            sendFullSyncChunk(
+                satellitePeer, storPoolChunk, Collections.emptyList(), Collections.emptyList(),
+                expectedFullSyncId, chunkNr++
+            );
+        }
+        for (List<Resource> rscChunk : partition(rscs))
+        {
+            sendFullSyncChunk(
+                satellitePeer, Collections.emptyList(), rscChunk, Collections.emptyList(),
+                expectedFullSyncId, chunkNr++
+            );
+        }
+        for (List<Snapshot> snapshotChunk : partition(snapshots))
+        {
+            sendFullSyncChunk(
+                satellitePeer, Collections.emptyList(), Collections.emptyList(), snapshotChunk,
+                expectedFullSyncId, chunkNr++
+            );
+        }
+        return chunkNr;
+    }
+
+    private void sendFullSyncChunk(
+        Peer satellitePeer,
+        List<StorPool> storPools,
+        List<Resource> rscs,
+        List<Snapshot> snapshots,
+        long expectedFullSyncId,
+        int chunkNr
+    )
+    {
+        satellitePeer.sendMessage(
+            interComSerializer.onewayBuilder(InternalApiConsts.API_FULL_SYNC_CHUNK)
+                .fullSyncChunk(storPools, rscs, snapshots, expectedFullSyncId, chunkNr)
+                .build()
+        );
+    }
+
+    static <T> List<List<T>> partition(Collection<T> objects)
+    {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = null;
+        for (T obj : objects)
+        {
+            if (chunk == null || chunk.size() >= FULL_SYNC_CHUNK_SIZE)
+            {
+                chunk = new ArrayList<>(FULL_SYNC_CHUNK_SIZE);
+                chunks.add(chunk);
+            }
+            chunk.add(obj);
+        }
+        return chunks;
+    }
+
     private Flux<byte[]> handleFullSyncResponse(Peer satellitePeerRef, InputStream inputStream)
     {
         Flux<byte[]> flux;
@@ -0,0 +1,245 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.core.identifier.NodeName;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Journal of the changes that the satellites are notified about, used to resynchronize a satellite
+ * after a short disconnect without sending a full sync
+ *
+ * For every satellite, the journal contains the objects that changed since the last full sync. An entry is
+ * confirmed when the satellite reconnects and reports that it applied the update that answered its request
+ * for the changed object. All other entries are sent to the satellite again as change notifications.
+ * If more than {@link #MAX_ENTRIES} unconfirmed objects change, the journal window is exceeded and the
+ * satellite receives a full sync when it reconnects.
+ */
+@Singleton
+public class CtrlSatelliteSyncJournal
+{
+    public static final int MAX_ENTRIES = 4096;
+
+    private static final long NO_UPDATE_ID = -1;
+
+    public enum ObjectType
+    {
+        NODE,
+        RESOURCE,
+        STOR_POOL,
+        SNAPSHOT
+    }
+
+    private final Map<NodeName, NodeJournal> journals = new HashMap<>();
+
+    @Inject
+    public CtrlSatelliteSyncJournal()
+    {
+    }
+
+    public void nodeChanged(NodeName stltNodeName, UUID nodeUuid, String nodeName)
+    {
+        changed(stltNodeName, new Entry(ObjectType.NODE, nodeUuid, nodeName, null));
+    }
+
+    public void resourceChanged(NodeName stltNodeName, UUID rscUuid, String rscName)
+    {
+        changed(stltNodeName, new Entry(ObjectType.RESOURCE, rscUuid, rscName, null));
+    }
+
+    public void storPoolChanged(NodeName stltNodeName, UUID storPoolUuid, String storPoolName)
+    {
+        changed(stltNodeName, new Entry(ObjectType.STOR_POOL, storPoolUuid, storPoolName, null));
+    }
+
+    public void snapshotChanged(NodeName stltNodeName, UUID snapshotUuid, String rscName, String snapshotName)
+    {
+        changed(stltNodeName, new Entry(ObjectType.SNAPSHOT, snapshotUuid, rscName, snapshotName));
+    }
+
+    /**
+     * Records that the data of an object was sent to the satellite with the given update id
+     *
+     * @param snapshotName Only used for snapshots, null otherwise
+     */
+    public synchronized void answered(
+        NodeName stltNodeName,
+        ObjectType type,
+        String name,
+        String snapshotName,
+        long fullSyncId,
+        long updateId
+    )
+    {
+        NodeJournal journal = journals.get(stltNodeName);
+        if (journal != null && journal.fullSyncId == fullSyncId)
+        {
+            Entry entry = journal.entries.get(key(type, name, snapshotName));
+            if (entry != null)
+            {
+                entry.answeredUpdateId = updateId;
+            }
+        }
+    }
+
+    /**
+     * Determines the changes that a reconnecting satellite has not applied yet.
+     * Starts a new journal for the next full sync id in either case.
+     *
+     * @param appliedFullSyncId The full sync id of the data the satellite kept, 0 if it has no data
+     * @param appliedUpdateId The next update id the satellite awaited for the kept data
+     * @param nextFullSyncId The full sync id the satellite expects for the new connection
+     *
+     * @return the changes to send to the satellite again, or null if the satellite needs a full sync
+     */
+    public synchronized List<Entry> resync(
+        NodeName stltNodeName,
+        long appliedFullSyncId,
+        long appliedUpdateId,
+        long nextFullSyncId
+    )
+    {
+        List<Entry> delta = null;
+        NodeJournal journal = journals.get(stltNodeName);
+        if (journal != null && !journal.windowExceeded && appliedFullSyncId != 0 &&
+            journal.fullSyncId == appliedFullSyncId && journal.prunedUpdateId < appliedUpdateId)
+        {
+            delta = new ArrayList<>();
+            Iterator<Entry> entryIter = journal.entries.values().iterator();
+            while (entryIter.hasNext())
+            {
+                Entry entry = entryIter.next();
+                if (entry.answeredUpdateId != NO_UPDATE_ID && entry.answeredUpdateId < appliedUpdateId)
+                {
+                    entryIter.remove();
+                }
+                else
+                {
+                    // will be answered again with an update id of the new connection
+                    entry.answeredUpdateId = NO_UPDATE_ID;
+                    delta.add(entry);
+                }
+            }
+            journal.fullSyncId = nextFullSyncId;
+            journal.prunedUpdateId = NO_UPDATE_ID;
+        }
+        else
+        {
+            journals.put(stltNodeName, new NodeJournal(nextFullSyncId));
+        }
+        return delta;
+    }
+
+    private synchronized void changed(NodeName stltNodeName, Entry entry)
+    {
+        NodeJournal journal = journals.get(stltNodeName);
+        if (journal != null && !journal.windowExceeded)
+        {
+            String key = key(entry.type, entry.name, entry.snapshotName);
+            // re-insert to keep the entries in the order of their last change
+            if (journal.entries.remove(key) == null && journal.entries.size() >= MAX_ENTRIES)
+            {
+                pruneAnswered(journal);
+            }
+            if (journal.entries.size() < MAX_ENTRIES)
+            {
+                journal.entries.put(key, entry);
+            }
+            else
+            {
+                journal.windowExceeded = true;
+                journal.entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes all answered entries. They count as applied if the satellite reports that it applied
+     * the highest of their update ids when it reconnects.
+     */
+    private void pruneAnswered(NodeJournal journal)
+    {
+        Iterator<Entry> entryIter = journal.entries.values().iterator();
+        while (entryIter.hasNext())
+        {
+            Entry entry = entryIter.next();
+            if (entry.answeredUpdateId != NO_UPDATE_ID)
+            {
+                journal.prunedUpdateId = Math.max(journal.prunedUpdateId, entry.answeredUpdateId);
+                entryIter.remove();
+            }
+        }
+    }
+
+    private static String key(ObjectType type, String name, String snapshotName)
+    {
+        String key = type.name() + ":" + name.toUpperCase();
+        if (snapshotName != null)
+        {
+            key += ":" + snapshotName.toUpperCase();
+        }
+        return key;
+    }
+
+    private static class NodeJournal
+    {
+        private long fullSyncId;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        // highest update id of the answered entries that were removed to make room for new entries
+        private long prunedUpdateId = NO_UPDATE_ID;
+        private boolean windowExceeded = false;
+
+        NodeJournal(long fullSyncIdRef)
+        {
+            fullSyncId = fullSyncIdRef;
+        }
+    }
+
+    public static class Entry
+    {
+        private final ObjectType type;
+        private final UUID uuid;
+        private final String name;
+        private final String snapshotName;
+        private long answeredUpdateId = NO_UPDATE_ID;
+
+        Entry(ObjectType typeRef, UUID uuidRef, String nameRef, String snapshotNameRef)
+        {
+            type = typeRef;
+            uuid = uuidRef;
+            name = nameRef;
+            snapshotName = snapshotNameRef;
+        }
+
+        public ObjectType getType()
+        {
+            return type;
+        }
+
+        public UUID getUuid()
+        {
+            return uuid;
+        }
+
+        /**
+         * The name of the node, resource or storage pool, or the resource name of a snapshot
+         */
+        public String getName()
+        {
+            return name;
+        }
+
+        public String getSnapshotName()
+        {
+            return snapshotName;
+        }
+    }
+}
@@ -7,7 +7,9 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer.CtrlStltSerializerBuilder;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
+import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.CtrlAuthenticator;
 import com.linbit.linstor.core.SatelliteConnectorImpl;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
@@ -25,8 +27,10 @@ import com.linbit.linstor.proto.common.ApiCallResponseOuterClass.ApiCallResponse
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.tasks.RetryResourcesTask;
+import com.linbit.locks.LockGuard;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
@@ -38,6 +42,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -55,6 +60,10 @@ public class CtrlSatelliteUpdateCaller
     private final Provider<RetryResourcesTask> retryResourceTaskProvider;
     private final SatelliteConnectorImpl stltConnector;
     private final Provider<CtrlAuthenticator> ctrlAuthenticator;
+    private final CtrlSatelliteSyncJournal syncJournal;
+    private final ReadWriteLock nodesMapLock;
+    private final ReadWriteLock rscDfnMapLock;
+    private final ReadWriteLock storPoolDfnMapLock;
 
     @Inject
     private CtrlSatelliteUpdateCaller(
@@ -62,7 +71,11 @@ public class CtrlSatelliteUpdateCaller
         CtrlStltSerializer serializerRef,
         Provider<RetryResourcesTask> retryResourceTaskProviderRef,
         SatelliteConnectorImpl stltConnectorRef,
-        Provider<CtrlAuthenticator> ctrlAuthenticatorRef
+        Provider<CtrlAuthenticator> ctrlAuthenticatorRef,
+        CtrlSatelliteSyncJournal syncJournalRef,
+        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
+        @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
+        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef
     )
     {
         apiCtx = apiCtxRef;
@@ -70,6 +83,10 @@ public class CtrlSatelliteUpdateCaller
         retryResourceTaskProvider = retryResourceTaskProviderRef;
         stltConnector = stltConnectorRef;
         ctrlAuthenticator = ctrlAuthenticatorRef;
+        syncJournal = syncJournalRef;
+        nodesMapLock = nodesMapLockRef;
+        rscDfnMapLock = rscDfnMapLockRef;
+        storPoolDfnMapLock = storPoolDfnMapLockRef;
     }
 
     /**
@@ -96,6 +113,7 @@ public class CtrlSatelliteUpdateCaller
                 .build();
             for (Node nodeToContact : nodesToContact)
             {
+                syncJournal.nodeChanged(nodeToContact.getName(), uuid, nodeName.displayValue);
                 Peer peer = nodeToContact.getPeer(apiCtx);
                 if (peer != null && peer.getConnectionStatus() == ApiConsts.ConnectionStatus.ONLINE)
                 {
@@ -210,6 +228,7 @@ public class CtrlSatelliteUpdateCaller
 
         try
         {
+            syncJournal.storPoolChanged(nodeName, storPoolUuid, storPoolName);
             Peer currentPeer = node.getPeer(apiCtx);
 
             if (currentPeer.isConnected() && currentPeer.hasFullSyncFailed())
@@ -279,6 +298,8 @@ public class CtrlSatelliteUpdateCaller
     {
         Node node = currentRsc.getNode();
         NodeName nodeName = node.getName();
+        String rscNameStr = currentRsc.getDefinition().getName().displayValue;
+        syncJournal.resourceChanged(nodeName, currentRsc.getUuid(), rscNameStr);
 
         Flux<ApiCallRc> response;
         Peer currentPeer = node.getPeer(apiCtx);
@@ -289,17 +310,12 @@ public class CtrlSatelliteUpdateCaller
         }
         else
         {
-            response = currentPeer
-                .apiCall(
+            UUID rscUuid = currentRsc.getUuid();
+            response = Flux
+                .defer(() -> currentPeer.apiCall(
                     InternalApiConsts.API_CHANGED_RSC,
-                    internalComSerializer
-                        .headerlessBuilder()
-                        .changedResource(
-                            currentRsc.getUuid(),
-                            currentRsc.getDefinition().getName().displayValue
-                        )
-                        .build()
-                )
+                    buildChangedRscMessage(currentPeer, currentRsc, rscUuid, rscNameStr)
+                ))
 
                 .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
 
@@ -318,6 +334,10 @@ public class CtrlSatelliteUpdateCaller
     {
         Node node = snapshot.getNode();
         NodeName nodeName = node.getName();
+        UUID snapshotUuid = snapshot.getUuid();
+        String rscNameStr = snapshot.getResourceName().displayValue;
+        String snapshotNameStr = snapshot.getSnapshotName().displayValue;
+        syncJournal.snapshotChanged(nodeName, snapshotUuid, rscNameStr, snapshotNameStr);
 
         Flux<ApiCallRc> response;
         Peer currentPeer = node.getPeer(apiCtx);
@@ -328,18 +348,11 @@ public class CtrlSatelliteUpdateCaller
         }
         else
         {
-            response = currentPeer
-                .apiCall(
+            response = Flux
+                .defer(() -> currentPeer.apiCall(
                     InternalApiConsts.API_CHANGED_IN_PROGRESS_SNAPSHOT,
-                    internalComSerializer
-                        .headerlessBuilder()
-                        .changedSnapshot(
-                            snapshot.getResourceName().displayValue,
-                            snapshot.getUuid(),
-                            snapshot.getSnapshotName().displayValue
-                        )
-                        .build()
-                )
+                    buildChangedSnapshotMessage(currentPeer, snapshot, snapshotUuid, rscNameStr, snapshotNameStr)
+                ))
 
                 .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
 
@@ -352,6 +365,104 @@ public class CtrlSatelliteUpdateCaller
         return response;
     }
 
+    /**
+     * Builds the notification about a changed resource. If possible, the data of the resource is pushed
+     * together with the notification, which saves the satellite from requesting the resource.
+     *
+     * The pushed data uses the next update id of the peer. Therefore, the message must only be built
+     * right before it is sent, otherwise the satellite would wait for the update id forever.
+     */
+    private byte[] buildChangedRscMessage(Peer peer, Resource rsc, UUID rscUuid, String rscNameStr)
+    {
+        byte[] msg;
+        try (LockGuard ls = lockForPush(peer))
+        {
+            CtrlStltSerializerBuilder builder = internalComSerializer
+                .headerlessBuilder()
+                .changedResource(rscUuid, rscNameStr);
+            if (isPushAllowed(peer) && !rsc.isDeleted())
+            {
+                long fullSyncId = peer.getFullSyncId();
+                long updateId = peer.getNextSerializerId();
+                syncJournal.answered(
+                    peer.getNode().getName(),
+                    CtrlSatelliteSyncJournal.ObjectType.RESOURCE,
+                    rscNameStr,
+                    null,
+                    fullSyncId,
+                    updateId
+                );
+                builder.resource(rsc, fullSyncId, updateId);
+            }
+            msg = builder.build();
+        }
+        return msg;
+    }
+
+    /**
+     * See {@link #buildChangedRscMessage(Peer, Resource, UUID, String)}.
+     * Only the data of snapshots that are in progress is pushed.
+     */
+    private byte[] buildChangedSnapshotMessage(
+        Peer peer,
+        Snapshot snapshot,
+        UUID snapshotUuid,
+        String rscNameStr,
+        String snapshotNameStr
+    )
+    {
+        byte[] msg;
+        try (LockGuard ls = lockForPush(peer))
+        {
+            CtrlStltSerializerBuilder builder = internalComSerializer
+                .headerlessBuilder()
+                .changedSnapshot(rscNameStr, snapshotUuid, snapshotNameStr);
+            if (isPushAllowed(peer) && !snapshot.isDeleted() &&
+                snapshot.getSnapshotDefinition().getInProgress(apiCtx))
+            {
+                long fullSyncId = peer.getFullSyncId();
+                long updateId = peer.getNextSerializerId();
+                syncJournal.answered(
+                    peer.getNode().getName(),
+                    CtrlSatelliteSyncJournal.ObjectType.SNAPSHOT,
+                    rscNameStr,
+                    snapshotNameStr,
+                    fullSyncId,
+                    updateId
+                );
+                builder.snapshot(snapshot, fullSyncId, updateId);
+            }
+            msg = builder.build();
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        return msg;
+    }
+
+    /**
+     * The same locks as for answering the satellite's request for the object
+     */
+    private LockGuard lockForPush(Peer peer)
+    {
+        return LockGuard.createLocked(
+            nodesMapLock.readLock(),
+            rscDfnMapLock.readLock(),
+            storPoolDfnMapLock.readLock(),
+            peer.getSerializerLock().readLock()
+        );
+    }
+
+    /**
+     * Data must only be pushed once the satellite applied the full sync, since the API call is not
+     * sent otherwise and the update id of the pushed data would be lost
+     */
+    private static boolean isPushAllowed(Peer peer)
+    {
+        return peer.isPushedUpdatesEnabled() && peer.isFullSyncApplied() && !peer.hasFullSyncFailed();
+    }
+
     public static ApiCallRc deserializeApiCallRc(NodeName nodeName, ByteArrayInputStream inputStream)
     {
         ApiCallRcImpl deploymentState = new ApiCallRcImpl();
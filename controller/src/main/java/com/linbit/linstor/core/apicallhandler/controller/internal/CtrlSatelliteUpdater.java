@@ -33,6 +33,7 @@ public class CtrlSatelliteUpdater
 {
     private final AccessContext apiCtx;
     private final CtrlStltSerializer internalComSerializer;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     private CtrlSatelliteUpdater(
@@ -40,11 +41,13 @@ public class CtrlSatelliteUpdater
         @ApiContext AccessContext apiCtxRef,
         CtrlStltSerializer serializerRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
-        Provider<Peer> peerRef
+        Provider<Peer> peerRef,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         apiCtx = apiCtxRef;
         internalComSerializer = serializerRef;
+        syncJournal = syncJournalRef;
     }
 
     public static Collection<Node> findNodesToContact(AccessContext accCtx, Node node)
@@ -97,6 +100,7 @@ public class CtrlSatelliteUpdater
                 .build();
             for (Node nodeToContact : nodesToContact)
             {
+                syncJournal.nodeChanged(nodeToContact.getName(), uuid, nodeName.displayValue);
                 Peer satellitePeer = nodeToContact.getPeer(apiCtx);
                 if (satellitePeer != null)
                 {
@@ -136,6 +140,11 @@ public class CtrlSatelliteUpdater
             while (rscIterator.hasNext())
             {
                 Resource currentRsc = rscIterator.next();
+                syncJournal.resourceChanged(
+                    currentRsc.getNode().getName(),
+                    currentRsc.getUuid(),
+                    rscDfn.getName().displayValue
+                );
                 Peer currentPeer = currentRsc.getNode().getPeer(apiCtx);
 
                 boolean connected = currentPeer.isConnected();
@@ -183,6 +192,7 @@ public class CtrlSatelliteUpdater
 
         try
         {
+            syncJournal.storPoolChanged(node.getName(), storPoolUuid, storPoolName.displayValue);
             Peer satellitePeer = node.getPeer(apiCtx);
             boolean connected = satellitePeer.isConnected();
             if (connected)
@@ -33,6 +33,7 @@ public class NodeInternalCallHandler
     private final Provider<Peer> peer;
     private final ReadWriteLock nodesMapLock;
     private final CtrlApiDataLoader ctrlApiDataLoader;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     public NodeInternalCallHandler(
@@ -41,7 +42,8 @@ public class NodeInternalCallHandler
         CtrlStltSerializer ctrlStltSerializerRef,
         Provider<Peer> peerRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
-        CtrlApiDataLoader ctrlApiDataLoaderRef
+        CtrlApiDataLoader ctrlApiDataLoaderRef,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         errorReporter = errorReporterRef;
@@ -50,6 +52,7 @@ public class NodeInternalCallHandler
         peer = peerRef;
         nodesMapLock = nodesMapLockRef;
         ctrlApiDataLoader = ctrlApiDataLoaderRef;
+        syncJournal = syncJournalRef;
     }
 
     public void handleNodeRequest(UUID nodeUuid, String nodeNameStr)
@@ -85,6 +88,14 @@ public class NodeInternalCallHandler
                     }
                     long fullSyncTimestamp = currentPeer.getFullSyncId();
                     long serializerId = currentPeer.getNextSerializerId();
+                    syncJournal.answered(
+                        currentPeer.getNode().getName(),
+                        CtrlSatelliteSyncJournal.ObjectType.NODE,
+                        nodeNameStr,
+                        null,
+                        fullSyncTimestamp,
+                        serializerId
+                    );
                     currentPeer.sendMessage(
                         ctrlStltSerializer
                             .onewayBuilder(InternalApiConsts.API_APPLY_NODE)
@@ -108,6 +119,14 @@ public class NodeInternalCallHandler
             {
                 long fullSyncTimestamp = currentPeer.getFullSyncId();
                 long serializerId = currentPeer.getNextSerializerId();
+                syncJournal.answered(
+                    currentPeer.getNode().getName(),
+                    CtrlSatelliteSyncJournal.ObjectType.NODE,
+                    nodeNameStr,
+                    null,
+                    fullSyncTimestamp,
+                    serializerId
+                );
                 currentPeer.sendMessage(
                     ctrlStltSerializer.onewayBuilder(InternalApiConsts.API_APPLY_NODE_DELETED)
                         .deletedNode(nodeNameStr, fullSyncTimestamp, serializerId)
@@ -67,6 +67,7 @@ public class RscInternalCallHandler
     private final ReadWriteLock storPoolDfnMapLock;
     private final CtrlRscLayerDataMerger layerRscDataMerger;
     private final RetryResourcesTask retryResourceTask;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     public RscInternalCallHandler(
@@ -82,7 +83,8 @@ public class RscInternalCallHandler
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         CtrlRscLayerDataMerger layerRscDataMergerRef,
         RetryResourcesTask retryResourceTaskRef,
-        CtrlApiDataLoader ctrlApiDataLoader
+        CtrlApiDataLoader ctrlApiDataLoader,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         errorReporter = errorReporterRef;
@@ -99,6 +101,7 @@ public class RscInternalCallHandler
         layerRscDataMerger = layerRscDataMergerRef;
         retryResourceTask = retryResourceTaskRef;
         apiDataLoader = ctrlApiDataLoader;
+        syncJournal = syncJournalRef;
     }
 
     public void handleResourceRequest(
@@ -127,6 +130,14 @@ public class RscInternalCallHandler
 
                 long fullSyncTimestamp = peer.get().getFullSyncId();
                 long updateId = peer.get().getNextSerializerId();
+                syncJournal.answered(
+                    nodeName,
+                    CtrlSatelliteSyncJournal.ObjectType.RESOURCE,
+                    rscNameStr,
+                    null,
+                    fullSyncTimestamp,
+                    updateId
+                );
                 // TODO: check if the localResource has the same uuid as rscUuid
                 if (rsc != null && !rsc.isDeleted())
                 {
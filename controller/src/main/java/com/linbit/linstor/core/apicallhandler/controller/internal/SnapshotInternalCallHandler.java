@@ -35,6 +35,7 @@ public class SnapshotInternalCallHandler
     private final Provider<AccessContext> peerAccCtx;
 
     private final ReadWriteLock rscDfnMapLock;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     public SnapshotInternalCallHandler(
@@ -44,7 +45,8 @@ public class SnapshotInternalCallHandler
         CtrlStltSerializer ctrlStltSerializerRef,
         Provider<Peer> peerRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
-        @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef
+        @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         errorReporter = errorReporterRef;
@@ -54,6 +56,7 @@ public class SnapshotInternalCallHandler
         peer = peerRef;
         peerAccCtx = peerAccCtxRef;
         rscDfnMapLock = rscDfnMapLockRef;
+        syncJournal = syncJournalRef;
     }
 
     public void handleSnapshotRequest(String resourceNameStr, UUID snapshotUuid, String snapshotNameStr)
@@ -84,6 +87,14 @@ public class SnapshotInternalCallHandler
 
             long fullSyncId = currentPeer.getFullSyncId();
             long updateId = currentPeer.getNextSerializerId();
+            syncJournal.answered(
+                currentPeer.getNode().getName(),
+                CtrlSatelliteSyncJournal.ObjectType.SNAPSHOT,
+                resourceNameStr,
+                snapshotNameStr,
+                fullSyncId,
+                updateId
+            );
             if (snapshot != null)
             {
                 // TODO: check if the snapshot has the same uuid as snapshotUuid
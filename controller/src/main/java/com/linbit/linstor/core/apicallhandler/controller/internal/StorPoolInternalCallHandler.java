@@ -52,6 +52,7 @@ public class StorPoolInternalCallHandler
 
     private final ReadWriteLock nodesMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
+    private final CtrlSatelliteSyncJournal syncJournal;
 
     @Inject
     public StorPoolInternalCallHandler(
@@ -64,7 +65,8 @@ public class StorPoolInternalCallHandler
         Provider<Peer> peerRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
-        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef
+        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
+        CtrlSatelliteSyncJournal syncJournalRef
     )
     {
         errorReporter = errorReporterRef;
@@ -77,6 +79,7 @@ public class StorPoolInternalCallHandler
         peerAccCtx = peerAccCtxRef;
         nodesMapLock = nodesMapLockRef;
         storPoolDfnMapLock = storPoolDfnMapLockRef;
+        syncJournal = syncJournalRef;
     }
 
     public void handleStorPoolRequest(UUID storPoolUuid, String storPoolNameStr)
@@ -98,6 +101,14 @@ public class StorPoolInternalCallHandler
             {
                 long fullSyncTimestamp = currentPeer.getFullSyncId();
                 long updateId = currentPeer.getNextSerializerId();
+                syncJournal.answered(
+                    currentPeer.getNode().getName(),
+                    CtrlSatelliteSyncJournal.ObjectType.STOR_POOL,
+                    storPoolNameStr,
+                    null,
+                    fullSyncTimestamp,
+                    updateId
+                );
                 currentPeer.sendMessage(
                     ctrlStltSerializer
                         .onewayBuilder(InternalApiConsts.API_APPLY_STOR_POOL)
@@ -109,6 +120,14 @@ public class StorPoolInternalCallHandler
             {
                 long fullSyncTimestamp = currentPeer.getFullSyncId();
                 long updateId = currentPeer.getNextSerializerId();
+                syncJournal.answered(
+                    currentPeer.getNode().getName(),
+                    CtrlSatelliteSyncJournal.ObjectType.STOR_POOL,
+                    storPoolNameStr,
+                    null,
+                    fullSyncTimestamp,
+                    updateId
+                );
                 currentPeer.sendMessage(
                     ctrlStltSerializer
                         .onewayBuilder(InternalApiConsts.API_APPLY_STOR_POOL_DELETED)
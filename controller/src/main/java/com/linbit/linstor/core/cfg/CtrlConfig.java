@@ -28,6 +28,8 @@ public class CtrlConfig extends LinstorConfig
 
     private String dbInMemory;
     private boolean dbDisableVersionCheck;
+    private String dbCheckpointPath;
+    private long dbGroupCommitWindowMillis;
 
     /*
      * Database.ETCD
@@ -210,6 +212,22 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setDbCheckpointPath(String dbCheckpointPathRef)
+    {
+        if (dbCheckpointPathRef != null)
+        {
+            dbCheckpointPath = dbCheckpointPathRef;
+        }
+    }
+
+    public void setDbGroupCommitWindowMillis(Long dbGroupCommitWindowMillisRef)
+    {
+        if (dbGroupCommitWindowMillisRef != null)
+        {
+            dbGroupCommitWindowMillis = dbGroupCommitWindowMillisRef;
+        }
+    }
+
     public void setEtcdOperationsPerTransaction(Integer etcdOperationsPerTransactionRef)
     {
         if (etcdOperationsPerTransactionRef != null)
@@ -415,6 +433,22 @@ public class CtrlConfig extends LinstorConfig
         return dbDisableVersionCheck;
     }
 
+    /**
+     * Path of the checkpoint file of the loaded database tables, <code>null</code> if checkpoints are disabled
+     */
+    public String getDbCheckpointPath()
+    {
+        return dbCheckpointPath;
+    }
+
+    /**
+     * Time in milliseconds that SQL transactions wait to be committed together, 0 if group commit is disabled
+     */
+    public long getDbGroupCommitWindowMillis()
+    {
+        return dbGroupCommitWindowMillis;
+    }
+
     public int getEtcdOperationsPerTransaction()
     {
         return etcdOperationsPerTransaction;
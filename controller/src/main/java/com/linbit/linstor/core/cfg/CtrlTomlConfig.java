@@ -75,6 +75,8 @@ public class CtrlTomlConfig
         private String client_key_pcks8_pem;
         private String client_key_pkcs8_pem;
         private String client_key_password;
+        private String checkpoint_path;
+        private Long group_commit_window_ms;
 
         private Etcd etcd = new Etcd();
 
@@ -87,6 +89,8 @@ public class CtrlTomlConfig
             cfg.setDbClientCertificate(client_certificate);
             cfg.setDbClientKeyPkcs8Pem(client_key_pkcs8_pem != null ? client_key_pkcs8_pem : client_key_pcks8_pem);
             cfg.setDbClientKeyPassword(client_key_password);
+            cfg.setDbCheckpointPath(checkpoint_path);
+            cfg.setDbGroupCommitWindowMillis(group_commit_window_ms);
 
             etcd.applyTo(cfg);
         }
@@ -66,6 +66,18 @@ public class CacheLayerETCDDriver extends BaseEtcdDriver implements CacheLayerCt
         return idDriver;
     }
 
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        // no-op - the volumes are loaded with one range request per layer resource id
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        // no-op
+    }
+
     /**
      * Fully loads a {@link CacheRscData} object including its {@link CacheVlmData}
      *
@@ -7,9 +7,14 @@ import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerCacheVolumes;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.CacheLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.storage.data.adapter.nvme.NvmeRscData;
@@ -35,11 +40,11 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -54,6 +59,9 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
 
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final SQLEngine sqlEngine;
+
+    private Map<Integer, List<CacheVlmInfoData>> cachedVlmInfoByRscLayerId;
 
     private static final String[] VLM_ALL_FIELDS =
     {
@@ -64,11 +72,6 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
         POOL_NAME_META
     };
 
-    private static final String SELECT_VLM_BY_RSC_ID =
-        " SELECT " + StringUtils.join(", ", VLM_ALL_FIELDS) +
-        " FROM " + TBL_LAYER_CACHE_VOLUMES +
-        " WHERE " + LAYER_RESOURCE_ID + " = ?";
-
     private static final String INSERT_VLM =
         " INSERT INTO " + TBL_LAYER_CACHE_VOLUMES +
         " (" + StringUtils.join(", ", VLM_ALL_FIELDS) + " ) " +
@@ -84,7 +87,8 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
         ErrorReporter errorReporterRef,
         ResourceLayerIdDatabaseDriver idDriverRef,
         TransactionObjectFactory transObjFactoryRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        SQLEngine sqlEngineRef
     )
     {
         dbCtx = accCtx;
@@ -92,6 +96,41 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
         idDriver = idDriverRef;
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
+        sqlEngine = sqlEngineRef;
+    }
+
+    /**
+     * Groups all volumes by their layer resource id. The rows are prefetched or restored from the checkpoint
+     * by the {@link SQLEngine}, otherwise they are fetched with a single query.
+     */
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        cachedVlmInfoByRscLayerId = new HashMap<>();
+        for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_CACHE_VOLUMES))
+        {
+            int rscLayerId = raw.get(LayerCacheVolumes.LAYER_RESOURCE_ID);
+            List<CacheVlmInfoData> infoList = cachedVlmInfoByRscLayerId.get(rscLayerId);
+            if (infoList == null)
+            {
+                infoList = new ArrayList<>();
+                cachedVlmInfoByRscLayerId.put(rscLayerId, infoList);
+            }
+            infoList.add(
+                new CacheVlmInfoData(
+                    raw.get(LayerCacheVolumes.VLM_NR),
+                    raw.get(LayerCacheVolumes.POOL_NAME_CACHE),
+                    raw.get(LayerCacheVolumes.POOL_NAME_META)
+                )
+            );
+        }
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        cachedVlmInfoByRscLayerId.clear();
+        cachedVlmInfoByRscLayerId = null;
     }
 
     /**
@@ -129,18 +168,17 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
             transMgrProvider
         );
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_VLM_BY_RSC_ID))
+        List<CacheVlmInfoData> vlmInfoList = cachedVlmInfoByRscLayerId.get(id);
+        if (vlmInfoList != null)
         {
-            stmt.setInt(1, id);
-
             int vlmNrInt = -1;
-            try (ResultSet resultSet = stmt.executeQuery())
+            try
             {
-                while (resultSet.next())
+                for (CacheVlmInfoData vlmInfo : vlmInfoList)
                 {
-                    vlmNrInt = resultSet.getInt(VLM_NR);
-                    String cacheStorPoolNameStr = resultSet.getString(POOL_NAME_CACHE);
-                    String metaStorPoolNameStr = resultSet.getString(POOL_NAME_META);
+                    vlmNrInt = vlmInfo.vlmNr;
+                    String cacheStorPoolNameStr = vlmInfo.cacheStorPoolName;
+                    String metaStorPoolNameStr = vlmInfo.metaStorPoolName;
 
                     VolumeNumber vlmNr;
                     vlmNr = new VolumeNumber(vlmNrInt);
@@ -188,10 +226,6 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
                 );
             }
         }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
         return new Pair<>(cacheRscData, children);
     }
 
@@ -206,18 +240,19 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
     public void persist(CacheVlmData<?> cacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating CacheVlmData %s", getId(cacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, cacheVlmDataRef.getRscLayerId());
-            stmt.setInt(2, cacheVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, cacheVlmDataRef.getRscLayerId());
+            params.setInt(2, cacheVlmDataRef.getVlmNr().value);
 
             StorPool cacheStorPool = cacheVlmDataRef.getCacheStorPool();
             StorPool metaStorPool = cacheVlmDataRef.getMetaStorPool();
-            stmt.setString(3, cacheStorPool.getNode().getName().value);
-            stmt.setString(4, cacheStorPool.getName().value);
-            stmt.setString(5, metaStorPool.getName().value);
+            params.setString(3, cacheStorPool.getNode().getName().value);
+            params.setString(4, cacheStorPool.getName().value);
+            params.setString(5, metaStorPool.getName().value);
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM, params);
             errorReporter.logTrace("CacheVlmData created %s", getId(cacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -237,12 +272,13 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
     public void delete(CacheVlmData<?> cacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting CacheVlmData %s", getId(cacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, cacheVlmDataRef.getRscLayerId());
-            stmt.setInt(2, cacheVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, cacheVlmDataRef.getRscLayerId());
+            params.setInt(2, cacheVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
             errorReporter.logTrace("CacheVlmData deleted %s", getId(cacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -257,9 +293,9 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
         return idDriver;
     }
 
-    private Connection getConnection()
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
     {
-        return transMgrProvider.get().getConnection();
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(CacheRscData<?> cacheRscData)
@@ -276,4 +312,18 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
             ", VlmNr=" + cacheVlmData.getVlmNr().value +
             ")";
     }
+
+    private static class CacheVlmInfoData
+    {
+        private final int vlmNr;
+        private final String cacheStorPoolName;
+        private final String metaStorPoolName;
+
+        CacheVlmInfoData(int vlmNrRef, String cacheStorPoolNameRef, String metaStorPoolNameRef)
+        {
+            vlmNr = vlmNrRef;
+            cacheStorPoolName = cacheStorPoolNameRef;
+            metaStorPoolName = metaStorPoolNameRef;
+        }
+    }
 }
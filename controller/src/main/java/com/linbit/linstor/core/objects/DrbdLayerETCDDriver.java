@@ -137,6 +137,12 @@ public class DrbdLayerETCDDriver extends BaseEtcdDriver implements DrbdLayerCtrl
         return idDriver;
     }
 
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        // no-op - the resources and volumes are loaded with one range request per layer resource id
+    }
+
     /*
      * These caches are only used during loading. Having them cleared after having loaded all data
      * these caches should never be used again.
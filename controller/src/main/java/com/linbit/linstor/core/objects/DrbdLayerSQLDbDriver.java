@@ -15,11 +15,17 @@ import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.types.MinorNumber;
 import com.linbit.linstor.core.types.NodeId;
 import com.linbit.linstor.core.types.TcpPortNumber;
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.DatabaseLoader;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerDrbdResources;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerDrbdVolumes;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.DrbdLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.numberpool.DynamicNumberPool;
 import com.linbit.linstor.numberpool.NumberPoolModule;
@@ -121,14 +127,6 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         VLM_MINOR_NR
     };
 
-    private static final String SELECT_RSC_BY_ID =
-        " SELECT " + StringUtils.join(", ", RSC_ALL_FIELDS) +
-        " FROM " + TBL_LAYER_DRBD_RESOURCES +
-        " WHERE " + LAYER_RESOURCE_ID + " = ?";
-    private static final String SELECT_VLM_BY_RSC_ID =
-        " SELECT " + StringUtils.join(", ", VLM_ALL_FIELDS) +
-        " FROM " + TBL_LAYER_DRBD_VOLUMES +
-        " WHERE " + LAYER_RESOURCE_ID + " = ?";
     private static final String SELECT_ALL_RSC_DFN_AND_VLM_DFN =
         " SELECT " +
             joinAs(", ", "RD.", "RD_", RSC_DFN_ALL_FIELDS) + ", " +
@@ -230,6 +228,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     private final Map<Pair<SnapshotVolumeDefinition, String>, DrbdVlmDfnData<Snapshot>> drbdSnapVlmDfnCache;
     private final DynamicNumberPool tcpPortPool;
     private final DynamicNumberPool minorPool;
+    private final SQLEngine sqlEngine;
+
+    private Map<Integer, DrbdRscInfoData> cachedRscInfoByRscLayerId;
+    private Map<Integer, List<DrbdVlmInfoData>> cachedVlmInfoByRscLayerId;
 
     @Inject
     public DrbdLayerSQLDbDriver(
@@ -239,7 +241,8 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         TransactionObjectFactory transObjFactoryRef,
         Provider<TransactionMgrSQL> transMgrProviderRef,
         @Named(NumberPoolModule.TCP_PORT_POOL) DynamicNumberPool tcpPortPoolRef,
-        @Named(NumberPoolModule.MINOR_NUMBER_POOL) DynamicNumberPool minorPoolRef
+        @Named(NumberPoolModule.MINOR_NUMBER_POOL) DynamicNumberPool minorPoolRef,
+        SQLEngine sqlEngineRef
     )
     {
         dbCtx = accCtx;
@@ -249,6 +252,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         transMgrProvider = transMgrProviderRef;
         tcpPortPool = tcpPortPoolRef;
         minorPool = minorPoolRef;
+        sqlEngine = sqlEngineRef;
 
         rscStatePersistence = new RscFlagsDriver();
         vlmExtStorPoolDriver = new VlmExtStorPoolDriver();
@@ -277,6 +281,51 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         return sb.toString();
     }
 
+    /**
+     * Groups all DRBD resources and volumes by their layer resource id, so that {@link #load} does not have
+     * to query the database for every single layer resource id. The rows are prefetched or restored from the
+     * checkpoint by the {@link SQLEngine}, otherwise they are fetched with one query per table.
+     *
+     * @throws DatabaseException
+     */
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        cachedRscInfoByRscLayerId = new HashMap<>();
+        cachedVlmInfoByRscLayerId = new HashMap<>();
+        for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_DRBD_RESOURCES))
+        {
+            Integer peerSlots = raw.get(LayerDrbdResources.PEER_SLOTS);
+            cachedRscInfoByRscLayerId.put(
+                raw.get(LayerDrbdResources.LAYER_RESOURCE_ID),
+                new DrbdRscInfoData(
+                    raw.get(LayerDrbdResources.NODE_ID),
+                    peerSlots == null ? null : peerSlots.shortValue(),
+                    raw.get(LayerDrbdResources.AL_STRIPES),
+                    raw.get(LayerDrbdResources.AL_STRIPE_SIZE),
+                    raw.get(LayerDrbdResources.FLAGS)
+                )
+            );
+        }
+
+        for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_DRBD_VOLUMES))
+        {
+            int rscLayerId = raw.get(LayerDrbdVolumes.LAYER_RESOURCE_ID);
+            List<DrbdVlmInfoData> infoList = cachedVlmInfoByRscLayerId.get(rscLayerId);
+            if (infoList == null)
+            {
+                infoList = new ArrayList<>();
+                cachedVlmInfoByRscLayerId.put(rscLayerId, infoList);
+            }
+            infoList.add(
+                new DrbdVlmInfoData(
+                    raw.get(LayerDrbdVolumes.VLM_NR),
+                    raw.get(LayerDrbdVolumes.POOL_NAME)
+                )
+            );
+        }
+    }
+
     /*
      * These caches are only used during loading. Having them cleared after having loaded all data
      * these caches should never be used again.
@@ -286,6 +335,8 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     {
         drbdRscDfnCache.clear();
         drbdVlmDfnCache.clear();
+        cachedRscInfoByRscLayerId = null;
+        cachedVlmInfoByRscLayerId = null;
     }
 
 
@@ -302,7 +353,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_ALL_RSC_DFN_AND_VLM_DFN))
+        try (PreparedStatement stmt = getQueryConnection().prepareStatement(SELECT_ALL_RSC_DFN_AND_VLM_DFN))
         {
             try (ResultSet resultSet = stmt.executeQuery())
             {
@@ -579,121 +630,99 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         throws DatabaseException
     {
         Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>> ret;
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_RSC_BY_ID))
+        DrbdRscInfoData rscInfo = cachedRscInfoByRscLayerId.get(id);
+        if (rscInfo != null)
         {
-            stmt.setInt(1, id);
-            try (ResultSet resultSet = stmt.executeQuery())
+            NodeId nodeId;
+            try
             {
-                if (resultSet.next())
-                {
-                    NodeId nodeId;
-                    try
-                    {
-                        nodeId = new NodeId(resultSet.getInt(NODE_ID));
-                    }
-                    catch (ValueOutOfRangeException exc)
-                    {
-                        throw new LinStorDBRuntimeException(
-                            "Failed to restore stored nodeId [" + resultSet.getInt(NODE_ID) + "]"
-                        );
-                    }
-                    Short peerSlots = resultSet.getShort(PEER_SLOTS);
-                    if (resultSet.wasNull())
-                    {
-                        peerSlots = null;
-                    }
-                    Integer alStripes = resultSet.getInt(AL_STRIPES);
-                    if (resultSet.wasNull())
-                    {
-                        alStripes = null;
-                    }
-                    Long alStripeSize = resultSet.getLong(AL_STRIPE_SIZE);
-                    if (resultSet.wasNull())
-                    {
-                        alStripeSize = null;
-                    }
-                    long initFlags = resultSet.getLong(FLAGS);
+                nodeId = new NodeId(rscInfo.nodeId);
+            }
+            catch (ValueOutOfRangeException exc)
+            {
+                throw new LinStorDBRuntimeException(
+                    "Failed to restore stored nodeId [" + rscInfo.nodeId + "]"
+                );
+            }
+            Short peerSlots = rscInfo.peerSlots;
+            Integer alStripes = rscInfo.alStripes;
+            Long alStripeSize = rscInfo.alStripeSize;
+            long initFlags = rscInfo.flags;
 
-                    Set<AbsRscLayerObject<RSC>> children = new HashSet<>();
-                    Object childrenAfterTypeEreasure = children; // sorry for this hack
+            Set<AbsRscLayerObject<RSC>> children = new HashSet<>();
+            Object childrenAfterTypeEreasure = children; // sorry for this hack
 
-                    if (absRsc instanceof Resource)
-                    {
-                        Resource rsc = (Resource) absRsc;
-
-                        Pair<DrbdRscDfnData<Resource>, List<DrbdRscData<Resource>>> drbdRscDfnDataPair = drbdRscDfnCache
-                            .get(new Pair<>(rsc.getDefinition(), rscSuffixRef));
-                        Map<VolumeNumber, DrbdVlmData<Resource>> vlmMap = new TreeMap<>();
-
-                        DrbdRscData<Resource> drbdRscData = new DrbdRscData<>(
-                            id,
-                            rsc,
-                            (AbsRscLayerObject<Resource>) absParent,
-                            drbdRscDfnDataPair.objA,
-                            (Set<AbsRscLayerObject<Resource>>) childrenAfterTypeEreasure,
-                            vlmMap,
-                            rscSuffixRef,
-                            nodeId,
-                            peerSlots,
-                            alStripes,
-                            alStripeSize,
-                            initFlags,
-                            this,
-                            transObjFactory,
-                            transMgrProvider
-                        );
-                        ret = new Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>>(
-                            (DrbdRscData<RSC>) drbdRscData,
-                            children
-                        );
-                        drbdRscDfnDataPair.objB.add(drbdRscData);
+            if (absRsc instanceof Resource)
+            {
+                Resource rsc = (Resource) absRsc;
+
+                Pair<DrbdRscDfnData<Resource>, List<DrbdRscData<Resource>>> drbdRscDfnDataPair = drbdRscDfnCache
+                    .get(new Pair<>(rsc.getDefinition(), rscSuffixRef));
+                Map<VolumeNumber, DrbdVlmData<Resource>> vlmMap = new TreeMap<>();
+
+                DrbdRscData<Resource> drbdRscData = new DrbdRscData<>(
+                    id,
+                    rsc,
+                    (AbsRscLayerObject<Resource>) absParent,
+                    drbdRscDfnDataPair.objA,
+                    (Set<AbsRscLayerObject<Resource>>) childrenAfterTypeEreasure,
+                    vlmMap,
+                    rscSuffixRef,
+                    nodeId,
+                    peerSlots,
+                    alStripes,
+                    alStripeSize,
+                    initFlags,
+                    this,
+                    transObjFactory,
+                    transMgrProvider
+                );
+                ret = new Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>>(
+                    (DrbdRscData<RSC>) drbdRscData,
+                    children
+                );
+                drbdRscDfnDataPair.objB.add(drbdRscData);
 
-                        restoreDrbdVolumes(drbdRscData, vlmMap, storPoolMapRef);
-                    }
-                    else
-                    {
-                        Snapshot snap = (Snapshot) absRsc;
-                        Pair<DrbdRscDfnData<Snapshot>, List<DrbdRscData<Snapshot>>> drbdSnapDfnDataPair = drbdSnapDfnCache.get(
-                            new Pair<>(snap.getSnapshotDefinition(), rscSuffixRef)
-                        );
+                restoreDrbdVolumes(drbdRscData, vlmMap, storPoolMapRef);
+            }
+            else
+            {
+                Snapshot snap = (Snapshot) absRsc;
+                Pair<DrbdRscDfnData<Snapshot>, List<DrbdRscData<Snapshot>>> drbdSnapDfnDataPair = drbdSnapDfnCache.get(
+                    new Pair<>(snap.getSnapshotDefinition(), rscSuffixRef)
+                );
 
-                        Map<VolumeNumber, DrbdVlmData<Snapshot>> vlmMap = new TreeMap<>();
-                        DrbdRscData<Snapshot> drbdSnapData = new DrbdRscData<Snapshot>(
-                            id,
-                            snap,
-                            (AbsRscLayerObject<Snapshot>) absParent,
-                            drbdSnapDfnDataPair.objA,
-                            (Set<AbsRscLayerObject<Snapshot>>) childrenAfterTypeEreasure,
-                            vlmMap,
-                            rscSuffixRef,
-                            nodeId,
-                            peerSlots,
-                            alStripes,
-                            alStripeSize,
-                            initFlags,
-                            this,
-                            transObjFactory,
-                            transMgrProvider
-                        );
-                        ret = new Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>>(
-                            (DrbdRscData<RSC>) drbdSnapData,
-                            children
-                        );
+                Map<VolumeNumber, DrbdVlmData<Snapshot>> vlmMap = new TreeMap<>();
+                DrbdRscData<Snapshot> drbdSnapData = new DrbdRscData<Snapshot>(
+                    id,
+                    snap,
+                    (AbsRscLayerObject<Snapshot>) absParent,
+                    drbdSnapDfnDataPair.objA,
+                    (Set<AbsRscLayerObject<Snapshot>>) childrenAfterTypeEreasure,
+                    vlmMap,
+                    rscSuffixRef,
+                    nodeId,
+                    peerSlots,
+                    alStripes,
+                    alStripeSize,
+                    initFlags,
+                    this,
+                    transObjFactory,
+                    transMgrProvider
+                );
+                ret = new Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>>(
+                    (DrbdRscData<RSC>) drbdSnapData,
+                    children
+                );
 
-                        drbdSnapDfnDataPair.objB.add(drbdSnapData);
+                drbdSnapDfnDataPair.objB.add(drbdSnapData);
 
-                        restoreDrbdVolumes(drbdSnapData, vlmMap, storPoolMapRef);
-                    }
-                }
-                else
-                {
-                    throw new ImplementationError("Requested id [" + id + "] was not found in the database");
-                }
+                restoreDrbdVolumes(drbdSnapData, vlmMap, storPoolMapRef);
             }
         }
-        catch (SQLException sqlExc)
+        else
         {
-            throw new DatabaseException(sqlExc);
+            throw new ImplementationError("Requested id [" + id + "] was not found in the database");
         }
         return ret;
     }
@@ -703,22 +732,20 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         Map<VolumeNumber, DrbdVlmData<RSC>> vlmMap,
         Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> storPoolMapRef
     )
-        throws DatabaseException
     {
         RSC absRsc = rscData.getAbsResource();
         NodeName currentNodeName = absRsc.getNode().getName();
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_VLM_BY_RSC_ID))
+        List<DrbdVlmInfoData> vlmInfoList = cachedVlmInfoByRscLayerId.get(rscData.getRscLayerId());
+        if (vlmInfoList != null)
         {
-            stmt.setInt(1, rscData.getRscLayerId());
-
             int vlmNrInt = -1;
-            try (ResultSet resultSet = stmt.executeQuery())
+            try
             {
-                while (resultSet.next())
+                for (DrbdVlmInfoData vlmInfo : vlmInfoList)
                 {
-                    vlmNrInt = resultSet.getInt(VLM_NR);
-                    String extMetaStorPoolNameStr = resultSet.getString(POOL_NAME);
+                    vlmNrInt = vlmInfo.vlmNr;
+                    String extMetaStorPoolNameStr = vlmInfo.extMetaStorPoolName;
 
                     VolumeNumber vlmNr = new VolumeNumber(vlmNrInt);
 
@@ -818,29 +845,23 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 );
             }
         }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
     }
 
     @Override
     public void create(DrbdRscData<?> drbdRscDataRef) throws DatabaseException
     {
-        @SuppressWarnings("resource") // will be done in DbConnectionPool#returnConnection
-        Connection connection = getConnection();
-
         errorReporter.logTrace("Creating DrbdRscData %s", getId(drbdRscDataRef));
-        try (PreparedStatement stmt = connection.prepareStatement(INSERT_RSC))
+        try
         {
-            stmt.setInt(1, drbdRscDataRef.getRscLayerId());
-            stmt.setShort(2, drbdRscDataRef.getPeerSlots());
-            stmt.setInt(3, drbdRscDataRef.getAlStripes());
-            stmt.setLong(4, drbdRscDataRef.getAlStripeSize());
-            stmt.setLong(5, drbdRscDataRef.getFlags().getFlagsBits(dbCtx));
-            stmt.setInt(6, drbdRscDataRef.getNodeId().value);
-
-            stmt.executeUpdate();
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, drbdRscDataRef.getRscLayerId());
+            params.setShort(2, drbdRscDataRef.getPeerSlots());
+            params.setInt(3, drbdRscDataRef.getAlStripes());
+            params.setLong(4, drbdRscDataRef.getAlStripeSize());
+            params.setLong(5, drbdRscDataRef.getFlags().getFlagsBits(dbCtx));
+            params.setInt(6, drbdRscDataRef.getNodeId().value);
+
+            executeDeferred(INSERT_RSC, params);
             errorReporter.logTrace("DrbdRscData created %s", getId(drbdRscDataRef));
         }
         catch (SQLException sqlExc)
@@ -857,42 +878,43 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdRscDfnData<?> drbdRscDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdRscDfnData %s", getId(drbdRscDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_RSC_DFN))
+        try
         {
-            stmt.setString(1, drbdRscDfnDataRef.getResourceName().value);
-            stmt.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, drbdRscDfnDataRef.getResourceName().value);
+            params.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdRscDfnDataRef.getSnapshotName();
             if (snapName == null)
             {
-                stmt.setString(3, DFLT_SNAP_NAME_FOR_RSC);
+                params.setString(3, DFLT_SNAP_NAME_FOR_RSC);
             }
             else
             {
-                stmt.setString(3, snapName.value);
+                params.setString(3, snapName.value);
             }
-            stmt.setShort(4, drbdRscDfnDataRef.getPeerSlots());
-            stmt.setInt(5, drbdRscDfnDataRef.getAlStripes());
-            stmt.setLong(6, drbdRscDfnDataRef.getAlStripeSize());
+            params.setShort(4, drbdRscDfnDataRef.getPeerSlots());
+            params.setInt(5, drbdRscDfnDataRef.getAlStripes());
+            params.setLong(6, drbdRscDfnDataRef.getAlStripeSize());
             TcpPortNumber tcpPort = drbdRscDfnDataRef.getTcpPort();
             if (tcpPort == null)
             {
-                stmt.setNull(7, Types.INTEGER);
+                params.setNull(7, Types.INTEGER);
             }
             else
             {
-                stmt.setInt(7, tcpPort.value);
+                params.setInt(7, tcpPort.value);
             }
-            stmt.setString(8, drbdRscDfnDataRef.getTransportType().name());
+            params.setString(8, drbdRscDfnDataRef.getTransportType().name());
             if (drbdRscDfnDataRef.getSecret() != null)
             {
-                stmt.setString(9, drbdRscDfnDataRef.getSecret());
+                params.setString(9, drbdRscDfnDataRef.getSecret());
             }
             else
             {
-                stmt.setNull(9, Types.VARCHAR);
+                params.setNull(9, Types.VARCHAR);
             }
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_RSC_DFN, params);
             errorReporter.logTrace("DrbdRscDfnData created %s", getId(drbdRscDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -905,23 +927,24 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdVlmData<?> drbdVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdVlmData %s", getId(drbdVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, drbdVlmDataRef.getRscLayerId());
-            stmt.setInt(2, drbdVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, drbdVlmDataRef.getRscLayerId());
+            params.setInt(2, drbdVlmDataRef.getVlmNr().value);
             StorPool externalMetaDataStorPool = drbdVlmDataRef.getExternalMetaDataStorPool();
             if (externalMetaDataStorPool != null)
             {
-                stmt.setString(3, externalMetaDataStorPool.getNode().getName().value);
-                stmt.setString(4, externalMetaDataStorPool.getName().value);
+                params.setString(3, externalMetaDataStorPool.getNode().getName().value);
+                params.setString(4, externalMetaDataStorPool.getName().value);
             }
             else
             {
-                stmt.setNull(3, Types.VARCHAR);
-                stmt.setNull(4, Types.VARCHAR);
+                params.setNull(3, Types.VARCHAR);
+                params.setNull(4, Types.VARCHAR);
             }
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM, params);
             errorReporter.logTrace("DrbdVlmData created %s", getId(drbdVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -934,31 +957,32 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdVlmDfnData<?> drbdVlmDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdVlmDfnData %s", getId(drbdVlmDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM_DFN))
+        try
         {
-            stmt.setString(1, drbdVlmDfnDataRef.getResourceName().value);
-            stmt.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, drbdVlmDfnDataRef.getResourceName().value);
+            params.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdVlmDfnDataRef.getSnapshotName();
             if (snapName == null)
             {
-                stmt.setString(3, DFLT_SNAP_NAME_FOR_RSC);
+                params.setString(3, DFLT_SNAP_NAME_FOR_RSC);
             }
             else
             {
-                stmt.setString(3, snapName.value);
+                params.setString(3, snapName.value);
             }
-            stmt.setInt(4, drbdVlmDfnDataRef.getVolumeNumber().value);
+            params.setInt(4, drbdVlmDfnDataRef.getVolumeNumber().value);
             MinorNumber minorNr = drbdVlmDfnDataRef.getMinorNr();
             if (minorNr == null)
             {
-                stmt.setNull(5, Types.INTEGER);
+                params.setNull(5, Types.INTEGER);
             }
             else
             {
-                stmt.setInt(5, minorNr.value);
+                params.setInt(5, minorNr.value);
             }
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM_DFN, params);
             errorReporter.logTrace("DrbdVlmDfnData created %s", getId(drbdVlmDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -971,11 +995,12 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdRscData<?> drbdRscDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdRscDataRef %s", getId(drbdRscDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC))
+        try
         {
-            stmt.setInt(1, drbdRscDataRef.getRscLayerId());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, drbdRscDataRef.getRscLayerId());
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_RSC, params);
             errorReporter.logTrace("DrbdRscDataRef deleted %s", getId(drbdRscDataRef));
         }
         catch (SQLException sqlExc)
@@ -988,21 +1013,22 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdRscDfnData<?> drbdRscDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdRscDfnData %s", getId(drbdRscDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC_DFN))
+        try
         {
-            stmt.setString(1, drbdRscDfnDataRef.getResourceName().value);
-            stmt.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, drbdRscDfnDataRef.getResourceName().value);
+            params.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdRscDfnDataRef.getSnapshotName();
             if (snapName == null)
             {
-                stmt.setString(3, DFLT_SNAP_NAME_FOR_RSC);
+                params.setString(3, DFLT_SNAP_NAME_FOR_RSC);
             }
             else
             {
-                stmt.setString(3, snapName.value);
+                params.setString(3, snapName.value);
             }
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_RSC_DFN, params);
             errorReporter.logTrace("DrbdRscDfnData deleted %s", getId(drbdRscDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -1015,12 +1041,13 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdVlmData<?> drbdVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdVlmData %s", getId(drbdVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, drbdVlmDataRef.getRscLayerId());
-            stmt.setInt(2, drbdVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, drbdVlmDataRef.getRscLayerId());
+            params.setInt(2, drbdVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
             errorReporter.logTrace("DrbdVlmData deleted %s", getId(drbdVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -1033,22 +1060,23 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdVlmDfnData<?> drbdVlmDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdVlmDfnData %s", getId(drbdVlmDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM_DFN))
+        try
         {
-            stmt.setString(1, drbdVlmDfnDataRef.getResourceName().value);
-            stmt.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, drbdVlmDfnDataRef.getResourceName().value);
+            params.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdVlmDfnDataRef.getSnapshotName();
             if (snapName == null)
             {
-                stmt.setString(3, DFLT_SNAP_NAME_FOR_RSC);
+                params.setString(3, DFLT_SNAP_NAME_FOR_RSC);
             }
             else
             {
-                stmt.setString(3, snapName.value);
+                params.setString(3, snapName.value);
             }
-            stmt.setInt(4, drbdVlmDfnDataRef.getVolumeNumber().value);
+            params.setInt(4, drbdVlmDfnDataRef.getVolumeNumber().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM_DFN, params);
             errorReporter.logTrace("DrbdVlmDfnData deleted %s", getId(drbdVlmDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -1099,9 +1127,19 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         return rscDfnPeerSlotsDriver;
     }
 
-    private Connection getConnection()
+    private Connection getQueryConnection()
     {
-        return transMgrProvider.get().getConnection();
+        return transMgrProvider.get().getQueryConnection(
+            TBL_LAYER_DRBD_RESOURCES,
+            TBL_LAYER_DRBD_RESOURCE_DEFINITIONS,
+            TBL_LAYER_DRBD_VOLUMES,
+            TBL_LAYER_DRBD_VOLUME_DEFINITIONS
+        );
+    }
+
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(DrbdVlmData<?> drbdVlmData)
@@ -1157,11 +1195,12 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                     toFlags,
                     getId(drbdRscData)
                 );
-                try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_FLAGS))
+                try
                 {
-                    stmt.setLong(1, flags);
-                    stmt.setLong(2, drbdRscData.getRscLayerId());
-                    stmt.executeUpdate();
+                    SQLStatementParameters params = new SQLStatementParameters();
+                    params.setLong(1, flags);
+                    params.setLong(2, drbdRscData.getRscLayerId());
+                    executeDeferred(UPDATE_RSC_FLAGS, params);
                 }
                 catch (SQLException sqlExc)
                 {
@@ -1202,23 +1241,24 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 toStr,
                 getId(drbdVlmData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_VLM_EXT_STOR_POOL))
+            try
             {
+                SQLStatementParameters params = new SQLStatementParameters();
                 if (storPool == null)
                 {
-                    stmt.setNull(1, Types.VARCHAR);
-                    stmt.setNull(2, Types.VARCHAR);
+                    params.setNull(1, Types.VARCHAR);
+                    params.setNull(2, Types.VARCHAR);
                 }
                 else
                 {
-                    stmt.setString(1, storPool.getNode().getName().value);
-                    stmt.setString(2, storPool.getName().value);
+                    params.setString(1, storPool.getNode().getName().value);
+                    params.setString(2, storPool.getName().value);
                 }
 
-                stmt.setLong(3, drbdVlmData.getRscLayerId());
-                stmt.setInt(4, drbdVlmData.getVlmNr().value);
+                params.setLong(3, drbdVlmData.getRscLayerId());
+                params.setInt(4, drbdVlmData.getVlmNr().value);
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_VLM_EXT_STOR_POOL, params);
             }
             catch (SQLException sqlExc)
             {
@@ -1245,21 +1285,22 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 secretRef,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_SECRET))
+            try
             {
-                stmt.setString(1, secretRef);
-                stmt.setString(2, drbdRscDfnData.getResourceName().value);
-                stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, secretRef);
+                params.setString(2, drbdRscDfnData.getResourceName().value);
+                params.setString(3, drbdRscDfnData.getRscNameSuffix());
                 SnapshotName snapName = drbdRscDfnData.getSnapshotName();
                 if (snapName == null)
                 {
-                    stmt.setString(4, DFLT_SNAP_NAME_FOR_RSC);
+                    params.setString(4, DFLT_SNAP_NAME_FOR_RSC);
                 }
                 else
                 {
-                    stmt.setString(4, snapName.displayValue);
+                    params.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_RSC_DFN_SECRET, params);
             }
             catch (SQLException sqlExc)
             {
@@ -1287,21 +1328,22 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 port,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_TCP_PORT))
+            try
             {
-                stmt.setInt(1, port.value);
-                stmt.setString(2, drbdRscDfnData.getResourceName().value);
-                stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setInt(1, port.value);
+                params.setString(2, drbdRscDfnData.getResourceName().value);
+                params.setString(3, drbdRscDfnData.getRscNameSuffix());
                 SnapshotName snapName = drbdRscDfnData.getSnapshotName();
                 if (snapName == null)
                 {
-                    stmt.setString(4, DFLT_SNAP_NAME_FOR_RSC);
+                    params.setString(4, DFLT_SNAP_NAME_FOR_RSC);
                 }
                 else
                 {
-                    stmt.setString(4, snapName.displayValue);
+                    params.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_RSC_DFN_TCP_PORT, params);
             }
             catch (SQLException sqlExc)
             {
@@ -1328,21 +1370,22 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 transportType.name(),
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_TRANSPORT_TYPE))
+            try
             {
-                stmt.setString(1, transportType.name());
-                stmt.setString(2, drbdRscDfnData.getResourceName().value);
-                stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, transportType.name());
+                params.setString(2, drbdRscDfnData.getResourceName().value);
+                params.setString(3, drbdRscDfnData.getRscNameSuffix());
                 SnapshotName snapName = drbdRscDfnData.getSnapshotName();
                 if (snapName == null)
                 {
-                    stmt.setString(4, DFLT_SNAP_NAME_FOR_RSC);
+                    params.setString(4, DFLT_SNAP_NAME_FOR_RSC);
                 }
                 else
                 {
-                    stmt.setString(4, snapName.displayValue);
+                    params.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_RSC_DFN_TRANSPORT_TYPE, params);
             }
             catch (SQLException sqlExc)
             {
@@ -1370,21 +1413,22 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 peerSlots,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_PEER_SLOTS))
+            try
             {
-                stmt.setShort(1, peerSlots);
-                stmt.setString(2, drbdRscDfnData.getResourceName().value);
-                stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setShort(1, peerSlots);
+                params.setString(2, drbdRscDfnData.getResourceName().value);
+                params.setString(3, drbdRscDfnData.getRscNameSuffix());
                 SnapshotName snapName = drbdRscDfnData.getSnapshotName();
                 if (snapName == null)
                 {
-                    stmt.setString(4, DFLT_SNAP_NAME_FOR_RSC);
+                    params.setString(4, DFLT_SNAP_NAME_FOR_RSC);
                 }
                 else
                 {
-                    stmt.setString(4, snapName.displayValue);
+                    params.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_RSC_DFN_PEER_SLOTS, params);
             }
             catch (SQLException sqlExc)
             {
@@ -1398,4 +1442,40 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
             );
         }
     }
+
+    private static class DrbdRscInfoData
+    {
+        private final int nodeId;
+        private final Short peerSlots;
+        private final Integer alStripes;
+        private final Long alStripeSize;
+        private final long flags;
+
+        DrbdRscInfoData(
+            int nodeIdRef,
+            Short peerSlotsRef,
+            Integer alStripesRef,
+            Long alStripeSizeRef,
+            long flagsRef
+        )
+        {
+            nodeId = nodeIdRef;
+            peerSlots = peerSlotsRef;
+            alStripes = alStripesRef;
+            alStripeSize = alStripeSizeRef;
+            flags = flagsRef;
+        }
+    }
+
+    private static class DrbdVlmInfoData
+    {
+        private final int vlmNr;
+        private final String extMetaStorPoolName;
+
+        DrbdVlmInfoData(int vlmNrRef, String extMetaStorPoolNameRef)
+        {
+            vlmNr = vlmNrRef;
+            extMetaStorPoolName = extMetaStorPoolNameRef;
+        }
+    }
 }
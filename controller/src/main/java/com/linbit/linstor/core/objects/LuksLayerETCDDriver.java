@@ -69,6 +69,18 @@ public class LuksLayerETCDDriver extends BaseEtcdDriver implements LuksLayerCtrl
         return idDriver;
     }
 
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        // no-op - the volumes are loaded with one range request per layer resource id
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        // no-op
+    }
+
     @Override
     @SuppressWarnings({"checkstyle:magicnumber", "unchecked"})
     public <RSC extends AbsResource<RSC>> Pair<LuksRscData<RSC>, Set<AbsRscLayerObject<RSC>>> load(
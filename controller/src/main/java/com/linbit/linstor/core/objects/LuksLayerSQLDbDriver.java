@@ -5,6 +5,7 @@ import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.LuksLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
@@ -29,7 +30,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -40,10 +44,9 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     private static final String VLM_ALL_FIELDS =
         LAYER_RESOURCE_ID + ", " + VLM_NR + ", " + ENCRYPTED_PASSWORD;
 
-    private static final String SELECT_ALL_VLMS_BY_RSC_ID =
+    private static final String SELECT_ALL_VLMS =
         " SELECT " + VLM_ALL_FIELDS +
-        " FROM " + TBL_LAYER_LUKS_VOLUMES +
-        " WHERE " + LAYER_RESOURCE_ID + " = ?";
+        " FROM " + TBL_LAYER_LUKS_VOLUMES;
 
     private static final String INSERT_VLM =
         " INSERT INTO " + TBL_LAYER_LUKS_VOLUMES +
@@ -70,6 +73,8 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
 
     private final VlmPwDriver vlmPwDriver;
 
+    private Map<Integer, List<LuksVlmInfoData>> cachedVlmInfoByRscLayerId;
+
     @Inject
     public LuksLayerSQLDbDriver(
         @SystemContext AccessContext accCtx,
@@ -89,7 +94,45 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     }
 
     @Override
-    @SuppressWarnings("checkstyle:magicnumber")
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        cachedVlmInfoByRscLayerId = new HashMap<>();
+        try (
+            PreparedStatement stmt = getQueryConnection().prepareStatement(SELECT_ALL_VLMS);
+            ResultSet resultSet = stmt.executeQuery()
+        )
+        {
+            while (resultSet.next())
+            {
+                int rscLayerId = resultSet.getInt(LAYER_RESOURCE_ID);
+                List<LuksVlmInfoData> infoList = cachedVlmInfoByRscLayerId.get(rscLayerId);
+                if (infoList == null)
+                {
+                    infoList = new ArrayList<>();
+                    cachedVlmInfoByRscLayerId.put(rscLayerId, infoList);
+                }
+                infoList.add(
+                    new LuksVlmInfoData(
+                        resultSet.getInt(VLM_NR),
+                        resultSet.getBytes(ENCRYPTED_PASSWORD)
+                    )
+                );
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        cachedVlmInfoByRscLayerId.clear();
+        cachedVlmInfoByRscLayerId = null;
+    }
+
+    @Override
     public <RSC extends AbsResource<RSC>> Pair<LuksRscData<RSC>, Set<AbsRscLayerObject<RSC>>> load(
         RSC absRsc,
         int id,
@@ -98,7 +141,6 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     )
         throws DatabaseException
     {
-        Pair<LuksRscData<RSC>, Set<AbsRscLayerObject<RSC>>> ret;
         Set<AbsRscLayerObject<RSC>> children = new HashSet<>();
         Map<VolumeNumber, LuksVlmData<RSC>> vlmDataMap = new TreeMap<>();
 
@@ -115,42 +157,35 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
         );
 
         // load volumes
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_ALL_VLMS_BY_RSC_ID))
+        List<LuksVlmInfoData> vlmInfoList = cachedVlmInfoByRscLayerId.get(id);
+        if (vlmInfoList != null)
         {
-            stmt.setInt(1, id);
-            try (ResultSet resultSet = stmt.executeQuery())
+            for (LuksVlmInfoData vlmInfo : vlmInfoList)
             {
-                while (resultSet.next())
+                VolumeNumber vlmNr;
+                try
                 {
-                    VolumeNumber vlmNr;
-                    try
-                    {
-                        vlmNr = new VolumeNumber(resultSet.getInt(VLM_NR));
-                    }
-                    catch (ValueOutOfRangeException exc)
-                    {
-                        throw new LinStorDBRuntimeException(
-                            "Failed to restore stored volume number " + resultSet.getInt(2)
-                        );
-                    }
-                    vlmDataMap.put(
-                        vlmNr,
-                        new LuksVlmData<>(
-                            absRsc.getVolume(vlmNr),
-                            rscData,
-                            resultSet.getBytes(ENCRYPTED_PASSWORD),
-                            this,
-                            transObjFactory,
-                            transMgrProvider
-                        )
+                    vlmNr = new VolumeNumber(vlmInfo.vlmNr);
+                }
+                catch (ValueOutOfRangeException exc)
+                {
+                    throw new LinStorDBRuntimeException(
+                        "Failed to restore stored volume number " + vlmInfo.vlmNr
                     );
                 }
+                vlmDataMap.put(
+                    vlmNr,
+                    new LuksVlmData<>(
+                        absRsc.getVolume(vlmNr),
+                        rscData,
+                        vlmInfo.encryptedPassword,
+                        this,
+                        transObjFactory,
+                        transMgrProvider
+                    )
+                );
             }
         }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
 
         return new Pair<>(rscData, children);
     }
@@ -167,13 +202,14 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     public void persist(LuksVlmData<?> luksVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating LuksVlmData %s", getId(luksVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
-            stmt.setInt(2, luksVlmDataRef.getVlmNr().value);
-            stmt.setBytes(3, luksVlmDataRef.getEncryptedKey());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
+            params.setInt(2, luksVlmDataRef.getVlmNr().value);
+            params.setBytes(3, luksVlmDataRef.getEncryptedKey());
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM, params);
             errorReporter.logTrace("LuksVlmData created %s", getId(luksVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -193,12 +229,13 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     public void delete(LuksVlmData<?> luksVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting LuksVlmData %s", getId(luksVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
-            stmt.setInt(2, luksVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
+            params.setInt(2, luksVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
             errorReporter.logTrace("LuksVlmData deleted %s", getId(luksVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -219,9 +256,14 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
         return idDriver;
     }
 
-    private Connection getConnection()
+    private Connection getQueryConnection()
     {
-        return transMgrProvider.get().getConnection();
+        return transMgrProvider.get().getQueryConnection(TBL_LAYER_LUKS_VOLUMES);
+    }
+
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(LuksVlmData<?> luksVlmDataRef)
@@ -242,13 +284,14 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
                 "Updating LuksVlmData's encrypted password %s",
                 getId(luksVlmDataRef)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_VLM_PW))
+            try
             {
-                stmt.setBytes(1, encryptedPassword);
-                stmt.setInt(2, luksVlmDataRef.getRscLayerObject().getRscLayerId());
-                stmt.setInt(3, luksVlmDataRef.getVlmNr().value);
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setBytes(1, encryptedPassword);
+                params.setInt(2, luksVlmDataRef.getRscLayerObject().getRscLayerId());
+                params.setInt(3, luksVlmDataRef.getVlmNr().value);
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_VLM_PW, params);
             }
             catch (SQLException sqlExc)
             {
@@ -260,4 +303,16 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
             );
         }
     }
+
+    private static class LuksVlmInfoData
+    {
+        private final int vlmNr;
+        private final byte[] encryptedPassword;
+
+        LuksVlmInfoData(int vlmNrRef, byte[] encryptedPasswordRef)
+        {
+            vlmNr = vlmNrRef;
+            encryptedPassword = encryptedPasswordRef;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.StorPool.InitMaps;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.interfaces.OpenflexLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
@@ -175,7 +176,7 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     {
         cacheRscDfnDataMap = new HashMap<>();
         try (
-            PreparedStatement loadAllOfRscDfnStmt = getConnection().prepareStatement(SELECT_ALL_RSC_DFN);
+            PreparedStatement loadAllOfRscDfnStmt = getQueryConnection().prepareStatement(SELECT_ALL_RSC_DFN);
             ResultSet resultSet = loadAllOfRscDfnStmt.executeQuery();
         )
         {
@@ -242,7 +243,7 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     {
         cachedVlmInfoMap = new HashMap<>();
         try (
-            PreparedStatement loadAllVlms = getConnection().prepareStatement(SELECT_ALL_VLMS);
+            PreparedStatement loadAllVlms = getQueryConnection().prepareStatement(SELECT_ALL_VLMS);
             ResultSet resultSet = loadAllVlms.executeQuery();
         )
         {
@@ -351,20 +352,21 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void create(OpenflexRscDfnData<?> ofRscDfnData) throws DatabaseException
     {
         errorReporter.logTrace("Creating OpenflexRscData %s", getId(ofRscDfnData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_RSC_DFN))
+        try
         {
-            stmt.setString(1, ofRscDfnData.getResourceName().value);
-            stmt.setString(2, ofRscDfnData.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, ofRscDfnData.getResourceName().value);
+            params.setString(2, ofRscDfnData.getRscNameSuffix());
             if (ofRscDfnData.getNqn() == null)
             {
-                stmt.setNull(3, Types.VARCHAR);
+                params.setNull(3, Types.VARCHAR);
             }
             else
             {
-                stmt.setString(3, ofRscDfnData.getNqn());
+                params.setString(3, ofRscDfnData.getNqn());
             }
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_RSC_DFN, params);
         }
         catch (SQLException sqlExc)
         {
@@ -376,12 +378,13 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void delete(OpenflexRscDfnData<?> ofRscDfnData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting OpenflexRscDfnData %s", getId(ofRscDfnData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC_DFN))
+        try
         {
-            stmt.setString(1, ofRscDfnData.getResourceName().value);
-            stmt.setString(2, ofRscDfnData.getRscNameSuffix());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, ofRscDfnData.getResourceName().value);
+            params.setString(2, ofRscDfnData.getRscNameSuffix());
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_RSC_DFN, params);
         }
         catch (SQLException sqlExc)
         {
@@ -407,15 +410,16 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void persist(OpenflexVlmData<?> ofVlmData) throws DatabaseException
     {
         errorReporter.logTrace("Creating OpenflexVlmData %s", getId(ofVlmData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, ofVlmData.getRscLayerId());
-            stmt.setInt(2, ofVlmData.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, ofVlmData.getRscLayerId());
+            params.setInt(2, ofVlmData.getVlmNr().value);
             StorPool storPool = ofVlmData.getStorPool();
-            stmt.setString(3, storPool.getNode().getName().value);
-            stmt.setString(4, storPool.getName().value);
+            params.setString(3, storPool.getNode().getName().value);
+            params.setString(4, storPool.getName().value);
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM, params);
         }
         catch (SQLException sqlExc)
         {
@@ -428,12 +432,13 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void delete(OpenflexVlmData<?> ofVlmData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting OpenflexVlmData %s", getId(ofVlmData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, ofVlmData.getRscLayerId());
-            stmt.setInt(2, ofVlmData.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, ofVlmData.getRscLayerId());
+            params.setInt(2, ofVlmData.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
         }
         catch (SQLException sqlExc)
         {
@@ -441,9 +446,17 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
         }
     }
 
-    private Connection getConnection()
+    private Connection getQueryConnection()
+    {
+        return transMgrProvider.get().getQueryConnection(
+            TBL_LAYER_OPENFLEX_RESOURCE_DEFINITONS,
+            TBL_LAYER_OPENFLEX_VOLUMES
+        );
+    }
+
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
     {
-        return transMgrProvider.get().getConnection();
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(OpenflexRscDfnData<?> openflexRscDfnData)
@@ -497,14 +510,15 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
                 nqn,
                 getId(ofRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_NQN))
+            try
             {
-                stmt.setString(1, nqn);
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, nqn);
 
-                stmt.setString(2, ofRscDfnData.getResourceName().value);
-                stmt.setString(3, ofRscDfnData.getRscNameSuffix());
+                params.setString(2, ofRscDfnData.getResourceName().value);
+                params.setString(3, ofRscDfnData.getRscNameSuffix());
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_NQN, params);
             }
             catch (SQLException exc)
             {
@@ -5,9 +5,14 @@ import com.linbit.InvalidNameException;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.SnapshotName;
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerResourceIds;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.storage.AbsRscData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
@@ -29,9 +34,6 @@ import static com.linbit.linstor.dbdrivers.derby.DbConstants.TBL_LAYER_RESOURCE_
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
@@ -49,10 +51,6 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
             LAYER_RESOURCE_PARENT_ID + ", " + LAYER_RESOURCE_KIND + ", " + LAYER_RESOURCE_SUFFIX + ", " +
             LAYER_RESOURCE_SUSPENDED;
 
-    private static final String SELECT_ALL =
-        " SELECT " + ALL_FIELDS +
-        " FROM " + TBL_LAYER_RESOURCE_IDS;
-
     private static final String INSERT =
         " INSERT INTO " + TBL_LAYER_RESOURCE_IDS +
         " ( " + ALL_FIELDS + " ) " +
@@ -72,6 +70,7 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
 
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final SQLEngine sqlEngine;
 
     private final SingleColumnDatabaseDriver<AbsRscData<?, VlmProviderObject<?>>, AbsRscLayerObject<?>> parentDriver;
     private final SingleColumnDatabaseDriver<AbsRscData<?, VlmProviderObject<?>>, Boolean> suspendDriver;
@@ -79,62 +78,54 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
     @Inject
     public ResourceLayerIdSQLDbDriver(
         ErrorReporter errorReporterRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        SQLEngine sqlEngineRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
+        sqlEngine = sqlEngineRef;
         parentDriver = new ParentDriver();
         suspendDriver = new SuspendDriver();
     }
 
+    /**
+     * The rows are prefetched or restored from the checkpoint by the {@link SQLEngine}, otherwise they are
+     * fetched with a single query
+     */
     @Override
     public List<RscLayerInfo> loadAllResourceIds() throws DatabaseException
     {
         List<RscLayerInfo> ret = new ArrayList<>();
-
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_ALL))
+        try
         {
-            try (ResultSet resultSet = stmt.executeQuery())
+            for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_RESOURCE_IDS))
             {
-                while (resultSet.next())
-                {
-                    Integer parentId = resultSet.getInt(LAYER_RESOURCE_PARENT_ID);
-                    if (resultSet.wasNull())
-                    {
-                        parentId = null;
-                    }
-
-                    String snapNameStr = resultSet.getString(SNAPSHOT_NAME);
+                String snapNameStr = raw.get(LayerResourceIds.SNAPSHOT_NAME);
 
-                    SnapshotName snapshotName;
-                    if (snapNameStr == null || snapNameStr.isEmpty())
-                    {
-                        snapshotName = null;
-                    }
-                    else
-                    {
-                        snapshotName = new SnapshotName(snapNameStr);
-                    }
-                    RscLayerInfo rscInfoData = new RscLayerInfo(
-                        new NodeName(resultSet.getString(NODE_NAME)),
-                        new ResourceName(resultSet.getString(RESOURCE_NAME)),
-                        snapshotName,
-                        resultSet.getInt(LAYER_RESOURCE_ID),
-                        parentId,
-                        DeviceLayerKind.valueOf(resultSet.getString(LAYER_RESOURCE_KIND)),
-                        resultSet.getString(LAYER_RESOURCE_SUFFIX),
-                        resultSet.getBoolean(LAYER_RESOURCE_SUSPENDED)
-                    );
-
-                    ret.add(rscInfoData);
+                SnapshotName snapshotName;
+                if (snapNameStr == null || snapNameStr.isEmpty())
+                {
+                    snapshotName = null;
                 }
+                else
+                {
+                    snapshotName = new SnapshotName(snapNameStr);
+                }
+                RscLayerInfo rscInfoData = new RscLayerInfo(
+                    raw.build(LayerResourceIds.NODE_NAME, NodeName::new),
+                    raw.build(LayerResourceIds.RESOURCE_NAME, ResourceName::new),
+                    snapshotName,
+                    raw.get(LayerResourceIds.LAYER_RESOURCE_ID),
+                    raw.get(LayerResourceIds.LAYER_RESOURCE_PARENT_ID),
+                    raw.build(LayerResourceIds.LAYER_RESOURCE_KIND, DeviceLayerKind.class),
+                    raw.get(LayerResourceIds.LAYER_RESOURCE_SUFFIX),
+                    raw.get(LayerResourceIds.LAYER_RESOURCE_SUSPENDED)
+                );
+
+                ret.add(rscInfoData);
             }
         }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
         catch (InvalidNameException exc)
         {
             throw new ImplementationError("Unrestorable name loaded from the database", exc);
@@ -147,33 +138,34 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
     public void persist(AbsRscLayerObject<?> rscData) throws DatabaseException
     {
         errorReporter.logTrace("Creating LayerResourceId %s", getId(rscData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT))
+        try
         {
+            SQLStatementParameters params = new SQLStatementParameters();
             AbsResource<?> absRsc = rscData.getAbsResource();
-            stmt.setInt(1, rscData.getRscLayerId());
-            stmt.setString(2, absRsc.getNode().getName().value);
-            stmt.setString(3, rscData.getResourceName().value);
+            params.setInt(1, rscData.getRscLayerId());
+            params.setString(2, absRsc.getNode().getName().value);
+            params.setString(3, rscData.getResourceName().value);
             if (absRsc instanceof Resource)
             {
-                stmt.setString(4, DFLT_SNAP_NAME_FOR_RSC);
+                params.setString(4, DFLT_SNAP_NAME_FOR_RSC);
             }
             else
             {
-                stmt.setString(4, ((Snapshot) absRsc).getSnapshotName().value);
+                params.setString(4, ((Snapshot) absRsc).getSnapshotName().value);
             }
             if (rscData.getParent() != null)
             {
-                stmt.setInt(5, rscData.getParent().getRscLayerId());
+                params.setInt(5, rscData.getParent().getRscLayerId());
             }
             else
             {
-                stmt.setNull(5, Types.INTEGER);
+                params.setNull(5, Types.INTEGER);
             }
-            stmt.setString(6, rscData.getLayerKind().name());
-            stmt.setString(7, rscData.getResourceNameSuffix());
-            stmt.setBoolean(8, rscData.getSuspendIo());
+            params.setString(6, rscData.getLayerKind().name());
+            params.setString(7, rscData.getResourceNameSuffix());
+            params.setBoolean(8, rscData.getSuspendIo());
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT, params);
             errorReporter.logTrace("LayerResourceId created %s", getId(rscData));
         }
         catch (SQLException sqlExc)
@@ -187,12 +179,13 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
     public void delete(AbsRscLayerObject<?> rscData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting LayerResourceId %s", getId(rscData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE))
+        try
         {
+            SQLStatementParameters params = new SQLStatementParameters();
             AbsResource<?> absRsc = rscData.getAbsResource();
-            stmt.setInt(1, rscData.getRscLayerId());
+            params.setInt(1, rscData.getRscLayerId());
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE, params);
             errorReporter.logTrace("LayerResourceId deleting %s", getId(rscData));
         }
         catch (SQLException sqlExc)
@@ -223,9 +216,9 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
         return (SingleColumnDatabaseDriver<AbsRscData<RSC, VLM_TYPE>, Boolean>) ((Object) suspendDriver);
     }
 
-    private Connection getConnection()
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
     {
-        return transMgrProvider.get().getConnection();
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(AbsRscLayerObject<?> rscData)
@@ -269,20 +262,21 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
                 newParentData == null ? null : newParentData.getRscLayerId(),
                 getId(rscData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_PARENT_ID))
+            try
             {
+                SQLStatementParameters params = new SQLStatementParameters();
                 if (newParentData == null)
                 {
-                    stmt.setNull(1, Types.INTEGER);
+                    params.setNull(1, Types.INTEGER);
                 }
                 else
                 {
-                    stmt.setInt(1, newParentData.getRscLayerId());
+                    params.setInt(1, newParentData.getRscLayerId());
                 }
 
-                stmt.setInt(2, rscData.getRscLayerId());
+                params.setInt(2, rscData.getRscLayerId());
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_PARENT_ID, params);
             }
             catch (SQLException sqlExc)
             {
@@ -313,12 +307,13 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
                 newSuspend,
                 getId(rscData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_SUSPENDED))
+            try
             {
-                stmt.setBoolean(1, newSuspend);
-                stmt.setInt(2, rscData.getRscLayerId());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setBoolean(1, newSuspend);
+                params.setInt(2, rscData.getRscLayerId());
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_SUSPENDED, params);
             }
             catch (SQLException sqlExc)
             {
@@ -12,10 +12,15 @@ import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.SnapshotName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerStorageVolumes;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.StorageLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -45,9 +50,6 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -69,10 +71,6 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         STOR_POOL_NAME
     };
 
-    private static final String SELECT_ALL_STOR_VLMS =
-        " SELECT " + StringUtils.join(", ", VLM_ALL_FIELDS) +
-        " FROM " + TBL_LAYER_STORAGE_VOLUMES;
-
     private static final String INSERT_VLM =
         " INSERT INTO " + TBL_LAYER_STORAGE_VOLUMES +
         " ( " + StringUtils.join(", ", VLM_ALL_FIELDS) + " )" +
@@ -94,6 +92,7 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
     private final ResourceLayerIdDatabaseDriver rscIdDriver;
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final SQLEngine sqlEngine;
 
     private final SingleColumnDatabaseDriver<VlmProviderObject<?>, StorPool> storPoolDriver;
 
@@ -105,7 +104,8 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         @SystemContext AccessContext accCtx,
         ResourceLayerIdDatabaseDriver rscIdDriverRef,
         TransactionObjectFactory transObjFactoryRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        SQLEngine sqlEngineRef
     )
     {
         errorReporter = errorReporterRef;
@@ -113,6 +113,7 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         rscIdDriver = rscIdDriverRef;
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
+        sqlEngine = sqlEngineRef;
 
         storPoolDriver = new StorPoolDriver();
     }
@@ -131,56 +132,53 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         // will be extended later with loadStorSnapVlmsIntoCache(tmpStorPoolMapRef);
     }
 
+    /**
+     * Groups all storage volumes by their layer resource id. The rows are prefetched or restored from the
+     * checkpoint by the {@link SQLEngine}, otherwise they are fetched with a single query.
+     */
     private void loadStorVlmsIntoCache(
         Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> tmpStorPoolMapRef
     )
         throws DatabaseException
     {
         cachedStorVlmInfoByRscLayerId = new HashMap<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_ALL_STOR_VLMS))
+        int rscLayerId = -1;
+        try
         {
-            int rscLayerId = -1;
-            try (ResultSet resultSet = stmt.executeQuery())
+            for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_STORAGE_VOLUMES))
             {
-                while (resultSet.next())
+                rscLayerId = raw.get(LayerStorageVolumes.LAYER_RESOURCE_ID);
+                List<StorVlmInfoData> infoList = cachedStorVlmInfoByRscLayerId.get(rscLayerId);
+                if (infoList == null)
                 {
-                    rscLayerId = resultSet.getInt(LAYER_RESOURCE_ID);
-                    List<StorVlmInfoData> infoList = cachedStorVlmInfoByRscLayerId.get(rscLayerId);
-                    if (infoList == null)
-                    {
-                        infoList = new ArrayList<>();
-                        cachedStorVlmInfoByRscLayerId.put(rscLayerId, infoList);
-                    }
-                    NodeName nodeName = new NodeName(resultSet.getString(NODE_NAME));
-                    StorPoolName storPoolName = new StorPoolName(resultSet.getString(STOR_POOL_NAME));
-                    Pair<StorPool, StorPool.InitMaps> storPoolWithInitMap = tmpStorPoolMapRef.get(
-                        new Pair<>(nodeName, storPoolName)
-                    );
-                    infoList.add(
-                        new StorVlmInfoData(
-                            rscLayerId,
-                            resultSet.getInt(VLM_NR),
-                            LinstorParsingUtils.asProviderKind(resultSet.getString(PROVIDER_KIND)),
-                            storPoolWithInitMap.objA,
-                            storPoolWithInitMap.objB
-                        )
-                    );
+                    infoList = new ArrayList<>();
+                    cachedStorVlmInfoByRscLayerId.put(rscLayerId, infoList);
                 }
-            }
-            catch (InvalidNameException exc)
-            {
-                throw new LinStorDBRuntimeException(
-                    String.format(
-                        "Failed to restore stored name '%s' of (layered) resource id: %d",
-                        exc.invalidName,
-                        rscLayerId
+                NodeName nodeName = raw.build(LayerStorageVolumes.NODE_NAME, NodeName::new);
+                StorPoolName storPoolName = raw.build(LayerStorageVolumes.STOR_POOL_NAME, StorPoolName::new);
+                Pair<StorPool, StorPool.InitMaps> storPoolWithInitMap = tmpStorPoolMapRef.get(
+                    new Pair<>(nodeName, storPoolName)
+                );
+                infoList.add(
+                    new StorVlmInfoData(
+                        rscLayerId,
+                        raw.get(LayerStorageVolumes.VLM_NR),
+                        LinstorParsingUtils.asProviderKind(raw.<String>get(LayerStorageVolumes.PROVIDER_KIND)),
+                        storPoolWithInitMap.objA,
+                        storPoolWithInitMap.objB
                     )
                 );
             }
         }
-        catch (SQLException sqlExc)
+        catch (InvalidNameException exc)
         {
-            throw new DatabaseException(sqlExc);
+            throw new LinStorDBRuntimeException(
+                String.format(
+                    "Failed to restore stored name '%s' of (layered) resource id: %d",
+                    exc.invalidName,
+                    rscLayerId
+                )
+            );
         }
     }
 
@@ -389,15 +387,16 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
                     "! Use appropriate database driver"
             );
         }
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
-            stmt.setInt(2, vlmDataRef.getVlmNr().value);
-            stmt.setString(3, providerKind.name());
-            stmt.setString(4, vlmDataRef.getStorPool().getNode().getName().value);
-            stmt.setString(5, vlmDataRef.getStorPool().getName().value);
-
-            stmt.executeUpdate();
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
+            params.setInt(2, vlmDataRef.getVlmNr().value);
+            params.setString(3, providerKind.name());
+            params.setString(4, vlmDataRef.getStorPool().getNode().getName().value);
+            params.setString(5, vlmDataRef.getStorPool().getName().value);
+
+            executeDeferred(INSERT_VLM, params);
             errorReporter.logTrace("StorageVolume created %s", getId(vlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -411,12 +410,13 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
     {
         errorReporter.logTrace("Deleting StorageVolume %s", getId(vlmDataRef));
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
-            stmt.setInt(2, vlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
+            params.setInt(2, vlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
             errorReporter.logTrace("StorageVolume deleted %s", getId(vlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -431,9 +431,9 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         return storPoolDriver;
     }
 
-    private Connection getConnection()
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
     {
-        return transMgrProvider.get().getConnection();
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(VlmProviderObject<?> vlmData)
@@ -454,13 +454,14 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
                 storPool.getName().displayValue,
                 getId(parent)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_STOR_POOL))
+            try
             {
-                stmt.setString(1, storPool.getName().value);
-                stmt.setInt(2, parent.getRscLayerObject().getRscLayerId());
-                stmt.setInt(3, parent.getVlmNr().value);
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, storPool.getName().value);
+                params.setInt(2, parent.getRscLayerObject().getRscLayerId());
+                params.setInt(3, parent.getVlmNr().value);
 
-                stmt.executeUpdate();
+                executeDeferred(UPDATE_STOR_POOL, params);
             }
             catch (SQLException sqlExc)
             {
@@ -68,6 +68,18 @@ public class WritecacheLayerETCDDriver extends BaseEtcdDriver implements Writeca
         return idDriver;
     }
 
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        // no-op - the volumes are loaded with one range request per layer resource id
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        // no-op
+    }
+
     /**
      * Fully loads a {@link WritecacheRscData} object including its {@link WritecacheVlmData}
      *
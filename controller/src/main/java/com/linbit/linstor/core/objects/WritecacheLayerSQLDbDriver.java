@@ -7,9 +7,14 @@ import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.LayerWritecacheVolumes;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceLayerIdDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.WritecacheLayerCtrlDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.storage.data.adapter.nvme.NvmeRscData;
@@ -32,11 +37,11 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -51,6 +56,9 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
 
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final SQLEngine sqlEngine;
+
+    private Map<Integer, List<WritecacheVlmInfoData>> cachedVlmInfoByRscLayerId;
 
     private static final String[] VLM_ALL_FIELDS =
     {
@@ -60,11 +68,6 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         POOL_NAME
     };
 
-    private static final String SELECT_VLM_BY_RSC_ID =
-        " SELECT " + StringUtils.join(", ", VLM_ALL_FIELDS) +
-        " FROM " + TBL_LAYER_WRITECACHE_VOLUMES +
-        " WHERE " + LAYER_RESOURCE_ID + " = ?";
-
     private static final String INSERT_VLM =
         " INSERT INTO " + TBL_LAYER_WRITECACHE_VOLUMES +
         " (" + StringUtils.join(", ", VLM_ALL_FIELDS) + " ) " +
@@ -80,7 +83,8 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         ErrorReporter errorReporterRef,
         ResourceLayerIdDatabaseDriver idDriverRef,
         TransactionObjectFactory transObjFactoryRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        SQLEngine sqlEngineRef
     )
     {
         dbCtx = accCtx;
@@ -88,6 +92,40 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         idDriver = idDriverRef;
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
+        sqlEngine = sqlEngineRef;
+    }
+
+    /**
+     * Groups all volumes by their layer resource id. The rows are prefetched or restored from the checkpoint
+     * by the {@link SQLEngine}, otherwise they are fetched with a single query.
+     */
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        cachedVlmInfoByRscLayerId = new HashMap<>();
+        for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.LAYER_WRITECACHE_VOLUMES))
+        {
+            int rscLayerId = raw.get(LayerWritecacheVolumes.LAYER_RESOURCE_ID);
+            List<WritecacheVlmInfoData> infoList = cachedVlmInfoByRscLayerId.get(rscLayerId);
+            if (infoList == null)
+            {
+                infoList = new ArrayList<>();
+                cachedVlmInfoByRscLayerId.put(rscLayerId, infoList);
+            }
+            infoList.add(
+                new WritecacheVlmInfoData(
+                    raw.get(LayerWritecacheVolumes.VLM_NR),
+                    raw.get(LayerWritecacheVolumes.POOL_NAME)
+                )
+            );
+        }
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        cachedVlmInfoByRscLayerId.clear();
+        cachedVlmInfoByRscLayerId = null;
     }
 
     /**
@@ -126,17 +164,16 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         );
 
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(SELECT_VLM_BY_RSC_ID))
+        List<WritecacheVlmInfoData> vlmInfoList = cachedVlmInfoByRscLayerId.get(id);
+        if (vlmInfoList != null)
         {
-            stmt.setInt(1, id);
-
             int vlmNrInt = -1;
-            try (ResultSet resultSet = stmt.executeQuery())
+            try
             {
-                while (resultSet.next())
+                for (WritecacheVlmInfoData vlmInfo : vlmInfoList)
                 {
-                    vlmNrInt = resultSet.getInt(VLM_NR);
-                    String cacheStorPoolNameStr = resultSet.getString(POOL_NAME);
+                    vlmNrInt = vlmInfo.vlmNr;
+                    String cacheStorPoolNameStr = vlmInfo.cacheStorPoolName;
 
                     VolumeNumber vlmNr;
                     vlmNr = new VolumeNumber(vlmNrInt);
@@ -177,10 +214,6 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
                 );
             }
         }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
-        }
         return new Pair<>(writecacheRscData, children);
     }
 
@@ -195,16 +228,17 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
     public void persist(WritecacheVlmData<?> writecacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating WritecacheVlmData %s", getId(writecacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
-            stmt.setInt(1, writecacheVlmDataRef.getRscLayerId());
-            stmt.setInt(2, writecacheVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, writecacheVlmDataRef.getRscLayerId());
+            params.setInt(2, writecacheVlmDataRef.getVlmNr().value);
 
             StorPool cacheStorPool = writecacheVlmDataRef.getCacheStorPool();
-            stmt.setString(3, cacheStorPool.getNode().getName().value);
-            stmt.setString(4, cacheStorPool.getName().value);
+            params.setString(3, cacheStorPool.getNode().getName().value);
+            params.setString(4, cacheStorPool.getName().value);
 
-            stmt.executeUpdate();
+            executeDeferred(INSERT_VLM, params);
             errorReporter.logTrace("WritecacheVlmData created %s", getId(writecacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -224,12 +258,13 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
     public void delete(WritecacheVlmData<?> writecacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting WritecacheVlmData %s", getId(writecacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
-            stmt.setInt(1, writecacheVlmDataRef.getRscLayerId());
-            stmt.setInt(2, writecacheVlmDataRef.getVlmNr().value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setInt(1, writecacheVlmDataRef.getRscLayerId());
+            params.setInt(2, writecacheVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            executeDeferred(DELETE_VLM, params);
             errorReporter.logTrace("WritecacheVlmData deleted %s", getId(writecacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -244,9 +279,9 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         return idDriver;
     }
 
-    private Connection getConnection()
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
     {
-        return transMgrProvider.get().getConnection();
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getId(WritecacheRscData<?> writecacheRscData)
@@ -263,4 +298,16 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
             ", VlmNr=" + writecacheVlmData.getVlmNr().value +
             ")";
     }
+
+    private static class WritecacheVlmInfoData
+    {
+        private final int vlmNr;
+        private final String cacheStorPoolName;
+
+        WritecacheVlmInfoData(int vlmNrRef, String cacheStorPoolNameRef)
+        {
+            vlmNr = vlmNrRef;
+            cacheStorPoolName = cacheStorPoolNameRef;
+        }
+    }
 }
@@ -17,6 +17,7 @@ import com.linbit.linstor.dbcp.migration.LinstorMigration;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.SQLUtils;
+import com.linbit.utils.LatencyHistogram;
 import com.linbit.utils.StringUtils;
 
 import static com.linbit.linstor.DatabaseInfo.DB2_MIN_VERSION;
@@ -36,9 +37,14 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.dbcp2.ConnectionFactory;
@@ -70,7 +76,11 @@ public class DbConnectionPool implements ControllerSQLDatabase
     private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 100;
     private static final int DEFAULT_IDLE_TIMEOUT = 1 * 60 * 60 * 1000; // 1 hour in ms
 
+    // Connections that are held longer than this are reported as possibly leaked
+    public static final long LONG_HELD_THRESHOLD_MILLIS = 60_000;
+
     private PoolingDataSource<PoolableConnection> dataSource = null;
+    private GenericObjectPool<PoolableConnection> connPool = null;
 
     private ServiceName serviceNameInstance;
     private String dbConnectionUrl;
@@ -78,6 +88,12 @@ public class DbConnectionPool implements ControllerSQLDatabase
 
     private ThreadLocal<List<Connection>> threadLocalConnections;
 
+    // Connections handed out by getConnection() that were not returned yet
+    private final Map<Connection, ConnectionLease> leases;
+    private final LatencyHistogram acquireHistogram;
+    // Connections that were still open when the task that acquired them finished
+    private final LongAdder leakedCount;
+
     private final CtrlConfig linstorConfig;
 
     static
@@ -100,6 +116,9 @@ public class DbConnectionPool implements ControllerSQLDatabase
         serviceNameInstance = SERVICE_NAME;
         threadLocalConnections = new ThreadLocal<>();
         linstorConfig = linstorConfigRef;
+        leases = new IdentityHashMap<>();
+        acquireHistogram = new LatencyHistogram();
+        leakedCount = new LongAdder();
     }
 
     @Override
@@ -151,7 +170,13 @@ public class DbConnectionPool implements ControllerSQLDatabase
         Connection dbConn = null;
         if (dataSource != null)
         {
+            long startNanos = System.nanoTime();
             dbConn = dataSource.getConnection();
+            acquireHistogram.record(System.nanoTime() - startNanos);
+            synchronized (leases)
+            {
+                leases.put(dbConn, new ConnectionLease(Thread.currentThread().getName()));
+            }
             List<Connection> connections = threadLocalConnections.get();
             if (connections == null)
             {
@@ -178,6 +203,10 @@ public class DbConnectionPool implements ControllerSQLDatabase
         {
             if (dbConn != null)
             {
+                synchronized (leases)
+                {
+                    leases.remove(dbConn);
+                }
                 dbConn.close();
                 List<Connection> list = threadLocalConnections.get();
                 if (list != null)
@@ -344,7 +373,15 @@ public class DbConnectionPool implements ControllerSQLDatabase
             {
                 try
                 {
-                    ret |= !conn.isClosed();
+                    if (!conn.isClosed())
+                    {
+                        ret = true;
+                        leakedCount.increment();
+                    }
+                    synchronized (leases)
+                    {
+                        leases.remove(conn);
+                    }
                     conn.close();
                 }
                 catch (SQLException ignored)
@@ -406,10 +443,13 @@ public class DbConnectionPool implements ControllerSQLDatabase
             poolConfig.setMaxIdle(DEFAULT_MAX_IDLE_CONNECTIONS);
             poolConfig.setBlockWhenExhausted(true);
             poolConfig.setFairness(true);
-            GenericObjectPool<PoolableConnection> connPool = new GenericObjectPool<>(poolConnFactory, poolConfig);
+            connPool = new GenericObjectPool<>(poolConnFactory, poolConfig);
 
             poolConnFactory.setPool(connPool);
             poolConnFactory.setValidationQueryTimeout(dbTimeout);
+            // cache the prepared statements of each connection, so that statements with the same SQL text are
+            // only prepared once per connection instead of once per transaction
+            poolConnFactory.setPoolStatements(true);
             poolConnFactory.setMaxOpenPreparedStatements(dbMaxOpen);
             poolConnFactory.setMaxConnLifetimeMillis(DEFAULT_IDLE_TIMEOUT);
             poolConnFactory.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
@@ -418,6 +458,65 @@ public class DbConnectionPool implements ControllerSQLDatabase
         }
     }
 
+    /**
+     * Number of connections that are currently borrowed from the pool
+     */
+    public int getActiveCount()
+    {
+        return connPool != null ? connPool.getNumActive() : 0;
+    }
+
+    /**
+     * Number of open connections that are currently idle in the pool
+     */
+    public int getIdleCount()
+    {
+        return connPool != null ? connPool.getNumIdle() : 0;
+    }
+
+    /**
+     * Number of threads that are currently waiting for a connection
+     */
+    public int getWaiterCount()
+    {
+        return connPool != null ? connPool.getNumWaiters() : 0;
+    }
+
+    public int getMaxTotal()
+    {
+        return connPool != null ? connPool.getMaxTotal() : 0;
+    }
+
+    /**
+     * Time it took to acquire a connection in {@link #getConnection()}
+     */
+    public LatencyHistogram getAcquireHistogram()
+    {
+        return acquireHistogram;
+    }
+
+    /**
+     * Number of connections that had to be closed because the task that acquired them did not return them
+     */
+    public long getLeakedCount()
+    {
+        return leakedCount.sum();
+    }
+
+    /**
+     * Returns the connections that were acquired but not returned yet, the longest held first
+     */
+    public List<ConnectionLease> getLeases()
+    {
+        List<ConnectionLease> leaseList;
+        synchronized (leases)
+        {
+            leaseList = new ArrayList<>(leases.values());
+        }
+        leaseList.sort(Comparator.comparingLong(ConnectionLease::getAcquireNanos));
+        return leaseList;
+    }
+
     @Override
     public void awaitShutdown(long timeout) throws InterruptedException
     {
@@ -485,4 +584,42 @@ public class DbConnectionPool implements ControllerSQLDatabase
             throw new LinStorDBRuntimeException("Failed to set transaction isolation", exc);
         }
     }
+
+    /**
+     * A connection that was acquired by {@link #getConnection()} and not returned yet
+     */
+    public static class ConnectionLease
+    {
+        private final String threadName;
+        private final long acquireNanos;
+
+        ConnectionLease(String threadNameRef)
+        {
+            threadName = threadNameRef;
+            acquireNanos = System.nanoTime();
+        }
+
+        /**
+         * Name of the thread that acquired the connection
+         */
+        public String getThreadName()
+        {
+            return threadName;
+        }
+
+        public long getAcquireNanos()
+        {
+            return acquireNanos;
+        }
+
+        public long getHeldMillis()
+        {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquireNanos);
+        }
+
+        public boolean isLongHeld()
+        {
+            return getHeldMillis() > LONG_HELD_THRESHOLD_MILLIS;
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.linbit.linstor.dbcp.migration;
+
+import com.linbit.linstor.DatabaseInfo.DbProduct;
+import com.linbit.linstor.dbdrivers.SQLUtils;
+
+import java.sql.Connection;
+
+@SuppressWarnings("checkstyle:typename")
+@Migration(
+    version = "2020.05.20.10.00",
+    description = "Adds new table for the change counter of the database checkpoint"
+)
+public class Migration_2020_05_20_AddDbCheckpointTable extends LinstorMigration
+{
+    @Override
+    protected void migrate(Connection dbCon, DbProduct dbProduct) throws Exception
+    {
+        if (!MigrationUtils.tableExists(dbCon, "DB_CHECKPOINT"))
+        {
+            SQLUtils.runSql(
+                dbCon,
+                "CREATE TABLE DB_CHECKPOINT " +
+                    "( " +
+                    "    CHANGE_COUNTER BIGINT NOT NULL " +
+                    ")"
+            );
+        }
+    }
+}
@@ -94,6 +94,7 @@ public abstract class AbsDatabaseDriver<DATA, INIT_MAPS, LOAD_ALL>
         performSanityCheck();
 
         errorReporter.logTrace("Loading all %ss", table.getName());
+        long startTime = System.currentTimeMillis();
         Map<DATA, INIT_MAPS> loadedObjectsMap;
         try
         {
@@ -108,7 +109,12 @@ public abstract class AbsDatabaseDriver<DATA, INIT_MAPS, LOAD_ALL>
             // TODO improve exception-handling
             throw new DatabaseException("Failed to restore data", exc);
         }
-        errorReporter.logTrace("Loaded %d %ss", loadedObjectsMap.size(), table.getName());
+        errorReporter.logDebug(
+            "Loaded %d %ss in %d ms",
+            loadedObjectsMap.size(),
+            table.getName(),
+            System.currentTimeMillis() - startTime
+        );
         return loadedObjectsMap;
     }
 
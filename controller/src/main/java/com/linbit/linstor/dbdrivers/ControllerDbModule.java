@@ -59,6 +59,7 @@ import com.linbit.linstor.dbdrivers.interfaces.NvmeLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.NvmeLayerDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.OpenflexLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.OpenflexLayerDatabaseDriver;
+import com.linbit.linstor.dbdrivers.interfaces.PropsConCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.PropsConDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.CacheLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.CacheLayerDatabaseDriver;
@@ -167,6 +168,7 @@ public class ControllerDbModule extends AbstractModule
 
                 bind(ObjectProtectionDatabaseDriver.class).to(ObjectProtectionSQLDbDriver.class);
 
+                bind(PropsConCtrlDatabaseDriver.class).to(PropsConSQLDbDriver.class);
                 bind(PropsConDatabaseDriver.class).to(PropsConSQLDbDriver.class);
 
                 bind(NodeCtrlDatabaseDriver.class).to(NodeDbDriver.class);
@@ -199,6 +201,7 @@ public class ControllerDbModule extends AbstractModule
 
                 bind(ObjectProtectionDatabaseDriver.class).to(ObjectProtectionEtcdDriver.class);
 
+                bind(PropsConCtrlDatabaseDriver.class).to(PropsConETCDDriver.class);
                 bind(PropsConDatabaseDriver.class).to(PropsConETCDDriver.class);
 
                 bind(NodeCtrlDatabaseDriver.class).to(NodeETCDDriver.class);
@@ -6,6 +6,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -33,8 +34,13 @@ public final class DatabaseConstantsGenerator
     private static final String COLUMN_INTERFACE_NAME = "Column";
     private static final String INDENT = "    ";
 
-    private static final Set<String> IGNORED_TABLES = Collections.singleton(
-        "FLYWAY_SCHEMA_HISTORY"
+    private static final Set<String> IGNORED_TABLES = Collections.unmodifiableSet(
+        new TreeSet<>(
+            Arrays.asList(
+                "FLYWAY_SCHEMA_HISTORY",
+                "DB_CHECKPOINT" // only used by the startup checkpoint, not by any object driver
+            )
+        )
     );
 
     private StringBuilder clazzBuilder;
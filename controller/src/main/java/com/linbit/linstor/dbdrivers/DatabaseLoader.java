@@ -35,6 +35,7 @@ import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeConnection;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.objects.VolumeGroup;
+import com.linbit.linstor.dbdrivers.DatabaseDriverInfo.DatabaseType;
 import com.linbit.linstor.dbdrivers.interfaces.DrbdLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.KeyValueStoreCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.LuksLayerCtrlDatabaseDriver;
@@ -43,6 +44,7 @@ import com.linbit.linstor.dbdrivers.interfaces.NodeConnectionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.NodeCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.NvmeLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.OpenflexLayerCtrlDatabaseDriver;
+import com.linbit.linstor.dbdrivers.interfaces.PropsConCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.CacheLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceConnectionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceCtrlDatabaseDriver;
@@ -65,6 +67,7 @@ import com.linbit.linstor.dbdrivers.interfaces.WritecacheLayerCtrlDatabaseDriver
 import com.linbit.linstor.layer.LayerPayload;
 import com.linbit.linstor.layer.resource.CtrlRscLayerDataFactory;
 import com.linbit.linstor.layer.snapshot.CtrlSnapLayerDataFactory;
+import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -80,7 +83,9 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -117,6 +122,51 @@ public class DatabaseLoader implements DatabaseDriver
         }
     }
 
+    /**
+     * The tables of the generic drivers. They are fetched before any object is restored, so that
+     * the database can be queried concurrently while the objects are restored in dependency order.
+     */
+    private static final List<DatabaseTable> PREFETCH_TABLES = Collections.unmodifiableList(
+        Arrays.asList(
+            GeneratedDatabaseTables.RESOURCE_GROUPS,
+            GeneratedDatabaseTables.VOLUME_GROUPS,
+            GeneratedDatabaseTables.NODES,
+            GeneratedDatabaseTables.RESOURCE_DEFINITIONS,
+            GeneratedDatabaseTables.STOR_POOL_DEFINITIONS,
+            GeneratedDatabaseTables.NODE_NET_INTERFACES,
+            GeneratedDatabaseTables.NODE_CONNECTIONS,
+            GeneratedDatabaseTables.NODE_STOR_POOL,
+            GeneratedDatabaseTables.RESOURCES,
+            GeneratedDatabaseTables.RESOURCE_CONNECTIONS,
+            GeneratedDatabaseTables.VOLUME_DEFINITIONS,
+            GeneratedDatabaseTables.VOLUMES,
+            GeneratedDatabaseTables.VOLUME_CONNECTIONS,
+            GeneratedDatabaseTables.KEY_VALUE_STORE
+        )
+    );
+
+    /**
+     * The tables that the SQL drivers group by object in their fetchForLoadAll methods. They are fetched and
+     * checkpointed together with the tables of the generic drivers. LAYER_LUKS_VOLUMES is left out, so that the
+     * encrypted volume keys are never written to the checkpoint file.
+     */
+    private static final List<DatabaseTable> SQL_LOAD_ALL_TABLES = Collections.unmodifiableList(
+        Arrays.asList(
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            GeneratedDatabaseTables.LAYER_RESOURCE_IDS,
+            GeneratedDatabaseTables.LAYER_DRBD_RESOURCES,
+            GeneratedDatabaseTables.LAYER_DRBD_VOLUMES,
+            GeneratedDatabaseTables.LAYER_STORAGE_VOLUMES,
+            GeneratedDatabaseTables.LAYER_WRITECACHE_VOLUMES,
+            GeneratedDatabaseTables.LAYER_CACHE_VOLUMES
+        )
+    );
+
+    private final ErrorReporter errorReporter;
+    private final DbEngine dbEngine;
+    private final DbCheckpoint dbCheckpoint;
+    private final PropsConCtrlDatabaseDriver propsConDriver;
+    private final List<DatabaseTable> prefetchTables;
     private final AccessContext dbCtx;
     private final ResourceGroupCtrlDatabaseDriver rscGrpDriver;
     private final NodeCtrlDatabaseDriver nodeDriver;
@@ -192,9 +242,27 @@ public class DatabaseLoader implements DatabaseDriver
         CoreModule.ResourceDefinitionMapExtName rscDfnMapExtNameRef,
         CoreModule.StorPoolDefinitionMap storPoolDfnMapRef,
         ControllerCoreModule.FreeSpaceMgrMap freeSpaceMgrMapRef,
-        CoreModule.KeyValueStoreMap keyValueStoreMapRef
+        CoreModule.KeyValueStoreMap keyValueStoreMapRef,
+        ErrorReporter errorReporterRef,
+        DbEngine dbEngineRef,
+        DbCheckpoint dbCheckpointRef,
+        PropsConCtrlDatabaseDriver propsConDriverRef
     )
     {
+        errorReporter = errorReporterRef;
+        dbEngine = dbEngineRef;
+        dbCheckpoint = dbCheckpointRef;
+        propsConDriver = propsConDriverRef;
+        if (dbEngineRef.getType() == DatabaseType.SQL)
+        {
+            List<DatabaseTable> tables = new ArrayList<>(PREFETCH_TABLES);
+            tables.addAll(SQL_LOAD_ALL_TABLES);
+            prefetchTables = Collections.unmodifiableList(tables);
+        }
+        else
+        {
+            prefetchTables = PREFETCH_TABLES;
+        }
         dbCtx = privCtx;
         rscGrpDriver = rscGrpDriverRef;
         nodeDriver = nodeDriverRef;
@@ -234,14 +302,35 @@ public class DatabaseLoader implements DatabaseDriver
         keyValueStoreMap = keyValueStoreMapRef;
     }
 
+    /**
+     * Writes a checkpoint of the prefetched tables, if checkpoints are enabled and the database was changed
+     * since the last checkpoint
+     */
+    public void writeCheckpoint() throws DatabaseException, IOException
+    {
+        dbCheckpoint.write(prefetchTables);
+    }
+
     /**
      * This method should only be called with an locked reconfiguration write lock
      */
     @Override
     public void loadAll() throws DatabaseException
     {
+        long startTime = System.currentTimeMillis();
         try
         {
+            // tables restored from the checkpoint are not fetched again
+            dbCheckpoint.load(prefetchTables);
+            dbEngine.prefetch(prefetchTables);
+            // the properties of all objects are grouped by instance instead of one query per object
+            propsConDriver.fetchForLoadAll();
+            errorReporter.logDebug(
+                "Fetched %d database tables in %d ms",
+                prefetchTables.size(),
+                System.currentTimeMillis() - startTime
+            );
+
             // load the resource groups
             Map<ResourceGroup, ResourceGroup.InitMaps> loadedRscGroupsMap =
                 Collections.unmodifiableMap(rscGrpDriver.loadAll(null));
@@ -552,6 +641,12 @@ public class DatabaseLoader implements DatabaseDriver
         {
             throw new ImplementationError("Invalid hardcoded props key", exc);
         }
+        finally
+        {
+            dbEngine.clearPrefetched();
+            propsConDriver.clearLoadAllCache();
+        }
+        errorReporter.logInfo("Database objects loaded in %d ms", System.currentTimeMillis() - startTime);
     }
 
     private <NAME, DATA> TreeMap<NAME, DATA> mapByName(
@@ -571,6 +666,10 @@ public class DatabaseLoader implements DatabaseDriver
     {
         storageLayerDriver.fetchForLoadAll(tmpStorPoolMapRef);
         openflexLayerDriver.fetchForLoadAll(tmpStorPoolMapRef, tmpRscDfnMapRef);
+        drbdLayerDriver.fetchForLoadAll();
+        luksLayerDriver.fetchForLoadAll();
+        writecacheLayerDriver.fetchForLoadAll();
+        cacheLayerDriver.fetchForLoadAll();
 
         // load RscDfnLayerObjects and VlmDfnLayerObjects
         drbdLayerDriver.loadLayerData(tmpRscDfnMapRef, tmpSnapDfnMapRef);
@@ -611,6 +710,9 @@ public class DatabaseLoader implements DatabaseDriver
 
         drbdLayerDriver.clearLoadCache();
         storageLayerDriver.clearLoadAllCache();
+        luksLayerDriver.clearLoadAllCache();
+        writecacheLayerDriver.clearLoadAllCache();
+        cacheLayerDriver.clearLoadAllCache();
 
         CtrlRscLayerDataFactory rscLayerDataHelper = ctrlRscLayerDataHelper.get();
         for (Resource rsc : resourcesWithLayerData)
@@ -0,0 +1,325 @@
+package com.linbit.linstor.dbdrivers;
+
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.transaction.manager.DbCheckpointCounter;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Versioned binary checkpoint of the raw data of the core object tables, and with an SQL database also of
+ * the properties and the layer tables
+ *
+ * With a valid checkpoint, the startup only has to read the change counter from the database instead of
+ * reading all tables. The checkpoint is only used if the change counter stored in the database still
+ * matches the counter of the checkpoint, see {@link DbCheckpointCounter}, and if it was written by the same
+ * LINSTOR build, as a database migration might have changed the data.
+ */
+@Singleton
+public class DbCheckpoint
+{
+    private static final int MAGIC = 0x4C534350; // "LSCP"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_SHORT = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_BYTES = 6;
+
+    private final ErrorReporter errorReporter;
+    private final CtrlConfig ctrlCfg;
+    private final DbEngine dbEngine;
+    private final DbCheckpointCounter checkpointCounter;
+    private final ReadWriteLock reconfigurationLock;
+
+    private long lastCounter;
+    // Whether the checkpoint file matches the counter that is stored in the database
+    private volatile boolean checkpointValid;
+
+    @Inject
+    public DbCheckpoint(
+        ErrorReporter errorReporterRef,
+        CtrlConfig ctrlCfgRef,
+        DbEngine dbEngineRef,
+        DbCheckpointCounter checkpointCounterRef,
+        @Named(CoreModule.RECONFIGURATION_LOCK) ReadWriteLock reconfigurationLockRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        ctrlCfg = ctrlCfgRef;
+        dbEngine = dbEngineRef;
+        checkpointCounter = checkpointCounterRef;
+        reconfigurationLock = reconfigurationLockRef;
+    }
+
+    public boolean isEnabled()
+    {
+        return ctrlCfg.getDbCheckpointPath() != null;
+    }
+
+    /**
+     * Restores the raw data of the given tables from the checkpoint, if the checkpoint is still valid.
+     * The restored data is kept by the {@link DbEngine} as if it had been prefetched.
+     *
+     * @return Whether the tables were restored from the checkpoint
+     */
+    public boolean load(Collection<DatabaseTable> tables)
+    {
+        boolean loaded = false;
+        if (isEnabled())
+        {
+            Path path = Paths.get(ctrlCfg.getDbCheckpointPath());
+            if (Files.isRegularFile(path))
+            {
+                long startTime = System.currentTimeMillis();
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path))))
+                {
+                    long counter = readHeader(in);
+                    Long dbCounter = dbEngine.getCheckpointCounter();
+                    if (dbCounter != null && dbCounter == counter)
+                    {
+                        if (in.readInt() != tables.size())
+                        {
+                            throw new IOException("Unexpected number of tables");
+                        }
+                        for (DatabaseTable table : tables)
+                        {
+                            String tableName = in.readUTF();
+                            if (!tableName.equals(table.getName()))
+                            {
+                                throw new IOException("Expected table " + table.getName() + " but found " + tableName);
+                            }
+                            dbEngine.readCheckpointTable(table, in);
+                        }
+                        lastCounter = counter;
+                        checkpointValid = true;
+                        loaded = true;
+                        errorReporter.logInfo(
+                            "Restored %d database tables from the checkpoint %s in %d ms",
+                            tables.size(),
+                            path,
+                            System.currentTimeMillis() - startTime
+                        );
+                    }
+                    else
+                    {
+                        errorReporter.logInfo(
+                            "The database was changed since the checkpoint %s was written, loading all tables",
+                            path
+                        );
+                    }
+                }
+                catch (IOException | DatabaseException exc)
+                {
+                    dbEngine.clearPrefetched();
+                    errorReporter.logWarning(
+                        "Failed to restore the database checkpoint %s, loading all tables: %s",
+                        path,
+                        exc.getMessage()
+                    );
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Writes a new checkpoint of the given tables, unless the database was not changed since the last
+     * checkpoint was written or restored
+     */
+    public void write(Collection<DatabaseTable> tables) throws DatabaseException, IOException
+    {
+        if (isEnabled() && (!checkpointValid || !checkpointCounter.isArmed()))
+        {
+            long startTime = System.currentTimeMillis();
+            long counter = Math.max(lastCounter + 1, startTime);
+
+            checkpointValid = false;
+            Lock recfgWriteLock = reconfigurationLock.writeLock();
+            recfgWriteLock.lock();
+            try
+            {
+                // no transaction is running while the counter is stored, so every transaction that changes
+                // the database from now on removes the counter again
+                dbEngine.setCheckpointCounter(counter);
+                checkpointCounter.arm();
+            }
+            finally
+            {
+                recfgWriteLock.unlock();
+            }
+            lastCounter = counter;
+
+            Path path = Paths.get(ctrlCfg.getDbCheckpointPath());
+            Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+            try (
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath)))
+            )
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(getBuildId());
+                out.writeLong(counter);
+                out.writeInt(tables.size());
+                for (DatabaseTable table : tables)
+                {
+                    out.writeUTF(table.getName());
+                    dbEngine.writeCheckpointTable(table, out);
+                }
+            }
+            Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpointValid = true;
+
+            errorReporter.logDebug(
+                "Wrote the database checkpoint %s in %d ms",
+                path,
+                System.currentTimeMillis() - startTime
+            );
+        }
+    }
+
+    private long readHeader(DataInputStream in) throws IOException
+    {
+        if (in.readInt() != MAGIC)
+        {
+            throw new IOException("Not a checkpoint file");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION)
+        {
+            throw new IOException("Unsupported checkpoint format version " + formatVersion);
+        }
+        String buildId = in.readUTF();
+        if (!buildId.equals(getBuildId()))
+        {
+            throw new IOException("Checkpoint was written by a different build: " + buildId);
+        }
+        return in.readLong();
+    }
+
+    private static String getBuildId()
+    {
+        return LinStor.VERSION_INFO_PROVIDER.getVersion() + " " + LinStor.VERSION_INFO_PROVIDER.getGitCommitId();
+    }
+
+    /**
+     * Writes a single column value of a raw database row
+     */
+    public static void writeValue(DataOutputStream out, Object value) throws IOException
+    {
+        if (value == null)
+        {
+            out.writeByte(TYPE_NULL);
+        }
+        else
+        if (value instanceof String)
+        {
+            out.writeByte(TYPE_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        else
+        if (value instanceof Long)
+        {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        }
+        else
+        if (value instanceof Integer)
+        {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        }
+        else
+        if (value instanceof Short)
+        {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        }
+        else
+        if (value instanceof Boolean)
+        {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else
+        if (value instanceof byte[])
+        {
+            out.writeByte(TYPE_BYTES);
+            writeBytes(out, (byte[]) value);
+        }
+        else
+        {
+            throw new IOException("Unsupported column value type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a single column value written by {@link #writeValue(DataOutputStream, Object)}
+     */
+    public static Object readValue(DataInputStream in) throws IOException
+    {
+        Object value;
+        byte type = in.readByte();
+        switch (type)
+        {
+            case TYPE_NULL:
+                value = null;
+                break;
+            case TYPE_STRING:
+                value = new String(readBytes(in), StandardCharsets.UTF_8);
+                break;
+            case TYPE_LONG:
+                value = in.readLong();
+                break;
+            case TYPE_INTEGER:
+                value = in.readInt();
+                break;
+            case TYPE_SHORT:
+                value = in.readShort();
+                break;
+            case TYPE_BOOLEAN:
+                value = in.readBoolean();
+                break;
+            case TYPE_BYTES:
+                value = readBytes(in);
+                break;
+            default:
+                throw new IOException("Unknown column value type: " + type);
+        }
+        return value;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] data) throws IOException
+    {
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException
+    {
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return data;
+    }
+}
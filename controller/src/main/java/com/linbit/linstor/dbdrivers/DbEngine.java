@@ -24,6 +24,9 @@ import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.Pair;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
@@ -280,5 +283,80 @@ public interface DbEngine
         throws DatabaseException, AccessDeniedException, InvalidNameException, InvalidIpAddressException,
         ValueOutOfRangeException, MdException;
 
+    /**
+     * Fetches the raw data of the given tables in advance, so that the following
+     * {@link #loadAll(DatabaseTable, Object, DataLoader)} calls for these tables only have to restore
+     * the DATA objects. The tables do not depend on each other while being fetched, so an implementation
+     * may fetch them concurrently. <br/>
+     * The prefetched data is kept until {@link #clearPrefetched()} is called.
+     *
+     * @param tables
+     *     The {@link Table}s to fetch
+     * @throws DatabaseException
+     */
+    default void prefetch(Collection<DatabaseTable> tables) throws DatabaseException
+    {
+        // prefetching is optional, loadAll fetches the data itself
+    }
+
+    /**
+     * Discards the data of {@link #prefetch(Collection)}
+     */
+    default void clearPrefetched()
+    {
+        // nothing prefetched by default
+    }
+
+    /**
+     * Reads the change counter that was stored with the last checkpoint, see {@link DbCheckpoint}.
+     *
+     * @return The counter, or <code>null</code> if the database was changed since the counter was stored
+     *     or if the engine does not support checkpoints
+     * @throws DatabaseException
+     */
+    default Long getCheckpointCounter() throws DatabaseException
+    {
+        return null;
+    }
+
+    /**
+     * Replaces the stored change counter. The counter is written independently of the current transaction.
+     *
+     * @param counter
+     * @throws DatabaseException
+     */
+    default void setCheckpointCounter(long counter) throws DatabaseException
+    {
+        throw new DatabaseException("Checkpoints are not supported by the " + getType() + " database engine");
+    }
+
+    /**
+     * Reads the given table from the database, independently of the current transaction, and writes its
+     * raw data to the checkpoint
+     *
+     * @param table
+     * @param out
+     * @throws DatabaseException
+     * @throws IOException
+     */
+    default void writeCheckpointTable(DatabaseTable table, DataOutputStream out)
+        throws DatabaseException, IOException
+    {
+        throw new DatabaseException("Checkpoints are not supported by the " + getType() + " database engine");
+    }
+
+    /**
+     * Reads the raw data of the given table from the checkpoint and keeps it as if it had been fetched by
+     * {@link #prefetch(Collection)}
+     *
+     * @param table
+     * @param in
+     * @throws IOException
+     */
+    default void readCheckpointTable(DatabaseTable table, DataInputStream in) throws IOException
+    {
+        throw new IOException("Checkpoints are not supported by the " + getType() + " database engine");
+    }
+
     String getDbDump() throws DatabaseException;
 }
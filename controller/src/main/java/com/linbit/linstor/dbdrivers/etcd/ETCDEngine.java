@@ -4,6 +4,7 @@ import com.linbit.InvalidIpAddressException;
 import com.linbit.InvalidNameException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.drbd.md.MdException;
+import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo.DatabaseType;
@@ -11,6 +12,7 @@ import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.DbCheckpoint;
 import com.linbit.linstor.dbdrivers.DbEngine;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
@@ -20,6 +22,7 @@ import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.linstor.transaction.EtcdTransaction;
+import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgrETCD;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.Pair;
@@ -28,30 +31,51 @@ import com.linbit.utils.StringUtils;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import com.google.inject.Provider;
+import com.ibm.etcd.api.RangeResponse;
+import com.ibm.etcd.client.KeyUtils;
 
 @Singleton
 public class ETCDEngine extends BaseEtcdDriver implements DbEngine
 {
+    private static final int PREFETCH_THREADS = 4;
+    // Maximum number of keys read by a single range request
+    private static final int RANGE_PAGE_SIZE = 10_000;
+
     private final ErrorReporter errorReporter;
+    private final ControllerETCDDatabase etcdDb;
+    private final Map<DatabaseTable, Map<String, String>> prefetchedData;
 
     @Inject
     public ETCDEngine(
         ErrorReporter errorReporterRef,
-        Provider<TransactionMgrETCD> transMgrProviderRef
+        Provider<TransactionMgrETCD> transMgrProviderRef,
+        ControllerETCDDatabase etcdDbRef
     )
     {
         super(transMgrProviderRef);
         errorReporter = errorReporterRef;
+        etcdDb = etcdDbRef;
+        prefetchedData = new HashMap<>();
     }
 
     @Override
@@ -115,7 +139,11 @@ public class ETCDEngine extends BaseEtcdDriver implements DbEngine
         Map<DATA, INIT_MAPS> loadedObjectsMap = new TreeMap<>();
         final Column[] columns = table.values();
 
-        Map<String, String> dataMap = new TreeMap<>(namespace(table).get(true));
+        Map<String, String> dataMap = prefetchedData.get(table);
+        if (dataMap == null)
+        {
+            dataMap = fetchTable(transMgrProvider.get().getTransaction(), table);
+        }
         Set<String> composedPkList = EtcdUtils.getComposedPkList(dataMap);
         for (String composedPk : composedPkList)
         {
@@ -154,6 +182,146 @@ public class ETCDEngine extends BaseEtcdDriver implements DbEngine
         return loadedObjectsMap;
     }
 
+    @Override
+    public void prefetch(Collection<DatabaseTable> tables) throws DatabaseException
+    {
+        // the range requests do not depend on the transaction, so the workers can share its client
+        EtcdTransaction tx = transMgrProvider.get().getTransaction();
+        Map<DatabaseTable, Future<Map<String, String>>> pendingTables = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(PREFETCH_THREADS, tables.size()))
+        );
+        try
+        {
+            for (DatabaseTable table : tables)
+            {
+                if (!prefetchedData.containsKey(table) && !pendingTables.containsKey(table))
+                {
+                    pendingTables.put(table, executor.submit(() -> fetchTable(tx, table)));
+                }
+            }
+            for (Entry<DatabaseTable, Future<Map<String, String>>> entry : pendingTables.entrySet())
+            {
+                prefetchedData.put(entry.getKey(), entry.getValue().get());
+            }
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while fetching the database tables", exc);
+        }
+        catch (ExecutionException exc)
+        {
+            throw new DatabaseException("Fetching the database tables failed", exc.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        prefetchedData.clear();
+    }
+
+    @Override
+    public Long getCheckpointCounter() throws DatabaseException
+    {
+        Long counter = null;
+        try
+        {
+            RangeResponse rsp = EtcdTransaction.requestWithRetry(
+                etcdDb.getKvClient().get(KeyUtils.bs(EtcdUtils.CHECKPOINT_COUNTER_KEY))
+            );
+            if (rsp.getKvsCount() > 0)
+            {
+                counter = Long.parseLong(rsp.getKvs(0).getValue().toStringUtf8());
+            }
+        }
+        catch (TransactionException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+        catch (NumberFormatException ignored)
+        {
+            // not a valid counter, so no checkpoint matches it
+        }
+        return counter;
+    }
+
+    @Override
+    public void setCheckpointCounter(long counter) throws DatabaseException
+    {
+        try
+        {
+            EtcdTransaction.requestWithRetry(
+                etcdDb.getKvClient().put(
+                    KeyUtils.bs(EtcdUtils.CHECKPOINT_COUNTER_KEY),
+                    KeyUtils.bs(Long.toString(counter))
+                )
+            );
+        }
+        catch (TransactionException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+    }
+
+    @Override
+    public void writeCheckpointTable(DatabaseTable table, DataOutputStream out)
+        throws DatabaseException, IOException
+    {
+        Map<String, String> dataMap;
+        try
+        {
+            dataMap = EtcdTransaction.getPaginated(
+                etcdDb.getKvClient(),
+                EtcdUtils.buildKey(table),
+                RANGE_PAGE_SIZE
+            );
+        }
+        catch (TransactionException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+        out.writeInt(dataMap.size());
+        for (Entry<String, String> entry : dataMap.entrySet())
+        {
+            DbCheckpoint.writeValue(out, entry.getKey());
+            DbCheckpoint.writeValue(out, entry.getValue());
+        }
+    }
+
+    @Override
+    public void readCheckpointTable(DatabaseTable table, DataInputStream in) throws IOException
+    {
+        int entryCount = in.readInt();
+        Map<String, String> dataMap = new TreeMap<>();
+        for (int entryIdx = 0; entryIdx < entryCount; ++entryIdx)
+        {
+            dataMap.put((String) DbCheckpoint.readValue(in), (String) DbCheckpoint.readValue(in));
+        }
+        prefetchedData.put(table, dataMap);
+    }
+
+    /**
+     * Reads all keys of the given table with paginated range requests
+     */
+    private Map<String, String> fetchTable(EtcdTransaction tx, DatabaseTable table)
+    {
+        long startTime = System.currentTimeMillis();
+        TreeMap<String, String> dataMap = tx.getPaginated(EtcdUtils.buildKey(table), RANGE_PAGE_SIZE);
+        errorReporter.logDebug(
+            "Fetched %d keys from %s in %d ms",
+            dataMap.size(),
+            table.getName(),
+            System.currentTimeMillis() - startTime
+        );
+        return dataMap;
+    }
+
     private <DATA> String getPk(
         Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
         DatabaseTable table,
@@ -310,6 +478,8 @@ public class ETCDEngine extends BaseEtcdDriver implements DbEngine
         EtcdTransaction tx = transMgrProvider.get().getTransaction();
         TreeMap<String, String> dump = tx.get(EtcdUtils.LINSTOR_PREFIX, true);
         StringBuilder sb = new StringBuilder();
+        // the change counter of the checkpoint is not part of the LINSTOR data
+        dump.remove(EtcdUtils.CHECKPOINT_COUNTER_KEY);
         for (Entry<String, String> ent : dump.entrySet())
         {
             sb.append(ent.getKey() + "\t" + ent.getValue() + "\n");
@@ -5,6 +5,7 @@ import static com.ibm.etcd.client.KeyUtils.bs;
 import com.linbit.linstor.dbcp.migration.UsedByMigration;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.transaction.EtcdTransaction;
 
 import java.util.ArrayList;
@@ -29,6 +30,8 @@ public class EtcdUtils
     @UsedByMigration
     public static final String PK_DELIMITER = ":";
     public static final String LINSTOR_PREFIX = PATH_DELIMITER + "LINSTOR" + PATH_DELIMITER;
+    public static final String CHECKPOINT_COUNTER_KEY = LINSTOR_PREFIX + DbConstants.TBL_DB_CHECKPOINT +
+        PATH_DELIMITER + DbConstants.CHANGE_COUNTER;
 
     private static final Deadline DEFAULT_DEADLINE = Deadline.after(60, TimeUnit.SECONDS);
 
@@ -14,6 +14,10 @@ import java.util.Set;
 
 public interface CacheLayerCtrlDatabaseDriver extends CacheLayerDatabaseDriver
 {
+    void fetchForLoadAll() throws DatabaseException;
+
+    void clearLoadAllCache();
+
     <RSC extends AbsResource<RSC>> Pair<? extends CacheRscData<RSC>, Set<AbsRscLayerObject<RSC>>> 
     load(
         RSC rscRef,
@@ -24,6 +24,8 @@ public interface DrbdLayerCtrlDatabaseDriver extends DrbdLayerDatabaseDriver
     )
         throws DatabaseException;
 
+    void fetchForLoadAll() throws DatabaseException;
+
     void clearLoadCache();
 
     <RSC extends AbsResource<RSC>> Pair<DrbdRscData<RSC>, Set<AbsRscLayerObject<RSC>>> load(
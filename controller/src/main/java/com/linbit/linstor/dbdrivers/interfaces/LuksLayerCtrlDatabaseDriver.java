@@ -9,6 +9,10 @@ import java.util.Set;
 
 public interface LuksLayerCtrlDatabaseDriver extends LuksLayerDatabaseDriver
 {
+    void fetchForLoadAll() throws DatabaseException;
+
+    void clearLoadAllCache();
+
     <RSC extends AbsResource<RSC>> Pair<? extends AbsRscLayerObject<RSC>, Set<AbsRscLayerObject<RSC>>> load(
         RSC rscRef,
         int idRef,
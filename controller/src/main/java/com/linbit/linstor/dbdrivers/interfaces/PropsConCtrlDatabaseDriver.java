@@ -0,0 +1,16 @@
+package com.linbit.linstor.dbdrivers.interfaces;
+
+import com.linbit.linstor.dbdrivers.DatabaseException;
+
+public interface PropsConCtrlDatabaseDriver extends PropsConDatabaseDriver
+{
+    /**
+     * Fetches the properties of all instances at once. Until {@link #clearLoadAllCache()} is called,
+     * {@link #loadAll(String)} is served from the fetched properties.
+     *
+     * @throws DatabaseException
+     */
+    void fetchForLoadAll() throws DatabaseException;
+
+    void clearLoadAllCache();
+}
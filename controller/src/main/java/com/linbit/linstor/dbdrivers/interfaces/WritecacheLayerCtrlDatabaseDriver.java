@@ -14,6 +14,10 @@ import java.util.Set;
 
 public interface WritecacheLayerCtrlDatabaseDriver extends WritecacheLayerDatabaseDriver
 {
+    void fetchForLoadAll() throws DatabaseException;
+
+    void clearLoadAllCache();
+
     <RSC extends AbsResource<RSC>> Pair<? extends WritecacheRscData<RSC>, Set<AbsRscLayerObject<RSC>>> load(
         RSC rscRef,
         int idRef,
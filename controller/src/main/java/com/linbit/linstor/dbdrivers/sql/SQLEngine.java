@@ -4,6 +4,8 @@ import com.linbit.InvalidIpAddressException;
 import com.linbit.InvalidNameException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.drbd.md.MdException;
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.ControllerSQLDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo.DatabaseType;
@@ -11,7 +13,10 @@ import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.DbCheckpoint;
 import com.linbit.linstor.dbdrivers.DbEngine;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
+import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.dbdrivers.sql.dump.DbDump;
@@ -27,15 +32,27 @@ import com.linbit.utils.Pair;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -49,8 +66,20 @@ public class SQLEngine implements DbEngine
     private static final String DELIMITER_LIST = ", ";
     private static final String DELIMITER_VALUES = "?" + DELIMITER_LIST;
 
+    // Maximum number of tables (and therefore pooled connections) that are fetched concurrently
+    private static final int PREFETCH_THREADS = 4;
+
+    private static final String SELECT_CHECKPOINT_COUNTER =
+        " SELECT " + DbConstants.CHANGE_COUNTER + " FROM " + DbConstants.TBL_DB_CHECKPOINT;
+    private static final String DELETE_CHECKPOINT_COUNTER =
+        " DELETE FROM " + DbConstants.TBL_DB_CHECKPOINT;
+    private static final String INSERT_CHECKPOINT_COUNTER =
+        " INSERT INTO " + DbConstants.TBL_DB_CHECKPOINT + " (" + DbConstants.CHANGE_COUNTER + ") VALUES (?)";
+
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final ControllerSQLDatabase controllerDatabase;
+    private final Map<DatabaseTable, List<Map<String, Object>>> prefetchedRows;
     private final HashMap<DatabaseTable, String> selectStatements;
     private final HashMap<DatabaseTable, String> insertStatements;
     private final HashMap<DatabaseTable, String> deleteStatements;
@@ -58,11 +87,14 @@ public class SQLEngine implements DbEngine
     @Inject
     public SQLEngine(
         ErrorReporter errorReporterRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        ControllerDatabase controllerDatabaseRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
+        controllerDatabase = (ControllerSQLDatabase) controllerDatabaseRef;
+        prefetchedRows = new HashMap<>();
 
         selectStatements = new HashMap<>();
         insertStatements = new HashMap<>();
@@ -85,13 +117,14 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getInsertStatement(table)))
+        try
         {
             errorReporter.logTrace("Creating %s %s", table.getName(), dataToString.toString(data));
 
-            setValues(setters, stmt, 1, table, ignored -> true, data);
+            SQLStatementParameters params = new SQLStatementParameters();
+            setValues(setters, params, 1, table, ignored -> true, data);
 
-            stmt.executeUpdate();
+            executeDeferred(getInsertStatement(table), params);
 
             errorReporter.logTrace("%s created %s", table.getName(), dataToString.toString(data));
         }
@@ -158,13 +191,14 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getDeleteStatement(table)))
+        try
         {
             errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
 
-            setPrimaryValues(setters, stmt, 1, table, data);
+            SQLStatementParameters params = new SQLStatementParameters();
+            setPrimaryValues(setters, params, 1, table, data);
 
-            stmt.executeUpdate();
+            executeDeferred(getDeleteStatement(table), params);
 
             errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
         }
@@ -258,22 +292,115 @@ public class SQLEngine implements DbEngine
         throws DatabaseException, AccessDeniedException, MdException
     {
         Map<DATA, INIT_MAPS> loadedObjectsMap = new TreeMap<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectStatement(table)))
+        for (Map<String, Object> row : getRows(table))
+        {
+            Pair<DATA, INIT_MAPS> pair = restoreData(table, row, parentsRef, dataLoaderRef);
+            // pair might be null when loading objects sharing the same table.
+            // For example SnapshotDbDriver will return null when finding a Resource entry
+            // and vice versa.
+            if (pair != null)
+            {
+                loadedObjectsMap.put(pair.objA, pair.objB);
+            }
+        }
+        return loadedObjectsMap;
+    }
+
+    /**
+     * Returns the raw rows of the given table for drivers that restore their data without the
+     * {@link DataLoader} of {@link #loadAll(DatabaseTable, Object, DataLoader)}. The table is only queried
+     * if it was neither prefetched nor restored from the checkpoint.
+     */
+    public List<RawParameters> getRawRows(DatabaseTable table) throws DatabaseException
+    {
+        List<RawParameters> rawRows = new ArrayList<>();
+        for (Map<String, Object> row : getRows(table))
         {
-            try (ResultSet resultSet = stmt.executeQuery())
+            rawRows.add(new RawParameters(table, row));
+        }
+        return rawRows;
+    }
+
+    private List<Map<String, Object>> getRows(DatabaseTable table) throws DatabaseException
+    {
+        List<Map<String, Object>> rows = prefetchedRows.get(table);
+        if (rows == null)
+        {
+            try
             {
-                while (resultSet.next())
+                rows = fetchRows(transMgrProvider.get().getQueryConnection(table.getName()), table);
+            }
+            catch (SQLException exc)
+            {
+                throw new DatabaseException(exc);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public void prefetch(Collection<DatabaseTable> tables) throws DatabaseException
+    {
+        Map<DatabaseTable, Future<List<Map<String, Object>>>> pendingTables = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(PREFETCH_THREADS, tables.size()))
+        );
+        try
+        {
+            for (DatabaseTable table : tables)
+            {
+                if (!prefetchedRows.containsKey(table) && !pendingTables.containsKey(table))
                 {
-                    Pair<DATA, INIT_MAPS> pair = restoreData(
-                        table, resultSet, parentsRef, dataLoaderRef
-                    );
-                    // pair might be null when loading objects sharing the same table.
-                    // For example SnapshotDbDriver will return null when finding a Resource entry
-                    // and vice versa.
-                    if (pair != null)
-                    {
-                        loadedObjectsMap.put(pair.objA, pair.objB);
-                    }
+                    pendingTables.put(table, executor.submit(() -> fetchTable(table)));
+                }
+            }
+            for (Entry<DatabaseTable, Future<List<Map<String, Object>>>> entry : pendingTables.entrySet())
+            {
+                prefetchedRows.put(entry.getKey(), entry.getValue().get());
+            }
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while fetching the database tables", exc);
+        }
+        catch (ExecutionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof DatabaseException)
+            {
+                throw (DatabaseException) cause;
+            }
+            throw new DatabaseException("Fetching the database tables failed", cause);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        prefetchedRows.clear();
+    }
+
+    @Override
+    public Long getCheckpointCounter() throws DatabaseException
+    {
+        Long counter = null;
+        Connection dbConn = null;
+        try
+        {
+            dbConn = controllerDatabase.getConnection();
+            try (
+                PreparedStatement stmt = dbConn.prepareStatement(SELECT_CHECKPOINT_COUNTER);
+                ResultSet resultSet = stmt.executeQuery()
+            )
+            {
+                if (resultSet.next())
+                {
+                    counter = resultSet.getLong(1);
                 }
             }
         }
@@ -281,48 +408,158 @@ public class SQLEngine implements DbEngine
         {
             throw new DatabaseException(exc);
         }
-        return loadedObjectsMap;
+        finally
+        {
+            controllerDatabase.returnConnection(dbConn);
+        }
+        return counter;
     }
 
-    private <DATA, INIT_MAPS, LOAD_ALL> Pair<DATA, INIT_MAPS> restoreData(
-        DatabaseTable table,
-        ResultSet resultSet,
-        LOAD_ALL parents,
-        DataLoader<DATA, INIT_MAPS, LOAD_ALL> dataLoader
-    )
-        throws DatabaseException, MdException
+    @Override
+    public void setCheckpointCounter(long counter) throws DatabaseException
     {
-        Column[] columns = table.values();
-        Map<String, Object> objects = new TreeMap<>();
+        Connection dbConn = null;
         try
+        {
+            dbConn = controllerDatabase.getConnection();
+            try (
+                PreparedStatement delStmt = dbConn.prepareStatement(DELETE_CHECKPOINT_COUNTER);
+                PreparedStatement insStmt = dbConn.prepareStatement(INSERT_CHECKPOINT_COUNTER)
+            )
+            {
+                delStmt.executeUpdate();
+                insStmt.setLong(1, counter);
+                insStmt.executeUpdate();
+                dbConn.commit();
+            }
+            catch (SQLException exc)
+            {
+                dbConn.rollback();
+                throw exc;
+            }
+        }
+        catch (SQLException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+        finally
+        {
+            controllerDatabase.returnConnection(dbConn);
+        }
+    }
+
+    @Override
+    public void writeCheckpointTable(DatabaseTable table, DataOutputStream out)
+        throws DatabaseException, IOException
+    {
+        List<Map<String, Object>> rows = fetchTable(table);
+        Column[] columns = table.values();
+        out.writeInt(rows.size());
+        for (Map<String, Object> row : rows)
         {
             for (Column column : columns)
             {
-                Object data;
-                if (column.getSqlType() == Types.BLOB)
-                {
-                    data = resultSet.getBytes(column.getName());
-                }
-                else
-                {
-                    data = resultSet.getObject(column.getName());
-                }
-                if (resultSet.wasNull())
-                {
-                    data = null;
-                }
-                objects.put(column.getName(), data);
+                DbCheckpoint.writeValue(out, row.get(column.getName()));
             }
         }
+    }
+
+    @Override
+    public void readCheckpointTable(DatabaseTable table, DataInputStream in) throws IOException
+    {
+        Column[] columns = table.values();
+        int rowCount = in.readInt();
+        List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        for (int rowIdx = 0; rowIdx < rowCount; ++rowIdx)
+        {
+            Map<String, Object> row = new TreeMap<>();
+            for (Column column : columns)
+            {
+                row.put(column.getName(), DbCheckpoint.readValue(in));
+            }
+            rows.add(row);
+        }
+        prefetchedRows.put(table, rows);
+    }
+
+    /**
+     * Fetches all rows of the given table using a separate connection of the pool
+     */
+    private List<Map<String, Object>> fetchTable(DatabaseTable table) throws DatabaseException
+    {
+        long startTime = System.currentTimeMillis();
+        Connection dbConn = null;
+        List<Map<String, Object>> rows;
+        try
+        {
+            dbConn = controllerDatabase.getConnection();
+            rows = fetchRows(dbConn, table);
+        }
         catch (SQLException exc)
         {
             throw new DatabaseException(exc);
         }
+        finally
+        {
+            controllerDatabase.returnConnection(dbConn);
+        }
+        errorReporter.logDebug(
+            "Fetched %d rows from %s in %d ms",
+            rows.size(),
+            table.getName(),
+            System.currentTimeMillis() - startTime
+        );
+        return rows;
+    }
+
+    private List<Map<String, Object>> fetchRows(Connection dbConn, DatabaseTable table) throws SQLException
+    {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (
+            PreparedStatement stmt = dbConn.prepareStatement(getSelectStatement(table));
+            ResultSet resultSet = stmt.executeQuery()
+        )
+        {
+            Column[] columns = table.values();
+            while (resultSet.next())
+            {
+                Map<String, Object> row = new TreeMap<>();
+                for (Column column : columns)
+                {
+                    Object data;
+                    if (column.getSqlType() == Types.BLOB)
+                    {
+                        data = resultSet.getBytes(column.getName());
+                    }
+                    else
+                    {
+                        data = resultSet.getObject(column.getName());
+                    }
+                    if (resultSet.wasNull())
+                    {
+                        data = null;
+                    }
+                    row.put(column.getName(), data);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
 
+    private <DATA, INIT_MAPS, LOAD_ALL> Pair<DATA, INIT_MAPS> restoreData(
+        DatabaseTable table,
+        Map<String, Object> row,
+        LOAD_ALL parents,
+        DataLoader<DATA, INIT_MAPS, LOAD_ALL> dataLoader
+    )
+        throws DatabaseException, MdException
+    {
+        Column[] columns = table.values();
         Pair<DATA, INIT_MAPS> pair;
         try
         {
-            pair = dataLoader.loadImpl(new RawParameters(table, objects), parents);
+            pair = dataLoader.loadImpl(new RawParameters(table, row), parents);
         }
         catch (InvalidNameException | InvalidIpAddressException | ValueOutOfRangeException exc)
         {
@@ -331,7 +568,7 @@ public class SQLEngine implements DbEngine
             {
                 if (col.isPk())
                 {
-                    pk.append(col.getName()).append(" = '").append(objects.get(col.getName())).append("', ");
+                    pk.append(col.getName()).append(" = '").append(row.get(col.getName())).append("', ");
                 }
             }
             pk.setLength(pk.length() - 2);
@@ -355,6 +592,15 @@ public class SQLEngine implements DbEngine
         return transMgrProvider.get().getConnection();
     }
 
+    /**
+     * Executes the statement with the current transaction. Depending on the transaction manager, the statement
+     * is only executed with the next commit or the next use of the connection.
+     */
+    void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        transMgrProvider.get().executeDeferred(sql, params);
+    }
+
     String generateUpdateStatement(Column colToUpdate)
     {
         StringBuilder sql = new StringBuilder();
@@ -375,25 +621,25 @@ public class SQLEngine implements DbEngine
 
     <DATA> int setPrimaryValues(
         Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
-        PreparedStatement stmt,
+        SQLStatementParameters params,
         int startIdxRef,
         DatabaseTable table,
         DATA data
     )
-        throws SQLException, DatabaseException, AccessDeniedException
+        throws DatabaseException, AccessDeniedException
     {
-        return setValues(setters, stmt, startIdxRef, table, Column::isPk, data);
+        return setValues(setters, params, startIdxRef, table, Column::isPk, data);
     }
 
     <DATA> int setValues(
         Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
-        PreparedStatement stmt,
+        SQLStatementParameters params,
         int startIdxRef,
         DatabaseTable table,
         Predicate<Column> predicate,
         DATA data
     )
-        throws SQLException, DatabaseException, AccessDeniedException
+        throws DatabaseException, AccessDeniedException
     {
         int idx = startIdxRef;
         for (Column col : table.values())
@@ -408,10 +654,10 @@ public class SQLEngine implements DbEngine
                         switch (col.getSqlType())
                         {
                             case Types.BLOB:
-                                stmt.setBytes(idx, (byte[]) obj);
+                                params.setBytes(idx, (byte[]) obj);
                                 break;
                             default:
-                                stmt.setNull(idx, col.getSqlType());
+                                params.setNull(idx, col.getSqlType());
                                 break;
                         }
                     }
@@ -433,10 +679,10 @@ public class SQLEngine implements DbEngine
                         switch (col.getSqlType())
                         {
                             case Types.BLOB:
-                                stmt.setBytes(idx, (byte[]) obj);
+                                params.setBytes(idx, (byte[]) obj);
                                 break;
                             default:
-                                stmt.setObject(idx, obj, col.getSqlType());
+                                params.setObject(idx, obj, col.getSqlType());
                                 break;
                         }
                     }
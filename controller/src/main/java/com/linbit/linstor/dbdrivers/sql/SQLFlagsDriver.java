@@ -5,6 +5,7 @@ import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
 import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.stateflags.Flags;
@@ -13,7 +14,6 @@ import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.StringUtils;
 
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
 
@@ -52,7 +52,7 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
     @Override
     public void persist(DATA data, long flagsRef) throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
             String fromFlags = StringUtils.join(
                 FlagsHelper.toStringList(flagsClass, (long) setters.get(flagColumn).accept(data)),
@@ -72,10 +72,11 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
                     toFlags,
                     inlineId
                 );
-            stmt.setLong(1, flagsRef);
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setLong(1, flagsRef);
+            sqlEngine.setPrimaryValues(setters, params, 2, table, data);
 
-            stmt.executeUpdate();
+            sqlEngine.executeDeferred(updateStatement, params);
 
             errorReporter
                 .logTrace(
@@ -5,12 +5,12 @@ import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
 import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.utils.ExceptionThrowingFunction;
 
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
@@ -63,7 +63,7 @@ class SQLListToJsonArrayDriver<DATA, LIST_TYPE> implements CollectionDatabaseDri
     private void update(DATA data, Collection<LIST_TYPE> backingCollection)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
             String inlineId = dataToString.toString(data);
             errorReporter.logTrace(
@@ -74,10 +74,11 @@ class SQLListToJsonArrayDriver<DATA, LIST_TYPE> implements CollectionDatabaseDri
                 inlineId
             );
 
-            stmt.setObject(1, columnSetter.accept(data));
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setObject(1, columnSetter.accept(data));
+            sqlEngine.setPrimaryValues(setters, params, 2, table, data);
 
-            stmt.executeUpdate();
+            sqlEngine.executeDeferred(updateStatement, params);
             errorReporter.logTrace(
                 "%s's %s updated to %s %s",
                 table.getName(),
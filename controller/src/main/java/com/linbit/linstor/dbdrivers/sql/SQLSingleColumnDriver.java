@@ -5,12 +5,12 @@ import com.linbit.linstor.dbdrivers.DatabaseLoader;
 import com.linbit.linstor.dbdrivers.DatabaseTable;
 import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
 import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.utils.ExceptionThrowingFunction;
 
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Objects;
@@ -63,13 +63,11 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
                 Objects.toString(elementRef),
                 dataToString.toString(parentRef)
             );
-            try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-            {
-                int idx = fillSetter(stmt, 1, elementRef);
-                sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
+            SQLStatementParameters params = new SQLStatementParameters();
+            int idx = fillSetter(params, 1, elementRef);
+            sqlEngine.setPrimaryValues(setters, params, idx, table, parentRef);
 
-                stmt.executeUpdate();
-            }
+            sqlEngine.executeDeferred(updateStatement, params);
             errorReporter.logTrace(
                 "%s's %s updated from [%s] to [%s] %s",
                 table.getName(),
@@ -90,18 +88,16 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
     }
 
     /**
-     * This method performs the necessary stmt.set* method-calls
+     * This method performs the necessary params.set* method-calls
      *
-     * @param stmt
+     * @param params
      * @param startIdx
      * @param element
      * @return the index of the next column which was not yet set.
-     * @throws SQLException
      */
-    protected int fillSetter(PreparedStatement stmt, int startIdx, INPUT_TYPE element)
-        throws SQLException
+    protected int fillSetter(SQLStatementParameters params, int startIdx, INPUT_TYPE element)
     {
-        stmt.setObject(startIdx, mapper.apply(element), colToUpdate.getSqlType());
+        params.setObject(startIdx, mapper.apply(element), colToUpdate.getSqlType());
         return startIdx + 1;
     }
 }
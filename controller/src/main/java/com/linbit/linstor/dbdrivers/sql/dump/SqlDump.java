@@ -3,6 +3,7 @@ package com.linbit.linstor.dbdrivers.sql.dump;
 import com.linbit.linstor.dbdrivers.DatabaseConstantsGenerator;
 import com.linbit.linstor.dbdrivers.DatabaseConstantsGenerator.Table;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.dbdrivers.sql.dump.TableDump.DataRow;
 
 import java.sql.Connection;
@@ -26,7 +27,8 @@ public class SqlDump
         {
             TreeMap<String, Table> extractedTables = DatabaseConstantsGenerator.extractTables(
                 con,
-                Collections.emptySet()
+                // the change counter of the checkpoint is not part of the LINSTOR data
+                Collections.singleton(DbConstants.TBL_DB_CHECKPOINT)
             );
             for (Table tbl : extractedTables.values())
             {
@@ -0,0 +1,94 @@
+package com.linbit.linstor.debug;
+
+import javax.inject.Inject;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.linbit.linstor.dbcp.DbConnectionPool;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.utils.LatencyHistogram;
+
+public class CmdDisplayDbPool extends BaseDebugCmd
+{
+    private final DbConnectionPool dbConnectionPool;
+
+    @Inject
+    public CmdDisplayDbPool(
+        DbConnectionPool dbConnectionPoolRef
+    )
+    {
+        super(
+            new String[]
+            {
+                "DspDbPool"
+            },
+            "Display database connection pool",
+            "Displays the usage of the SQL database connection pool and the connections that were not returned yet",
+            null,
+            null
+        );
+
+        dbConnectionPool = dbConnectionPoolRef;
+    }
+
+    @Override
+    public void execute(
+        PrintStream debugOut,
+        PrintStream debugErr,
+        AccessContext accCtx,
+        Map<String, String> parameters
+    )
+        throws Exception
+    {
+        if (dbConnectionPool.isStarted())
+        {
+            LatencyHistogram acquireHistogram = dbConnectionPool.getAcquireHistogram();
+            long acquireCount = acquireHistogram.getCount();
+            long acquireP99 = acquireHistogram.getPercentileBoundMillis(99);
+            debugOut.printf(
+                "Active connections:       %5d\n" +
+                "Idle connections:         %5d\n" +
+                "Maximum connections:      %5d\n" +
+                "Waiting threads:          %5d\n" +
+                "Acquired connections:     %5d\n" +
+                "Acquire time avg (ms):    %5s\n" +
+                "Acquire time P99 (ms):    %5s\n" +
+                "Leaked connections:       %5d\n",
+                dbConnectionPool.getActiveCount(),
+                dbConnectionPool.getIdleCount(),
+                dbConnectionPool.getMaxTotal(),
+                dbConnectionPool.getWaiterCount(),
+                acquireCount,
+                acquireCount > 0 ?
+                    Long.toString(TimeUnit.NANOSECONDS.toMillis(acquireHistogram.getSumNanos() / acquireCount)) :
+                    "-",
+                acquireP99 == Long.MAX_VALUE ? "inf" : "<" + acquireP99,
+                dbConnectionPool.getLeakedCount()
+            );
+
+            List<DbConnectionPool.ConnectionLease> leases = dbConnectionPool.getLeases();
+            if (!leases.isEmpty())
+            {
+                debugOut.println();
+                debugOut.printf("%-48s %12s %s\n", "Thread", "Held (ms)", "LongHeld");
+                printSectionSeparator(debugOut);
+                for (DbConnectionPool.ConnectionLease lease : leases)
+                {
+                    debugOut.printf(
+                        "%-48s %12d %s\n",
+                        lease.getThreadName(),
+                        lease.getHeldMillis(),
+                        lease.isLongHeld() ? "Y" : "N"
+                    );
+                }
+                printSectionSeparator(debugOut);
+            }
+        }
+        else
+        {
+            debugOut.println("The SQL database connection pool is not in use.");
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class ControllerDebugModule extends AbstractModule
         commandsBinder.addBinding().to(CmdDisplayObjectStatistics.class);
         commandsBinder.addBinding().to(CmdDisplayObjProt.class);
         commandsBinder.addBinding().to(CmdChangeObjProt.class);
+        commandsBinder.addBinding().to(CmdDisplayDbPool.class);
     }
 
     // Use Provides methods because the ObjectProtection objects are not present on the satellite
@@ -6,7 +6,9 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.rest.v1.Volumes;
 import com.linbit.linstor.api.rest.v1.serializer.Json;
 import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.apicallhandler.ScopeLanes;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apis.NodeApi;
 import com.linbit.linstor.core.apis.ResourceApi;
@@ -16,12 +18,19 @@ import com.linbit.linstor.core.apis.VolumeApi;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.dbcp.DbConnectionPool;
 import com.linbit.linstor.logging.ErrorReport;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.satellitestate.SatelliteResourceState;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+import com.linbit.linstor.tasks.ReconnectorTask;
+import com.linbit.linstor.transaction.manager.SQLGroupCommitter;
+import com.linbit.locks.LockStats;
+import com.linbit.utils.LatencyHistogram;
 import com.linbit.utils.Pair;
+import com.linbit.utils.SizeHistogram;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -34,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.prometheus.client.CollectorRegistry;
@@ -41,6 +51,12 @@ import io.prometheus.client.hotspot.DefaultExports;
 
 public class PrometheusBuilder {
     private final ErrorReporter errorReporter;
+    private final CoreModule.PeerMap peerMap;
+    private final ReconnectorTask reconnectorTask;
+    private final LockStats lockStats;
+    private final ScopeLanes scopeLanes;
+    private final SQLGroupCommitter groupCommitter;
+    private final DbConnectionPool dbConnectionPool;
 
     private static final String VOLUME_STATE_HELP;
     private static final String NODE_STATE_HELP;
@@ -110,10 +126,22 @@ public class PrometheusBuilder {
 
     @Inject
     public PrometheusBuilder(
-        ErrorReporter errorReporterRef
+        ErrorReporter errorReporterRef,
+        CoreModule.PeerMap peerMapRef,
+        ReconnectorTask reconnectorTaskRef,
+        LockStats lockStatsRef,
+        ScopeLanes scopeLanesRef,
+        SQLGroupCommitter groupCommitterRef,
+        DbConnectionPool dbConnectionPoolRef
     )
     {
         errorReporter = errorReporterRef;
+        peerMap = peerMapRef;
+        reconnectorTask = reconnectorTaskRef;
+        lockStats = lockStatsRef;
+        scopeLanes = scopeLanesRef;
+        groupCommitter = groupCommitterRef;
+        dbConnectionPool = dbConnectionPoolRef;
         DefaultExports.initialize();
     }
 
@@ -217,6 +245,237 @@ public class PrometheusBuilder {
         return val;
     }
 
+    @Nonnull
+    private static Map<String, String> peerExport(final Peer peer)
+    {
+        final HashMap<String, String> map = new HashMap<>();
+        map.put("node", peer.getNode().getName().displayValue);
+        return map;
+    }
+
+    /**
+     * Writes the API call statistics of the satellite connections
+     */
+    private void writeRpcStats(TextFormat tf)
+    {
+        List<Peer> stltPeers;
+        synchronized (peerMap)
+        {
+            stltPeers = peerMap.values().stream()
+                .filter(peer -> peer.getNode() != null && !peer.getNode().isDeleted())
+                .collect(Collectors.toList());
+        }
+
+        tf.startGauge("linstor_rpc_open_count", "API calls sent to the satellite that are not answered yet");
+        for (Peer peer : stltPeers)
+        {
+            tf.writeSample(peerExport(peer), peer.openRpcCount());
+        }
+
+        tf.startGauge("linstor_rpc_oldest_open_age_seconds", "Age of the oldest unanswered API call");
+        for (Peer peer : stltPeers)
+        {
+            tf.writeSample(peerExport(peer), peer.oldestOpenRpcAgeMillis() / 1000.0);
+        }
+
+        tf.startHistogram("linstor_rpc_latency_seconds", "Round-trip latency of the API calls sent to the satellite");
+        for (Peer peer : stltPeers)
+        {
+            for (Map.Entry<String, LatencyHistogram> entry : peer.getRpcLatencyStats().getHistograms().entrySet())
+            {
+                Map<String, String> labels = peerExport(peer);
+                labels.put("api_call", entry.getKey());
+                writeHistogramSamples(tf, labels, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Writes the lock wait and hold time statistics and the current lock holders
+     */
+    private void writeLockStats(TextFormat tf)
+    {
+        List<LockStats.Entry> statsEntries = lockStats.getEntries();
+
+        tf.startHistogram("linstor_lock_wait_seconds", "Time spent waiting for locks");
+        for (LockStats.Entry entry : statsEntries)
+        {
+            writeHistogramSamples(tf, lockStatsExport(entry), entry.getWaitHistogram());
+        }
+
+        tf.startHistogram("linstor_lock_hold_seconds", "Time locks were held");
+        for (LockStats.Entry entry : statsEntries)
+        {
+            writeHistogramSamples(tf, lockStatsExport(entry), entry.getHoldHistogram());
+        }
+
+        tf.startGauge("linstor_lock_holder_hold_seconds", "Time the current lock holders hold their locks");
+        for (LockStats.Holder holder : lockStats.getHolders())
+        {
+            Map<String, String> labels = new HashMap<>();
+            labels.put("holder", holder.getHolderName());
+            labels.put("thread", holder.getThreadName());
+            labels.put("locks", String.join(", ", holder.getLockDescriptions()));
+            tf.writeSample(labels, holder.getHoldNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Writes the queue times and the utilization of the scheduler lanes of the API calls
+     */
+    private void writeScopeLaneStats(TextFormat tf)
+    {
+        List<ScopeLanes.Lane> lanes = scopeLanes.getLanes();
+
+        tf.startHistogram("linstor_scope_lane_queue_seconds", "Time API call scopes waited for a thread of their lane");
+        for (ScopeLanes.Lane lane : lanes)
+        {
+            writeHistogramSamples(tf, laneExport(lane), lane.getQueueTimeHistogram());
+        }
+
+        tf.startGauge("linstor_scope_lane_running_count", "API call scopes currently running in the lane");
+        for (ScopeLanes.Lane lane : lanes)
+        {
+            tf.writeSample(laneExport(lane), lane.getRunningCount());
+        }
+
+        tf.startGauge("linstor_scope_lane_max_threads", "Maximum number of threads of the lane");
+        for (ScopeLanes.Lane lane : lanes)
+        {
+            tf.writeSample(laneExport(lane), lane.getMaxThreads());
+        }
+
+        tf.startCounter("linstor_scope_lane_rejected_count", "API call scopes rejected because the lane was full");
+        for (ScopeLanes.Lane lane : lanes)
+        {
+            tf.writeSample(laneExport(lane), lane.getRejectedCount());
+        }
+    }
+
+    /**
+     * Writes the latency and the group sizes of the SQL group commit, if it is enabled
+     */
+    private void writeGroupCommitStats(TextFormat tf)
+    {
+        if (groupCommitter.isEnabled())
+        {
+            tf.startHistogram(
+                "linstor_db_group_commit_latency_seconds",
+                "Time transactions waited for the group commit of their changes"
+            );
+            writeHistogramSamples(tf, new HashMap<>(), groupCommitter.getCommitLatencyHistogram());
+
+            tf.startHistogram("linstor_db_group_commit_size", "Number of transactions committed together");
+            writeSizeHistogramSamples(tf, groupCommitter.getGroupSizeHistogram());
+        }
+    }
+
+    /**
+     * Writes the usage of the SQL connection pool, if the controller uses an SQL database
+     */
+    private void writeDbPoolStats(TextFormat tf)
+    {
+        if (dbConnectionPool.isStarted())
+        {
+            tf.startGauge("linstor_db_pool_active_connections", "Connections currently borrowed from the pool");
+            tf.writeSample(dbConnectionPool.getActiveCount());
+
+            tf.startGauge("linstor_db_pool_idle_connections", "Open connections currently idle in the pool");
+            tf.writeSample(dbConnectionPool.getIdleCount());
+
+            tf.startGauge("linstor_db_pool_waiting_threads", "Threads currently waiting for a connection");
+            tf.writeSample(dbConnectionPool.getWaiterCount());
+
+            tf.startHistogram("linstor_db_pool_acquire_seconds", "Time it took to acquire a connection");
+            writeHistogramSamples(tf, new HashMap<>(), dbConnectionPool.getAcquireHistogram());
+
+            tf.startCounter(
+                "linstor_db_pool_leaked_connections_count",
+                "Connections that were not returned by the task that acquired them"
+            );
+            tf.writeSample(dbConnectionPool.getLeakedCount());
+
+            tf.startGauge(
+                "linstor_db_pool_long_held_connections",
+                "Connections held longer than " + DbConnectionPool.LONG_HELD_THRESHOLD_MILLIS / 1000 + " seconds"
+            );
+            tf.writeSample(
+                dbConnectionPool.getLeases().stream().filter(DbConnectionPool.ConnectionLease::isLongHeld).count()
+            );
+        }
+    }
+
+    private static Map<String, String> laneExport(ScopeLanes.Lane lane)
+    {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("lane", lane.getLaneType().name().toLowerCase());
+        return labels;
+    }
+
+    private static Map<String, String> lockStatsExport(LockStats.Entry entry)
+    {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("lock", entry.getLockName());
+        labels.put("mode", entry.getLockMode());
+        labels.put("api_call", entry.getHolderName());
+        return labels;
+    }
+
+    private static void writeHistogramSamples(TextFormat tf, Map<String, String> labels, LatencyHistogram histogram)
+    {
+        long cumulativeCount = 0;
+        for (int bucketIdx = 0; bucketIdx < LatencyHistogram.getBucketCount(); ++bucketIdx)
+        {
+            cumulativeCount += histogram.getCountInBucket(bucketIdx);
+            long boundMillis = LatencyHistogram.getBucketBoundMillis(bucketIdx);
+            Map<String, String> bucketLabels = new HashMap<>(labels);
+            bucketLabels.put(
+                "le",
+                boundMillis == Long.MAX_VALUE ? "+Inf" : Double.toString(boundMillis / 1000.0)
+            );
+            tf.writeSample("_bucket", bucketLabels, cumulativeCount);
+        }
+        tf.writeSample("_sum", labels, histogram.getSumNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        tf.writeSample("_count", labels, cumulativeCount);
+    }
+
+    private static void writeSizeHistogramSamples(TextFormat tf, SizeHistogram histogram)
+    {
+        long cumulativeCount = 0;
+        for (int bucketIdx = 0; bucketIdx < SizeHistogram.getBucketCount(); ++bucketIdx)
+        {
+            cumulativeCount += histogram.getCountInBucket(bucketIdx);
+            long bound = SizeHistogram.getBucketBound(bucketIdx);
+            Map<String, String> bucketLabels = new HashMap<>();
+            bucketLabels.put("le", bound == Long.MAX_VALUE ? "+Inf" : Long.toString(bound));
+            tf.writeSample("_bucket", bucketLabels, cumulativeCount);
+        }
+        tf.writeSample("_sum", null, histogram.getSum());
+        tf.writeSample("_count", null, cumulativeCount);
+    }
+
+    private void writeReconnectStats(TextFormat tf)
+    {
+        tf.startGauge("linstor_satellite_disconnected_count", "Satellites the controller is reconnecting to");
+        tf.writeSample(reconnectorTask.getDisconnectedPeerCount());
+
+        tf.startGauge(
+            "linstor_satellite_disconnected_seconds",
+            "Time since the first of the currently disconnected satellites was disconnected"
+        );
+        tf.writeSample(reconnectorTask.getDisconnectedDuration() / 1000.0);
+
+        long lastTimeToFullConnectivity = reconnectorTask.getLastTimeToFullConnectivity();
+        if (lastTimeToFullConnectivity >= 0)
+        {
+            tf.startGauge(
+                "linstor_satellite_time_to_full_connectivity_seconds",
+                "Time it took until all disconnected satellites were connected again"
+            );
+            tf.writeSample(lastTimeToFullConnectivity / 1000.0);
+        }
+    }
+
     public String build(
         @Nullable final List<NodeApi> nodeApiList,
         @Nullable final List<ResourceDefinitionApi> rscDfns,
@@ -322,6 +581,13 @@ public class PrometheusBuilder {
             });
         }
 
+        writeRpcStats(tf);
+        writeReconnectStats(tf);
+        writeLockStats(tf);
+        writeScopeLaneStats(tf);
+        writeGroupCommitStats(tf);
+        writeDbPoolStats(tf);
+
         StringWriter sw = new StringWriter();
         io.prometheus.client.exporter.common.TextFormat.write004(
             sw, CollectorRegistry.defaultRegistry.metricFamilySamples());
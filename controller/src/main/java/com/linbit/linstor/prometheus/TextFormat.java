@@ -49,6 +49,11 @@ public class TextFormat {
         startSection(Type.counter, sectionName, help);
     }
 
+    public void startHistogram(final String sectionName, final String help)
+    {
+        startSection(Type.histogram, sectionName, help);
+    }
+
     private void startSection(final Type type, final String sectionName, @Nullable final String help)
     {
         currentSection = sectionName.trim();
@@ -76,8 +81,18 @@ public class TextFormat {
     }
 
     public void writeSample(@Nullable final Map<String, String> labels, double value)
+    {
+        writeSample("", labels, value);
+    }
+
+    /**
+     * Writes a sample whose name is the section name followed by the suffix, such as the
+     * "_bucket", "_sum" and "_count" samples of a histogram
+     */
+    public void writeSample(final String suffix, @Nullable final Map<String, String> labels, double value)
     {
         sb.append(currentSection);
+        sb.append(suffix);
         if (labels != null && !labels.isEmpty()) {
             sb.append('{');
             sb.append(formatLabels(labels));
@@ -4,7 +4,7 @@ import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.etcd.BaseEtcdDriver;
 import com.linbit.linstor.dbdrivers.etcd.EtcdUtils;
-import com.linbit.linstor.dbdrivers.interfaces.PropsConDatabaseDriver;
+import com.linbit.linstor.dbdrivers.interfaces.PropsConCtrlDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.transaction.manager.TransactionMgrETCD;
 
@@ -18,7 +18,7 @@ import java.util.Set;
 import java.util.TreeMap;
 
 @Singleton
-public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDatabaseDriver
+public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConCtrlDatabaseDriver
 {
     private final ErrorReporter errorReporter;
 
@@ -32,6 +32,18 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
         errorReporter = errorReporterRef;
     }
 
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        // no-op - the properties are loaded with one range request per instance
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        // no-op
+    }
+
     @Override
     public Map<String, String> loadAll(String instanceName) throws DatabaseException
     {
@@ -70,9 +82,21 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
     }
 
     @Override
-    public void persist(String instanceName, String key, String value) throws DatabaseException
+    public void insert(String instanceName, Map<String, String> props) throws DatabaseException
+    {
+        errorReporter.logTrace("Inserting %d properties %s", props.size(), getId(instanceName));
+        put(instanceName, props);
+    }
+
+    @Override
+    public void update(String instanceName, Map<String, String> props) throws DatabaseException
+    {
+        errorReporter.logTrace("Updating %d properties %s", props.size(), getId(instanceName));
+        put(instanceName, props);
+    }
+
+    private void put(String instanceName, Map<String, String> props)
     {
-        errorReporter.logTrace("Storing property %s", getId(instanceName, key, value));
         /*
          * DO NOT use
          * namespace(..., instanceName).put(key, value);
@@ -82,16 +106,10 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
          * /LINSTOR/PROPS_CONTAINERS//$instanceName:$key = $value
          * (':' instead of '/')
          */
-        namespace(getEtcdKey(instanceName, key))
-            .put("", value);
-    }
-
-    @Override
-    public void persist(String instanceName, Map<String, String> props) throws DatabaseException
-    {
+        FluentLinstorTransaction instanceTx = namespace(getEtcdKey(instanceName, null));
         for (Entry<String, String> entry : props.entrySet())
         {
-            persist(instanceName, entry.getKey(), entry.getValue());
+            instanceTx.put(EtcdUtils.PK_DELIMITER + entry.getKey(), entry.getValue());
         }
     }
 
@@ -130,9 +148,4 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
     {
         return "(InstanceName=" + instanceName + " Key=" + key + ")";
     }
-
-    private String getId(String instanceName, String key, String value)
-    {
-        return "(InstanceName=" + instanceName + " Key=" + key + " Value=" + value + ")";
-    }
 }
@@ -1,8 +1,13 @@
 package com.linbit.linstor.propscon;
 
+import com.linbit.linstor.dbdrivers.AbsDatabaseDriver.RawParameters;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.PropsContainers;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.derby.DbConstants;
-import com.linbit.linstor.dbdrivers.interfaces.PropsConDatabaseDriver;
+import com.linbit.linstor.dbdrivers.interfaces.PropsConCtrlDatabaseDriver;
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 
@@ -13,25 +18,31 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 
 @Singleton
-public class PropsConSQLDbDriver implements PropsConDatabaseDriver
+public class PropsConSQLDbDriver implements PropsConCtrlDatabaseDriver
 {
     private static final String TBL_PROP = DbConstants.TBL_PROPS_CONTAINERS;
     private static final String COL_INSTANCE = DbConstants.PROPS_INSTANCE;
     private static final String COL_KEY = DbConstants.PROP_KEY;
     private static final String COL_VALUE = DbConstants.PROP_VALUE;
 
-    private static final String SELECT_ENTRY_FOR_UPDATE =
-        " SELECT " + COL_INSTANCE + ", " + COL_KEY + ", " + COL_VALUE + "\n" +
-        " FROM " + TBL_PROP + "\n" +
-        " WHERE " + COL_INSTANCE + " = ? AND \n" +
-        "       " + COL_KEY +      " = ? \n" +
-        " FOR UPDATE";
+    private static final String INSERT_ENTRY =
+        " INSERT INTO " + TBL_PROP + "\n" +
+        " (" + COL_INSTANCE + ", " + COL_KEY + ", " + COL_VALUE + ")\n" +
+        " VALUES (?, ?, ?)";
+
+    private static final String UPDATE_ENTRY =
+        " UPDATE " + TBL_PROP + "\n" +
+        "    SET " + COL_VALUE + " = ? \n" +
+        "    WHERE " + COL_INSTANCE + " = ? \n" +
+        "        AND " + COL_KEY + " = ?";
 
     private static final String SELECT_ALL_ENTRIES_BY_INSTANCE =
         " SELECT " + COL_KEY + ", " + COL_VALUE + "\n" +
@@ -49,112 +60,107 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
 
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final SQLEngine sqlEngine;
+
+    // the properties of all instances by the upper case instance name, only set while all objects are loaded
+    private Map<String, Map<String, String>> cachedPropsByInstance;
 
     @Inject
     public PropsConSQLDbDriver(
         ErrorReporter errorReporterRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        SQLEngine sqlEngineRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
+        sqlEngine = sqlEngineRef;
     }
 
+    /**
+     * Inserts the new entries as a single batch of statements
+     */
     @Override
-    public void persist(String instanceName, String key, String value) throws DatabaseException
-    {
-        persistImpl(instanceName, key, value);
-    }
-
-    @Override
-    public void persist(String instanceName, Map<String, String> props) throws DatabaseException
+    public void insert(String instanceName, Map<String, String> props) throws DatabaseException
     {
-        for (Entry<String, String> entry : props.entrySet())
+        errorReporter.logTrace("Inserting %d properties %s", props.size(), getId(instanceName));
+        String instanceUpper = instanceName.toUpperCase();
+        try
         {
-            persistImpl(instanceName, entry.getKey(), entry.getValue());
-        }
-    }
-
-    @SuppressWarnings("checkstyle:magicnumber")
-    private void persistImpl(String instanceName, String key, String value) throws DatabaseException
-    {
-        errorReporter.logTrace("Storing property %s", getId(instanceName, key, value));
-        try (
-            PreparedStatement stmt = getConnection().prepareStatement(
-                SELECT_ENTRY_FOR_UPDATE,
-                ResultSet.TYPE_SCROLL_SENSITIVE,
-                ResultSet.CONCUR_UPDATABLE
-            )
-        )
-        {
-            String instanceUpper = instanceName.toUpperCase();
-            stmt.setString(1, instanceUpper);
-            stmt.setString(2, key);
-
-            try (ResultSet resultSet = stmt.executeQuery())
+            TransactionMgrSQL transMgr = transMgrProvider.get();
+            for (Entry<String, String> entry : props.entrySet())
             {
-                if (resultSet.next())
-                {
-                    resultSet.updateString(3, value);
-                    resultSet.updateRow();
-                }
-                else
-                {
-                    resultSet.moveToInsertRow();
-                    resultSet.updateString(1, instanceUpper);
-                    resultSet.updateString(2, key);
-                    resultSet.updateString(3, value);
-                    resultSet.insertRow();
-                }
+                SQLStatementParameters params = entryParams(instanceUpper, entry.getKey());
+                params.setString(3, entry.getValue());
+                transMgr.executeDeferred(INSERT_ENTRY, params);
             }
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
-        errorReporter.logTrace("Property stored %s", getId(instanceName, key, value));
+        errorReporter.logTrace("Inserted %d properties %s", props.size(), getId(instanceName));
     }
 
+    /**
+     * Updates the existing entries as a single batch of statements
+     */
     @Override
-    public void remove(String instanceName, String key) throws DatabaseException
+    public void update(String instanceName, Map<String, String> props) throws DatabaseException
     {
-        errorReporter.logTrace("Removing property %s", getId(instanceName, key));
-
-        try (PreparedStatement stmt = getConnection().prepareStatement(REMOVE_ENTRY))
+        errorReporter.logTrace("Updating %d properties %s", props.size(), getId(instanceName));
+        String instanceUpper = instanceName.toUpperCase();
+        try
         {
-            stmt.setString(1, instanceName.toUpperCase());
-            stmt.setString(2, key);
-
-            stmt.executeUpdate();
+            TransactionMgrSQL transMgr = transMgrProvider.get();
+            for (Entry<String, String> entry : props.entrySet())
+            {
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, entry.getValue());
+                params.setString(2, instanceUpper);
+                params.setString(3, entry.getKey());
+                transMgr.executeDeferred(UPDATE_ENTRY, params);
+            }
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
+        errorReporter.logTrace("Updated %d properties %s", props.size(), getId(instanceName));
+    }
 
-        errorReporter.logTrace("Property removed %s", getId(instanceName, key));
+    @Override
+    public void remove(String instanceName, String key) throws DatabaseException
+    {
+        remove(instanceName, Collections.singleton(key));
     }
 
     @Override
     public void remove(String instanceName, Set<String> keys) throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(REMOVE_ENTRY))
+        errorReporter.logTrace("Removing %d properties %s", keys.size(), getId(instanceName));
+        String instanceUpper = instanceName.toUpperCase();
+        try
         {
-            stmt.setString(1, instanceName.toUpperCase());
+            TransactionMgrSQL transMgr = transMgrProvider.get();
             for (String key : keys)
             {
-                errorReporter.logTrace("Removing property %s", getId(instanceName, key));
-
-                stmt.setString(2, key);
-                stmt.executeUpdate();
-
-                errorReporter.logTrace("Property removed %s", getId(instanceName, key));
+                transMgr.executeDeferred(REMOVE_ENTRY, entryParams(instanceUpper, key));
             }
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
+        errorReporter.logTrace("Removed %d properties %s", keys.size(), getId(instanceName));
+    }
+
+    private SQLStatementParameters entryParams(String instanceUpper, String key)
+    {
+        SQLStatementParameters params = new SQLStatementParameters();
+        params.setString(1, instanceUpper);
+        params.setString(2, key);
+        return params;
     }
 
     @Override
@@ -162,24 +168,46 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     {
         errorReporter.logTrace("Removing all properties by instance %s", getId(instanceName));
 
-        int rowsUpdated;
-        try (
-            PreparedStatement stmt = getConnection()
-                .prepareStatement(REMOVE_ALL_ENTRIES)
-        )
+        try
         {
-            stmt.setString(1, instanceName.toUpperCase());
-            rowsUpdated = stmt.executeUpdate();
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, instanceName.toUpperCase());
+            transMgrProvider.get().executeDeferred(REMOVE_ALL_ENTRIES, params);
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
-        errorReporter.logTrace(
-            "Removed all (%d) properties by instance %s",
-            rowsUpdated,
-            getId(instanceName)
-        );
+        errorReporter.logTrace("Removed all properties by instance %s", getId(instanceName));
+    }
+
+    /**
+     * Groups the rows of the properties table by instance. The rows are prefetched or restored from the
+     * checkpoint by the {@link SQLEngine}, otherwise they are fetched with a single query.
+     */
+    @Override
+    public void fetchForLoadAll() throws DatabaseException
+    {
+        errorReporter.logTrace("Loading properties of all instances");
+        cachedPropsByInstance = new HashMap<>();
+        for (RawParameters raw : sqlEngine.getRawRows(GeneratedDatabaseTables.PROPS_CONTAINERS))
+        {
+            String instanceUpper = raw.get(PropsContainers.PROPS_INSTANCE);
+            Map<String, String> props = cachedPropsByInstance.get(instanceUpper);
+            if (props == null)
+            {
+                props = new TreeMap<>();
+                cachedPropsByInstance.put(instanceUpper, props);
+            }
+            props.put(raw.get(PropsContainers.PROP_KEY), raw.get(PropsContainers.PROP_VALUE));
+        }
+        errorReporter.logTrace("Loaded properties of %d instances", cachedPropsByInstance.size());
+    }
+
+    @Override
+    public void clearLoadAllCache()
+    {
+        cachedPropsByInstance = null;
     }
 
     @Override
@@ -187,25 +215,36 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     {
         errorReporter.logTrace("Loading properties for instance %s", getId(instanceName));
         Map<String, String> ret = new TreeMap<>();
-        Connection connection = getConnection();
-        try (PreparedStatement stmt = connection.prepareStatement(SELECT_ALL_ENTRIES_BY_INSTANCE))
+        if (cachedPropsByInstance != null)
         {
-            stmt.setString(1, instanceName.toUpperCase());
-
-            try (ResultSet resultSet = stmt.executeQuery())
+            Map<String, String> cachedProps = cachedPropsByInstance.get(instanceName.toUpperCase());
+            if (cachedProps != null)
             {
-                while (resultSet.next())
+                ret.putAll(cachedProps);
+            }
+        }
+        else
+        {
+            Connection connection = getQueryConnection();
+            try (PreparedStatement stmt = connection.prepareStatement(SELECT_ALL_ENTRIES_BY_INSTANCE))
+            {
+                stmt.setString(1, instanceName.toUpperCase());
+
+                try (ResultSet resultSet = stmt.executeQuery())
                 {
-                    String key = resultSet.getString(1);
-                    String value = resultSet.getString(2);
+                    while (resultSet.next())
+                    {
+                        String key = resultSet.getString(1);
+                        String value = resultSet.getString(2);
 
-                    ret.put(key, value);
+                        ret.put(key, value);
+                    }
                 }
             }
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
+            catch (SQLException sqlExc)
+            {
+                throw new DatabaseException(sqlExc);
+            }
         }
         errorReporter.logTrace(
             "Loaded all (%d) properties for instance %s",
@@ -215,9 +254,9 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
         return ret;
     }
 
-    private Connection getConnection()
+    private Connection getQueryConnection()
     {
-        return transMgrProvider.get().getConnection();
+        return transMgrProvider.get().getQueryConnection(TBL_PROP);
     }
 
 
@@ -225,14 +264,4 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     {
         return "(InstanceName=" + instanceName + ")";
     }
-
-    private String getId(String instanceName, String key)
-    {
-        return "(InstanceName=" + instanceName + " Key=" + key + ")";
-    }
-
-    private String getId(String instanceName, String key, String value)
-    {
-        return "(InstanceName=" + instanceName + " Key=" + key + " Value=" + value + ")";
-    }
 }
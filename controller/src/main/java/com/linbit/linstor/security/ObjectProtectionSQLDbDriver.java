@@ -4,6 +4,7 @@ import com.linbit.InvalidNameException;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
 import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
@@ -123,14 +124,15 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void insertOp(ObjectProtection objProt) throws DatabaseException
     {
         errorReporter.logTrace("Creating ObjectProtection %s", getObjProtId(objProt.getObjectProtectionPath()));
-        try (PreparedStatement stmt = getConnection().prepareStatement(OP_INSERT))
+        try
         {
-            stmt.setString(1, objProt.getObjectProtectionPath());
-            stmt.setString(2, objProt.getCreator().name.value);
-            stmt.setString(3, objProt.getOwner().name.value);
-            stmt.setString(4, objProt.getSecurityType().name.value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, objProt.getObjectProtectionPath());
+            params.setString(2, objProt.getCreator().name.value);
+            params.setString(3, objProt.getOwner().name.value);
+            params.setString(4, objProt.getSecurityType().name.value);
 
-            stmt.executeUpdate();
+            executeDeferred(OP_INSERT, params);
         }
         catch (SQLException sqlExc)
         {
@@ -143,21 +145,23 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void deleteOp(String objectPath) throws DatabaseException
     {
         errorReporter.logTrace("Deleting ObjectProtection %s", getObjProtId(objectPath));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_DELETE_ALL))
+        try
         {
-            stmt.setString(1, objectPath);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, objectPath);
 
-            stmt.executeUpdate();
+            executeDeferred(ACL_DELETE_ALL, params);
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
-        try (PreparedStatement stmt = getConnection().prepareStatement(OP_DELETE))
+        try
         {
-            stmt.setString(1, objectPath);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, objectPath);
 
-            stmt.executeUpdate();
+            executeDeferred(OP_DELETE, params);
         }
         catch (SQLException sqlExc)
         {
@@ -173,13 +177,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         throws DatabaseException
     {
         errorReporter.logTrace("Creating AccessControl entry %s", getAclTraceId(parent, role, grantedAccess));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_INSERT))
+        try
         {
-            stmt.setString(1, parent.getObjectProtectionPath());
-            stmt.setString(2, role.name.value);
-            stmt.setLong(3, grantedAccess.getAccessMask());
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, parent.getObjectProtectionPath());
+            params.setString(2, role.name.value);
+            params.setLong(3, grantedAccess.getAccessMask());
 
-            stmt.executeUpdate();
+            executeDeferred(ACL_INSERT, params);
         }
         catch (SQLException sqlExc)
         {
@@ -199,13 +204,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
             grantedAccess,
             getAclTraceId(parent, role)
         );
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_UPDATE))
+        try
         {
-            stmt.setLong(1, grantedAccess.getAccessMask());
-            stmt.setString(2, parent.getObjectProtectionPath());
-            stmt.setString(3, role.name.value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setLong(1, grantedAccess.getAccessMask());
+            params.setString(2, parent.getObjectProtectionPath());
+            params.setString(3, role.name.value);
 
-            stmt.executeUpdate();
+            executeDeferred(ACL_UPDATE, params);
         }
         catch (SQLException sqlExc)
         {
@@ -223,12 +229,13 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void deleteAcl(ObjectProtection parent, Role role) throws DatabaseException
     {
         errorReporter.logTrace("Deleting AccessControl entry %s", getAclTraceId(parent, role));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_DELETE))
+        try
         {
-            stmt.setString(1, parent.getObjectProtectionPath());
-            stmt.setString(2, role.name.value);
+            SQLStatementParameters params = new SQLStatementParameters();
+            params.setString(1, parent.getObjectProtectionPath());
+            params.setString(2, role.name.value);
 
-            stmt.executeUpdate();
+            executeDeferred(ACL_DELETE, params);
         }
         catch (SQLException sqlExc)
         {
@@ -245,7 +252,7 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         errorReporter.logTrace("Loading ObjectProtection %s", getObjProtId(objPath));
         ObjectProtection objProt = null;
 
-        try (PreparedStatement opLoadStmt = getConnection().prepareStatement(OP_LOAD))
+        try (PreparedStatement opLoadStmt = getQueryConnection().prepareStatement(OP_LOAD))
         {
             opLoadStmt.setString(1, objPath);
 
@@ -311,7 +318,7 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
             errorReporter.logTrace("ObjectProtection instance created. %s", getObjProtId(objPath));
             // restore ACL
 
-            try (PreparedStatement aclLoadStmt = getConnection().prepareStatement(ACL_LOAD))
+            try (PreparedStatement aclLoadStmt = getQueryConnection().prepareStatement(ACL_LOAD))
             {
                 aclLoadStmt.setString(1, objPath);
                 String currentRoleName = null;
@@ -374,9 +381,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         return securityTypeDriver;
     }
 
-    private Connection getConnection()
+    private Connection getQueryConnection()
     {
-        return transMgrProvider.get().getConnection();
+        return transMgrProvider.get().getQueryConnection(TBL_OP, TBL_ACL, TBL_ROLES);
+    }
+
+    private void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        transMgrProvider.get().executeDeferred(sql, params);
     }
 
     private String getAclTraceId(ObjectProtection parent, Role role, AccessType grantedAccess)
@@ -439,12 +451,13 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 creator.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_IDENTITY))
+            try
             {
-                stmt.setString(1, creator.name.value);
-                stmt.setString(2, parent.getObjectProtectionPath());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, creator.name.value);
+                params.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                executeDeferred(OP_UPDATE_IDENTITY, params);
             }
             catch (SQLException sqlExc)
             {
@@ -470,12 +483,13 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 owner.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_ROLE))
+            try
             {
-                stmt.setString(1, owner.name.value);
-                stmt.setString(2, parent.getObjectProtectionPath());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, owner.name.value);
+                params.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                executeDeferred(OP_UPDATE_ROLE, params);
             }
             catch (SQLException sqlExc)
             {
@@ -501,12 +515,13 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 secType.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_SEC_TYPE))
+            try
             {
-                stmt.setString(1, secType.name.value);
-                stmt.setString(2, parent.getObjectProtectionPath());
+                SQLStatementParameters params = new SQLStatementParameters();
+                params.setString(1, secType.name.value);
+                params.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                executeDeferred(OP_UPDATE_SEC_TYPE, params);
             }
             catch (SQLException sqlExc)
             {
@@ -0,0 +1,57 @@
+package com.linbit.linstor.tasks;
+
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.DatabaseLoader;
+import com.linbit.linstor.dbdrivers.DbCheckpoint;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import javax.inject.Inject;
+
+import java.io.IOException;
+
+/**
+ * Periodically writes the checkpoint of the database tables, see {@link DbCheckpoint}
+ */
+public class DbCheckpointTask implements TaskScheduleService.Task
+{
+    private static final long CHECKPOINT_SLEEP = 5 * 60 * 1_000;
+
+    private final ErrorReporter errorReporter;
+    private final DatabaseLoader databaseLoader;
+    private final DbCheckpoint dbCheckpoint;
+
+    @Inject
+    public DbCheckpointTask(
+        ErrorReporter errorReporterRef,
+        DatabaseLoader databaseLoaderRef,
+        DbCheckpoint dbCheckpointRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        databaseLoader = databaseLoaderRef;
+        dbCheckpoint = dbCheckpointRef;
+    }
+
+    @Override
+    public long run()
+    {
+        long sleep = CHECKPOINT_SLEEP;
+        if (dbCheckpoint.isEnabled())
+        {
+            try
+            {
+                databaseLoader.writeCheckpoint();
+            }
+            catch (DatabaseException | IOException exc)
+            {
+                errorReporter.reportError(exc);
+            }
+        }
+        else
+        {
+            // cancel the task
+            sleep = -1;
+        }
+        return sleep;
+    }
+}
@@ -2,8 +2,11 @@ package com.linbit.linstor.tasks;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -12,14 +15,26 @@ import com.linbit.linstor.tasks.TaskScheduleService.Task;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Checks the liveness of the satellite connections
+ *
+ * The peers are spread across the slots of a wheel. Each run only checks the peers of the next slot,
+ * so that every peer is still checked once per PING_SLEEP, but the work is spread across the interval.
+ * Peers that received messages since their last check are alive and are not pinged.
+ */
 @Singleton
 public class PingTask implements Task
 {
     private static final int PING_TIMEOUT = 5_000;
     private static final long PING_SLEEP = 1_000;
+    private static final int WHEEL_SLOT_COUNT = 10;
+
+    private final List<Set<HeartbeatEntry>> wheel = new ArrayList<>();
+    private final Map<Peer, HeartbeatEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger nextAddSlotIdx = new AtomicInteger();
+    // only accessed by run()
+    private int currentSlotIdx = 0;
 
-    private final Object syncObj = new Object();
-    private final HashSet<Peer> peerSet = new HashSet<>();
     private final ErrorReporter errorReporter;
     private final ReconnectorTask reconnector;
 
@@ -29,62 +44,80 @@ public class PingTask implements Task
         errorReporter = errorReporterRef;
         reconnector = reconnectorRef;
 
+        for (int slotIdx = 0; slotIdx < WHEEL_SLOT_COUNT; ++slotIdx)
+        {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+
         reconnector.setPingTask(this);
     }
 
     public void add(Peer peer)
     {
-        synchronized (syncObj)
+        // round-robin instead of hashing keeps the slots evenly filled
+        int slotIdx = Math.floorMod(nextAddSlotIdx.getAndIncrement(), WHEEL_SLOT_COUNT);
+        HeartbeatEntry entry = new HeartbeatEntry(peer, slotIdx);
+        if (entries.putIfAbsent(peer, entry) == null)
         {
-            peerSet.add(peer);
+            wheel.get(slotIdx).add(entry);
         }
     }
 
     public void remove(Peer peer)
     {
-        synchronized (syncObj)
+        HeartbeatEntry entry = entries.remove(peer);
+        if (entry != null)
         {
-            peerSet.remove(peer);
+            wheel.get(entry.slotIdx).remove(entry);
         }
     }
 
     @Override
     public long run()
     {
-        final List<Peer> peersToRemove = new ArrayList<>();
-
-        final List<Peer> currentPeers;
-        synchronized (syncObj)
-        {
-            currentPeers = new ArrayList<>(peerSet);
-        }
+        Set<HeartbeatEntry> slot = wheel.get(currentSlotIdx);
+        currentSlotIdx = (currentSlotIdx + 1) % WHEEL_SLOT_COUNT;
 
-        for (final Peer peer : currentPeers)
+        for (HeartbeatEntry entry : slot)
         {
-            final long lastPingReceived = peer.getLastPongReceived();
-            final long lastPingSent = peer.getLastPingSent();
+            final Peer peer = entry.peer;
             boolean reconnect = false;
-            if (!peer.isConnected(false) || lastPingReceived + PING_TIMEOUT < lastPingSent)
+            if (!peer.isConnected(false))
             {
                 reconnect = true;
             }
-            if (!reconnect)
+            else
             {
-                try
+                long msgRecvCount = peer.msgRecvCount();
+                if (msgRecvCount != entry.lastMsgRecvCount)
                 {
-                    peer.sendPing();
+                    // any received message proves that the peer is alive, a ping is not necessary
+                    entry.lastMsgRecvCount = msgRecvCount;
+                    peer.pongReceived();
                 }
-                catch (Exception exc)
+                else
+                if (peer.getLastPongReceived() + PING_TIMEOUT < peer.getLastPingSent())
                 {
                     reconnect = true;
                 }
+                else
+                {
+                    try
+                    {
+                        peer.sendPing();
+                    }
+                    catch (Exception exc)
+                    {
+                        reconnect = true;
+                    }
+                }
             }
             if (reconnect)
             {
                 errorReporter.logTrace(
                     "Connection to " + peer + " lost. Removed from pingList, added to reconnectList."
                 );
-                peersToRemove.add(peer);
+                remove(peer);
                 try
                 {
                     reconnector.add(peer.getConnector().reconnect(peer), true);
@@ -96,10 +129,19 @@ public class PingTask implements Task
                 }
             }
         }
-        synchronized (syncObj)
+        return PING_SLEEP / WHEEL_SLOT_COUNT;
+    }
+
+    private static class HeartbeatEntry
+    {
+        private final Peer peer;
+        private final int slotIdx;
+        private long lastMsgRecvCount = -1;
+
+        HeartbeatEntry(Peer peerRef, int slotIdxRef)
         {
-            peerSet.removeAll(peersToRemove);
+            peer = peerRef;
+            slotIdx = slotIdxRef;
         }
-        return PING_SLEEP;
     }
 }
@@ -5,6 +5,7 @@ import com.linbit.linstor.core.CtrlAuthenticator;
 import com.linbit.linstor.core.SatelliteConnector;
 import com.linbit.linstor.core.objects.NetInterface;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -20,6 +21,7 @@ import com.linbit.locks.LockGuardFactory;
 
 import static com.linbit.locks.LockGuardFactory.LockObj.CTRL_CONFIG;
 import static com.linbit.locks.LockGuardFactory.LockObj.NODES_MAP;
+import static com.linbit.locks.LockGuardFactory.LockObj.RSC_DFN_MAP;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -28,16 +30,35 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Reconnects to satellites that are not connected
+ *
+ * Each satellite is retried with an exponential backoff and jitter, so that the connection attempts to
+ * many satellites do not all happen at the same time. Each run starts at most MAX_ATTEMPTS_PER_RUN
+ * connection attempts, preferring satellites that host resources or snapshots with pending operations.
+ * The connection attempts themselves are non-blocking and proceed in parallel in the connector.
+ */
 @Singleton
 public class ReconnectorTask implements Task
 {
-    private static final int RECONNECT_SLEEP = 10_000;
+    private static final int RECONNECT_SLEEP = 1_000;
+    private static final long MIN_BACKOFF = 5_000;
+    private static final long MAX_BACKOFF = 60_000;
+    private static final int MAX_ATTEMPTS_PER_RUN = 16;
 
     private final Object syncObj = new Object();
-    private final HashSet<Peer> peerSet = new HashSet<>();
+    // Peers that are not connected, mapped to the backoff of their connection attempts
+    private final HashMap<Peer, Backoff> peerBackoffs = new HashMap<>();
+    // Time when the first of the currently disconnected peers was added, -1 if all peers are connected
+    private long disconnectedSince = -1;
+    private volatile long lastTimeToFullConnectivity = -1;
     private final ErrorReporter errorReporter;
     private PingTask pingTask;
     private final Provider<CtrlAuthenticator> authenticatorProvider;
@@ -82,7 +103,7 @@ public class ReconnectorTask implements Task
             }
             else
             {
-                peerSet.add(peer);
+                addDisconnectedPeer(peer, new Backoff());
             }
         }
         if (sendAuthentication)
@@ -104,7 +125,7 @@ public class ReconnectorTask implements Task
         boolean sendAuthentication = false;
         synchronized (syncObj)
         {
-            if (peerSet.remove(peer) && pingTask != null)
+            if (removeDisconnectedPeer(peer) && pingTask != null)
             {
                 sendAuthentication = true;
             }
@@ -127,134 +148,279 @@ public class ReconnectorTask implements Task
     {
         synchronized (syncObj)
         {
-            peerSet.remove(peer);
+            removeDisconnectedPeer(peer);
             pingTask.remove(peer);
         }
     }
 
-    @Override
-    public long run()
+    /**
+     * Returns the number of peers that are currently not connected
+     */
+    public int getDisconnectedPeerCount()
     {
-        ArrayList<Peer> localList;
         synchronized (syncObj)
         {
-            localList = new ArrayList<>(peerSet);
+            return peerBackoffs.size();
         }
-        for (final Peer peer : localList)
+    }
+
+    /**
+     * Returns the time it took until all peers were connected again, measured from the moment the first
+     * of the peers was disconnected, in milliseconds, or -1 if all peers were never connected yet
+     */
+    public long getLastTimeToFullConnectivity()
+    {
+        return lastTimeToFullConnectivity;
+    }
+
+    /**
+     * Returns the time since the first of the currently disconnected peers was disconnected,
+     * in milliseconds, or 0 if all peers are connected
+     */
+    public long getDisconnectedDuration()
+    {
+        synchronized (syncObj)
         {
-            if (peer.isConnected(false))
+            return disconnectedSince == -1 ? 0 : System.currentTimeMillis() - disconnectedSince;
+        }
+    }
+
+    private void addDisconnectedPeer(Peer peer, Backoff backoff)
+    {
+        if (peerBackoffs.isEmpty() && disconnectedSince == -1)
+        {
+            disconnectedSince = System.currentTimeMillis();
+        }
+        peerBackoffs.put(peer, backoff);
+    }
+
+    private boolean removeDisconnectedPeer(Peer peer)
+    {
+        boolean removed = peerBackoffs.remove(peer) != null;
+        if (removed && peerBackoffs.isEmpty() && disconnectedSince != -1)
+        {
+            lastTimeToFullConnectivity = System.currentTimeMillis() - disconnectedSince;
+            disconnectedSince = -1;
+            errorReporter.logInfo("All satellites are connected after %d ms", lastTimeToFullConnectivity);
+        }
+        return removed;
+    }
+
+    @Override
+    public long run()
+    {
+        long now = System.currentTimeMillis();
+        List<Peer> duePeers = new ArrayList<>();
+        List<Peer> connectedPeers = new ArrayList<>();
+        Map<Peer, Backoff> backoffs = new HashMap<>();
+        synchronized (syncObj)
+        {
+            for (Map.Entry<Peer, Backoff> entry : peerBackoffs.entrySet())
             {
-                errorReporter.logTrace(
-                    peer + " has connected. Removed from reconnectList, added to pingList."
-                );
-                peerConnected(peer);
+                Peer peer = entry.getKey();
+                if (peer.isConnected(false))
+                {
+                    connectedPeers.add(peer);
+                }
+                else
+                if (entry.getValue().nextAttempt <= now)
+                {
+                    duePeers.add(peer);
+                    backoffs.put(peer, entry.getValue());
+                }
             }
-            else
+        }
+        for (final Peer peer : connectedPeers)
+        {
+            errorReporter.logTrace(
+                peer + " has connected. Removed from reconnectList, added to pingList."
+            );
+            peerConnected(peer);
+        }
+        for (final Peer peer : selectAttempts(duePeers, backoffs))
+        {
+            errorReporter.logTrace(
+                "Peer " + peer.getId() + " has not connected yet, retrying connect."
+            );
+            try
             {
-                errorReporter.logTrace(
-                    "Peer " + peer.getId() + " has not connected yet, retrying connect."
-                );
-                try
+                Node node = peer.getNode();
+                if (node != null && !node.isDeleted())
                 {
-                    Node node = peer.getNode();
-                    if (node != null && !node.isDeleted())
+                    boolean hasEnteredScope = false;
+                    TransactionMgr transMgr = null;
+                    try (LockGuard lockGuard = lockGuardFactory
+                        .create()
+                        .read(CTRL_CONFIG)
+                        .write(NODES_MAP)
+                        .build()
+                    )
                     {
-                        boolean hasEnteredScope = false;
-                        TransactionMgr transMgr = null;
-                        try (LockGuard lockGuard = lockGuardFactory
-                            .create()
-                            .read(CTRL_CONFIG)
-                            .write(NODES_MAP)
-                            .build()
-                        )
-                        {
-                            reconnScope.enter();
-                            hasEnteredScope = true;
-                            transMgr = transactionMgrGenerator.startTransaction();
-                            TransactionMgrUtil.seedTransactionMgr(reconnScope, transMgr);
+                        reconnScope.enter();
+                        hasEnteredScope = true;
+                        transMgr = transactionMgrGenerator.startTransaction();
+                        TransactionMgrUtil.seedTransactionMgr(reconnScope, transMgr);
 
-                            // look for another netIf configured as satellite connection and set it as active
-                            NetInterface currentActiveStltConn = node.getActiveStltConn(peer.getAccessContext());
-                            Iterator<NetInterface> netIfIt = node.iterateNetInterfaces(peer.getAccessContext());
-                            while (netIfIt.hasNext())
+                        // look for another netIf configured as satellite connection and set it as active
+                        NetInterface currentActiveStltConn = node.getActiveStltConn(peer.getAccessContext());
+                        Iterator<NetInterface> netIfIt = node.iterateNetInterfaces(peer.getAccessContext());
+                        while (netIfIt.hasNext())
+                        {
+                            NetInterface netInterface = netIfIt.next();
+                            if (!netInterface.equals(currentActiveStltConn) &&
+                                netInterface.isUsableAsStltConn(peer.getAccessContext()))
                             {
-                                NetInterface netInterface = netIfIt.next();
-                                if (!netInterface.equals(currentActiveStltConn) &&
-                                    netInterface.isUsableAsStltConn(peer.getAccessContext()))
-                                {
-                                    errorReporter.logDebug("Setting new active satellite connection: '" +
-                                        netInterface.getName() + "'"
-                                    );
-                                    node.setActiveStltConn(peer.getAccessContext(), netInterface);
-                                    break;
-                                }
+                                errorReporter.logDebug("Setting new active satellite connection: '" +
+                                    netInterface.getName() + "'"
+                                );
+                                node.setActiveStltConn(peer.getAccessContext(), netInterface);
+                                break;
                             }
+                        }
 
-                            transMgr.commit();
-                            synchronized (syncObj)
-                            {
-                                // add the new peer and remove the old peer to the node
-                                peerSet.add(peer.getConnector().reconnect(peer));
-                                peerSet.remove(peer);
-                            }
+                        transMgr.commit();
+                        synchronized (syncObj)
+                        {
+                            // add the new peer and remove the old peer to the node
+                            Backoff backoff = peerBackoffs.getOrDefault(peer, new Backoff());
+                            backoff.attemptStarted();
+                            Peer newPeer = peer.getConnector().reconnect(peer);
+                            peerBackoffs.remove(peer);
+                            addDisconnectedPeer(newPeer, backoff);
                         }
-                        catch (AccessDeniedException | DatabaseException exc)
+                    }
+                    catch (AccessDeniedException | DatabaseException exc)
+                    {
+                        errorReporter.logError(exc.getMessage());
+                    }
+                    finally
+                    {
+                        if (hasEnteredScope)
                         {
-                            errorReporter.logError(exc.getMessage());
+                            reconnScope.exit();
                         }
-                        finally
+                        if (transMgr != null)
                         {
-                            if (hasEnteredScope)
+
+                            try
                             {
-                                reconnScope.exit();
+                                transMgr.rollback();
                             }
-                            if (transMgr != null)
+                            catch (TransactionException exc)
                             {
-
-                                try
-                                {
-                                    transMgr.rollback();
-                                }
-                                catch (TransactionException exc)
-                                {
-                                    errorReporter.reportError(exc);
-                                }
-                                transMgr.returnConnection();
+                                errorReporter.reportError(exc);
                             }
+                            transMgr.returnConnection();
                         }
                     }
+                }
+                else
+                {
+                    if (node == null)
+                    {
+                        errorReporter.logTrace(
+                            "Peer %s's node is null (possibly rollbacked), removing from reconnect list",
+                            peer.getId()
+                        );
+                    }
                     else
                     {
-                        if (node == null)
-                        {
-                            errorReporter.logTrace(
-                                "Peer %s's node is null (possibly rollbacked), removing from reconnect list",
-                                peer.getId()
-                            );
-                        }
-                        else
-                        {
-                            errorReporter.logTrace(
-                                "Peer %s's node got deleted, removing from reconnect list",
-                                peer.getId()
-                            );
-                        }
+                        errorReporter.logTrace(
+                            "Peer %s's node got deleted, removing from reconnect list",
+                            peer.getId()
+                        );
+                    }
 
-                        synchronized (syncObj)
-                        {
-                            // no new peer, node is gone. remove the old peer
-                            peerSet.remove(peer);
-                        }
+                    synchronized (syncObj)
+                    {
+                        // no new peer, node is gone. remove the old peer
+                        removeDisconnectedPeer(peer);
                     }
                 }
-                catch (IOException ioExc)
+            }
+            catch (IOException ioExc)
+            {
+                // TODO: detailed error reporting
+                errorReporter.reportError(ioExc);
+            }
+        }
+        return RECONNECT_SLEEP;
+    }
+
+    /**
+     * Selects the peers to retry in this run. Peers of satellites with pending operations come first,
+     * followed by the peers that are waiting the longest for their next attempt.
+     */
+    private List<Peer> selectAttempts(List<Peer> duePeers, Map<Peer, Backoff> backoffs)
+    {
+        List<Peer> selectedPeers = duePeers;
+        if (duePeers.size() > MAX_ATTEMPTS_PER_RUN)
+        {
+            Map<Peer, Boolean> pendingOps = new HashMap<>();
+            try (LockGuard lockGuard = lockGuardFactory.create().read(NODES_MAP).read(RSC_DFN_MAP).build())
+            {
+                for (Peer peer : duePeers)
+                {
+                    pendingOps.put(peer, hasPendingOperations(peer));
+                }
+            }
+            duePeers.sort(
+                Comparator.<Peer, Boolean>comparing(pendingOps::get).reversed()
+                    .thenComparingLong(peer -> backoffs.get(peer).nextAttempt)
+            );
+            selectedPeers = duePeers.subList(0, MAX_ATTEMPTS_PER_RUN);
+        }
+        return selectedPeers;
+    }
+
+    private boolean hasPendingOperations(Peer peer)
+    {
+        boolean pending = false;
+        Node node = peer.getNode();
+        if (node != null && !node.isDeleted())
+        {
+            try
+            {
+                AccessContext accCtx = peer.getAccessContext();
+                pending = !node.getInProgressSnapshots(accCtx).isEmpty();
+                Iterator<Resource> rscIter = node.iterateResources(accCtx);
+                while (!pending && rscIter.hasNext())
                 {
-                    // TODO: detailed error reporting
-                    errorReporter.reportError(ioExc);
+                    pending = rscIter.next().getStateFlags().isSet(accCtx, Resource.Flags.DELETE);
                 }
             }
+            catch (AccessDeniedException accDeniedExc)
+            {
+                errorReporter.logDebug(
+                    "Peer %s's node is not accessible, not prioritizing its reconnect", peer.getId()
+                );
+            }
+        }
+        return pending;
+    }
+
+    private static class Backoff
+    {
+        private int attemptCount = 0;
+        private long nextAttempt;
+
+        Backoff()
+        {
+            // peers are added while their first connection attempt is already in progress
+            attemptStarted();
+        }
+
+        /**
+         * Schedules the next attempt with a delay that doubles with each attempt. A random jitter of up to
+         * half of the delay spreads the attempts of satellites that were disconnected at the same time.
+         */
+        void attemptStarted()
+        {
+            long delay = Math.min(MAX_BACKOFF, MIN_BACKOFF << Math.min(attemptCount, 16));
+            long jitter = ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+            nextAttempt = System.currentTimeMillis() + delay - jitter;
+            ++attemptCount;
         }
-        return RECONNECT_SLEEP;
     }
 
     public void startReconnecting(Collection<Node> nodes, AccessContext initCtx)
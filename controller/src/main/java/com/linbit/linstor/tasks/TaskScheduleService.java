@@ -1,8 +1,8 @@
 package com.linbit.linstor.tasks;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.List;
 
 import javax.inject.Inject;
 import com.linbit.ImplementationError;
@@ -11,6 +11,7 @@ import com.linbit.ServiceName;
 import com.linbit.SystemService;
 import com.linbit.SystemServiceStartException;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.timer.TimingWheel;
 import org.slf4j.event.Level;
 
 public class TaskScheduleService implements SystemService, Runnable
@@ -32,6 +33,9 @@ public class TaskScheduleService implements SystemService, Runnable
     private static final ServiceName SERVICE_NAME;
     private static final String SERVICE_INFO = "Task schedule service";
     private static final long DEFAULT_RETRY_DELAY = 60_000;
+    private static final long TICK_MILLIS = 10;
+    // one revolution of the wheel covers about 10 seconds
+    private static final int WHEEL_SIZE = 1024;
 
     static
     {
@@ -57,7 +61,9 @@ public class TaskScheduleService implements SystemService, Runnable
 
     private Thread workerThread;
 
-    private final TreeMap<Long, LinkedList<Task>> tasks = new TreeMap<>();
+    // only accessed by the worker thread
+    private final TimingWheel<Task> tasks = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final List<Task> expiredTasks = new ArrayList<>();
     private final LinkedList<Task> newTasks = new LinkedList<>();
     private final ErrorReporter errorReporter;
 
@@ -113,7 +119,7 @@ public class TaskScheduleService implements SystemService, Runnable
     public void start() throws SystemServiceStartException
     {
         boolean needStart;
-        synchronized (tasks)
+        synchronized (newTasks)
         {
             needStart = !running;
             running = true;
@@ -129,10 +135,10 @@ public class TaskScheduleService implements SystemService, Runnable
     @Override
     public void shutdown()
     {
-        synchronized (tasks)
+        synchronized (newTasks)
         {
             shutdown = true;
-            tasks.notify();
+            newTasks.notify();
         }
     }
 
@@ -147,10 +153,10 @@ public class TaskScheduleService implements SystemService, Runnable
 
     public void addTask(Task task)
     {
-        synchronized (tasks)
+        synchronized (newTasks)
         {
             newTasks.add(task);
-            tasks.notify();
+            newTasks.notify();
         }
     }
 
@@ -171,7 +177,7 @@ public class TaskScheduleService implements SystemService, Runnable
                         Task execTask;
                         do
                         {
-                            synchronized (tasks)
+                            synchronized (newTasks)
                             {
                                 execTask = newTasks.pollFirst();
                             }
@@ -183,51 +189,32 @@ public class TaskScheduleService implements SystemService, Runnable
                         while (execTask != null);
                     }
 
-                    Entry<Long, LinkedList<Task>> taskList = tasks.firstEntry();
+                    // Run and reschedule all tasks whose target time is in the past or is now
                     now = System.currentTimeMillis();
-                    // Default to a waitTime of zero if there are no task lists
+                    tasks.pollExpired(now, expiredTasks);
+                    for (Task execTask : expiredTasks)
+                    {
+                        execute(execTask, now);
+                    }
+                    expiredTasks.clear();
+
+                    // Default to a waitTime of zero if there are no tasks
                     // to suspend this thread until new tasks are added
                     long waitTime = 0;
-                    while (taskList != null)
+                    long nextExpiryTime = tasks.getNextExpiryTime();
+                    if (nextExpiryTime != -1)
                     {
-                        long entryTime = taskList.getKey();
-                        // Recheck the current time only if the task's entryTime
-                        // is greater than the last known current time
-                        if (entryTime > now)
-                        {
-                            now = System.currentTimeMillis();
-                        }
-
-                        // If the task list's target time is in the past or is now,
-                        // remove the task list entry and run and reschedule all
-                        // tasks from the task list
-                        if (entryTime <= now)
-                        {
-                            // The tasks list did not change since the firstEntry() call,
-                            // so this will remove the same entry that firstEntry() selected,
-                            // and it is probably faster than calling remove()
-                            tasks.pollFirstEntry();
-                            for (Task execTask : taskList.getValue())
-                            {
-                                execute(execTask, now);
-                            }
-                        }
-                        else
-                        {
-                            // Set the waitTime to suspend this thread until the
-                            // next task list's target time is reached
-                            waitTime = entryTime - now;
-                            break;
-                        }
-                        taskList = tasks.firstEntry();
+                        // Set the waitTime to suspend this thread until the
+                        // next non-empty bucket of the wheel expires
+                        waitTime = Math.max(1, nextExpiryTime - System.currentTimeMillis());
                     }
                     // Suspend until new tasks are added or the target time of an
-                    // existing task list is reached
-                    synchronized (tasks)
+                    // existing task is reached
+                    synchronized (newTasks)
                     {
                         if (!shutdown && newTasks.isEmpty())
                         {
-                            tasks.wait(waitTime);
+                            newTasks.wait(waitTime);
                         }
                     }
                 }
@@ -251,7 +238,7 @@ public class TaskScheduleService implements SystemService, Runnable
         }
         finally
         {
-            synchronized (tasks)
+            synchronized (newTasks)
             {
                 running = false;
             }
@@ -287,17 +274,7 @@ public class TaskScheduleService implements SystemService, Runnable
             {
                 targetTime = Long.MAX_VALUE;
             }
-            // If a task list exists for the calculated target time,
-            // add the task to the existing task list; otherwise, register
-            // a new task list for the calculated target time and
-            // add the task to the newly registered task list
-            LinkedList<Task> taskList = tasks.get(targetTime);
-            if (taskList == null)
-            {
-                taskList = new LinkedList<>();
-                tasks.put(targetTime, taskList);
-            }
-            taskList.add(task);
+            tasks.add(task, targetTime);
         }
     }
 }
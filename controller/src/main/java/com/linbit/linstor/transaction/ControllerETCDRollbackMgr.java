@@ -5,7 +5,7 @@ import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.dbdrivers.etcd.EtcdUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -68,6 +68,15 @@ public class ControllerETCDRollbackMgr
         return txList;
     }
 
+    /**
+     * Returns whether the last {@link #prepare(EtcdTransaction)} wrote rollback entries, i.e. whether the
+     * transaction had to be split into multiple ETCD transactions
+     */
+    public boolean hasRollbackEntries()
+    {
+        return !currentRollbackMap.isEmpty();
+    }
+
     public void cleanup()
     {
         FluentTxnOps<?> tmpTx = etcdDb.getKvClient().batch();
@@ -158,7 +167,9 @@ public class ControllerETCDRollbackMgr
         List<RequestOp> successList = new ArrayList<>(request.getSuccessList());
         // we do not use .elseDo(), thus we also only have success entries
 
-        HashMap<String, RequestOp> lastReqMap = new HashMap<>();
+        // keeps the order of the last request per key, so that a recursive delete and a later put below
+        // the deleted prefix end up in the same order even if they are sent in different ETCD transactions
+        LinkedHashMap<String, RequestOp> lastReqMap = new LinkedHashMap<>();
         for (RequestOp req : successList)
         {
             String key;
@@ -184,6 +195,7 @@ public class ControllerETCDRollbackMgr
             }
             if (key != null)
             {
+                lastReqMap.remove(key);
                 lastReqMap.put(key, req);
             }
         }
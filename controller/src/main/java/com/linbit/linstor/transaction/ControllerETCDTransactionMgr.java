@@ -2,6 +2,10 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.etcd.EtcdUtils;
+import com.linbit.linstor.transaction.manager.CommittedDataPublisher;
+import com.linbit.linstor.transaction.manager.DbCheckpointCounter;
 import com.linbit.linstor.transaction.manager.TransactionMgrETCD;
 
 import java.util.List;
@@ -15,12 +19,30 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
     private final TransactionObjectCollection transactionObjectCollection;
     private final int maxOpsPerTx;
     private final ControllerETCDRollbackMgr rollbackMgr;
+    private final CommittedDataPublisher committedDataPublisher;
+    private final DbCheckpointCounter checkpointCounter;
 
     private EtcdTransaction currentTransaction;
 
     public ControllerETCDTransactionMgr(ControllerETCDDatabase controllerETCDDatabase, int maxOpsPerTxRef)
+    {
+        this(controllerETCDDatabase, maxOpsPerTxRef, null, null);
+    }
+
+    /**
+     * @param committedDataPublisherRef Notified after every commit of a transaction that changed data, may be null
+     * @param checkpointCounterRef Invalidates the checkpoint counter with the first change, may be null
+     */
+    public ControllerETCDTransactionMgr(
+        ControllerETCDDatabase controllerETCDDatabase,
+        int maxOpsPerTxRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        DbCheckpointCounter checkpointCounterRef
+    )
     {
         etcdDb = controllerETCDDatabase;
+        committedDataPublisher = committedDataPublisherRef;
+        checkpointCounter = checkpointCounterRef;
         maxOpsPerTx = maxOpsPerTxRef;
         transactionObjectCollection = new TransactionObjectCollection();
         currentTransaction = createNewEtcdTx();
@@ -48,16 +70,36 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
     @Override
     public void commit() throws TransactionException
     {
-        List<FluentTxnOps<?>> txList = rollbackMgr.prepare(currentTransaction);
+        try
+        {
+            transactionObjectCollection.flushAll();
+        }
+        catch (DatabaseException dbExc)
+        {
+            currentTransaction = createNewEtcdTx();
+            throw new TransactionException("ETCD commit failed.", dbExc);
+        }
+        boolean dataWritten = currentTransaction.getKeyCount() > 0;
+        boolean invalidateCheckpoint = checkpointCounter != null && checkpointCounter.isArmed() && dataWritten;
+        if (invalidateCheckpoint)
+        {
+            currentTransaction.delete(EtcdUtils.CHECKPOINT_COUNTER_KEY, false);
+        }
 
         boolean allSucceeded = true;
         TxnResponse txnResponse = null;
-        for (FluentTxnOps<?> tx : txList)
+        // a transaction without changes does not need a round trip to the ETCD server
+        if (dataWritten)
         {
-            txnResponse = EtcdTransaction.requestWithRetry(tx);
-            if (!txnResponse.getSucceeded())
+            // the changes are sent as few multi-op ETCD transactions, each with at most maxOpsPerTx operations
+            List<FluentTxnOps<?>> txList = rollbackMgr.prepare(currentTransaction);
+            for (FluentTxnOps<?> tx : txList)
             {
-                allSucceeded = false;
+                txnResponse = EtcdTransaction.requestWithRetry(tx);
+                if (!txnResponse.getSucceeded())
+                {
+                    allSucceeded = false;
+                }
             }
         }
 
@@ -66,10 +108,21 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
             transactionObjectCollection.commitAll();
 
             clearTransactionObjects();
+            if (dataWritten)
+            {
+                dataCommitted();
+            }
+            if (invalidateCheckpoint)
+            {
+                checkpointCounter.disarm();
+            }
 
             currentTransaction = createNewEtcdTx();
 
-            rollbackMgr.cleanup();
+            if (rollbackMgr.hasRollbackEntries())
+            {
+                rollbackMgr.cleanup();
+            }
         }
         else
         {
@@ -93,6 +146,14 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
         clearTransactionObjects();
     }
 
+    private void dataCommitted()
+    {
+        if (committedDataPublisher != null)
+        {
+            committedDataPublisher.dataCommitted();
+        }
+    }
+
     /**
      * If the last run of the controller still left some rollback entries - try to
      * perform the rollback that was aborted for some reason in the previous run.
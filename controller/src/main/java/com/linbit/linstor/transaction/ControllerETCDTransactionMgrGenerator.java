@@ -2,6 +2,8 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.transaction.manager.CommittedDataPublisher;
+import com.linbit.linstor.transaction.manager.DbCheckpointCounter;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
 import javax.inject.Inject;
@@ -12,14 +14,20 @@ public class ControllerETCDTransactionMgrGenerator implements TransactionMgrGene
 {
     private final Provider<ControllerETCDDatabase> controllerDatabase;
     private final CtrlConfig ctrlCfg;
+    private final CommittedDataPublisher committedDataPublisher;
+    private final DbCheckpointCounter checkpointCounter;
 
     @Inject
     public ControllerETCDTransactionMgrGenerator(
         Provider<ControllerETCDDatabase> controllerDatabaseRef,
-        CtrlConfig ctrlCfgRef
+        CtrlConfig ctrlCfgRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        DbCheckpointCounter checkpointCounterRef
     )
     {
         ctrlCfg = ctrlCfgRef;
+        committedDataPublisher = committedDataPublisherRef;
+        checkpointCounter = checkpointCounterRef;
         controllerDatabase = controllerDatabaseRef;
     }
 
@@ -28,7 +36,9 @@ public class ControllerETCDTransactionMgrGenerator implements TransactionMgrGene
     {
         return new ControllerETCDTransactionMgr(
             controllerDatabase.get(),
-            ctrlCfg.getEtcdOperationsPerTransaction()
+            ctrlCfg.getEtcdOperationsPerTransaction(),
+            committedDataPublisher,
+            checkpointCounter
         );
     }
 }
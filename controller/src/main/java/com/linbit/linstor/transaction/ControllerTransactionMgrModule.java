@@ -1,10 +1,16 @@
 package com.linbit.linstor.transaction;
 
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
+import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgrGenerator;
+import com.linbit.linstor.transaction.manager.SQLGroupCommitter;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
+import javax.inject.Singleton;
+
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
 
 public class ControllerTransactionMgrModule extends AbstractModule
 {
@@ -29,4 +35,11 @@ public class ControllerTransactionMgrModule extends AbstractModule
             default:
         }
     }
+
+    @Provides
+    @Singleton
+    public SQLGroupCommitter createSQLGroupCommitter(ErrorReporter errorReporter, CtrlConfig ctrlCfg)
+    {
+        return new SQLGroupCommitter(errorReporter, ctrlCfg.getDbGroupCommitWindowMillis());
+    }
 }
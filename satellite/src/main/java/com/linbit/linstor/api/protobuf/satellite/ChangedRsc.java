@@ -8,8 +8,10 @@ import com.linbit.linstor.api.protobuf.ProtobufApiCall;
 import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.DeviceManager;
 import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.proto.javainternal.IntObjectIdOuterClass.IntObjectId;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscOuterClass.MsgIntApplyRsc;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
@@ -28,17 +30,20 @@ public class ChangedRsc implements ApiCallReactive
     private final DeviceManager deviceManager;
     private final ControllerPeerConnector controllerPeerConnector;
     private final ResponseSerializer responseSerializer;
+    private final StltApiCallHandler apiCallHandler;
 
     @Inject
     public ChangedRsc(
         DeviceManager deviceManagerRef,
         ControllerPeerConnector controllerPeerConnectorRef,
-        ResponseSerializer responseSerializerRef
+        ResponseSerializer responseSerializerRef,
+        StltApiCallHandler apiCallHandlerRef
     )
     {
         deviceManager = deviceManagerRef;
         controllerPeerConnector = controllerPeerConnectorRef;
         responseSerializer = responseSerializerRef;
+        apiCallHandler = apiCallHandlerRef;
     }
 
     @Override
@@ -62,11 +67,23 @@ public class ChangedRsc implements ApiCallReactive
             );
         }
 
+        boolean dataApplied = false;
+        if (msgDataIn.available() > 0)
+        {
+            // the controller pushed the data of the resource together with the notification
+            MsgIntApplyRsc applyMsg = MsgIntApplyRsc.parseDelimitedFrom(msgDataIn);
+            apiCallHandler.applyResourceChanges(
+                ApplyRsc.asRscPojo(applyMsg.getRsc(), applyMsg.getFullSyncId(), applyMsg.getUpdateId())
+            );
+            dataApplied = apiCallHandler.isUpdateApplied(applyMsg.getFullSyncId(), applyMsg.getUpdateId());
+        }
+
         return deviceManager.getUpdateTracker()
             .updateResource(
                 rscUuid,
                 rscName,
-                controllerPeerConnector.getLocalNodeName()
+                controllerPeerConnector.getLocalNodeName(),
+                dataApplied
             )
             .transform(responseSerializer::transform);
     }
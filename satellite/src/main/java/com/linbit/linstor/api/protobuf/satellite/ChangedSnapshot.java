@@ -7,9 +7,11 @@ import com.linbit.linstor.api.ApiCallReactive;
 import com.linbit.linstor.api.protobuf.ProtobufApiCall;
 import com.linbit.linstor.core.DeviceManager;
 import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.SnapshotName;
 import com.linbit.linstor.proto.javainternal.IntObjectIdOuterClass.IntObjectId;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplySnapshotOuterClass.MsgIntApplySnapshot;
 import reactor.core.publisher.Flux;
 
 import javax.inject.Inject;
@@ -27,15 +29,18 @@ public class ChangedSnapshot implements ApiCallReactive
 {
     private final DeviceManager deviceManager;
     private final ResponseSerializer responseSerializer;
+    private final StltApiCallHandler apiCallHandler;
 
     @Inject
     public ChangedSnapshot(
         DeviceManager deviceManagerRef,
-        ResponseSerializer responseSerializerRef
+        ResponseSerializer responseSerializerRef,
+        StltApiCallHandler apiCallHandlerRef
     )
     {
         deviceManager = deviceManagerRef;
         responseSerializer = responseSerializerRef;
+        apiCallHandler = apiCallHandlerRef;
     }
 
     @Override
@@ -63,11 +68,23 @@ public class ChangedSnapshot implements ApiCallReactive
             );
         }
 
+        boolean dataApplied = false;
+        if (msgDataIn.available() > 0)
+        {
+            // the controller pushed the data of the snapshot together with the notification
+            MsgIntApplySnapshot applyMsg = MsgIntApplySnapshot.parseDelimitedFrom(msgDataIn);
+            apiCallHandler.applySnapshotChanges(
+                ApplySnapshot.asSnapshotPojo(applyMsg.getSnapshot(), applyMsg.getFullSyncId(), applyMsg.getUpdateId())
+            );
+            dataApplied = apiCallHandler.isUpdateApplied(applyMsg.getFullSyncId(), applyMsg.getUpdateId());
+        }
+
         return deviceManager.getUpdateTracker()
             .updateSnapshot(
                 snapshotUuid,
                 rscName,
-                snapshotName
+                snapshotName,
+                dataApplied
             )
             .transform(responseSerializer::transform);
     }
@@ -8,12 +8,15 @@ import com.linbit.linstor.api.ApiCall;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.api.protobuf.ApiCallAnswerer;
 import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.UpdateMonitor;
 import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.satellite.authentication.AuthenticationResult;
 import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.MessageCompression;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntAuthOuterClass.MsgIntAuth;
 
@@ -39,6 +42,7 @@ public class CtrlAuth implements ApiCall
     private final CommonSerializer commonSerializer;
     private final UpdateMonitor updateMonitor;
     private final Provider<Peer> controllerPeerProvider;
+    private final ControllerPeerConnector controllerPeerConnector;
     private final ExtCmdFactory extCmdFactory;
     private final StltConfig stltConfig;
 
@@ -50,6 +54,7 @@ public class CtrlAuth implements ApiCall
         CommonSerializer commonSerializerRef,
         UpdateMonitor updateMonitorRef,
         Provider<Peer> controllerPeerProviderRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
         ExtCmdFactory extCmdFactoryRef,
         StltConfig stltConfigRef
     )
@@ -60,6 +65,7 @@ public class CtrlAuth implements ApiCall
         commonSerializer = commonSerializerRef;
         updateMonitor = updateMonitorRef;
         controllerPeerProvider = controllerPeerProviderRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
         extCmdFactory = extCmdFactoryRef;
         stltConfig = stltConfigRef;
     }
@@ -86,14 +92,29 @@ public class CtrlAuth implements ApiCall
         UUID nodeUuid = UUID.fromString(auth.getNodeUuid());
 
         Peer controllerPeer = controllerPeerProvider.get();
+        Node prevLocalNode = controllerPeerConnector.getLocalNode();
         AuthenticationResult authResult =
             apiCallHandler.authenticate(nodeUuid, nodeName, controllerPeer);
 
+        String compression = "";
         byte[] replyBytes;
         if (authResult.isAuthenticated())
         {
             // all ok, send the new fullSyncId with the AUTH_ACCEPT msg
             // additionally we also send information which layers are supported by the current satellite
+            // and which of the compression algorithms offered by the controller should be used
+            compression = MessageCompression.negotiate(auth.getSupportedCompressionList());
+
+            // report the ids of the data that was kept from the previous connection, so that the controller
+            // can decide to only send the changes since then instead of a full sync
+            long appliedFullSyncId = 0;
+            long appliedUpdateId = 0;
+            if (updateMonitor.isCurrentFullSyncApplied() && prevLocalNode != null &&
+                prevLocalNode == controllerPeerConnector.getLocalNode())
+            {
+                appliedFullSyncId = updateMonitor.getCurrentFullSyncId();
+                appliedUpdateId = updateMonitor.getCurrentAwaitedUpdateId();
+            }
 
             replyBytes = commonSerializer.headerlessBuilder()
                 .authSuccess(
@@ -113,7 +134,11 @@ public class CtrlAuth implements ApiCall
                     stltConfig.getDrbdKeepResPattern(),
                     stltConfig.getNetBindAddress(),
                     stltConfig.getNetPort(),
-                    stltConfig.getNetType()
+                    stltConfig.getNetType(),
+                    compression,
+                    appliedFullSyncId,
+                    appliedUpdateId,
+                    true
                 )
                 .build();
         }
@@ -124,11 +149,14 @@ public class CtrlAuth implements ApiCall
                 .authError(authResult.getApiCallRc())
                 .build();
         }
-        controllerPeerProvider.get().sendMessage(
+        controllerPeer.sendMessage(
             apiCallAnswerer.answerBytes(
                 replyBytes,
                 InternalApiConsts.API_AUTH_RESPONSE
             )
         );
+        // Messages are decompressed based on the message header, therefore it does not matter
+        // whether the controller receives further messages before it has processed the response
+        controllerPeer.setMessageCompression(!compression.isEmpty());
     }
 }
@@ -0,0 +1,60 @@
+package com.linbit.linstor.api.protobuf.satellite;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ApiCallAnswerer;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandlerUtils;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeltaSyncOuterClass.MsgIntApplyDeltaSync;
+import com.linbit.utils.Base64;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_DELTA_SYNC_DATA,
+    description = "Replaces the full sync if the satellite kept the data of its previous connection"
+)
+@Singleton
+public class DeltaSync implements ApiCall
+{
+    private final StltApiCallHandler apiCallHandler;
+    private final StltApiCallHandlerUtils apiCallHandlerUtils;
+    private final ApiCallAnswerer apiCallAnswerer;
+    private final Provider<Peer> controllerPeerProvider;
+
+    @Inject
+    public DeltaSync(
+        StltApiCallHandler apiCallHandlerRef,
+        StltApiCallHandlerUtils apiCallHandlerUtilsRef,
+        ApiCallAnswerer apiCallAnswererRef,
+        Provider<Peer> controllerPeerProviderRef
+    )
+    {
+        apiCallHandler = apiCallHandlerRef;
+        apiCallHandlerUtils = apiCallHandlerUtilsRef;
+        apiCallAnswerer = apiCallAnswererRef;
+        controllerPeerProvider = controllerPeerProviderRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntApplyDeltaSync applyDeltaSync = MsgIntApplyDeltaSync.parseDelimitedFrom(msgDataIn);
+
+        boolean success = apiCallHandler.applyDeltaSync(
+            applyDeltaSync.getCtrl().getPropsMap(),
+            applyDeltaSync.getFullSyncId(),
+            Base64.decode(applyDeltaSync.getMasterKey())
+        );
+
+        FullSync.sendFullSyncResponse(success, apiCallHandlerUtils, apiCallAnswerer, controllerPeerProvider.get());
+    }
+}
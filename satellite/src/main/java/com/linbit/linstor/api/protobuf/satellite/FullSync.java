@@ -14,6 +14,7 @@ import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandlerUtils;
+import com.linbit.linstor.core.apicallhandler.satellite.StltFullSyncStage;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -52,6 +53,7 @@ public class FullSync implements ApiCall
     private final ApiCallAnswerer apiCallAnswerer;
     private final ControllerPeerConnector controllerPeerConnector;
     private final Provider<Peer> controllerPeerProvider;
+    private final StltFullSyncStage fullSyncStage;
     private final ErrorReporter errorReporter;
 
     @Inject
@@ -61,6 +63,7 @@ public class FullSync implements ApiCall
         ApiCallAnswerer apiCallAnswererRef,
         ControllerPeerConnector controllerPeerConnectorRef,
         Provider<Peer> controllerPeerProviderRef,
+        StltFullSyncStage fullSyncStageRef,
         ErrorReporter errorReporterRef
     )
     {
@@ -69,6 +72,7 @@ public class FullSync implements ApiCall
         apiCallAnswerer = apiCallAnswererRef;
         controllerPeerConnector = controllerPeerConnectorRef;
         controllerPeerProvider = controllerPeerProviderRef;
+        fullSyncStage = fullSyncStageRef;
         errorReporter = errorReporterRef;
     }
 
@@ -81,27 +85,64 @@ public class FullSync implements ApiCall
         long updateId = 0;
 
         IntController msgIntControllerData = applyFullSync.getCtrl();
-        Set<NodePojo> nodes = new TreeSet<>(asNodes(applyFullSync.getNodesList(), fullSyncId, updateId));
-        Set<StorPoolPojo> storPools = new TreeSet<>(asStorPool(applyFullSync.getStorPoolsList(), fullSyncId, updateId));
-        Set<RscPojo> resources = new TreeSet<>(asResources(applyFullSync.getRscsList(), fullSyncId, updateId));
-        Set<SnapshotPojo> snapshots = new TreeSet<>(
-            asSnapshots(
-                applyFullSync.getSnapshotsList(),
-                fullSyncId,
-                updateId
-            )
-        );
+        String localNodeName = controllerPeerConnector.getLocalNode().getName().displayValue;
 
-        boolean success = apiCallHandler.applyFullSync(
-            msgIntControllerData.getPropsMap(),
-            nodes,
-            storPools,
-            resources,
-            snapshots,
-            applyFullSync.getFullSyncTimestamp(),
-            Base64.decode(applyFullSync.getMasterKey())
+        // objects that did not fit into the final message were sent in preceding chunks
+        List<StorPoolPojo> stagedStorPools = new ArrayList<>();
+        List<RscPojo> stagedResources = new ArrayList<>();
+        List<SnapshotPojo> stagedSnapshots = new ArrayList<>();
+        boolean chunksComplete = fullSyncStage.drainTo(
+            fullSyncId,
+            applyFullSync.getChunkCount(),
+            stagedStorPools,
+            stagedResources,
+            stagedSnapshots
         );
 
+        boolean success = false;
+        if (chunksComplete)
+        {
+            Set<NodePojo> nodes = new TreeSet<>(asNodes(applyFullSync.getNodesList(), fullSyncId, updateId));
+            Set<StorPoolPojo> storPools = new TreeSet<>(stagedStorPools);
+            storPools.addAll(asStorPool(applyFullSync.getStorPoolsList(), localNodeName, fullSyncId, updateId));
+            Set<RscPojo> resources = new TreeSet<>(stagedResources);
+            resources.addAll(asResources(applyFullSync.getRscsList(), fullSyncId, updateId));
+            Set<SnapshotPojo> snapshots = new TreeSet<>(stagedSnapshots);
+            snapshots.addAll(asSnapshots(applyFullSync.getSnapshotsList(), fullSyncId, updateId));
+
+            success = apiCallHandler.applyFullSync(
+                msgIntControllerData.getPropsMap(),
+                nodes,
+                storPools,
+                resources,
+                snapshots,
+                applyFullSync.getFullSyncTimestamp(),
+                Base64.decode(applyFullSync.getMasterKey())
+            );
+        }
+        else
+        {
+            errorReporter.logError(
+                "Ignoring full sync %d, expected %d chunks that were not received completely",
+                fullSyncId,
+                applyFullSync.getChunkCount()
+            );
+        }
+
+        sendFullSyncResponse(success, apiCallHandlerUtils, apiCallAnswerer, controllerPeerProvider.get());
+    }
+
+    /**
+     * Answers a full sync or delta sync, including the free space of all storage pools if it was successful
+     */
+    static void sendFullSyncResponse(
+        boolean success,
+        StltApiCallHandlerUtils apiCallHandlerUtils,
+        ApiCallAnswerer apiCallAnswerer,
+        Peer controllerPeer
+    )
+        throws IOException
+    {
         MsgIntFullSyncResponse.Builder builder = MsgIntFullSyncResponse.newBuilder();
         builder.setSuccess(success);
         if (success)
@@ -116,7 +157,7 @@ public class FullSync implements ApiCall
         }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         builder.build().writeDelimitedTo(baos);
-        controllerPeerProvider.get().sendMessage(
+        controllerPeer.sendMessage(
             apiCallAnswerer.answerBytes(
                 baos.toByteArray(),
                 InternalApiConsts.API_FULL_SYNC_RESPONSE
@@ -124,7 +165,7 @@ public class FullSync implements ApiCall
         );
     }
 
-    private ArrayList<NodePojo> asNodes(
+    private static ArrayList<NodePojo> asNodes(
         List<IntNode> nodesList,
         long fullSyncId,
         long updateId
@@ -139,14 +180,14 @@ public class FullSync implements ApiCall
         return nodes;
     }
 
-    private ArrayList<StorPoolPojo> asStorPool(
+    static ArrayList<StorPoolPojo> asStorPool(
         List<IntStorPool> storPoolsList,
+        String nodeName,
         long fullSyncId,
         long updateId
     )
     {
         ArrayList<StorPoolPojo> storPools = new ArrayList<>(storPoolsList.size());
-        String nodeName = controllerPeerConnector.getLocalNode().getName().displayValue;
         for (IntStorPool storPool : storPoolsList)
         {
             storPools.add(ApplyStorPool.asStorPoolPojo(storPool, nodeName, fullSyncId, updateId));
@@ -154,7 +195,7 @@ public class FullSync implements ApiCall
         return storPools;
     }
 
-    private ArrayList<RscPojo> asResources(
+    static ArrayList<RscPojo> asResources(
         List<IntRsc> rscsList,
         long fullSyncId,
         long updateId
@@ -168,7 +209,7 @@ public class FullSync implements ApiCall
         return rscs;
     }
 
-    private ArrayList<SnapshotPojo> asSnapshots(
+    static ArrayList<SnapshotPojo> asSnapshots(
         List<IntSnapshotOuterClass.IntSnapshot> snapshotsList,
         long fullSyncId,
         long updateId
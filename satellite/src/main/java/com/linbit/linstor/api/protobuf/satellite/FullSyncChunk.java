@@ -0,0 +1,53 @@
+package com.linbit.linstor.api.protobuf.satellite;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.apicallhandler.satellite.StltFullSyncStage;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntFullSyncChunkOuterClass.MsgIntFullSyncChunk;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_FULL_SYNC_CHUNK,
+    description = "Transfers a part of the initial data to a satellite, which is applied by the final full sync"
+)
+@Singleton
+public class FullSyncChunk implements ApiCall
+{
+    private final ControllerPeerConnector controllerPeerConnector;
+    private final StltFullSyncStage fullSyncStage;
+
+    @Inject
+    public FullSyncChunk(
+        ControllerPeerConnector controllerPeerConnectorRef,
+        StltFullSyncStage fullSyncStageRef
+    )
+    {
+        controllerPeerConnector = controllerPeerConnectorRef;
+        fullSyncStage = fullSyncStageRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntFullSyncChunk chunk = MsgIntFullSyncChunk.parseDelimitedFrom(msgDataIn);
+        long fullSyncId = chunk.getFullSyncTimestamp();
+        long updateId = 0;
+        String localNodeName = controllerPeerConnector.getLocalNode().getName().displayValue;
+
+        fullSyncStage.addChunk(
+            fullSyncId,
+            chunk.getChunkNr(),
+            FullSync.asStorPool(chunk.getStorPoolsList(), localNodeName, fullSyncId, updateId),
+            FullSync.asResources(chunk.getRscsList(), fullSyncId, updateId),
+            FullSync.asSnapshots(chunk.getSnapshotsList(), fullSyncId, updateId)
+        );
+    }
+}
@@ -124,28 +124,39 @@ public class ControllerPeerConnectorImpl implements ControllerPeerConnector
             AccessContext tmpCtx = sysCtx.clone();
             tmpCtx.getEffectivePrivs().enablePrivileges(Privilege.PRIV_SYS_ALL);
 
-            Node localNode;
             try
             {
-                localNodeName = new NodeName(nodeName);
-
-                localNode = nodeFactory.getInstanceSatellite(
-                    sysCtx,
-                    nodeUuid,
-                    localNodeName,
-                    Node.Type.SATELLITE,
-                    new Node.Flags[] {}
-                );
-
-                nodesMap.clear();
-                rscDfnMap.clear();
-                storPoolDfnMap.clear();
-                // TODO: make sure everything is cleared
-
-                nodesMap.put(localNode.getName(), localNode);
-                setControllerPeerToCurrentLocalNode();
-
-                transMgrProvider.get().commit();
+                NodeName newLocalNodeName = new NodeName(nodeName);
+                Node prevLocalNode = getLocalNode();
+                if (prevLocalNode != null && newLocalNodeName.equals(localNodeName) &&
+                    nodeUuid.equals(prevLocalNode.getUuid()))
+                {
+                    // Reconnect of the same node. Keep the data until the controller either replaces it
+                    // with a full sync or only sends the changes that happened while disconnected
+                    setControllerPeerToCurrentLocalNode();
+                }
+                else
+                {
+                    localNodeName = newLocalNodeName;
+
+                    Node localNode = nodeFactory.getInstanceSatellite(
+                        sysCtx,
+                        nodeUuid,
+                        localNodeName,
+                        Node.Type.SATELLITE,
+                        new Node.Flags[] {}
+                    );
+
+                    nodesMap.clear();
+                    rscDfnMap.clear();
+                    storPoolDfnMap.clear();
+                    // TODO: make sure everything is cleared
+
+                    nodesMap.put(localNode.getName(), localNode);
+                    setControllerPeerToCurrentLocalNode();
+
+                    transMgrProvider.get().commit();
+                }
             }
             catch (ImplementationError | TransactionException | InvalidNameException exc)
             {
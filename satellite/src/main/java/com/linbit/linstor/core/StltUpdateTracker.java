@@ -15,8 +15,29 @@ public interface StltUpdateTracker
     Flux<ApiCallRc> updateController();
     Flux<ApiCallRc> updateNode(UUID nodeUuid, NodeName name);
     Flux<ApiCallRc> updateResource(UUID rscUuid, ResourceName resourceName, NodeName nodeName);
+
+    /**
+     * @param dataApplied True if the controller pushed the data together with the notification and the data
+     *     was already applied, in which case the data is not requested from the controller
+     */
+    Flux<ApiCallRc> updateResource(
+        UUID rscUuid,
+        ResourceName resourceName,
+        NodeName nodeName,
+        boolean dataApplied
+    );
     Flux<ApiCallRc> updateStorPool(UUID storPoolUuid, StorPoolName storPoolName);
     Flux<ApiCallRc> updateSnapshot(UUID snapshotUuid, ResourceName resourceName, SnapshotName snapshotName);
 
+    /**
+     * @param dataApplied See {@link #updateResource(UUID, ResourceName, NodeName, boolean)}
+     */
+    Flux<ApiCallRc> updateSnapshot(
+        UUID snapshotUuid,
+        ResourceName resourceName,
+        SnapshotName snapshotName,
+        boolean dataApplied
+    );
+
     boolean isEmpty();
 }
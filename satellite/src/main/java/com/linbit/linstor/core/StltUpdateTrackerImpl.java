@@ -68,6 +68,17 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
         ResourceName resourceName,
         NodeName nodeName
     )
+    {
+        return updateResource(rscUuid, resourceName, nodeName, false);
+    }
+
+    @Override
+    public Flux<ApiCallRc> updateResource(
+        UUID rscUuid,
+        ResourceName resourceName,
+        NodeName nodeName,
+        boolean dataApplied
+    )
     {
         Resource.ResourceKey resourceKey = new Resource.ResourceKey(nodeName, resourceName);
         UpdateNotification updateNotification;
@@ -75,8 +86,9 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
         {
             updateNotification = cachedUpdates.rscUpdates.computeIfAbsent(
                 resourceKey,
-                ignored -> new UpdateNotification(rscUuid)
+                ignored -> new UpdateNotification(rscUuid, dataApplied)
             );
+            updateNotification.mergeDataApplied(dataApplied);
         }
         return update(updateNotification);
     }
@@ -101,6 +113,17 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
         ResourceName resourceName,
         SnapshotName snapshotName
     )
+    {
+        return updateSnapshot(snapshotUuid, resourceName, snapshotName, false);
+    }
+
+    @Override
+    public Flux<ApiCallRc> updateSnapshot(
+        UUID snapshotUuid,
+        ResourceName resourceName,
+        SnapshotName snapshotName,
+        boolean dataApplied
+    )
     {
         SnapshotDefinition.Key snapshotKey = new SnapshotDefinition.Key(resourceName, snapshotName);
         UpdateNotification updateNotification;
@@ -108,8 +131,9 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
         {
             updateNotification = cachedUpdates.snapshotUpdates.computeIfAbsent(
                 snapshotKey,
-                ignored -> new UpdateNotification(snapshotUuid)
+                ignored -> new UpdateNotification(snapshotUuid, dataApplied)
             );
+            updateNotification.mergeDataApplied(dataApplied);
         }
         return update(updateNotification);
     }
@@ -186,10 +210,19 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
 
         private final List<FluxSink<ApiCallRc>> responseSinks;
 
+        // True if the data was pushed by the controller and already applied, therefore it must not be requested
+        private boolean dataApplied;
+
         public UpdateNotification(UUID uuidRef)
+        {
+            this(uuidRef, false);
+        }
+
+        public UpdateNotification(UUID uuidRef, boolean dataAppliedRef)
         {
             uuid = uuidRef;
             responseSinks = new ArrayList<>();
+            dataApplied = dataAppliedRef;
         }
 
         public UUID getUuid()
@@ -197,6 +230,20 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
             return uuid;
         }
 
+        public boolean isDataApplied()
+        {
+            return dataApplied;
+        }
+
+        /**
+         * The data only counts as applied if it was applied for all notifications that were merged
+         * into this one, otherwise it still has to be requested
+         */
+        void mergeDataApplied(boolean dataAppliedRef)
+        {
+            dataApplied &= dataAppliedRef;
+        }
+
         public void addResponseSink(FluxSink<ApiCallRc> sink)
         {
             responseSinks.add(sink);
@@ -446,6 +446,76 @@ public class StltApiCallHandler
         return success;
     }
 
+    /**
+     * Applies a delta sync, which the controller sends instead of a full sync if this satellite kept the data
+     * of the previous connection. The changed objects are requested afterwards like any other update.
+     */
+    public boolean applyDeltaSync(
+        Map<String, String> satelliteProps,
+        long fullSyncId,
+        byte[] cryptKey
+    )
+    {
+        boolean success = false;
+        try (
+            LockGuard ls = LockGuard.createLocked(
+                reconfigurationLock.writeLock(),
+                nodesMapLock.writeLock(),
+                rscDfnMapLock.writeLock(),
+                storPoolDfnMapLock.writeLock()
+            )
+        )
+        {
+            if (updateMonitor.getCurrentFullSyncId() == fullSyncId)
+            {
+                controllerPeerConnector.setControllerPeerToCurrentLocalNode();
+
+                doApplyControllerChanges(satelliteProps);
+
+                transMgrProvider.get().commit();
+
+                errorReporter.logTrace("Delta sync with controller finished");
+
+                Node localNode = controllerPeerConnector.getLocalNode();
+                if (deviceManager != null)
+                {
+                    deviceManager.fullSyncApplied(localNode);
+                }
+
+                if (cryptKey != null && cryptKey.length > 0)
+                {
+                    stltSecObj.setCryptKey(cryptKey);
+
+                    vlmDfnHandler.decryptAllNewLuksVlmKeys(true);
+                }
+
+                whiteListPropsReconfigurator.reconfigure();
+
+                updateMonitor.setFullSyncApplied();
+
+                createWatchForPeer();
+            }
+            else
+            {
+                errorReporter.logWarning(
+                    "Ignored an incoming but outdated delta sync (%d, expected: %d)",
+                    fullSyncId,
+                    updateMonitor.getCurrentFullSyncId()
+                );
+            }
+            success = true;
+        }
+        catch (Exception | ImplementationError exc)
+        {
+            errorReporter.reportError(exc);
+
+            success = false;
+            // same as for a failed full sync, see applyFullSync
+            updateMonitor.getNextFullSyncId();
+        }
+        return success;
+    }
+
     private void checkForAlreadyKnownResources(RscPojo rsc)
     {
         /*
@@ -715,6 +785,19 @@ public class StltApiCallHandler
     }
 
 
+    /**
+     * Returns true if the update with the given ids was applied, false if it is outdated or still
+     * waiting for preceding updates
+     */
+    public boolean isUpdateApplied(long fullSyncId, long updateId)
+    {
+        synchronized (dataToApply)
+        {
+            return updateMonitor.getCurrentFullSyncId() == fullSyncId &&
+                updateMonitor.getCurrentAwaitedUpdateId() > updateId;
+        }
+    }
+
     private void applyChangedData(ApplyData data)
     {
         synchronized (dataToApply)
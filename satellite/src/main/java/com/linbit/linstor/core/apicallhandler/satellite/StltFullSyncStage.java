@@ -0,0 +1,100 @@
+package com.linbit.linstor.core.apicallhandler.satellite;
+
+import com.linbit.linstor.api.pojo.RscPojo;
+import com.linbit.linstor.api.pojo.SnapshotPojo;
+import com.linbit.linstor.api.pojo.StorPoolPojo;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the chunks of a full sync until the final full sync message arrives
+ *
+ * Each chunk is converted to pojos as soon as it is received, so that the raw message data of the
+ * previous chunks can already be released while the remaining chunks are still being transferred.
+ * Staged data of an outdated full sync is discarded as soon as a chunk of a newer full sync arrives.
+ */
+@Singleton
+public class StltFullSyncStage
+{
+    private long stagedFullSyncId = -1;
+    private int stagedChunkCount = 0;
+    private boolean chunkMissing = false;
+
+    private final List<StorPoolPojo> storPools = new ArrayList<>();
+    private final List<RscPojo> resources = new ArrayList<>();
+    private final List<SnapshotPojo> snapshots = new ArrayList<>();
+
+    @Inject
+    public StltFullSyncStage()
+    {
+    }
+
+    public synchronized void addChunk(
+        long fullSyncId,
+        int chunkNr,
+        List<StorPoolPojo> storPoolsRef,
+        List<RscPojo> resourcesRef,
+        List<SnapshotPojo> snapshotsRef
+    )
+    {
+        if (fullSyncId != stagedFullSyncId || chunkNr == 0)
+        {
+            clear();
+            stagedFullSyncId = fullSyncId;
+        }
+        if (chunkNr != stagedChunkCount)
+        {
+            chunkMissing = true;
+        }
+        ++stagedChunkCount;
+        storPools.addAll(storPoolsRef);
+        resources.addAll(resourcesRef);
+        snapshots.addAll(snapshotsRef);
+    }
+
+    /**
+     * Moves the staged data of the given full sync into the given lists and clears the stage.
+     *
+     * @return true if exactly the expected chunks of the given full sync were staged, false otherwise
+     */
+    public synchronized boolean drainTo(
+        long fullSyncId,
+        int expectedChunkCount,
+        List<StorPoolPojo> storPoolsOut,
+        List<RscPojo> resourcesOut,
+        List<SnapshotPojo> snapshotsOut
+    )
+    {
+        boolean complete;
+        if (expectedChunkCount == 0)
+        {
+            complete = true;
+        }
+        else
+        {
+            complete = fullSyncId == stagedFullSyncId && !chunkMissing && expectedChunkCount == stagedChunkCount;
+            if (complete)
+            {
+                storPoolsOut.addAll(storPools);
+                resourcesOut.addAll(resources);
+                snapshotsOut.addAll(snapshots);
+            }
+        }
+        clear();
+        stagedFullSyncId = -1;
+        return complete;
+    }
+
+    private void clear()
+    {
+        stagedChunkCount = 0;
+        chunkMissing = false;
+        storPools.clear();
+        resources.clear();
+        snapshots.clear();
+    }
+}
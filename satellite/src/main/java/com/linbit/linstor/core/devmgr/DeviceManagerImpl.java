@@ -54,6 +54,7 @@ import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 import com.linbit.locks.AtomicSyncPoint;
+import com.linbit.locks.LockStats;
 import com.linbit.locks.SyncPoint;
 import com.linbit.utils.Either;
 
@@ -78,6 +79,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.inject.Key;
@@ -98,6 +100,11 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     //          therefore no other locks should be taken while the sched lock is held, so as to avoid deadlock.
     private final Object sched = new Object();
 
+    private static final String SCHED_LOCK_NAME = "sched";
+    private static final String SCHED_LOCK_MODE = "MONITOR";
+    private static final List<String> SCHED_LOCK_DESCRIPTIONS =
+        Collections.singletonList(SCHED_LOCK_NAME + " " + SCHED_LOCK_MODE);
+
     private final AccessContext wrkCtx;
     private final ErrorReporter errLog;
 
@@ -186,6 +193,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
 
     private final DeviceHandler devHandler;
     private ResourceStateEvent resourceStateEvent;
+    private final LockStats lockStats;
 
 
     @Inject
@@ -211,7 +219,8 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         UpdateMonitor updateMonitorRef,
         ResourceStateEvent resourceStateEventRef,
         DeviceHandler deviceHandlerRef,
-        DrbdVersion drbdVersionRef
+        DrbdVersion drbdVersionRef,
+        LockStats lockStatsRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -234,6 +243,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         updateMonitor = updateMonitorRef;
         resourceStateEvent = resourceStateEventRef;
         drbdVersion = drbdVersionRef;
+        lockStats = lockStatsRef;
 
         updTracker = new StltUpdateTrackerImpl(sched, scheduler);
         svcThr = null;
@@ -308,20 +318,47 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         }
     }
 
-    @Override
-    public void drbdStateAvailable()
+    /**
+     * Runs the action while holding the sched lock, and records the wait and hold time of the sched lock
+     * for the given holder
+     */
+    private void withSchedLock(String holderName, Runnable action)
     {
+        long waitStart = System.nanoTime();
         synchronized (sched)
         {
-            stateAvailable = true;
-            // Do not wait with running the device handerls until new update notifications arrive,
-            // instead, apply all pending changes and then run the device handlers immediately
-            waitUpdFlag.set(false);
-            svcCondFlag.set(true);
-            sched.notify();
+            long acquired = System.nanoTime();
+            lockStats.recordWait(SCHED_LOCK_NAME, SCHED_LOCK_MODE, holderName, acquired - waitStart);
+            LockStats.Holder holder = lockStats.acquired(holderName, SCHED_LOCK_DESCRIPTIONS, acquired);
+            try
+            {
+                action.run();
+            }
+            finally
+            {
+                lockStats.released(holder);
+                lockStats.recordHold(SCHED_LOCK_NAME, SCHED_LOCK_MODE, holderName, System.nanoTime() - acquired);
+            }
         }
     }
 
+    @Override
+    public void drbdStateAvailable()
+    {
+        withSchedLock(
+            "drbdStateAvailable",
+            () ->
+            {
+                stateAvailable = true;
+                // Do not wait with running the device handerls until new update notifications arrive,
+                // instead, apply all pending changes and then run the device handlers immediately
+                waitUpdFlag.set(false);
+                svcCondFlag.set(true);
+                sched.notify();
+            }
+        );
+    }
+
     @Override
     public void drbdStateUnavailable()
     {
@@ -331,31 +368,37 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     @Override
     public void controllerUpdateApplied(Set<ResourceName> rscSet)
     {
-        synchronized (sched)
-        {
-            markPendingRscDispatch(rcvPendingBundle.controllerUpdate.orElse(null), rscSet);
-            rcvPendingBundle.controllerUpdate = Optional.empty();
-            sched.notify();
-        }
+        withSchedLock(
+            "controllerUpdateApplied",
+            () ->
+            {
+                markPendingRscDispatch(rcvPendingBundle.controllerUpdate.orElse(null), rscSet);
+                rcvPendingBundle.controllerUpdate = Optional.empty();
+                sched.notify();
+            }
+        );
     }
 
     @Override
     public void nodeUpdateApplied(Set<NodeName> nodeSet, Set<ResourceName> rscSet)
     {
-        synchronized (sched)
-        {
-            for (NodeName nodeName : nodeSet)
+        withSchedLock(
+            "nodeUpdateApplied",
+            () ->
             {
-                UpdateNotification updateNot = rcvPendingBundle.nodeUpdates.remove(nodeName);
+                for (NodeName nodeName : nodeSet)
+                {
+                    UpdateNotification updateNot = rcvPendingBundle.nodeUpdates.remove(nodeName);
 
-                markPendingRscDispatch(updateNot, rscSet);
-                markPendingNodeDispatch(updateNot, nodeName);
-            }
-            if (rcvPendingBundle.isEmpty())
-            {
-                sched.notify();
+                    markPendingRscDispatch(updateNot, rscSet);
+                    markPendingNodeDispatch(updateNot, nodeName);
+                }
+                if (rcvPendingBundle.isEmpty())
+                {
+                    sched.notify();
+                }
             }
-        }
+        );
     }
 
     @Override
@@ -365,65 +408,74 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         ApiCallRc responses
     )
     {
-        synchronized (sched)
-        {
-            for (StorPoolName storPoolName : storPoolSet)
+        withSchedLock(
+            "storPoolUpdateApplied",
+            () ->
             {
-                UpdateNotification updateNotification = rcvPendingBundle.storPoolUpdates.remove(storPoolName);
+                for (StorPoolName storPoolName : storPoolSet)
+                {
+                    UpdateNotification updateNotification = rcvPendingBundle.storPoolUpdates.remove(storPoolName);
 
-                markPendingRscDispatch(updateNotification, rscSet);
+                    markPendingRscDispatch(updateNotification, rscSet);
 
-                List<FluxSink<ApiCallRc>> responseSinks = updateNotification == null ?
-                    Collections.emptyList() :
-                    updateNotification.getResponseSinks();
-                for (FluxSink<ApiCallRc> responseSink : responseSinks)
+                    List<FluxSink<ApiCallRc>> responseSinks = updateNotification == null ?
+                        Collections.emptyList() :
+                        updateNotification.getResponseSinks();
+                    for (FluxSink<ApiCallRc> responseSink : responseSinks)
+                    {
+                        responseSink.next(responses);
+                    }
+                }
+                if (rcvPendingBundle.isEmpty())
                 {
-                    responseSink.next(responses);
+                    sched.notify();
                 }
             }
-            if (rcvPendingBundle.isEmpty())
-            {
-                sched.notify();
-            }
-        }
+        );
     }
 
     @Override
     public void rscUpdateApplied(Set<Resource.ResourceKey> rscKeySet)
     {
-        synchronized (sched)
-        {
-            for (Resource.ResourceKey resourceKey : rscKeySet)
-            {
-                markPendingRscDispatch(
-                    rcvPendingBundle.rscUpdates.remove(resourceKey),
-                    rscKeySet.stream().map(Resource.ResourceKey::getResourceName).collect(Collectors.toSet())
-                );
-            }
-            if (rcvPendingBundle.isEmpty())
+        withSchedLock(
+            "rscUpdateApplied",
+            () ->
             {
-                sched.notify();
+                for (Resource.ResourceKey resourceKey : rscKeySet)
+                {
+                    markPendingRscDispatch(
+                        rcvPendingBundle.rscUpdates.remove(resourceKey),
+                        rscKeySet.stream().map(Resource.ResourceKey::getResourceName).collect(Collectors.toSet())
+                    );
+                }
+                if (rcvPendingBundle.isEmpty())
+                {
+                    sched.notify();
+                }
             }
-        }
+        );
     }
 
     @Override
     public void snapshotUpdateApplied(Set<SnapshotDefinition.Key> snapshotKeySet)
     {
-        synchronized (sched)
-        {
-            for (SnapshotDefinition.Key snapshotKey : snapshotKeySet)
-            {
-                markPendingRscDispatch(
-                    rcvPendingBundle.snapshotUpdates.remove(snapshotKey),
-                    snapshotKeySet.stream().map(SnapshotDefinition.Key::getResourceName).collect(Collectors.toSet())
-                );
-            }
-            if (rcvPendingBundle.isEmpty())
+        withSchedLock(
+            "snapshotUpdateApplied",
+            () ->
             {
-                sched.notify();
+                for (SnapshotDefinition.Key snapshotKey : snapshotKeySet)
+                {
+                    markPendingRscDispatch(
+                        rcvPendingBundle.snapshotUpdates.remove(snapshotKey),
+                        snapshotKeySet.stream().map(SnapshotDefinition.Key::getResourceName).collect(Collectors.toSet())
+                    );
+                }
+                if (rcvPendingBundle.isEmpty())
+                {
+                    sched.notify();
+                }
             }
-        }
+        );
     }
 
     private void markPendingNodeDispatch(
@@ -462,21 +514,27 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     @Override
     public void markResourceForDispatch(ResourceName name)
     {
-        synchronized (sched)
-        {
-            markPendingRscDispatch(null, Collections.singleton(name));
-            sched.notify();
-        }
+        withSchedLock(
+            "markResourceForDispatch",
+            () ->
+            {
+                markPendingRscDispatch(null, Collections.singleton(name));
+                sched.notify();
+            }
+        );
     }
 
     @Override
     public void markMultipleResourcesForDispatch(Set<ResourceName> rscSet)
     {
-        synchronized (sched)
-        {
-            markPendingRscDispatch(null, rscSet);
-            sched.notify();
-        }
+        withSchedLock(
+            "markMultipleResourcesForDispatch",
+            () ->
+            {
+                markPendingRscDispatch(null, rscSet);
+                sched.notify();
+            }
+        );
     }
 
     @Override
@@ -702,23 +760,63 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     {
         errLog.logTrace("Requesting object updates from the controller");
 
-        synchronized (sched)
-        {
-            // The set of objects that are pending receipt must be initialized before
-            // sending the requests for updates, because receipt of updates races
-            // with sending update requests.
-            // Therefore, rcvPendingBundle must be prepared in the request phase
-            // before requesting the updates instead of in the collect phase.
-            updPendingBundle.copyUpdateRequestsTo(rcvPendingBundle);
-
-            // Request updates from the controller
-            requestControllerUpdates(updPendingBundle.controllerUpdate.isPresent());
-            requestNodeUpdates(extractUuids(updPendingBundle.nodeUpdates));
-            requestStorPoolUpdates(extractUuids(updPendingBundle.storPoolUpdates));
-            requestRscUpdates(extractUuids(updPendingBundle.rscUpdates));
-            requestSnapshotUpdates(extractUuids(updPendingBundle.snapshotUpdates));
+        withSchedLock(
+            "phaseRequestUpdateData",
+            () ->
+            {
+                // The set of objects that are pending receipt must be initialized before
+                // sending the requests for updates, because receipt of updates races
+                // with sending update requests.
+                // Therefore, rcvPendingBundle must be prepared in the request phase
+                // before requesting the updates instead of in the collect phase.
+                updPendingBundle.copyUpdateRequestsTo(rcvPendingBundle);
+
+                // Data that was pushed together with the notification and already applied does not have to be
+                // requested, the affected resources only have to be dispatched
+                dispatchAppliedUpdates(
+                    updPendingBundle.rscUpdates,
+                    rcvPendingBundle.rscUpdates,
+                    Resource.ResourceKey::getResourceName
+                );
+                dispatchAppliedUpdates(
+                    updPendingBundle.snapshotUpdates,
+                    rcvPendingBundle.snapshotUpdates,
+                    SnapshotDefinition.Key::getResourceName
+                );
 
-            updPendingBundle.clear();
+                // Request updates from the controller
+                requestControllerUpdates(updPendingBundle.controllerUpdate.isPresent());
+                requestNodeUpdates(extractUuids(updPendingBundle.nodeUpdates));
+                requestStorPoolUpdates(extractUuids(updPendingBundle.storPoolUpdates));
+                requestRscUpdates(extractUuids(updPendingBundle.rscUpdates));
+                requestSnapshotUpdates(extractUuids(updPendingBundle.snapshotUpdates));
+
+                updPendingBundle.clear();
+            }
+        );
+    }
+
+    // Must hold the scheduler lock ('synchronized (sched)')
+    private <K> void dispatchAppliedUpdates(
+        Map<K, UpdateNotification> updPendingMap,
+        Map<K, UpdateNotification> rcvPendingMap,
+        Function<K, ResourceName> getRscNameFct
+    )
+    {
+        Iterator<Entry<K, UpdateNotification>> updIter = updPendingMap.entrySet().iterator();
+        while (updIter.hasNext())
+        {
+            Entry<K, UpdateNotification> entry = updIter.next();
+            UpdateNotification updateNotification = entry.getValue();
+            if (updateNotification.isDataApplied())
+            {
+                updIter.remove();
+                rcvPendingMap.remove(entry.getKey());
+                markPendingRscDispatch(
+                    updateNotification,
+                    Collections.singleton(getRscNameFct.apply(entry.getKey()))
+                );
+            }
         }
     }
 
@@ -1282,10 +1380,13 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     public void notifyResourceDispatchResponse(ResourceName resourceName, ApiCallRc response)
     {
         // Remember the response and to send combined responses after DeviceHandler instances have finished
-        synchronized (sched)
-        {
-            dispatchRscResponses.put(resourceName, response);
-        }
+        withSchedLock(
+            "notifyResourceDispatchResponse",
+            () ->
+            {
+                dispatchRscResponses.put(resourceName, response);
+            }
+        );
     }
 
     @Override
@@ -1319,40 +1420,52 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     public void notifyDrbdVolumeResized(Volume vlm)
     {
         // Remember the resize to clear the flag after DeviceHandler instances have finished
-        synchronized (sched)
-        {
-            drbdResizedVlmSet.add(new VolumeDefinition.Key(vlm));
-        }
+        withSchedLock(
+            "notifyDrbdVolumeResized",
+            () ->
+            {
+                drbdResizedVlmSet.add(new VolumeDefinition.Key(vlm));
+            }
+        );
     }
 
     @Override
     public void notifyResourceDeleted(Resource rsc)
     {
         // Remember the resource for removal after the DeviceHandler instances have finished
-        synchronized (sched)
-        {
-            deletedRscSet.add(rsc.getDefinition().getName());
-        }
+        withSchedLock(
+            "notifyResourceDeleted",
+            () ->
+            {
+                deletedRscSet.add(rsc.getDefinition().getName());
+            }
+        );
     }
 
     @Override
     public void notifyVolumeDeleted(Volume vlm)
     {
         // Remember the volume for removal after the DeviceHandler instances have finished
-        synchronized (sched)
-        {
-            deletedVlmSet.add(new VolumeDefinition.Key(vlm.getKey()));
-        }
+        withSchedLock(
+            "notifyVolumeDeleted",
+            () ->
+            {
+                deletedVlmSet.add(new VolumeDefinition.Key(vlm.getKey()));
+            }
+        );
     }
 
     @Override
     public void notifySnapshotDeleted(Snapshot snapshot)
     {
         // Remember the snapshot for removal after the DeviceHandler instances have finished
-        synchronized (sched)
-        {
-            deletedSnapshotSet.add(new SnapshotDefinition.Key(snapshot.getSnapshotDefinition()));
-        }
+        withSchedLock(
+            "notifySnapshotDeleted",
+            () ->
+            {
+                deletedSnapshotSet.add(new SnapshotDefinition.Key(snapshot.getSnapshotDefinition()));
+            }
+        );
     }
 
     @Override
@@ -20,13 +20,13 @@ public class SatellitePropDriver implements PropsConDatabaseDriver
     }
 
     @Override
-    public void persist(String instanceName, String key, String value)
+    public void insert(String instanceName, Map<String, String> props)
     {
         // no-op
     }
 
     @Override
-    public void persist(String instanceName, Map<String, String> props)
+    public void update(String instanceName, Map<String, String> props)
     {
         // no-op
     }
@@ -0,0 +1,279 @@
+package com.linbit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.logging.ErrorReporter;
+
+/**
+ * Work queue that executes the tasks on a work-stealing {@link ForkJoinPool}, or optionally on virtual threads
+ *
+ * In contrast to {@link WorkerPool}, submitting and taking tasks does not contend on a single monitor.
+ * The semantics of {@link #finish()} and {@link #shutdown()}, the limit of the number of queued tasks and the
+ * closing of thread local database connections after each task are the same as in {@link WorkerPool}.
+ *
+ * With virtual threads, each task is started immediately on its own thread. The queue size then limits
+ * the number of concurrently running tasks instead, which also limits the number of database connections.
+ */
+public class WorkStealingPool implements WorkQueue
+{
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore workQueueGuard;
+    private final AtomicInteger unfinishedTasks;
+
+    private final int parallelism;
+    private final int workQueueSize;
+
+    private final ErrorReporter errorLog;
+    private final ControllerDatabase controllerDatabase;
+
+    private volatile boolean terminate;
+
+    private WorkStealingPool(
+        ExecutorService executorRef,
+        boolean virtualThreadsRef,
+        int parallelismRef,
+        int queueSize,
+        boolean fair,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabaseRef
+    )
+    {
+        executor = executorRef;
+        virtualThreads = virtualThreadsRef;
+        workQueueGuard = new Semaphore(queueSize, fair);
+        unfinishedTasks = new AtomicInteger();
+        parallelism = parallelismRef;
+        workQueueSize = queueSize;
+        errorLog = errorLogRef;
+        controllerDatabase = controllerDatabaseRef;
+        terminate = false;
+    }
+
+    /**
+     * Creates a work queue backed by a work-stealing pool with the given number of threads
+     */
+    public static WorkStealingPool initialize(
+        int parallelism,
+        int queueSize,
+        boolean fair,
+        String namePrefix,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabase
+    )
+    {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(
+            parallelism,
+            pool ->
+            {
+                ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                worker.setName(String.format("%s_%04d", namePrefix, threadIndex.getAndIncrement()));
+                return worker;
+            },
+            null,
+            // FIFO order for tasks that are never joined
+            true
+        );
+        return new WorkStealingPool(
+            forkJoinPool,
+            false,
+            parallelism,
+            queueSize,
+            fair,
+            errorLogRef,
+            controllerDatabase
+        );
+    }
+
+    /**
+     * Creates a work queue that runs each task on a new virtual thread
+     *
+     * @return The work queue, or null if the JVM does not support virtual threads
+     */
+    public static WorkStealingPool initializeVirtual(
+        int parallelism,
+        int queueSize,
+        boolean fair,
+        String namePrefix,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabase
+    )
+    {
+        ExecutorService virtualExecutor = createVirtualThreadExecutor(namePrefix);
+        WorkStealingPool pool = null;
+        if (virtualExecutor != null)
+        {
+            pool = new WorkStealingPool(
+                virtualExecutor,
+                true,
+                parallelism,
+                queueSize,
+                fair,
+                errorLogRef,
+                controllerDatabase
+            );
+        }
+        return pool;
+    }
+
+    /**
+     * Virtual threads require Java 21, the executor is therefore created by reflection
+     */
+    private static ExecutorService createVirtualThreadExecutor(String namePrefix)
+    {
+        ExecutorService virtualExecutor = null;
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix + "_", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            virtualExecutor = (ExecutorService) newExecutor.invoke(null, threadFactory);
+        }
+        catch (ReflectiveOperationException ignored)
+        {
+            // virtual threads are not supported by this JVM
+        }
+        return virtualExecutor;
+    }
+
+    @Override
+    public void submit(Runnable task)
+    {
+        workQueueGuard.acquireUninterruptibly();
+        if (terminate)
+        {
+            workQueueGuard.release();
+        }
+        else
+        {
+            unfinishedTasks.incrementAndGet();
+            try
+            {
+                executor.execute(() -> runTask(task));
+            }
+            catch (RejectedExecutionException rejectedExc)
+            {
+                // shutdown in progress
+                workQueueGuard.release();
+                taskDone();
+            }
+        }
+    }
+
+    public void finish()
+    {
+        synchronized (this)
+        {
+            while (!terminate && unfinishedTasks.get() != 0)
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException ignored)
+                {
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the pool. Queued tasks that have not been started yet are discarded, running tasks are not interrupted.
+     */
+    public void shutdown()
+    {
+        terminate = true;
+        executor.shutdown();
+        synchronized (this)
+        {
+            notifyAll();
+        }
+    }
+
+    private void runTask(Runnable task)
+    {
+        if (!virtualThreads)
+        {
+            workQueueGuard.release();
+        }
+        if (!terminate)
+        {
+            try
+            {
+                task.run();
+            }
+            catch (Exception exc)
+            {
+                errorLog.reportError(exc);
+            }
+            catch (ImplementationError implError)
+            {
+                errorLog.reportError(implError);
+            }
+        }
+        taskDone();
+        if (controllerDatabase != null)
+        {
+            if (controllerDatabase.closeAllThreadLocalConnections())
+            {
+                errorLog.reportError(
+                    new ImplementationError(
+                        String.format(
+                            "Task of class %s did not close all db connections.",
+                            task.getClass().getCanonicalName()
+                        ),
+                        null
+                    )
+                );
+            }
+        }
+        if (virtualThreads)
+        {
+            workQueueGuard.release();
+        }
+    }
+
+    private void taskDone()
+    {
+        if (unfinishedTasks.decrementAndGet() == 0)
+        {
+            synchronized (this)
+            {
+                notifyAll();
+            }
+        }
+    }
+
+    public int getThreadCount()
+    {
+        return parallelism;
+    }
+
+    public int getQueueSize()
+    {
+        return workQueueSize;
+    }
+
+    public boolean isFairQueue()
+    {
+        return workQueueGuard.isFair();
+    }
+
+    public boolean isVirtualThreads()
+    {
+        return virtualThreads;
+    }
+}
@@ -23,20 +23,74 @@ public class WorkerPoolInitializer
     // Queue size factor for the Satellite module device manager's work queue size
     private static final int STLT_WORKQ_FACTOR = 2;
 
-    public static WorkerPool createDevMgrWorkerThreadPool(
+    // Selected by the pool_type setting in the [worker] section of the satellite configuration
+    public enum PoolType
+    {
+        // fixed set of threads taking the tasks from a single shared queue, see WorkerPool
+        FIXED_THREADS,
+        // work-stealing pool, see WorkStealingPool
+        WORK_STEALING,
+        // one virtual thread per task, falls back to WORK_STEALING if the JVM has no virtual threads
+        VIRTUAL_THREADS
+    }
+
+    public static WorkQueue createDevMgrWorkerThreadPool(
         ErrorReporter errorLog,
         ControllerDatabase controllerDatabase,
         String namePrefix
     )
+    {
+        return createDevMgrWorkerThreadPool(errorLog, controllerDatabase, namePrefix, PoolType.FIXED_THREADS);
+    }
+
+    public static WorkQueue createDevMgrWorkerThreadPool(
+        ErrorReporter errorLog,
+        ControllerDatabase controllerDatabase,
+        String namePrefix,
+        PoolType poolType
+    )
     {
         int cpuCount = LinStor.CPU_COUNT;
         int thrCount = MathUtils.bounds(MIN_WORKER_COUNT, cpuCount, MAX_STLT_WORKER_COUNT);
         int qSize = thrCount * STLT_WORKQ_FACTOR;
         qSize = qSize > STLT_MIN_WORKQ_SIZE ? qSize : STLT_MIN_WORKQ_SIZE;
-        return WorkerPool.initialize(
-            thrCount, qSize, true, namePrefix, errorLog,
-            controllerDatabase
-        );
+
+        WorkQueue workQueue = null;
+        switch (poolType)
+        {
+            case FIXED_THREADS:
+                workQueue = WorkerPool.initialize(
+                    thrCount, qSize, true, namePrefix, errorLog,
+                    controllerDatabase
+                );
+                break;
+            case VIRTUAL_THREADS:
+                workQueue = WorkStealingPool.initializeVirtual(
+                    thrCount, qSize, true, namePrefix, errorLog,
+                    controllerDatabase
+                );
+                if (workQueue == null)
+                {
+                    errorLog.logWarning(
+                        "Virtual threads are not supported by this JVM, using a work-stealing pool for %s",
+                        namePrefix
+                    );
+                }
+                break;
+            case WORK_STEALING:
+                // handled below
+                break;
+            default:
+                throw new ImplementationError("Unknown worker pool type: " + poolType);
+        }
+        if (workQueue == null)
+        {
+            workQueue = WorkStealingPool.initialize(
+                thrCount, qSize, true, namePrefix, errorLog,
+                controllerDatabase
+            );
+        }
+        return workQueue;
     }
 
     private WorkerPoolInitializer()
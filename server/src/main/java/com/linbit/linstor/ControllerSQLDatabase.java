@@ -5,7 +5,8 @@ import java.sql.SQLException;
 
 public interface ControllerSQLDatabase extends ControllerDatabase
 {
-    int DEFAULT_MAX_OPEN_STMT = 100;
+    // Cached prepared statements per connection, large enough to hold the statements of all tables
+    int DEFAULT_MAX_OPEN_STMT = 1000;
 
     void setMaxOpenPreparedStatements(int maxOpen);
 
@@ -6,6 +6,8 @@ public class InternalApiConsts
     public static final String API_AUTH_RESPONSE = "AuthResponse";
 
     public static final String API_FULL_SYNC_DATA     = "FullSyncData";
+    public static final String API_FULL_SYNC_CHUNK    = "FullSyncChunk";
+    public static final String API_DELTA_SYNC_DATA    = "DeltaSyncData";
     public static final String API_FULL_SYNC_RESPONSE = "FullSyncResponse";
 
     public static final String API_CHANGED_CONTROLLER   = "ChangedController";
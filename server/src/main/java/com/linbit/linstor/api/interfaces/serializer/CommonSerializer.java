@@ -50,7 +50,11 @@ public interface CommonSerializer
             Pattern drbdKeepResPattern,
             String netBindAddress,
             Integer netPort,
-            String netType
+            String netType,
+            String compression,
+            long appliedFullSyncId,
+            long appliedUpdateId,
+            boolean pushedUpdates
         );
 
         CommonSerializerBuilder bytes(byte[] bytes);
@@ -42,7 +42,12 @@ public interface CtrlStltSerializer extends CommonSerializer
          */
         CtrlStltSerializerBuilder primaryRequest(String rscName, String rscUuid, boolean alreadyInitialized);
 
-        CtrlStltSerializerBuilder authMessage(UUID nodeUuid, String nodeName, byte[] sharedSecret);
+        CtrlStltSerializerBuilder authMessage(
+            UUID nodeUuid,
+            String nodeName,
+            byte[] sharedSecret,
+            List<String> supportedCompression
+        );
 
         CtrlStltSerializerBuilder changedNode(UUID nodeUuid, String nodeName);
         CtrlStltSerializerBuilder changedResource(UUID rscUuid, String rscName);
@@ -75,7 +80,16 @@ public interface CtrlStltSerializer extends CommonSerializer
             Set<StorPool> storPools,
             Set<Resource> resources,
             Set<Snapshot> snapshots, long timestamp,
-            long updateId
+            long updateId,
+            int chunkCount
+        );
+        CtrlStltSerializerBuilder deltaSync(long fullSyncId);
+        CtrlStltSerializerBuilder fullSyncChunk(
+            Collection<StorPool> storPools,
+            Collection<Resource> resources,
+            Collection<Snapshot> snapshots,
+            long timestamp,
+            int chunkNr
         );
 
         /*
@@ -296,7 +296,11 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
         Pattern drbdKeepResPattern,
         String netBindAddress,
         Integer netPort,
-        String netType
+        String netType,
+        String compression,
+        long appliedFullSyncId,
+        long appliedUpdateId,
+        boolean pushedUpdates
     )
     {
         try
@@ -338,6 +342,10 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
                     )
                 )
                 .setNodeUname(uname)
+                .setCompression(compression)
+                .setAppliedFullSyncId(appliedFullSyncId)
+                .setAppliedUpdateId(appliedUpdateId)
+                .setPushedUpdates(pushedUpdates)
                 .build()
                 .writeDelimitedTo(baos);
         }
@@ -44,11 +44,13 @@ import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyControllerOuterClass
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedNodeOuterClass.MsgIntApplyDeletedNode;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedRscOuterClass.MsgIntApplyDeletedRsc;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedStorPoolOuterClass.MsgIntApplyDeletedStorPool;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeltaSyncOuterClass.MsgIntApplyDeltaSync;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyFullSyncOuterClass.MsgIntApplyFullSync;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyNodeOuterClass.MsgIntApplyNode;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscOuterClass.MsgIntApplyRsc;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplySnapshotOuterClass.MsgIntApplySnapshot;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyStorPoolOuterClass.MsgIntApplyStorPool;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntFullSyncChunkOuterClass.MsgIntFullSyncChunk;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntAuthOuterClass;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntCryptKeyOuterClass.MsgIntCryptKey;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntSnapshotEndedDataOuterClass;
@@ -116,7 +118,12 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
      * Controller -> Satellite
      */
     @Override
-    public ProtoCtrlStltSerializerBuilder authMessage(UUID nodeUuid, String nodeName, byte[] sharedSecret)
+    public ProtoCtrlStltSerializerBuilder authMessage(
+        UUID nodeUuid,
+        String nodeName,
+        byte[] sharedSecret,
+        List<String> supportedCompression
+    )
     {
         try
         {
@@ -124,6 +131,7 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 .setNodeUuid(nodeUuid.toString())
                 .setNodeName(nodeName)
                 .setSharedSecret(ByteString.copyFrom(sharedSecret))
+                .addAllSupportedCompression(supportedCompression)
                 .build()
                 .writeDelimitedTo(baos);
         }
@@ -423,15 +431,13 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         Set<Resource> resources,
         Set<Snapshot> snapshots,
         long fullSyncTimestamp,
-        long updateId
+        long updateId,
+        int chunkCount
     )
     {
         try
         {
             ArrayList<IntNode> serializedNodes = new ArrayList<>();
-            ArrayList<IntStorPool> serializedStorPools = new ArrayList<>();
-            ArrayList<IntRsc> serializedRscs = new ArrayList<>();
-            ArrayList<IntSnapshot> serializedSnapshots = new ArrayList<>();
 
             IntController serializedCtrl = ctrlSerializerHelper.buildControllerDataMsg();
 
@@ -444,23 +450,9 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                     nodeSerializerHelper.buildNodeMsg(node, nodes)
                 );
             }
-            for (StorPool storPool : storPools)
-            {
-                serializedStorPools.add(
-                    buildIntStorPoolMsg(storPool)
-                );
-            }
-            for (Resource rsc : resources)
-            {
-                if (rsc.iterateVolumes().hasNext())
-                {
-                    serializedRscs.add(rscSerializerHelper.buildIntResource(rsc));
-                }
-            }
-            for (Snapshot snapshot : snapshots)
-            {
-                serializedSnapshots.add(snapshotSerializerHelper.buildSnapshotMsg(snapshot));
-            }
+            ArrayList<IntStorPool> serializedStorPools = buildIntStorPoolMsgs(storPools);
+            ArrayList<IntRsc> serializedRscs = buildFullSyncRscMsgs(resources);
+            ArrayList<IntSnapshot> serializedSnapshots = buildSnapshotMsgs(snapshots);
 
             String encodedMasterKey = "";
             byte[] cryptKey = secObjs.getCryptKey();
@@ -476,6 +468,63 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 .setFullSyncTimestamp(fullSyncTimestamp)
                 .setMasterKey(encodedMasterKey)
                 .setCtrl(serializedCtrl)
+                .setChunkCount(chunkCount)
+                .build()
+                .writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        catch (AccessDeniedException exc)
+        {
+            handleAccessDeniedException(exc);
+        }
+        return this;
+    }
+
+    @Override
+    public ProtoCtrlStltSerializerBuilder deltaSync(long fullSyncId)
+    {
+        try
+        {
+            String encodedMasterKey = "";
+            byte[] cryptKey = secObjs.getCryptKey();
+            if (cryptKey != null)
+            {
+                encodedMasterKey = Base64.encode(cryptKey);
+            }
+            MsgIntApplyDeltaSync.newBuilder()
+                .setFullSyncId(fullSyncId)
+                .setMasterKey(encodedMasterKey)
+                .setCtrl(ctrlSerializerHelper.buildControllerDataMsg())
+                .build()
+                .writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
+    @Override
+    public ProtoCtrlStltSerializerBuilder fullSyncChunk(
+        Collection<StorPool> storPools,
+        Collection<Resource> resources,
+        Collection<Snapshot> snapshots,
+        long fullSyncTimestamp,
+        int chunkNr
+    )
+    {
+        try
+        {
+            MsgIntFullSyncChunk.newBuilder()
+                .addAllStorPools(buildIntStorPoolMsgs(storPools))
+                .addAllRscs(buildFullSyncRscMsgs(resources))
+                .addAllSnapshots(buildSnapshotMsgs(snapshots))
+                .setFullSyncTimestamp(fullSyncTimestamp)
+                .setChunkNr(chunkNr)
                 .build()
                 .writeDelimitedTo(baos);
         }
@@ -490,6 +539,44 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    private ArrayList<IntStorPool> buildIntStorPoolMsgs(Collection<StorPool> storPools)
+        throws AccessDeniedException
+    {
+        ArrayList<IntStorPool> serializedStorPools = new ArrayList<>(storPools.size());
+        for (StorPool storPool : storPools)
+        {
+            serializedStorPools.add(
+                buildIntStorPoolMsg(storPool)
+            );
+        }
+        return serializedStorPools;
+    }
+
+    private ArrayList<IntRsc> buildFullSyncRscMsgs(Collection<Resource> resources)
+        throws AccessDeniedException
+    {
+        ArrayList<IntRsc> serializedRscs = new ArrayList<>(resources.size());
+        for (Resource rsc : resources)
+        {
+            if (rsc.iterateVolumes().hasNext())
+            {
+                serializedRscs.add(rscSerializerHelper.buildIntResource(rsc));
+            }
+        }
+        return serializedRscs;
+    }
+
+    private ArrayList<IntSnapshot> buildSnapshotMsgs(Collection<Snapshot> snapshots)
+        throws AccessDeniedException
+    {
+        ArrayList<IntSnapshot> serializedSnapshots = new ArrayList<>(snapshots.size());
+        for (Snapshot snapshot : snapshots)
+        {
+            serializedSnapshots.add(snapshotSerializerHelper.buildSnapshotMsg(snapshot));
+        }
+        return serializedSnapshots;
+    }
+
     /*
      * Satellite -> Controller
      */
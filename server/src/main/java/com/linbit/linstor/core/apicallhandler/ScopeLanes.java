@@ -0,0 +1,153 @@
+package com.linbit.linstor.core.apicallhandler;
+
+import com.linbit.linstor.core.LinStor;
+import com.linbit.utils.LatencyHistogram;
+import com.linbit.utils.MathUtils;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Separate bounded schedulers for the scopes of the {@link ScopeRunner}
+ *
+ * Quick transactionless reads (e.g. list requests) do not queue behind long transactional writes, and
+ * neither of them queues behind background operations. Each lane has its own thread limit and task queue
+ * limit, and records the time the scopes were queued before they could run.
+ *
+ * Only the scopes of REST requests and of background operations run on the lanes. The scopes of connected
+ * peers keep running on the subscribing thread, so that the messages of a peer stay in order.
+ */
+@Singleton
+public class ScopeLanes
+{
+    private static final int MAX_QUEUED_TASKS = 10_000;
+
+    public enum LaneType
+    {
+        READ,
+        WRITE,
+        BACKGROUND
+    }
+
+    private final Map<LaneType, Lane> lanes;
+
+    @Inject
+    public ScopeLanes()
+    {
+        int cpuCount = LinStor.CPU_COUNT;
+        lanes = new EnumMap<>(LaneType.class);
+        lanes.put(LaneType.READ, new Lane(LaneType.READ, MathUtils.bounds(4, cpuCount * 2, 32)));
+        lanes.put(LaneType.WRITE, new Lane(LaneType.WRITE, MathUtils.bounds(2, cpuCount, 16)));
+        lanes.put(LaneType.BACKGROUND, new Lane(LaneType.BACKGROUND, MathUtils.bounds(2, cpuCount / 2, 8)));
+    }
+
+    /**
+     * @param transactional Whether the scope runs in a transaction
+     * @param background Whether the scope belongs to a background operation instead of a REST request
+     */
+    public Lane getLane(boolean transactional, boolean background)
+    {
+        LaneType laneType;
+        if (background)
+        {
+            laneType = LaneType.BACKGROUND;
+        }
+        else
+        if (transactional)
+        {
+            laneType = LaneType.WRITE;
+        }
+        else
+        {
+            laneType = LaneType.READ;
+        }
+        return lanes.get(laneType);
+    }
+
+    public List<Lane> getLanes()
+    {
+        return new ArrayList<>(lanes.values());
+    }
+
+    public static class Lane
+    {
+        private final LaneType laneType;
+        private final int maxThreads;
+        private final Scheduler scheduler;
+        private final LatencyHistogram queueTimeHistogram = new LatencyHistogram();
+        private final AtomicInteger runningCount = new AtomicInteger();
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        Lane(LaneType laneTypeRef, int maxThreadsRef)
+        {
+            laneType = laneTypeRef;
+            maxThreads = maxThreadsRef;
+            scheduler = Schedulers.newBoundedElastic(
+                maxThreads,
+                MAX_QUEUED_TASKS,
+                "ScopeLane-" + laneType.name().toLowerCase()
+            );
+        }
+
+        /**
+         * Must be called when a scope starts running on the lane, followed by {@link #finished()}
+         *
+         * @param queuedNanos The {@link System#nanoTime()} when the scope was submitted to the lane
+         */
+        void started(long queuedNanos)
+        {
+            queueTimeHistogram.record(System.nanoTime() - queuedNanos);
+            runningCount.incrementAndGet();
+        }
+
+        void finished()
+        {
+            runningCount.decrementAndGet();
+        }
+
+        void rejected()
+        {
+            rejectedCount.incrementAndGet();
+        }
+
+        Scheduler getScheduler()
+        {
+            return scheduler;
+        }
+
+        public LaneType getLaneType()
+        {
+            return laneType;
+        }
+
+        public int getMaxThreads()
+        {
+            return maxThreads;
+        }
+
+        public LatencyHistogram getQueueTimeHistogram()
+        {
+            return queueTimeHistogram;
+        }
+
+        public int getRunningCount()
+        {
+            return runningCount.get();
+        }
+
+        public long getRejectedCount()
+        {
+            return rejectedCount.get();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.PeerREST;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
@@ -17,6 +18,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import com.google.inject.Key;
@@ -32,17 +34,20 @@ public class ScopeRunner
     private final ErrorReporter errorLog;
     private final TransactionMgrGenerator transactionMgrGenerator;
     private final LinStorScope apiCallScope;
+    private final ScopeLanes scopeLanes;
 
     @Inject
     public ScopeRunner(
         ErrorReporter errorLogRef,
         TransactionMgrGenerator transactionMgrGeneratorRef,
-        LinStorScope apiCallScopeRef
+        LinStorScope apiCallScopeRef,
+        ScopeLanes scopeLanesRef
     )
     {
         errorLog = errorLogRef;
         transactionMgrGenerator = transactionMgrGeneratorRef;
         apiCallScope = apiCallScopeRef;
+        scopeLanes = scopeLanesRef;
     }
 
     public <T> Flux<T> fluxInTransactionalScope(
@@ -63,6 +68,12 @@ public class ScopeRunner
         return fluxInScope(scopeDescription, lockGuard, callable, false);
     }
 
+    /**
+     * Runs the scope on the lane that matches the kind of the scope, see {@link ScopeLanes}
+     *
+     * Scopes that run for a connected peer, such as the scopes of its messages, run on the subscribing thread
+     * instead, as the messages of a peer have to be processed in the order they were received.
+     */
     public <T> Flux<T> fluxInScope(
         String scopeDescription,
         LockGuard lockGuard,
@@ -71,13 +82,64 @@ public class ScopeRunner
     )
     {
         return Mono.subscriberContext()
-            .flatMapMany(subscriberContext -> Mono
-                .fromCallable(() -> doInScope(subscriberContext, scopeDescription, lockGuard, callable, transactional))
-                .flatMapMany(Function.identity())
+            .flatMapMany(subscriberContext ->
+                {
+                    Flux<T> scopeFlux;
+                    Peer peer = subscriberContext.getOrDefault(Peer.class, null);
+                    if (peer != null && !(peer instanceof PeerREST))
+                    {
+                        scopeFlux = Mono
+                            .fromCallable(() ->
+                                doInScope(subscriberContext, scopeDescription, lockGuard, callable, transactional)
+                            )
+                            .flatMapMany(Function.identity());
+                    }
+                    else
+                    {
+                        scopeFlux = fluxOnLane(
+                            subscriberContext,
+                            scopeDescription,
+                            lockGuard,
+                            callable,
+                            transactional,
+                            scopeLanes.getLane(transactional, peer == null)
+                        );
+                    }
+                    return scopeFlux;
+                }
             )
             .checkpoint(scopeDescription);
     }
 
+    private <T> Flux<T> fluxOnLane(
+        Context subscriberContext,
+        String scopeDescription,
+        LockGuard lockGuard,
+        Callable<Flux<T>> callable,
+        boolean transactional,
+        ScopeLanes.Lane lane
+    )
+    {
+        long queuedNanos = System.nanoTime();
+        return Mono
+            .fromCallable(() ->
+                {
+                    lane.started(queuedNanos);
+                    try
+                    {
+                        return doInScope(subscriberContext, scopeDescription, lockGuard, callable, transactional);
+                    }
+                    finally
+                    {
+                        lane.finished();
+                    }
+                }
+            )
+            .subscribeOn(lane.getScheduler())
+            .doOnError(RejectedExecutionException.class, ignored -> lane.rejected())
+            .flatMapMany(Function.identity());
+    }
+
     private <T> Flux<T> doInScope(
         Context subscriberContext,
         String scopeDescription,
@@ -125,7 +187,7 @@ public class ScopeRunner
         TransactionMgr transMgr = transactional ? transactionMgrGenerator.startTransaction() : null;
 
         apiCallScope.enter();
-        lockGuard.lock();
+        lockGuard.lock(apiCallName);
         try
         {
             apiCallScope.seed(Key.get(AccessContext.class, PeerContext.class), accCtx);
@@ -1,5 +1,6 @@
 package com.linbit.linstor.core.cfg;
 
+import com.linbit.WorkerPoolInitializer.PoolType;
 import com.linbit.linstor.InternalApiConsts;
 
 import java.nio.file.Files;
@@ -28,6 +29,8 @@ public class StltConfig extends LinstorConfig
     private String netSecureTruststorePassword;
     private String netSecureSslProtocol;
 
+    private PoolType workerPoolType;
+
     public StltConfig(String[] argsRef)
     {
         super(argsRef);
@@ -51,6 +54,8 @@ public class StltConfig extends LinstorConfig
         setNetType("plain");
 
         setNetSecureSslProtocol("TLSv1.2");
+
+        setWorkerPoolType(PoolType.FIXED_THREADS);
     }
 
     @Override
@@ -257,4 +262,17 @@ public class StltConfig extends LinstorConfig
             netType = netTypeRef;
         }
     }
+
+    public PoolType getWorkerPoolType()
+    {
+        return workerPoolType;
+    }
+
+    public void setWorkerPoolType(PoolType workerPoolTypeRef)
+    {
+        if (workerPoolTypeRef != null)
+        {
+            workerPoolType = workerPoolTypeRef;
+        }
+    }
 }
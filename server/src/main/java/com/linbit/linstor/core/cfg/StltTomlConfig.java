@@ -1,5 +1,7 @@
 package com.linbit.linstor.core.cfg;
 
+import com.linbit.WorkerPoolInitializer.PoolType;
+
 public class StltTomlConfig
 {
     public static class NETCOM
@@ -43,12 +45,24 @@ public class StltTomlConfig
         }
     }
 
+    public static class Worker
+    {
+        private PoolType pool_type;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setWorkerPoolType(pool_type);
+        }
+    }
+
     private NETCOM netcom = new NETCOM();
     private Logging logging = new Logging();
+    private Worker worker = new Worker();
 
     public void applyTo(StltConfig cfg)
     {
         netcom.applyTo(cfg);
         logging.applyTo(cfg);
+        worker.applyTo(cfg);
     }
 }
@@ -0,0 +1,134 @@
+package com.linbit.linstor.dbdrivers;
+
+import com.linbit.ImplementationError;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+/**
+ * The parameters of a prepared statement, recorded so that the statement can be executed later
+ *
+ * The values are captured when they are set, so later changes of the persisted objects do not affect the
+ * recorded statement.
+ */
+public class SQLStatementParameters
+{
+    private enum Kind
+    {
+        NULL,
+        BYTES,
+        STRING,
+        LONG,
+        INT,
+        SHORT,
+        BOOLEAN,
+        OBJECT,
+        TYPED_OBJECT
+    }
+
+    private final ArrayList<Parameter> params = new ArrayList<>();
+
+    public void setNull(int idx, int sqlType)
+    {
+        params.add(new Parameter(Kind.NULL, idx, null, sqlType));
+    }
+
+    public void setBytes(int idx, byte[] value)
+    {
+        params.add(new Parameter(Kind.BYTES, idx, value, 0));
+    }
+
+    public void setString(int idx, String value)
+    {
+        params.add(new Parameter(Kind.STRING, idx, value, 0));
+    }
+
+    public void setLong(int idx, long value)
+    {
+        params.add(new Parameter(Kind.LONG, idx, value, 0));
+    }
+
+    public void setInt(int idx, int value)
+    {
+        params.add(new Parameter(Kind.INT, idx, value, 0));
+    }
+
+    public void setShort(int idx, short value)
+    {
+        params.add(new Parameter(Kind.SHORT, idx, value, 0));
+    }
+
+    public void setBoolean(int idx, boolean value)
+    {
+        params.add(new Parameter(Kind.BOOLEAN, idx, value, 0));
+    }
+
+    public void setObject(int idx, Object value)
+    {
+        params.add(new Parameter(Kind.OBJECT, idx, value, 0));
+    }
+
+    public void setObject(int idx, Object value, int sqlType)
+    {
+        params.add(new Parameter(Kind.TYPED_OBJECT, idx, value, sqlType));
+    }
+
+    /**
+     * Sets the recorded parameters on the given statement
+     */
+    public void bind(PreparedStatement stmt) throws SQLException
+    {
+        for (Parameter param : params)
+        {
+            switch (param.kind)
+            {
+                case NULL:
+                    stmt.setNull(param.idx, param.sqlType);
+                    break;
+                case BYTES:
+                    stmt.setBytes(param.idx, (byte[]) param.value);
+                    break;
+                case STRING:
+                    stmt.setString(param.idx, (String) param.value);
+                    break;
+                case LONG:
+                    stmt.setLong(param.idx, (Long) param.value);
+                    break;
+                case INT:
+                    stmt.setInt(param.idx, (Integer) param.value);
+                    break;
+                case SHORT:
+                    stmt.setShort(param.idx, (Short) param.value);
+                    break;
+                case BOOLEAN:
+                    stmt.setBoolean(param.idx, (Boolean) param.value);
+                    break;
+                case OBJECT:
+                    stmt.setObject(param.idx, param.value);
+                    break;
+                case TYPED_OBJECT:
+                    stmt.setObject(param.idx, param.value, param.sqlType);
+                    break;
+                default:
+                    throw new ImplementationError("Unknown parameter kind: " + param.kind);
+            }
+        }
+    }
+
+    private static class Parameter
+    {
+        private final Kind kind;
+        private final int idx;
+        private final Object value;
+        private final int sqlType;
+
+        Parameter(Kind kindRef, int idxRef, Object valueRef, int sqlTypeRef)
+        {
+            kind = kindRef;
+            idx = idxRef;
+            value = valueRef;
+            sqlType = sqlTypeRef;
+        }
+    }
+}
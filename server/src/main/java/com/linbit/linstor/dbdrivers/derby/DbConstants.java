@@ -53,6 +53,7 @@ public class DbConstants
     public static final String TBL_LAYER_CACHE_VOLUMES = "LAYER_CACHE_VOLUMES";
     public static final String TBL_RESOURCE_GROUPS       = "RESOURCE_GROUPS";
     public static final String TBL_VOLUME_GROUPS         = "VOLUME_GROUPS";
+    public static final String TBL_DB_CHECKPOINT         = "DB_CHECKPOINT";
 
     // SEC_CONFIGURATION column names
     public static final String ENTRY_KEY     = "ENTRY_KEY";
@@ -200,6 +201,9 @@ public class DbConstants
     public static final String ALLOWED_PROVIDER_LIST      = "ALLOWED_PROVIDER_LIST";
     public static final String DISKLESS_ON_REMAINING      = "DISKLESS_ON_REMAINING";
 
+    // DB_CHECKPOINT column names
+    public static final String CHANGE_COUNTER = "CHANGE_COUNTER";
+
     private DbConstants()
     {
     }
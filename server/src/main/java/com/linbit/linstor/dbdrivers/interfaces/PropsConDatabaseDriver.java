@@ -21,18 +21,18 @@ public interface PropsConDatabaseDriver
     Map<String, String> loadAll(String instanceName) throws DatabaseException;
 
     /**
-     * Performs an insert or update for the given key/value pair
+     * Inserts the given key/value pairs, none of the keys may exist in the database yet
      *
      * @throws DatabaseException
      */
-    void persist(String instanceName, String key, String value) throws DatabaseException;
+    void insert(String instanceName, Map<String, String> props) throws DatabaseException;
 
     /**
-     * Performs an insert or update for the given key/value pairs
+     * Updates the values of the given keys, all of the keys must already exist in the database
      *
      * @throws DatabaseException
      */
-    void persist(String instanceName, Map<String, String> props) throws DatabaseException;
+    void update(String instanceName, Map<String, String> props) throws DatabaseException;
 
     /**
      * Removes the given key from the database
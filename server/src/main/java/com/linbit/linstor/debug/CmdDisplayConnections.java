@@ -7,13 +7,18 @@ import com.linbit.linstor.ControllerPeerCtx;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.netcom.MessageBufferPool;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.TcpConnector;
+import com.linbit.linstor.netcom.ssl.SslCryptoExecutor;
+import com.linbit.linstor.netcom.ssl.SslTcpConnectorService;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.Identity;
 import com.linbit.linstor.security.Privilege;
 import com.linbit.linstor.security.PrivilegeSet;
 import com.linbit.linstor.security.Role;
 import com.linbit.linstor.security.SecurityType;
+import com.linbit.utils.LatencyHistogram;
 
 import java.io.PrintStream;
 import java.net.InetAddress;
@@ -22,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -41,6 +47,7 @@ public class CmdDisplayConnections extends BaseDebugCmd
     private static final String PRM_DETAIL_CTXT     = "CONTEXT";
     private static final String PRM_DETAIL_PRIVS    = "PRIVS";
     private static final String PRM_DETAIL_PENDING  = "PENDING";
+    private static final String PRM_DETAIL_RPC      = "RPC";
     private static final String PRM_DETAIL_FULL     = "FULL";
 
     private static final String PRM_CONNECTOR_MATCH = "CONNECTOR";
@@ -74,6 +81,8 @@ public class CmdDisplayConnections extends BaseDebugCmd
             "        This option implies the ID option, because pending connections can be in a state\n" +
             "        where the endpoint addresses are unknown, so the connection can only be identified\n" +
             "        by its connection ID\n" +
+            "    RPC\n" +
+            "        Displays outstanding API calls and the round-trip latencies of answered API calls\n" +
             "    FULL\n" +
             "        Displays all available information\n"
         );
@@ -127,6 +136,7 @@ public class CmdDisplayConnections extends BaseDebugCmd
         boolean detailContext   = false;
         boolean detailPrivs     = false;
         boolean detailPending   = false;
+        boolean detailRpc       = false;
 
         try
         {
@@ -160,6 +170,9 @@ public class CmdDisplayConnections extends BaseDebugCmd
                             detailPending = true;
                             detailId = true;
                             break;
+                        case PRM_DETAIL_RPC:
+                            detailRpc = true;
+                            break;
                         case PRM_DETAIL_FULL:
                             detailId = true;
                             detailStats = true;
@@ -167,6 +180,7 @@ public class CmdDisplayConnections extends BaseDebugCmd
                             detailContext = true;
                             detailPending = true;
                             detailPrivs = true;
+                            detailRpc = true;
                             break;
                         case PRM_DETAIL_DFLT:
                             // fall-through
@@ -263,6 +277,17 @@ public class CmdDisplayConnections extends BaseDebugCmd
                                     curPeer.outQueueCount(), curPeer.outQueueCapacity(),
                                     curPeer.msgRecvMaxSize(), curPeer.msgSentMaxSize()
                                 );
+                                debugOut.printf(
+                                    "    OutQBytes: %10d  QByteCap: %10d  Deferred: %5d  " +
+                                    "Coalesced: %8d  Dropped: %8d\n",
+                                    curPeer.outQueueBytes(), curPeer.outQueueByteCapacity(),
+                                    curPeer.outQueueDeferredCount(),
+                                    curPeer.msgCoalescedCount(), curPeer.msgDroppedCount()
+                                );
+                            }
+                            if (detailRpc)
+                            {
+                                printRpcStats(debugOut, curPeer);
                             }
                             if (detailId)
                             {
@@ -345,6 +370,11 @@ public class CmdDisplayConnections extends BaseDebugCmd
                     totalFormat = "%d active connections\n";
                 }
                 debugOut.printf(totalFormat, total);
+
+                if (detailStats)
+                {
+                    printConnectorStats(debugOut, peerList);
+                }
             }
             else
             {
@@ -368,6 +398,7 @@ public class CmdDisplayConnections extends BaseDebugCmd
                     "    " + PRM_DETAIL_CONN + "\n" +
                     "    " + PRM_DETAIL_CTXT + "\n" +
                     "    " + PRM_DETAIL_PRIVS + "\n" +
+                    "    " + PRM_DETAIL_RPC + "\n" +
                     "    " + PRM_DETAIL_FULL
                 )
             );
@@ -378,6 +409,74 @@ public class CmdDisplayConnections extends BaseDebugCmd
         }
     }
 
+    private void printRpcStats(PrintStream debugOut, Peer curPeer)
+    {
+        debugOut.printf(
+            "    OpenRpcs: %5d  OldestRpcAge: %8d ms\n",
+            curPeer.openRpcCount(), curPeer.oldestOpenRpcAgeMillis()
+        );
+        for (Map.Entry<String, LatencyHistogram> entry :
+            curPeer.getRpcLatencyStats().getHistograms().entrySet())
+        {
+            LatencyHistogram histogram = entry.getValue();
+            long count = histogram.getCount();
+            debugOut.printf(
+                "    %-32s Count: %8d  Avg: %8d ms  P50: <%8s ms  P99: <%8s ms\n",
+                entry.getKey(),
+                count,
+                count > 0 ? TimeUnit.NANOSECONDS.toMillis(histogram.getSumNanos() / count) : 0,
+                formatBucketBound(histogram.getPercentileBoundMillis(50)),
+                formatBucketBound(histogram.getPercentileBoundMillis(99))
+            );
+        }
+    }
+
+    private String formatBucketBound(long boundMillis)
+    {
+        return boundMillis == Long.MAX_VALUE ? "inf" : Long.toString(boundMillis);
+    }
+
+    private void printConnectorStats(PrintStream debugOut, Map<String, Peer> peerList)
+    {
+        Map<String, TcpConnector> connectors = new TreeMap<>();
+        for (Peer curPeer : peerList.values())
+        {
+            TcpConnector connector = curPeer.getConnector();
+            ServiceName connectorInstance = curPeer.getConnectorInstanceName();
+            if (connector != null && connectorInstance != null)
+            {
+                connectors.put(connectorInstance.displayValue, connector);
+            }
+        }
+        for (Map.Entry<String, TcpConnector> entry : connectors.entrySet())
+        {
+            MessageBufferPool bufferPool = entry.getValue().getMessageBufferPool();
+            if (bufferPool != null)
+            {
+                debugOut.printf(
+                    "Receive buffers %-24s Hits: %10d  Misses: %10d  Discarded: %10d  Pooled: %10d bytes\n",
+                    entry.getKey(),
+                    bufferPool.getHitCount(), bufferPool.getMissCount(),
+                    bufferPool.getDiscardCount(), bufferPool.getPooledBytes()
+                );
+            }
+            if (entry.getValue() instanceof SslTcpConnectorService)
+            {
+                SslCryptoExecutor cryptoExecutor = ((SslTcpConnectorService) entry.getValue()).getCryptoExecutor();
+                long handshakeCount = cryptoExecutor.getHandshakeCount();
+                debugOut.printf(
+                    "SSL crypto      %-24s Threads: %3d  Active: %3d  Queued: %6d  " +
+                    "Handshakes: %8d  Failed: %8d  Avg: %6d ms  Max: %6d ms\n",
+                    entry.getKey(),
+                    cryptoExecutor.getThreadCount(), cryptoExecutor.getActiveCount(), cryptoExecutor.getQueueDepth(),
+                    handshakeCount, cryptoExecutor.getHandshakeFailedCount(),
+                    handshakeCount > 0 ? cryptoExecutor.getHandshakeTimeTotal() / handshakeCount : 0,
+                    cryptoExecutor.getHandshakeTimeMax()
+                );
+            }
+        }
+    }
+
     private Matcher createMatcher(
         Map<String, String> parameters,
         String paramName,
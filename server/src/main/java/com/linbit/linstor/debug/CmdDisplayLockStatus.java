@@ -2,12 +2,16 @@ package com.linbit.linstor.debug;
 
 import javax.inject.Inject;
 import java.io.PrintStream;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.security.AccessContext;
+import com.linbit.locks.LockStats;
+import com.linbit.utils.LatencyHistogram;
 
 import javax.inject.Named;
 
@@ -20,13 +24,15 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
     private final ReadWriteLock nodesMapLock;
     private final ReadWriteLock rscDfnMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
+    private final LockStats lockStats;
 
     @Inject
     public CmdDisplayLockStatus(
         @Named(CoreModule.RECONFIGURATION_LOCK) ReadWriteLock reconfigurationLockRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
         @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
-        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef
+        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
+        LockStats lockStatsRef
     )
     {
         super(
@@ -44,6 +50,7 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
         nodesMapLock = nodesMapLockRef;
         rscDfnMapLock = rscDfnMapLockRef;
         storPoolDfnMapLock = storPoolDfnMapLockRef;
+        lockStats = lockStatsRef;
     }
 
     @Override
@@ -68,6 +75,66 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
         reportRwLock(debugOut, "rscDfnMapLock", rscDfnMapLock);
         reportRwLock(debugOut, "storPoolDfnMapLock", storPoolDfnMapLock);
         printSectionSeparator(debugOut);
+
+        List<LockStats.Holder> holders = lockStats.getHolders();
+        if (!holders.isEmpty())
+        {
+            debugOut.println();
+            debugOut.printf("%-32s %-32s %12s %s\n", "Holder", "Thread", "Held (ms)", "Locks");
+            printSectionSeparator(debugOut);
+            for (LockStats.Holder holder : holders)
+            {
+                debugOut.printf(
+                    "%-32s %-32s %12d %s\n",
+                    holder.getHolderName(),
+                    holder.getThreadName(),
+                    TimeUnit.NANOSECONDS.toMillis(holder.getHoldNanos()),
+                    String.join(", ", holder.getLockDescriptions())
+                );
+            }
+            printSectionSeparator(debugOut);
+        }
+
+        List<LockStats.Entry> statsEntries = lockStats.getEntries();
+        if (!statsEntries.isEmpty())
+        {
+            debugOut.println();
+            debugOut.printf(
+                "%-20s %-10s %-32s %10s %10s %10s %10s %10s\n",
+                "Lock", "Mode", "Holder", "Count", "WaitAvg", "WaitP99", "HoldAvg", "HoldP99"
+            );
+            printSectionSeparator(debugOut);
+            for (LockStats.Entry entry : statsEntries)
+            {
+                LatencyHistogram waitHistogram = entry.getWaitHistogram();
+                LatencyHistogram holdHistogram = entry.getHoldHistogram();
+                debugOut.printf(
+                    "%-20s %-10s %-32s %10d %10s %10s %10s %10s\n",
+                    entry.getLockName(),
+                    entry.getLockMode(),
+                    entry.getHolderName(),
+                    waitHistogram.getCount(),
+                    formatAvg(waitHistogram),
+                    formatPercentile(waitHistogram, 99),
+                    formatAvg(holdHistogram),
+                    formatPercentile(holdHistogram, 99)
+                );
+            }
+            printSectionSeparator(debugOut);
+            debugOut.println("Times in ms, percentiles are the upper bound of the histogram bucket");
+        }
+    }
+
+    private String formatAvg(LatencyHistogram histogram)
+    {
+        long count = histogram.getCount();
+        return count > 0 ? Long.toString(TimeUnit.NANOSECONDS.toMillis(histogram.getSumNanos() / count)) : "-";
+    }
+
+    private String formatPercentile(LatencyHistogram histogram, double percentile)
+    {
+        long boundMillis = histogram.getPercentileBoundMillis(percentile);
+        return boundMillis == Long.MAX_VALUE ? "inf" : "<" + boundMillis;
     }
 
     private void reportRwLock(PrintStream output, String label, ReadWriteLock readWriteLock)
@@ -22,6 +22,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Signal;
+import reactor.util.function.Tuples;
 
 @Singleton
 public class EventBroker
@@ -62,7 +63,7 @@ public class EventBroker
         {
             Collection<String> eventNames = getMatchingEventNames(watch.getEventIdentifier().getEventName());
 
-            List<Flux<byte[]>> watchStreams = new ArrayList<>();
+            List<Flux<EventMessage>> watchStreams = new ArrayList<>();
 
             for (String eventName : eventNames)
             {
@@ -78,11 +79,11 @@ public class EventBroker
                     createWatchForEvent(watch, eventSerializer.get(), eventSerializerDescriptor.getEventName()));
             }
 
-            Flux<byte[]> mergedStreams = Flux.merge(watchStreams);
+            Flux<EventMessage> mergedStreams = Flux.merge(watchStreams);
 
             Disposable disposable = mergedStreams
                 .subscribe(
-                    peer::sendMessage,
+                    message -> sendEventMessage(peer, message),
                     exception -> errorReporter.reportError(exception, null, null, "Uncaught exception sending event")
                 );
 
@@ -130,7 +131,23 @@ public class EventBroker
         errorReporter.logTrace("Event 'connection closed' end: %s", peer);
     }
 
-    private <T> Flux<byte[]> createWatchForEvent(
+    /**
+     * Event values only carry the latest state of the object, therefore they may be coalesced or dropped
+     * if the peer's outbound queue is full. Messages that close an event stream are always sent.
+     */
+    private void sendEventMessage(Peer peer, EventMessage message)
+    {
+        if (message.coalesceKey == null)
+        {
+            peer.sendMessage(message.data);
+        }
+        else
+        {
+            peer.sendCoalescibleMessage(message.data, message.coalesceKey);
+        }
+    }
+
+    private <T> Flux<EventMessage> createWatchForEvent(
         Watch watch,
         EventSerializer.Serializer<T> eventSerializer,
         String eventName
@@ -141,7 +158,7 @@ public class EventBroker
             .map(objectSignal -> serializeSignal(watch.getPeerWatchId(), eventSerializer, eventName, objectSignal));
     }
 
-    private <T> byte[] serializeSignal(
+    private <T> EventMessage serializeSignal(
         Integer peerWatchId,
         EventSerializer.Serializer<T> eventSerializer,
         String eventName,
@@ -152,8 +169,10 @@ public class EventBroker
         Signal<T> signal = objectSignal.getSignal();
 
         CommonSerializer.CommonSerializerBuilder builder = commonSerializer.onewayBuilder(ApiConsts.API_EVENT);
+        Object coalesceKey = null;
         if (signal.isOnNext())
         {
+            coalesceKey = Tuples.of(peerWatchId, eventIdentifier);
             builder
                 .event(peerWatchId, eventIdentifier, InternalApiConsts.EVENT_STREAM_VALUE)
                 .bytes(eventSerializer.writeEventValue(signal.get()));
@@ -172,11 +191,24 @@ public class EventBroker
         {
             throw new ImplementationError("Unexpected event signal " + signal);
         }
-        return builder.build();
+        return new EventMessage(builder.build(), coalesceKey);
     }
 
     private Collection<String> getMatchingEventNames(String eventName)
     {
         return eventName == null || eventName.isEmpty() ? eventSerializers.keySet() : Collections.singleton(eventName);
     }
+
+    private static class EventMessage
+    {
+        private final byte[] data;
+        // null if the message must not be coalesced
+        private final Object coalesceKey;
+
+        EventMessage(byte[] dataRef, Object coalesceKeyRef)
+        {
+            data = dataRef;
+            coalesceKey = coalesceKeyRef;
+        }
+    }
 }
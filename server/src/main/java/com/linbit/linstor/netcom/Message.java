@@ -24,10 +24,38 @@ public interface Message
     int LENGTH_FIELD_SIZE = 4;
     int LENGTH_FIELD_OFFSET = 4;
 
+    // Header field for message flags: 4 bytes (32 bits)
+    int FLAGS_FIELD_SIZE = 4;
+    int FLAGS_FIELD_OFFSET = 8;
+
+    // Header field for the uncompressed length of compressed message data: 4 bytes (32 bits)
+    int RAW_LENGTH_FIELD_SIZE = 4;
+    int RAW_LENGTH_FIELD_OFFSET = 12;
+
+    // Message flag: the message data is compressed using deflate
+    int FLAG_COMPRESSED_DEFLATE = 0x1;
+
     byte[] getData() throws IllegalMessageStateException;
 
     void setData(byte[] data) throws IllegalMessageStateException;
 
+    /**
+     * Prepares a data buffer of the specified size for receiving the message data
+     */
+    void allocateData(int dataSize) throws IllegalMessageStateException;
+
+    /**
+     * Releases the resources held for the message data, e.g. a pooled receive buffer.
+     * Data that was already fetched using {@link #getData()} remains valid.
+     */
+    void releaseData();
+
+    /**
+     * Compresses the data of a message that is to be sent, if the data is large enough
+     * and compressing it reduces its size. The uncompressed data is still returned by {@link #getData()}.
+     */
+    void compressData() throws IllegalMessageStateException;
+
     int getType() throws IllegalMessageStateException;
 
     ByteBuffer getHeaderBuffer();
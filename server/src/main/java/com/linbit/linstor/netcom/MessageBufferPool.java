@@ -0,0 +1,168 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of direct ByteBuffers for receiving message data
+ *
+ * Buffers are organized in power-of-two size classes, ranging from 4 kiB to the maximum message data size.
+ * Leasing a buffer returns a buffer of the smallest size class that is large enough, with its limit set
+ * to the requested size. Buffers may be leased and released by different threads.
+ */
+public class MessageBufferPool
+{
+    // Smallest size class, 4 kiB
+    private static final int MIN_CLASS_SHIFT = 12;
+
+    // Largest size class, must be large enough for Message.DEFAULT_MAX_DATA_SIZE
+    private static final int MAX_CLASS_SHIFT = 24;
+
+    // Number of bytes that may be kept in the pool per size class.
+    // At least one buffer is kept for each size class.
+    private static final int MAX_POOLED_BYTES_PER_CLASS = 0x200000;
+
+    private final SizeClass[] sizeClasses;
+
+    private final AtomicLong hitCtr = new AtomicLong();
+    private final AtomicLong missCtr = new AtomicLong();
+    private final AtomicLong discardCtr = new AtomicLong();
+
+    public MessageBufferPool()
+    {
+        sizeClasses = new SizeClass[MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1];
+        for (int idx = 0; idx < sizeClasses.length; ++idx)
+        {
+            int bufferSize = 1 << (MIN_CLASS_SHIFT + idx);
+            sizeClasses[idx] = new SizeClass(bufferSize, Math.max(1, MAX_POOLED_BYTES_PER_CLASS / bufferSize));
+        }
+    }
+
+    /**
+     * Returns a direct buffer with position 0 and a limit of the specified size.
+     * The buffer should be returned to the pool by calling {@link #release(ByteBuffer)} once it is no longer used.
+     */
+    public ByteBuffer lease(int size)
+    {
+        ByteBuffer buffer = null;
+        int classIdx = getClassIdx(size);
+        if (classIdx < sizeClasses.length)
+        {
+            SizeClass sizeClass = sizeClasses[classIdx];
+            buffer = sizeClass.pooledBuffers.poll();
+            if (buffer != null)
+            {
+                sizeClass.pooledCount.decrementAndGet();
+                hitCtr.incrementAndGet();
+            }
+            else
+            {
+                buffer = ByteBuffer.allocateDirect(sizeClass.bufferSize);
+                missCtr.incrementAndGet();
+            }
+        }
+        else
+        {
+            // Larger than any size class, will not be pooled
+            buffer = ByteBuffer.allocateDirect(size);
+            missCtr.incrementAndGet();
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer that was obtained from {@link #lease(int)} to the pool.
+     * The buffer must not be used by the caller afterwards.
+     */
+    public void release(ByteBuffer buffer)
+    {
+        boolean pooled = false;
+        int capacity = buffer.capacity();
+        int classIdx = getClassIdx(capacity);
+        if (buffer.isDirect() && classIdx < sizeClasses.length && sizeClasses[classIdx].bufferSize == capacity)
+        {
+            SizeClass sizeClass = sizeClasses[classIdx];
+            if (sizeClass.pooledCount.incrementAndGet() <= sizeClass.maxPooledCount)
+            {
+                buffer.clear();
+                sizeClass.pooledBuffers.offer(buffer);
+                pooled = true;
+            }
+            else
+            {
+                sizeClass.pooledCount.decrementAndGet();
+            }
+        }
+        if (!pooled)
+        {
+            discardCtr.incrementAndGet();
+        }
+    }
+
+    private static int getClassIdx(int size)
+    {
+        int classIdx = 0;
+        if (size > 1 << MIN_CLASS_SHIFT)
+        {
+            classIdx = (Integer.SIZE - Integer.numberOfLeadingZeros(size - 1)) - MIN_CLASS_SHIFT;
+        }
+        return classIdx;
+    }
+
+    /**
+     * Number of leases that were served from the pool
+     */
+    public long getHitCount()
+    {
+        return hitCtr.get();
+    }
+
+    /**
+     * Number of leases that required the allocation of a new buffer
+     */
+    public long getMissCount()
+    {
+        return missCtr.get();
+    }
+
+    /**
+     * Number of released buffers that were not kept in the pool, because their size class was full
+     * or because the buffer does not belong to any size class
+     */
+    public long getDiscardCount()
+    {
+        return discardCtr.get();
+    }
+
+    /**
+     * Number of bytes currently held by buffers in the pool
+     */
+    public long getPooledBytes()
+    {
+        long pooledBytes = 0;
+        for (SizeClass sizeClass : sizeClasses)
+        {
+            pooledBytes += (long) sizeClass.bufferSize * sizeClass.pooledBuffers.size();
+        }
+        return pooledBytes;
+    }
+
+    private static class SizeClass
+    {
+        private final int bufferSize;
+        private final int maxPooledCount;
+        private final Queue<ByteBuffer> pooledBuffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pooledCount = new AtomicInteger();
+
+        private SizeClass(int bufferSizeRef, int maxPooledCountRef)
+        {
+            bufferSize = bufferSizeRef;
+            maxPooledCount = maxPooledCountRef;
+        }
+    }
+}
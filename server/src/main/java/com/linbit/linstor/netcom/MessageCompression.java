@@ -0,0 +1,134 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression of message data
+ *
+ * Peers negotiate the use of compression during authentication. The controller offers the
+ * {@link #getSupportedAlgorithms() supported algorithms}, and the satellite selects one of them.
+ * Afterwards, both peers may compress the data of messages that are larger than {@link #MIN_COMPRESS_SIZE}.
+ * Compressed messages are flagged in the message header, therefore compressed and uncompressed
+ * messages can be mixed on the same connection.
+ */
+public class MessageCompression
+{
+    public static final String ALGORITHM_DEFLATE = "deflate";
+
+    // Message data smaller than this size is never compressed
+    public static final int MIN_COMPRESS_SIZE = 0x10000;
+
+    private static final List<String> SUPPORTED_ALGORITHMS = Collections.singletonList(ALGORITHM_DEFLATE);
+
+    private MessageCompression()
+    {
+    }
+
+    public static List<String> getSupportedAlgorithms()
+    {
+        return SUPPORTED_ALGORITHMS;
+    }
+
+    public static boolean isSupported(String algorithm)
+    {
+        return SUPPORTED_ALGORITHMS.contains(algorithm);
+    }
+
+    /**
+     * Selects the algorithm to use from the algorithms that are offered by the peer.
+     * Returns an empty string if none of the offered algorithms is supported.
+     */
+    public static String negotiate(List<String> offeredAlgorithms)
+    {
+        String selected = "";
+        for (String algorithm : offeredAlgorithms)
+        {
+            if (isSupported(algorithm))
+            {
+                selected = algorithm;
+                break;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Compresses the data.
+     * Returns null if the compressed data would not be smaller than the uncompressed data.
+     */
+    public static byte[] compress(byte[] data)
+    {
+        byte[] result = null;
+        // Compressed data that does not fit into this buffer would not save anything
+        byte[] buffer = new byte[data.length];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try
+        {
+            deflater.setInput(data);
+            deflater.finish();
+            int compressedSize = deflater.deflate(buffer);
+            if (deflater.finished() && compressedSize < data.length)
+            {
+                result = new byte[compressedSize];
+                System.arraycopy(buffer, 0, result, 0, compressedSize);
+            }
+        }
+        finally
+        {
+            deflater.end();
+        }
+        return result;
+    }
+
+    /**
+     * Decompresses the remaining bytes of the source buffer, which must decompress to exactly
+     * uncompressedSize bytes. The source buffer's position is not changed.
+     */
+    public static byte[] decompress(ByteBuffer source, int uncompressedSize)
+        throws IllegalMessageStateException
+    {
+        if (uncompressedSize < 0 || uncompressedSize > Message.DEFAULT_MAX_DATA_SIZE)
+        {
+            throw new IllegalMessageStateException(
+                "Compressed message has an invalid uncompressed size of " + uncompressedSize + " bytes"
+            );
+        }
+
+        byte[] compressed = new byte[source.remaining()];
+        source.duplicate().get(compressed);
+
+        byte[] result = new byte[uncompressedSize];
+        Inflater inflater = new Inflater();
+        try
+        {
+            inflater.setInput(compressed);
+            int decompressedSize = 0;
+            while (decompressedSize < uncompressedSize && !inflater.finished() &&
+                !inflater.needsInput() && !inflater.needsDictionary())
+            {
+                decompressedSize += inflater.inflate(result, decompressedSize, uncompressedSize - decompressedSize);
+            }
+            if (decompressedSize != uncompressedSize || !inflater.finished())
+            {
+                throw new IllegalMessageStateException(
+                    "Decompressed message data does not match the uncompressed size of " +
+                    uncompressedSize + " bytes"
+                );
+            }
+        }
+        catch (DataFormatException dataFormatExc)
+        {
+            throw new IllegalMessageStateException("Decompressing message data failed", dataFormatExc);
+        }
+        finally
+        {
+            inflater.end();
+        }
+        return result;
+    }
+}
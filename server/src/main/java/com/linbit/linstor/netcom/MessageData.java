@@ -6,10 +6,15 @@ import java.util.Arrays;
 /**
  * Abstract implementation of a message containing the plain data and header bytes
  * already wrapped in ByteBuffers for easier handling and some error checking.
+ *
+ * The data of inbound messages is received into a direct buffer leased from a {@link MessageBufferPool},
+ * if a pool is available. The data is copied to a byte array when it is first requested by {@link #getData()},
+ * and the buffer is returned to the pool by {@link #releaseData()}.
  */
 public class MessageData implements Message
 {
-    // TODO: Use ByteBuffer.allocateDirect(...) instead of ByteBuffer.wrap(...)
+    private static final byte[] EMPTY_DATA = new byte[0];
+
     protected final ByteBuffer headerBuffer;
     protected ByteBuffer dataBuffer;
 
@@ -18,9 +23,20 @@ public class MessageData implements Message
 
     private boolean forSend;
 
+    // Pool for leasing the data buffer of inbound messages, may be null
+    private final MessageBufferPool bufferPool;
+    // Set if dataBuffer was leased from the bufferPool
+    private boolean dataBufferLeased;
+
     public MessageData(boolean forSendRef)
+    {
+        this(forSendRef, null);
+    }
+
+    public MessageData(boolean forSendRef, MessageBufferPool bufferPoolRef)
     {
         forSend = forSendRef;
+        bufferPool = bufferPoolRef;
 
         headerBytes = new byte[HEADER_SIZE];
         headerBuffer = ByteBuffer.wrap(headerBytes);
@@ -32,9 +48,24 @@ public class MessageData implements Message
     {
         if (dataBytes == null)
         {
-            throw new IllegalMessageStateException(
-                "Attempt to fetch content data from a message that is not ready for processing"
-            );
+            if (dataBuffer == null)
+            {
+                throw new IllegalMessageStateException(
+                    "Attempt to fetch content data from a message that is not ready for processing"
+                );
+            }
+            ByteBuffer readBuffer = dataBuffer.duplicate();
+            readBuffer.rewind();
+            if ((headerBuffer.getInt(FLAGS_FIELD_OFFSET) & FLAG_COMPRESSED_DEFLATE) != 0)
+            {
+                dataBytes = MessageCompression.decompress(readBuffer, headerBuffer.getInt(RAW_LENGTH_FIELD_OFFSET));
+            }
+            else
+            {
+                byte[] data = new byte[readBuffer.remaining()];
+                readBuffer.get(data);
+                dataBytes = data;
+            }
         }
         return dataBytes;
     }
@@ -42,11 +73,70 @@ public class MessageData implements Message
     @Override
     public void setData(byte[] data) throws IllegalMessageStateException
     {
+        releaseData();
         dataBytes = data;
         dataBuffer = ByteBuffer.wrap(data);
         if (forSend)
         {
             headerBuffer.putInt(LENGTH_FIELD_OFFSET, data.length);
+            headerBuffer.putInt(FLAGS_FIELD_OFFSET, 0);
+            headerBuffer.putInt(RAW_LENGTH_FIELD_OFFSET, 0);
+        }
+    }
+
+    @Override
+    public void compressData() throws IllegalMessageStateException
+    {
+        if (!forSend || dataBytes == null)
+        {
+            throw new IllegalMessageStateException(
+                "Attempt to compress the data of a message that is not ready for sending"
+            );
+        }
+        if (dataBytes.length >= MessageCompression.MIN_COMPRESS_SIZE &&
+            (headerBuffer.getInt(FLAGS_FIELD_OFFSET) & FLAG_COMPRESSED_DEFLATE) == 0)
+        {
+            byte[] compressedData = MessageCompression.compress(dataBytes);
+            if (compressedData != null)
+            {
+                // dataBytes keeps the uncompressed data, only the dataBuffer that is sent is replaced
+                dataBuffer = ByteBuffer.wrap(compressedData);
+                headerBuffer.putInt(LENGTH_FIELD_OFFSET, compressedData.length);
+                headerBuffer.putInt(FLAGS_FIELD_OFFSET, FLAG_COMPRESSED_DEFLATE);
+                headerBuffer.putInt(RAW_LENGTH_FIELD_OFFSET, dataBytes.length);
+            }
+        }
+    }
+
+    @Override
+    public void allocateData(int dataSize) throws IllegalMessageStateException
+    {
+        if (bufferPool != null && dataSize > 0)
+        {
+            releaseData();
+            dataBytes = null;
+            dataBuffer = bufferPool.lease(dataSize);
+            dataBufferLeased = true;
+            if (forSend)
+            {
+                headerBuffer.putInt(LENGTH_FIELD_OFFSET, dataSize);
+            }
+        }
+        else
+        {
+            setData(dataSize > 0 ? new byte[dataSize] : EMPTY_DATA);
+        }
+    }
+
+    @Override
+    public void releaseData()
+    {
+        if (dataBufferLeased)
+        {
+            ByteBuffer leasedBuffer = dataBuffer;
+            dataBuffer = null;
+            dataBufferLeased = false;
+            bufferPool.release(leasedBuffer);
         }
     }
 
@@ -58,6 +148,7 @@ public class MessageData implements Message
 
     protected final void reset()
     {
+        releaseData();
         Arrays.fill(headerBytes, (byte) 0);
         dataBytes = null;
         dataBuffer = null;
@@ -105,6 +105,17 @@ public interface Peer
      */
     boolean sendMessage(byte[] data);
 
+    /**
+     * Sends a message that only carries the latest state of something, such as an event.
+     * If the outbound queue is full, the message replaces a queued message with an equal coalesce key,
+     * or is dropped if there is no such message.
+     *
+     * @param data Message data
+     * @param coalesceKey Identifies the messages that supersede each other
+     * @return true if the peer is connected, false otherwise
+     */
+    boolean sendCoalescibleMessage(byte[] data, Object coalesceKey);
+
     /**
      * Get a zero-based sequence number for this peer.
      */
@@ -177,6 +188,22 @@ public interface Peer
 
     void setAuthenticated(boolean authenticated);
 
+    /**
+     * Enables or disables the compression of large outbound messages.
+     * Should only be enabled if the peer negotiated the use of compression during authentication.
+     */
+    void setMessageCompression(boolean compressionEnabled);
+
+    boolean isMessageCompressionEnabled();
+
+    /**
+     * Enables pushing object data together with change notifications to this peer.
+     * Should only be enabled if the peer announced support for pushed updates during authentication.
+     */
+    void setPushedUpdates(boolean pushedUpdatesEnabled);
+
+    boolean isPushedUpdatesEnabled();
+
     /**
      * Returns the capacity of the queue for outbound messages
      *
@@ -191,6 +218,62 @@ public interface Peer
      */
     int outQueueCount();
 
+    /**
+     * Returns the maximum size of the data of the queued outbound messages
+     *
+     * @return Capacity of the outbound messages queue, in bytes
+     */
+    long outQueueByteCapacity();
+
+    /**
+     * Returns the size of the data of the currently queued outbound messages
+     *
+     * @return Size of the queued outbound messages, in bytes
+     */
+    long outQueueBytes();
+
+    /**
+     * Returns the number of outbound messages that wait for free capacity in the outbound queue
+     *
+     * @return Number of deferred outbound messages
+     */
+    int outQueueDeferredCount();
+
+    /**
+     * Returns the number of coalescible messages that were dropped because the outbound queue was full
+     *
+     * @return Number of dropped messages
+     */
+    long msgDroppedCount();
+
+    /**
+     * Returns the number of coalescible messages that replaced a queued message because the outbound queue was full
+     *
+     * @return Number of coalesced messages
+     */
+    long msgCoalescedCount();
+
+    /**
+     * Returns the round-trip latency histograms of the API calls that were answered by the peer
+     *
+     * @return Latency histograms keyed by API call name
+     */
+    RpcLatencyStats getRpcLatencyStats();
+
+    /**
+     * Returns the number of API calls that were sent to the peer and are not answered yet
+     *
+     * @return Number of outstanding API calls
+     */
+    int openRpcCount();
+
+    /**
+     * Returns the age of the oldest API call that is not answered yet
+     *
+     * @return Age of the oldest outstanding API call in milliseconds, 0 if there is none
+     */
+    long oldestOpenRpcAgeMillis();
+
     /**
      * Returns the number of messages that were sent to the peer
      *
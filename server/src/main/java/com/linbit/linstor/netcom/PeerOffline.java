@@ -31,6 +31,7 @@ public class PeerOffline implements Peer
     private final ReadWriteLock satelliteStateLock;
     private SatelliteState satelliteState;
     private final ExtToolsManager extToolMgr;
+    private final RpcLatencyStats rpcLatencyStats = new RpcLatencyStats();
 
     static
     {
@@ -114,6 +115,12 @@ public class PeerOffline implements Peer
         return false;
     }
 
+    @Override
+    public boolean sendCoalescibleMessage(byte[] data, Object coalesceKey)
+    {
+        return false;
+    }
+
     @Override
     public long getNextIncomingMessageSeq()
     {
@@ -195,6 +202,28 @@ public class PeerOffline implements Peer
     {
     }
 
+    @Override
+    public void setMessageCompression(boolean compressionEnabled)
+    {
+    }
+
+    @Override
+    public boolean isMessageCompressionEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public void setPushedUpdates(boolean pushedUpdatesEnabled)
+    {
+    }
+
+    @Override
+    public boolean isPushedUpdatesEnabled()
+    {
+        return false;
+    }
+
     @Override
     public int outQueueCapacity()
     {
@@ -207,6 +236,54 @@ public class PeerOffline implements Peer
         return 0;
     }
 
+    @Override
+    public long outQueueByteCapacity()
+    {
+        return 0;
+    }
+
+    @Override
+    public long outQueueBytes()
+    {
+        return 0;
+    }
+
+    @Override
+    public int outQueueDeferredCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long msgDroppedCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long msgCoalescedCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public RpcLatencyStats getRpcLatencyStats()
+    {
+        return rpcLatencyStats;
+    }
+
+    @Override
+    public int openRpcCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long oldestOpenRpcAgeMillis()
+    {
+        return 0;
+    }
+
     @Override
     public long msgSentCount()
     {
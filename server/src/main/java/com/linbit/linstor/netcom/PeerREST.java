@@ -30,6 +30,7 @@ public class PeerREST implements Peer
 
     private AccessContext accessContext;
     private final ExtToolsManager extToolsMgr;
+    private final RpcLatencyStats rpcLatencyStats = new RpcLatencyStats();
 
     public PeerREST(
         String peerIdRef,
@@ -111,6 +112,12 @@ public class PeerREST implements Peer
         return false;
     }
 
+    @Override
+    public boolean sendCoalescibleMessage(byte[] data, Object coalesceKey)
+    {
+        return false;
+    }
+
     @Override
     public long getNextIncomingMessageSeq()
     {
@@ -192,6 +199,28 @@ public class PeerREST implements Peer
     {
     }
 
+    @Override
+    public void setMessageCompression(boolean compressionEnabled)
+    {
+    }
+
+    @Override
+    public boolean isMessageCompressionEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public void setPushedUpdates(boolean pushedUpdatesEnabled)
+    {
+    }
+
+    @Override
+    public boolean isPushedUpdatesEnabled()
+    {
+        return false;
+    }
+
     @Override
     public int outQueueCapacity()
     {
@@ -204,6 +233,54 @@ public class PeerREST implements Peer
         return 0;
     }
 
+    @Override
+    public long outQueueByteCapacity()
+    {
+        return 0;
+    }
+
+    @Override
+    public long outQueueBytes()
+    {
+        return 0;
+    }
+
+    @Override
+    public int outQueueDeferredCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long msgDroppedCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long msgCoalescedCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public RpcLatencyStats getRpcLatencyStats()
+    {
+        return rpcLatencyStats;
+    }
+
+    @Override
+    public int openRpcCount()
+    {
+        return 0;
+    }
+
+    @Override
+    public long oldestOpenRpcAgeMillis()
+    {
+        return 0;
+    }
+
     @Override
     public long msgSentCount()
     {
@@ -0,0 +1,29 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.utils.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Round-trip latency histograms of the API calls that were sent to a peer, keyed by API call name
+ */
+public class RpcLatencyStats
+{
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(String apiCallName, long latencyNanos)
+    {
+        histograms.computeIfAbsent(apiCallName, ignored -> new LatencyHistogram()).record(latencyNanos);
+    }
+
+    /**
+     * Returns the histograms sorted by API call name
+     */
+    public Map<String, LatencyHistogram> getHistograms()
+    {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+}
@@ -25,7 +25,30 @@ public interface TcpConnector extends SystemService
     void closeConnection(TcpConnectorPeer peerObj, boolean allowReconnect);
 
     /**
-     * Wakes up the connector's selector
+     * Wakes up the connector's selectors
      */
     void wakeup();
+
+    /**
+     * Returns the pool that provides the receive buffers for inbound messages
+     */
+    MessageBufferPool getMessageBufferPool();
+
+    /**
+     * Sets the limits of the outbound message queue for peers that connect afterwards
+     *
+     * @param maxMsgCount Maximum number of queued outbound messages per peer, 0 for unlimited
+     * @param maxBytes Maximum size of the data of the queued outbound messages per peer, 0 for unlimited
+     */
+    void setOutQueueLimits(int maxMsgCount, long maxBytes);
+
+    /**
+     * Returns the maximum number of queued outbound messages per peer, 0 if unlimited
+     */
+    int getOutQueueMaxMsgCount();
+
+    /**
+     * Returns the maximum size of the data of the queued outbound messages per peer, 0 if unlimited
+     */
+    long getOutQueueMaxBytes();
 }
@@ -27,14 +27,18 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Queue;
-import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -43,7 +47,10 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.UnicastProcessor;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -54,6 +61,15 @@ import reactor.util.function.Tuples;
  */
 public class TcpConnectorPeer implements Peer
 {
+    // Maximum number of outbound messages that are sent by a single gathering write
+    private static final int MAX_WRITE_MSG_COUNT = 32;
+
+    // Further queued messages are only added to a gathering write while it contains less than this number of bytes
+    private static final long MAX_WRITE_BYTES = 0x40000;
+
+    // Limit of the deferred messages of API calls if the number of messages in the outbound queue is not limited
+    private static final int DEFAULT_DEFERRED_MAX_MSG_COUNT = 1024;
+
     public enum Phase
     {
         HEADER,
@@ -95,8 +111,31 @@ public class TcpConnectorPeer implements Peer
     protected Message msgOut;
 
     // Queue of pending outbound messages
-    // TODO: Put a capacity limit on the maximum number of queued outbound messages
-    protected final Deque<Message> msgOutQueue;
+    protected final LinkedList<Message> msgOutQueue;
+
+    // Limits of the msgOutQueue, 0 means unlimited
+    //
+    // When either limit is reached, coalescible messages replace a queued message with the same
+    // coalesce key or are dropped, and all other messages are deferred until the queue drains
+    private final int outQueueMaxMsgCount;
+    private final long outQueueMaxBytes;
+
+    // Limit of the deferredMsgQueue for messages of API calls
+    //
+    // When the limit is reached, new API calls wait until deferred messages were queued for sending
+    private final int deferredMaxMsgCount;
+
+    // Size of the data of all messages in the msgOutQueue; guarded by this
+    private long outQueueBytes = 0;
+
+    // Coalesce keys of the coalescible messages in the msgOutQueue; guarded by this
+    private final Map<Message, Object> queuedCoalesceKeys = new IdentityHashMap<>();
+
+    // Messages that wait for free capacity in the msgOutQueue, in the order they were sent; guarded by this
+    private final Deque<Message> deferredMsgQueue;
+
+    // API calls that wait for free capacity in the deferredMsgQueue; guarded by this
+    private final Deque<MonoSink<Void>> deferredCapacityWaiters;
 
     protected SelectionKey selKey;
 
@@ -109,6 +148,8 @@ public class TcpConnectorPeer implements Peer
     protected boolean authenticated = false;
     protected boolean fullSyncApplied = false;
     protected boolean fullSyncFailed = false;
+    private volatile boolean compressionEnabled = false;
+    private volatile boolean pushedUpdatesEnabled = false;
 
     // Volatile guarantees atomic read and write
     //
@@ -119,9 +160,11 @@ public class TcpConnectorPeer implements Peer
     private volatile long msgRecvCtr = 0;
     private volatile long msgSentSizePeak = 0;
     private volatile long msgRecvSizePeak = 0;
+    private volatile long msgDroppedCtr = 0;
+    private volatile long msgCoalescedCtr = 0;
 
-    protected long lastPingSent = -1;
-    private long lastPongReceived = -1;
+    protected volatile long lastPingSent = -1;
+    private volatile long lastPongReceived = -1;
 
     protected Message internalPingMsg;
     protected Message internalPongMsg;
@@ -134,7 +177,10 @@ public class TcpConnectorPeer implements Peer
     private final ReadWriteLock serializerLock;
 
     protected Phase currentReadPhase = Phase.HEADER;
-    protected Phase currentWritePhase = Phase.HEADER;
+
+    // Header and data buffers of the outbound messages that are sent by the next gathering write
+    private final ByteBuffer[] writeBuffers = new ByteBuffer[MAX_WRITE_MSG_COUNT * 2];
+    private int writeBufferCount = 0;
 
     private final Queue<Message> finishedMsgInQueue;
     private int opInterest = OP_READ;
@@ -143,7 +189,8 @@ public class TcpConnectorPeer implements Peer
     private final FluxSink<Tuple2<Long, Publisher<?>>> incomingMessageSink;
 
     private AtomicLong nextApiCallId = new AtomicLong(1);
-    private Map<Long, FluxSink<ByteArrayInputStream>> openRpcs = Collections.synchronizedMap(new TreeMap<>());
+    private final Map<Long, OpenRpc> openRpcs = new ConcurrentHashMap<>();
+    private final RpcLatencyStats rpcLatencyStats = new RpcLatencyStats();
 
     private ExtToolsManager externalToolsManager = new ExtToolsManager();
     private StltConfig stltConfig = new StltConfig();
@@ -164,13 +211,26 @@ public class TcpConnectorPeer implements Peer
         connector = connectorRef;
         node = nodeRef;
         msgOutQueue = new LinkedList<>();
+        deferredMsgQueue = new LinkedList<>();
+        deferredCapacityWaiters = new LinkedList<>();
+        if (connector != null)
+        {
+            outQueueMaxMsgCount = connector.getOutQueueMaxMsgCount();
+            outQueueMaxBytes = connector.getOutQueueMaxBytes();
+        }
+        else
+        {
+            outQueueMaxMsgCount = 0;
+            outQueueMaxBytes = 0;
+        }
+        deferredMaxMsgCount = outQueueMaxMsgCount > 0 ? outQueueMaxMsgCount : DEFAULT_DEFERRED_MAX_MSG_COUNT;
 
         // Do not use createMessage() here!
         // The SslTcpConnectorPeer has not initialized SSLEngine instance yet,
         // so a NullPointerException would be thrown in createMessage().
         // After initialization of the sslEngine, msgIn will be overwritten with
         // a reference to a valid instance.
-        msgIn = new MessageData(false);
+        msgIn = new MessageData(false, getMessageBufferPool());
 
         selKey = key;
         peerAccCtx = accCtx;
@@ -267,15 +327,21 @@ public class TcpConnectorPeer implements Peer
 
     protected Message createMessage(boolean forSend)
     {
-        if (forSend)
+        if (!forSend)
         {
-            currentWritePhase = Phase.HEADER;
+            currentReadPhase = Phase.HEADER;
         }
-        else
+        return new MessageData(forSend, forSend ? null : getMessageBufferPool());
+    }
+
+    private MessageBufferPool getMessageBufferPool()
+    {
+        MessageBufferPool bufferPool = null;
+        if (connector != null)
         {
-            currentReadPhase = Phase.HEADER;
+            bufferPool = connector.getMessageBufferPool();
         }
-        return new MessageData(forSend);
+        return bufferPool;
     }
 
     @Override
@@ -285,37 +351,221 @@ public class TcpConnectorPeer implements Peer
         boolean connFlag = connected;
         if (connFlag)
         {
+            if (compressionEnabled)
+            {
+                // Compress outside of the synchronized block, this might take some time for large messages
+                msg.compressData();
+            }
             synchronized (this)
             {
-                long msgSize = msg.getData().length;
-                if (msgSize > msgSentSizePeak)
-                {
-                    msgSentSizePeak = msgSize;
-                }
+                updateSentSizePeak(msg);
+                queueOrDeferMessage(msg);
+            }
+        }
+        return connFlag;
+    }
 
-                // Queue the message for sending
-                if (msgOut == null)
+    /**
+     * Sends a message that does not have to keep its order relative to other messages, such as PING or PONG.
+     * The message is neither deferred nor does it wait for deferred messages.
+     */
+    private void sendUnorderedMessage(Message msg)
+    {
+        if (connected)
+        {
+            synchronized (this)
+            {
+                queueMessage(msg);
+            }
+        }
+    }
+
+    @Override
+    public boolean sendCoalescibleMessage(byte[] data, Object coalesceKey)
+    {
+        boolean connFlag = connected;
+        if (connFlag)
+        {
+            try
+            {
+                Message msg = createMessage();
+                msg.setData(data);
+                if (compressionEnabled)
                 {
-                    msgOut = msg;
+                    msg.compressData();
                 }
-                else
+                synchronized (this)
                 {
-                    msgOutQueue.add(msg);
+                    updateSentSizePeak(msg);
+                    if (!isOutQueueFull())
+                    {
+                        queueMessage(msg);
+                        if (msg != msgOut)
+                        {
+                            queuedCoalesceKeys.put(msg, coalesceKey);
+                        }
+                    }
+                    else
+                    if (replaceQueuedMessage(msg, coalesceKey))
+                    {
+                        ++msgCoalescedCtr;
+                    }
+                    else
+                    {
+                        ++msgDroppedCtr;
+                    }
                 }
+            }
+            catch (IllegalMessageStateException exc)
+            {
+                throw new ImplementationError(
+                    "Creating an outgoing message caused an IllegalMessageStateException",
+                    exc
+                );
+            }
+        }
+        return connFlag;
+    }
 
-                try
+    /**
+     * Completes when the deferredMsgQueue has room for the message of another API call.
+     * API calls that wait for room are admitted in the order they were made.
+     */
+    private Mono<Void> awaitDeferredCapacity()
+    {
+        return Mono.create(sink ->
+            {
+                boolean admitted;
+                synchronized (this)
                 {
-                    enableOpInterest(OP_WRITE);
-                    connector.wakeup();
+                    admitted = deferredCapacityWaiters.isEmpty() && hasDeferredCapacity();
+                    if (!admitted)
+                    {
+                        deferredCapacityWaiters.add(sink);
+                        sink.onCancel(() -> removeDeferredCapacityWaiter(sink));
+                    }
                 }
-                catch (IllegalStateException illState)
+                if (admitted)
                 {
-                    // No-op; Subclasses of illState can be thrown
-                    // when the connection has been closed
+                    sink.success();
                 }
             }
+        );
+    }
+
+    private synchronized void removeDeferredCapacityWaiter(MonoSink<Void> sink)
+    {
+        deferredCapacityWaiters.remove(sink);
+    }
+
+    private boolean hasDeferredCapacity()
+    {
+        return deferredMsgQueue.size() < deferredMaxMsgCount;
+    }
+
+    /**
+     * Queues the message for sending. If the msgOutQueue is full or other messages are already deferred,
+     * the message is deferred behind them, so that all ordered messages are sent in the order they were sent.
+     * Must be called while holding this peer's monitor.
+     */
+    private void queueOrDeferMessage(Message msg)
+    {
+        if (deferredMsgQueue.isEmpty() && !isOutQueueFull())
+        {
+            queueMessage(msg);
         }
-        return connFlag;
+        else
+        {
+            deferredMsgQueue.add(msg);
+        }
+    }
+
+    private void updateSentSizePeak(Message msg) throws IllegalMessageStateException
+    {
+        long msgSize = msg.getData().length;
+        if (msgSize > msgSentSizePeak)
+        {
+            msgSentSizePeak = msgSize;
+        }
+    }
+
+    /**
+     * Queues the message for sending. Must be called while holding this peer's monitor.
+     */
+    private void queueMessage(Message msg)
+    {
+        if (msgOut == null)
+        {
+            msgOut = msg;
+            try
+            {
+                enableOpInterest(OP_WRITE);
+                wakeupSelector();
+            }
+            catch (IllegalStateException illState)
+            {
+                // No-op; Subclasses of illState can be thrown
+                // when the connection has been closed
+            }
+        }
+        else
+        {
+            // OP_WRITE is already enabled for sending the current outbound message,
+            // the queued message will be sent by one of the next gathering writes
+            msgOutQueue.add(msg);
+            outQueueBytes += getDataSize(msg);
+        }
+    }
+
+    private boolean isOutQueueFull()
+    {
+        return outQueueMaxMsgCount > 0 && msgOutQueue.size() >= outQueueMaxMsgCount ||
+            outQueueMaxBytes > 0 && outQueueBytes >= outQueueMaxBytes;
+    }
+
+    /**
+     * Replaces a queued message that has the same coalesce key and is not already being sent
+     *
+     * @return true if a queued message was replaced, false otherwise
+     */
+    private boolean replaceQueuedMessage(Message msg, Object coalesceKey)
+    {
+        boolean replaced = false;
+        // The first messages of the queue may already be part of the current gathering write
+        int sendingMsgCount = writeBufferCount > 0 ? writeBufferCount / 2 - 1 : 0;
+        if (sendingMsgCount < msgOutQueue.size())
+        {
+            ListIterator<Message> msgIter = msgOutQueue.listIterator(sendingMsgCount);
+            while (!replaced && msgIter.hasNext())
+            {
+                Message queuedMsg = msgIter.next();
+                if (coalesceKey.equals(queuedCoalesceKeys.get(queuedMsg)))
+                {
+                    msgIter.set(msg);
+                    queuedCoalesceKeys.remove(queuedMsg);
+                    queuedCoalesceKeys.put(msg, coalesceKey);
+                    outQueueBytes += getDataSize(msg) - getDataSize(queuedMsg);
+                    replaced = true;
+                }
+            }
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns the size of the message data that is sent, which is the compressed size for compressed messages
+     */
+    private static long getDataSize(Message msg)
+    {
+        return msg.getHeaderBuffer().getInt(Message.LENGTH_FIELD_OFFSET);
+    }
+
+    /**
+     * Wakes up the selector of the reactor that this peer's connection is registered with
+     */
+    protected void wakeupSelector()
+    {
+        selKey.selector().wakeup();
     }
 
     protected void enableOpInterest(int op)
@@ -386,7 +636,8 @@ public class TcpConnectorPeer implements Peer
         boolean fullSyncAppliedRequired
     )
     {
-        return Flux
+        // Delays the API call while too many messages are deferred, so that the caller is slowed down
+        return awaitDeferredCapacity().thenMany(Flux
             .<ByteArrayInputStream>create(fluxSink ->
                 {
                     long apiCallId = nextApiCallId.getAndIncrement();
@@ -394,7 +645,7 @@ public class TcpConnectorPeer implements Peer
 
                     fluxSink.onDispose(() -> openRpcs.remove(apiCallId));
 
-                    openRpcs.put(apiCallId, fluxSink);
+                    openRpcs.put(apiCallId, new OpenRpc(apiCallName, fluxSink));
 
                     if (authenticationRequired && !authenticated || fullSyncAppliedRequired && !fullSyncApplied)
                     {
@@ -410,52 +661,83 @@ public class TcpConnectorPeer implements Peer
                         }
                     }
                 }
-            )
+            ))
             .switchIfEmpty(Flux.error(new ApiCallNoResponseException()));
     }
 
     @Override
     public void apiCallAnswer(long apiCallId, ByteArrayInputStream data)
     {
-        FluxSink<ByteArrayInputStream> rpcSink = openRpcs.get(apiCallId);
-        if (rpcSink == null)
+        OpenRpc rpc = openRpcs.get(apiCallId);
+        if (rpc == null)
         {
             errorReporter.logDebug("Unexpected API call answer received");
         }
         else
         {
-            rpcSink.next(data);
+            rpc.sink.next(data);
         }
     }
 
     @Override
     public void apiCallError(long apiCallId, Throwable exc)
     {
-        FluxSink<ByteArrayInputStream> rpcSink = openRpcs.get(apiCallId);
-        if (rpcSink == null)
+        OpenRpc rpc = openRpcs.get(apiCallId);
+        if (rpc == null)
         {
             errorReporter.logDebug("Unexpected API call error received");
         }
         else
         {
-            rpcSink.error(exc);
+            recordLatency(rpc);
+            rpc.sink.error(exc);
         }
     }
 
     @Override
     public void apiCallComplete(long apiCallId)
     {
-        FluxSink<ByteArrayInputStream> rpcSink = openRpcs.get(apiCallId);
-        if (rpcSink == null)
+        OpenRpc rpc = openRpcs.get(apiCallId);
+        if (rpc == null)
         {
             errorReporter.logDebug("Unexpected API call completion received");
         }
         else
         {
-            rpcSink.complete();
+            recordLatency(rpc);
+            rpc.sink.complete();
         }
     }
 
+    private void recordLatency(OpenRpc rpc)
+    {
+        rpcLatencyStats.record(rpc.apiCallName, System.nanoTime() - rpc.startNanos);
+    }
+
+    @Override
+    public RpcLatencyStats getRpcLatencyStats()
+    {
+        return rpcLatencyStats;
+    }
+
+    @Override
+    public int openRpcCount()
+    {
+        return openRpcs.size();
+    }
+
+    @Override
+    public long oldestOpenRpcAgeMillis()
+    {
+        long now = System.nanoTime();
+        long maxAgeNanos = 0;
+        for (OpenRpc rpc : openRpcs.values())
+        {
+            maxAgeNanos = Math.max(maxAgeNanos, now - rpc.startNanos);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(maxAgeNanos);
+    }
+
     @Override
     public TcpConnector getConnector()
     {
@@ -489,16 +771,25 @@ public class TcpConnectorPeer implements Peer
         // deactivate all interest in READ or WRITE operations
         setOpInterest(0);
 
-        synchronized (openRpcs)
+        List<MonoSink<Void>> waiters;
+        synchronized (this)
         {
-            // preventing ConcurrentModificationException with "#apiCall's fluxSink.onDispose(...openRpcs.remove(...))
-            Set<FluxSink<ByteArrayInputStream>> copyOpenRpcsSet = new HashSet<>(openRpcs.values());
-            for (FluxSink<ByteArrayInputStream> rpcSink : copyOpenRpcsSet)
-            {
-                rpcSink.error(new PeerNotConnectedException());
-            }
-            openRpcs.clear(); // basically no-op, more for documentation purpose
+            // the API calls of the deferred messages fail below
+            deferredMsgQueue.clear();
+            waiters = new ArrayList<>(deferredCapacityWaiters);
+            deferredCapacityWaiters.clear();
         }
+        for (MonoSink<Void> waiter : waiters)
+        {
+            waiter.error(new PeerNotConnectedException());
+        }
+
+        // copy, because #apiCall's fluxSink.onDispose(...openRpcs.remove(...)) modifies the map
+        for (OpenRpc rpc : new ArrayList<>(openRpcs.values()))
+        {
+            rpc.sink.error(new PeerNotConnectedException());
+        }
+        openRpcs.clear(); // basically no-op, more for documentation purpose
     }
 
     @Override
@@ -552,6 +843,30 @@ public class TcpConnectorPeer implements Peer
         authenticated = authenticatedFlag;
     }
 
+    @Override
+    public void setMessageCompression(boolean compressionEnabledRef)
+    {
+        compressionEnabled = compressionEnabledRef;
+    }
+
+    @Override
+    public boolean isMessageCompressionEnabled()
+    {
+        return compressionEnabled;
+    }
+
+    @Override
+    public void setPushedUpdates(boolean pushedUpdatesEnabledRef)
+    {
+        pushedUpdatesEnabled = pushedUpdatesEnabledRef;
+    }
+
+    @Override
+    public boolean isPushedUpdatesEnabled()
+    {
+        return pushedUpdatesEnabled;
+    }
+
     protected void nextInMessage()
     {
         msgIn = createMessage(false);
@@ -570,9 +885,29 @@ public class TcpConnectorPeer implements Peer
 
     protected void nextOutMessage()
     {
+        List<MonoSink<Void>> admittedWaiters = null;
         synchronized (this)
         {
             msgOut = msgOutQueue.pollFirst();
+            if (msgOut != null)
+            {
+                outQueueBytes -= getDataSize(msgOut);
+                queuedCoalesceKeys.remove(msgOut);
+            }
+            while (!deferredMsgQueue.isEmpty() && !isOutQueueFull())
+            {
+                queueMessage(deferredMsgQueue.pollFirst());
+            }
+            int freeDeferredCount = deferredMaxMsgCount - deferredMsgQueue.size();
+            while (!deferredCapacityWaiters.isEmpty() && freeDeferredCount > 0)
+            {
+                if (admittedWaiters == null)
+                {
+                    admittedWaiters = new ArrayList<>();
+                }
+                admittedWaiters.add(deferredCapacityWaiters.pollFirst());
+                --freeDeferredCount;
+            }
             if (msgOut == null)
             {
                 try
@@ -588,6 +923,21 @@ public class TcpConnectorPeer implements Peer
             }
             ++msgSentCtr;
         }
+        if (admittedWaiters != null)
+        {
+            // Completing a waiter builds and sends the message of its API call, which must not run on the
+            // selector thread. A single task keeps the order in which the waiters were admitted.
+            List<MonoSink<Void>> waiters = admittedWaiters;
+            Schedulers.boundedElastic().schedule(
+                () ->
+                {
+                    for (MonoSink<Void> waiter : waiters)
+                    {
+                        waiter.success();
+                    }
+                }
+            );
+        }
     }
 
     @Override
@@ -619,13 +969,52 @@ public class TcpConnectorPeer implements Peer
     @Override
     public int outQueueCapacity()
     {
-        return Integer.MAX_VALUE;
+        return outQueueMaxMsgCount > 0 ? outQueueMaxMsgCount : Integer.MAX_VALUE;
     }
 
     @Override
     public int outQueueCount()
     {
-        return msgOutQueue.size();
+        synchronized (this)
+        {
+            return msgOutQueue.size();
+        }
+    }
+
+    @Override
+    public long outQueueByteCapacity()
+    {
+        return outQueueMaxBytes > 0 ? outQueueMaxBytes : Long.MAX_VALUE;
+    }
+
+    @Override
+    public long outQueueBytes()
+    {
+        synchronized (this)
+        {
+            return outQueueBytes;
+        }
+    }
+
+    @Override
+    public int outQueueDeferredCount()
+    {
+        synchronized (this)
+        {
+            return deferredMsgQueue.size();
+        }
+    }
+
+    @Override
+    public long msgDroppedCount()
+    {
+        return msgDroppedCtr;
+    }
+
+    @Override
+    public long msgCoalescedCount()
+    {
+        return msgCoalescedCtr;
     }
 
     @Override
@@ -707,14 +1096,7 @@ public class TcpConnectorPeer implements Peer
     @Override
     public void sendPing()
     {
-        try
-        {
-            sendMessage(getInternalPingMessage());
-        }
-        catch (IllegalMessageStateException illegalMsgStateExc)
-        {
-            throw new ImplementationError(illegalMsgStateExc);
-        }
+        sendUnorderedMessage(getInternalPingMessage());
         lastPingSent = System.currentTimeMillis();
     }
 
@@ -726,14 +1108,7 @@ public class TcpConnectorPeer implements Peer
     @Override
     public void sendPong()
     {
-        try
-        {
-            sendMessage(getInternalPongMessage());
-        }
-        catch (IllegalMessageStateException illegalMsgStateExc)
-        {
-            throw new ImplementationError(illegalMsgStateExc);
-        }
+        sendUnorderedMessage(getInternalPongMessage());
     }
 
     protected Message getInternalPongMessage()
@@ -910,7 +1285,7 @@ public class TcpConnectorPeer implements Peer
         {
             dataSize = Message.DEFAULT_MAX_DATA_SIZE;
         }
-        msgIn.setData(new byte[dataSize]);
+        msgIn.allocateData(dataSize);
         currentReadPhase = currentReadPhase.getNextPhase();
     }
 
@@ -934,65 +1309,95 @@ public class TcpConnectorPeer implements Peer
         return state;
     }
 
+    /*
+     * Performs a gathering write of the header and data buffers of the current outbound message
+     * and of further queued messages, until either MAX_WRITE_MSG_COUNT messages or MAX_WRITE_BYTES
+     * bytes are collected. Messages that could not be sent completely are kept in the writeBuffers
+     * and are continued with the next invocation.
+     */
     public WriteState write(SocketChannel outChannel)
         throws IllegalMessageStateException, IOException
     {
         WriteState state = WriteState.UNFINISHED;
-        switch (currentWritePhase)
-        {
-            case HEADER:
-                {
-                    ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
-                    outChannel.write(headerBuffer);
-                    if (!headerBuffer.hasRemaining())
-                    {
-                        currentWritePhase = currentWritePhase.getNextPhase();
-                        state = writeData(outChannel, state);
-                    }
-                }
-                break;
-            case DATA:
-                state = writeData(outChannel, state);
-                break;
-            default:
-                throw new ImplementationError(
-                    String.format(
-                        "Missing case label for enum member '%s'",
-                        currentWritePhase.name()
-                    ),
-                    null
-                );
-        }
-        if (state == WriteState.FINISHED)
+        fillWriteBuffers();
+        if (writeBufferCount > 0)
         {
-            currentWritePhase = Phase.HEADER;
-            nextOutMessage();
+            outChannel.write(writeBuffers, 0, writeBufferCount);
+
+            int finishedBufferCount = 0;
+            while (finishedBufferCount < writeBufferCount &&
+                !writeBuffers[finishedBufferCount].hasRemaining() &&
+                !writeBuffers[finishedBufferCount + 1].hasRemaining())
+            {
+                // Finished sending the message
+                finishedBufferCount += 2;
+                state = WriteState.FINISHED;
+                nextOutMessage();
+            }
+            if (finishedBufferCount > 0)
+            {
+                int remainingBufferCount = writeBufferCount - finishedBufferCount;
+                System.arraycopy(writeBuffers, finishedBufferCount, writeBuffers, 0, remainingBufferCount);
+                Arrays.fill(writeBuffers, remainingBufferCount, writeBufferCount, null);
+                writeBufferCount = remainingBufferCount;
+            }
         }
         return state;
     }
 
-    private WriteState writeData(SocketChannel outChannel, WriteState stateRef)
-        throws IOException, IllegalMessageStateException
+    /**
+     * Adds the buffers of the outbound messages that are not yet in the writeBuffers,
+     * starting with the current outbound message, followed by the messages in the msgOutQueue
+     */
+    private void fillWriteBuffers() throws IllegalMessageStateException
     {
-        WriteState state = stateRef;
-        ByteBuffer dataBuffer = msgOut.getDataBuffer();
-        outChannel.write(dataBuffer);
-        if (!dataBuffer.hasRemaining())
+        synchronized (this)
         {
-            // Finished sending the message
-            state = WriteState.FINISHED;
-            currentWritePhase = currentWritePhase.getNextPhase();
+            if (writeBufferCount == 0 && msgOut != null)
+            {
+                addWriteBuffers(msgOut);
+            }
+            if (writeBufferCount > 0)
+            {
+                long pendingBytes = 0;
+                for (int idx = 0; idx < writeBufferCount; ++idx)
+                {
+                    pendingBytes += writeBuffers[idx].remaining();
+                }
+
+                // The first message in the writeBuffers is msgOut, the others are at the head of the msgOutQueue
+                Iterator<Message> msgIter = msgOutQueue.iterator();
+                for (int skipCount = writeBufferCount / 2 - 1; skipCount > 0 && msgIter.hasNext(); --skipCount)
+                {
+                    msgIter.next();
+                }
+                while (msgIter.hasNext() && writeBufferCount < writeBuffers.length && pendingBytes < MAX_WRITE_BYTES)
+                {
+                    Message msg = msgIter.next();
+                    addWriteBuffers(msg);
+                    pendingBytes += writeBuffers[writeBufferCount - 2].remaining() +
+                        writeBuffers[writeBufferCount - 1].remaining();
+                }
+            }
         }
-        return state;
     }
 
+    private void addWriteBuffers(Message msg) throws IllegalMessageStateException
+    {
+        // getHeaderBuffer may return a new buffer with each call, therefore the buffers
+        // are kept in the writeBuffers until the message is sent completely
+        writeBuffers[writeBufferCount] = msg.getHeaderBuffer();
+        writeBuffers[writeBufferCount + 1] = msg.getDataBuffer();
+        writeBufferCount += 2;
+    }
 
     protected void addToQueue(Message msg)
     {
         try
         {
             // This method is single-threaded, no need to synchronize
-            long msgSize = msg.getData().length;
+            // Uses the size of the data buffer, because getData() would copy pooled receive buffers
+            long msgSize = msg.getDataBuffer().limit();
             if (msgSize > msgRecvSizePeak)
             {
                 msgRecvSizePeak = msgSize;
@@ -1040,4 +1445,18 @@ public class TcpConnectorPeer implements Peer
     {
         stltConfig = stltConfigRef;
     }
+
+    private static class OpenRpc
+    {
+        private final String apiCallName;
+        private final FluxSink<ByteArrayInputStream> sink;
+        private final long startNanos;
+
+        OpenRpc(String apiCallNameRef, FluxSink<ByteArrayInputStream> sinkRef)
+        {
+            apiCallName = apiCallNameRef;
+            sink = sinkRef;
+            startNanos = System.nanoTime();
+        }
+    }
 }
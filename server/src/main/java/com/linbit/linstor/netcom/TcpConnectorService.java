@@ -15,6 +15,7 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.TcpConnectorPeer.ReadState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.utils.MathUtils;
 
 import java.io.IOException;
 import java.net.ConnectException;
@@ -43,6 +44,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.ListIterator;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.event.Level;
 
@@ -61,8 +63,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
     private static final ServiceName SERVICE_NAME;
     private static final String SERVICE_INFO = "TCP/IP network communications service";
 
-    private final Object syncObj = new Object();
-
     protected ServiceName serviceInstanceName;
 
     private static final long REINIT_THROTTLE_TIME = 3000L;
@@ -81,6 +81,18 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Maximum number of connections to accept in one selector iteration
     public static final int MAX_ACCEPT_LOOP = 100;
 
+    // Number of selector loops (reactors) that perform I/O on the connections
+    public static final int MIN_SELECTOR_COUNT = 1;
+    public static final int MAX_SELECTOR_COUNT = 64;
+    public static final int DEFAULT_SELECTOR_COUNT = 1;
+
+    // Default limits of the outbound message queue of each peer
+    public static final int DEFAULT_OUT_QUEUE_MAX_MSG_COUNT = 10000;
+    public static final long DEFAULT_OUT_QUEUE_MAX_BYTES = 0x4000000L;
+
+    // Index of the reactor that runs on the service's main thread and accepts new connections
+    private static final int ACCEPT_REACTOR_IDX = 0;
+
     protected final ErrorReporter errorReporter;
     protected final CommonSerializer commonSerializer;
     private MessageProcessor msgProcessor;
@@ -88,15 +100,26 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Set by shutdown() to shut down the selector loop
     private AtomicBoolean shutdownFlag;
 
-    // Selector loop thread
+    // Selector loop thread of the accepting reactor
     private Thread selectorLoopThread;
 
+    // Selector loops, each one running on its own thread, connections are spread across all of them
+    private final SelectorReactor[] reactors;
+    private final AtomicInteger nextReactorIdx = new AtomicInteger();
+
     // Set to indicate that connections have been updated
     // outside of the selector loop
     private AtomicBoolean updateFlag;
 
     private ConnectionObserver connObserver;
 
+    // Receive buffers for inbound messages, shared by all peers of this connector
+    private final MessageBufferPool msgBufferPool = new MessageBufferPool();
+
+    // Limits of the outbound message queue of each peer, 0 means unlimited
+    private volatile int outQueueMaxMsgCount = DEFAULT_OUT_QUEUE_MAX_MSG_COUNT;
+    private volatile long outQueueMaxBytes = DEFAULT_OUT_QUEUE_MAX_BYTES;
+
     static
     {
         try
@@ -164,13 +187,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Privileged access context for e.g. setting peer to node
     private final AccessContext privilegedAccCtx;
 
-    // List of SocketChannels to register for OP_CONNECT
-    private final LinkedList<SocketChannel> registerToConnect = new LinkedList<>();
-
-    // Selector for all connections
-    Selector serverSelector;
-
-
     public TcpConnectorService(
         ErrorReporter errorReporterRef,
         CommonSerializer commonSerializerRef,
@@ -180,6 +196,29 @@ public class TcpConnectorService implements Runnable, TcpConnector
         AccessContext privilegedAccCtxRef,
         ConnectionObserver connObserverRef
     )
+    {
+        this(
+            errorReporterRef,
+            commonSerializerRef,
+            msgProcessorRef,
+            bindAddressRef,
+            defaultPeerAccCtxRef,
+            privilegedAccCtxRef,
+            connObserverRef,
+            DEFAULT_SELECTOR_COUNT
+        );
+    }
+
+    public TcpConnectorService(
+        ErrorReporter errorReporterRef,
+        CommonSerializer commonSerializerRef,
+        MessageProcessor msgProcessorRef,
+        SocketAddress bindAddressRef,
+        AccessContext defaultPeerAccCtxRef,
+        AccessContext privilegedAccCtxRef,
+        ConnectionObserver connObserverRef,
+        int selectorCountRef
+    )
     {
         ErrorCheck.ctorNotNull(TcpConnectorService.class, ErrorReporter.class, errorReporterRef);
         ErrorCheck.ctorNotNull(TcpConnectorService.class, MessageProcessor.class, msgProcessorRef);
@@ -190,7 +229,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
         bindAddress     = DEFAULT_BIND_ADDRESS;
         serverSocket    = null;
-        serverSelector  = null;
         errorReporter   = errorReporterRef;
         commonSerializer = commonSerializerRef;
         msgProcessor    = msgProcessorRef;
@@ -202,12 +240,20 @@ public class TcpConnectorService implements Runnable, TcpConnector
         defaultPeerAccCtx = defaultPeerAccCtxRef;
         privilegedAccCtx = privilegedAccCtxRef;
         bindAddress = bindAddressRef;
+
+        int selectorCount = MathUtils.bounds(MIN_SELECTOR_COUNT, selectorCountRef, MAX_SELECTOR_COUNT);
+        reactors = new SelectorReactor[selectorCount];
+        for (int idx = 0; idx < selectorCount; ++idx)
+        {
+            reactors[idx] = new SelectorReactor(idx);
+        }
     }
 
     @Override
     public Peer connect(InetSocketAddress address, Node node) throws IOException
     {
-        Selector srvSel = serverSelector;
+        SelectorReactor reactor = nextReactor();
+        Selector srvSel = reactor.selector;
         Peer peer;
         if (srvSel != null)
         {
@@ -219,7 +265,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 socketChannel.socket().setTcpNoDelay(true);
                 String peerId = address.getAddress().getHostAddress() + ":" + address.getPort();
                 SelectionKey connKey;
-                synchronized (syncObj)
+                synchronized (reactor.reactorSyncObj)
                 {
                     srvSel.wakeup();
                     boolean connected = socketChannel.connect(address);
@@ -390,9 +436,11 @@ public class TcpConnectorService implements Runnable, TcpConnector
             try
             {
                 initialize();
+                startReactors();
             }
             catch (IOException ioExc)
             {
+                uninitialize();
                 String descriptionText = String.format(
                     "Initialization of the %s service instance '%s' failed.",
                     TcpConnectorService.class.getName(),
@@ -418,15 +466,53 @@ public class TcpConnectorService implements Runnable, TcpConnector
         }
     }
 
+    /**
+     * Opens the selectors of all reactors except the accepting one, which is initialized by
+     * {@link #initialize()}, and starts their selector loop threads
+     */
+    private void startReactors() throws IOException
+    {
+        boolean initFlag = false;
+        try
+        {
+            for (SelectorReactor reactor : reactors)
+            {
+                if (reactor.reactorIdx != ACCEPT_REACTOR_IDX)
+                {
+                    reactor.selector = Selector.open();
+                }
+            }
+            for (SelectorReactor reactor : reactors)
+            {
+                if (reactor.reactorIdx != ACCEPT_REACTOR_IDX)
+                {
+                    reactor.reactorThread = new Thread(reactor);
+                    reactor.reactorThread.setName(reactor.getThreadName());
+                    reactor.reactorThread.start();
+                }
+            }
+            initFlag = true;
+        }
+        finally
+        {
+            if (!initFlag)
+            {
+                for (SelectorReactor reactor : reactors)
+                {
+                    if (reactor.reactorIdx != ACCEPT_REACTOR_IDX)
+                    {
+                        closeAllConnections(reactor);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public synchronized void shutdown()
     {
         shutdownFlag.set(true);
-        Selector srvSel = serverSelector;
-        if (srvSel != null)
-        {
-            srvSel.wakeup();
-        }
+        wakeup();
     }
 
     @Override
@@ -442,10 +528,34 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             joinThr.join(timeout);
         }
+        for (SelectorReactor reactor : reactors)
+        {
+            Thread reactorThr = reactor.reactorThread;
+            if (reactorThr != null)
+            {
+                reactorThr.join(timeout);
+            }
+        }
     }
 
     @Override
     public void run()
+    {
+        runSelectorLoop(reactors[ACCEPT_REACTOR_IDX]);
+        uninitialize();
+
+        // If the accepting reactor's selector loop ended for any other reason than a shutdown() call,
+        // the remaining reactors must be stopped too
+        shutdownFlag.set(true);
+        wakeup();
+
+        synchronized (this)
+        {
+            selectorLoopThread = null;
+        }
+    }
+
+    private void runSelectorLoop(SelectorReactor reactor)
     {
         // Selector loop
         LinkedList<Peer> peersWithFinishedMessages = new LinkedList<>();
@@ -453,6 +563,12 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             try
             {
+                Selector selector = reactor.selector;
+                if (selector == null)
+                {
+                    // Reinitialization of the reactor failed
+                    break;
+                }
                 try
                 {
                     if (peersWithFinishedMessages.isEmpty())
@@ -460,11 +576,11 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // Block until I/O operations are ready to be performed
                         // on at least one of the channels, or until the selection
                         // operation is interrupted (e.g., using wakeup())
-                        int selectCount = serverSelector.select();
+                        int selectCount = selector.select();
 
-                        synchronized (syncObj)
+                        synchronized (reactor.reactorSyncObj)
                         {
-                            // wait for the syncObj to get released
+                            // wait for the reactorSyncObj to get released
                         }
 
                         // Ensure making some progress in the case that
@@ -473,7 +589,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // channels
                         if (selectCount <= 0)
                         {
-                            serverSelector.selectNow();
+                            selector.selectNow();
                         }
                     }
                     else
@@ -509,7 +625,12 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // now we see if we have new operations (read, write, accept, connect)
                         // if peers still have more messages, they have to wait until the next
                         // loop-cycle (fair scheduling).
-                        serverSelector.selectNow();
+                        selector.selectNow();
+
+                        synchronized (reactor.reactorSyncObj)
+                        {
+                            // wait for the reactorSyncObj to get released
+                        }
                     }
                 }
                 catch (CancelledKeyException ignored)
@@ -519,7 +640,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 }
 
 
-                Iterator<SelectionKey> keysIter = serverSelector.selectedKeys().iterator();
+                Iterator<SelectionKey> keysIter = selector.selectedKeys().iterator();
                 while (keysIter.hasNext())
                 {
                     SelectionKey currentKey = null;
@@ -747,7 +868,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
             {
                 // Selector became inoperative. Log error and attempt to reinitialize.
                 errorReporter.reportError(selectExc);
-                reinitialize();
+                reinitialize(reactor);
             }
             catch (IOException ioExc)
             {
@@ -756,7 +877,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 // Log error and attempt to reinitialize.
                 errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
                 errorReporter.reportError(Level.TRACE, ioExc);
-                reinitialize();
+                reinitialize(reactor);
             }
             catch (Exception exc)
             {
@@ -771,12 +892,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 break;
             }
         }
-        uninitialize();
-
-        synchronized (this)
-        {
-            selectorLoopThread = null;
-        }
     }
 
     private void acceptConnection(SelectionKey currentKey)
@@ -804,43 +919,62 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         {
                             String peerId = inetAddr.getHostAddress() + ":" + inetSockAddr.getPort();
 
-                            // Register the accepted connection with the selector loop
-                            SelectionKey connKey = null;
-                            try
+                            // Register the accepted connection with the selector loop of one of the reactors.
+                            // The reactor's selector loop must not see the key before the peer object is attached.
+                            SelectorReactor reactor = nextReactor();
+                            synchronized (reactor.reactorSyncObj)
                             {
-                                connKey = newSocket.register(serverSelector, SelectionKey.OP_READ);
-                            }
-                            catch (IllegalSelectorException illSelExc)
-                            {
-                                // Thrown by register() if the selector is from another I/O provider
-                                // than the channel that is being registered
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "Registration of the channel with the selector failed, " +
-                                        "because the channel was created by another type of " +
-                                        "I/O provider",
-                                        illSelExc
-                                    )
-                                );
-                                // Connection was not accepted and will be closed in the finally block
-                            }
-                            catch (IllegalArgumentException illArg)
-                            {
-                                // Generated if a bit in the I/O operations specified
-                                // in register() does not correspond with a supported I/O operation
-                                // Should not happen; log the error.
-                                // Connection was not accepted and will be closed in the finally block
-                                errorReporter.reportError(illArg);
-                            }
+                                SelectionKey connKey = null;
+                                try
+                                {
+                                    Selector selector = reactor.selector;
+                                    if (selector != null)
+                                    {
+                                        selector.wakeup();
+                                        connKey = newSocket.register(selector, SelectionKey.OP_READ);
+                                    }
+                                }
+                                catch (IllegalSelectorException illSelExc)
+                                {
+                                    // Thrown by register() if the selector is from another I/O provider
+                                    // than the channel that is being registered
+                                    errorReporter.reportError(
+                                        new ImplementationError(
+                                            "Registration of the channel with the selector failed, " +
+                                            "because the channel was created by another type of " +
+                                            "I/O provider",
+                                            illSelExc
+                                        )
+                                    );
+                                    // Connection was not accepted and will be closed in the finally block
+                                }
+                                catch (IllegalArgumentException illArg)
+                                {
+                                    // Generated if a bit in the I/O operations specified
+                                    // in register() does not correspond with a supported I/O operation
+                                    // Should not happen; log the error.
+                                    // Connection was not accepted and will be closed in the finally block
+                                    errorReporter.reportError(illArg);
+                                }
+                                catch (ClosedSelectorException selectExc)
+                                {
+                                    // The selected reactor was stopped or is being reinitialized
+                                    // Connection was not accepted and will be closed in the finally block
+                                    errorReporter.logDebug(
+                                        "%s: Connector %s: Reactor %d is not operational, rejecting connection from %s",
+                                        SERVICE_NAME, serviceInstanceName, reactor.reactorIdx, peerId
+                                    );
+                                }
 
-                            if (connKey != null)
-                            {
-                                // Prepare the peer object and message
-                                TcpConnectorPeer connPeer = createTcpConnectorPeer(peerId, connKey, null);
-                                connKey.attach(connPeer);
-                                connPeer.connectionEstablished();
-                                connObserver.inboundConnectionEstablished(connPeer);
-                                accepted = true;
+                                if (connKey != null)
+                                {
+                                    // Prepare the peer object and message
+                                    TcpConnectorPeer connPeer = createTcpConnectorPeer(peerId, connKey, null);
+                                    connKey.attach(connPeer);
+                                    connPeer.connectionEstablished();
+                                    connObserver.inboundConnectionEstablished(connPeer);
+                                    accepted = true;
+                                }
                             }
                         }
                         else
@@ -938,7 +1072,63 @@ public class TcpConnectorService implements Runnable, TcpConnector
     @Override
     public void wakeup()
     {
-        serverSelector.wakeup();
+        for (SelectorReactor reactor : reactors)
+        {
+            Selector selector = reactor.selector;
+            if (selector != null)
+            {
+                selector.wakeup();
+            }
+        }
+    }
+
+    @Override
+    public MessageBufferPool getMessageBufferPool()
+    {
+        return msgBufferPool;
+    }
+
+    @Override
+    public void setOutQueueLimits(int maxMsgCount, long maxBytes)
+    {
+        outQueueMaxMsgCount = Math.max(maxMsgCount, 0);
+        outQueueMaxBytes = Math.max(maxBytes, 0);
+    }
+
+    @Override
+    public int getOutQueueMaxMsgCount()
+    {
+        return outQueueMaxMsgCount;
+    }
+
+    @Override
+    public long getOutQueueMaxBytes()
+    {
+        return outQueueMaxBytes;
+    }
+
+    /**
+     * Selects the reactor for a new connection. Connections are assigned round-robin, skipping
+     * reactors that are currently not operational.
+     */
+    private SelectorReactor nextReactor()
+    {
+        SelectorReactor reactor = reactors[ACCEPT_REACTOR_IDX];
+        for (int attempt = 0; attempt < reactors.length; ++attempt)
+        {
+            SelectorReactor candidate = reactors[Math.floorMod(nextReactorIdx.getAndIncrement(), reactors.length)];
+            if (candidate.selector != null)
+            {
+                reactor = candidate;
+                break;
+            }
+        }
+        return reactor;
+    }
+
+    public int getSelectorCount()
+    {
+        return reactors.length;
     }
 
     protected void establishConnection(SelectionKey currentKey)
@@ -1020,17 +1210,19 @@ public class TcpConnectorService implements Runnable, TcpConnector
         currentKey.cancel();
     }
 
-    private void closeAllConnections()
+    private void closeAllConnections(SelectorReactor reactor)
     {
         try
         {
-            if (serverSelector != null)
+            Selector selector = reactor.selector;
+            reactor.selector = null;
+            if (selector != null)
             {
-                for (SelectionKey currentKey : serverSelector.keys())
+                for (SelectionKey currentKey : selector.keys())
                 {
                     closeConnection(currentKey, false, true);
                 }
-                serverSelector.close();
+                selector.close();
             }
         }
         catch (ClosedSelectorException selectExc)
@@ -1069,7 +1261,8 @@ public class TcpConnectorService implements Runnable, TcpConnector
         try
         {
             serverSocket = ServerSocketChannel.open();
-            serverSelector = Selector.open();
+            Selector serverSelector = Selector.open();
+            reactors[ACCEPT_REACTOR_IDX].selector = serverSelector;
             IOException savedExc = null;
             try
             {
@@ -1272,35 +1465,64 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     private void uninitialize()
     {
-        closeAllConnections();
+        closeAllConnections(reactors[ACCEPT_REACTOR_IDX]);
         closeServerSocket();
 
         serverSocket    = null;
-        serverSelector  = null;
     }
 
     private synchronized void reinitialize()
     {
         uninitialize();
 
-        // Throttle reinitialization to avoid busy-looping in case of a
-        // persistent error during initialization (e.g., all network drivers down, ...)
+        throttleReinitialization();
+
         try
         {
-            Thread.sleep(REINIT_THROTTLE_TIME);
+            initialize();
         }
-        catch (InterruptedException intrExc)
+        catch (IOException ioExc)
         {
-            // No-op; thread may be interrupted to shorten the sleep()
+            errorReporter.reportError(ioExc);
+        }
+    }
+
+    private void reinitialize(SelectorReactor reactor)
+    {
+        if (reactor.reactorIdx == ACCEPT_REACTOR_IDX)
+        {
+            reinitialize();
         }
+        else
+        {
+            // Only the connections of the failed reactor are affected, the server socket
+            // and all other reactors remain operational
+            closeAllConnections(reactor);
+
+            throttleReinitialization();
 
+            try
+            {
+                reactor.selector = Selector.open();
+            }
+            catch (IOException ioExc)
+            {
+                errorReporter.reportError(ioExc);
+            }
+        }
+    }
+
+    private void throttleReinitialization()
+    {
+        // Throttle reinitialization to avoid busy-looping in case of a
+        // persistent error during initialization (e.g., all network drivers down, ...)
         try
         {
-            initialize();
+            Thread.sleep(REINIT_THROTTLE_TIME);
         }
-        catch (IOException ioExc)
+        catch (InterruptedException intrExc)
         {
-            errorReporter.reportError(ioExc);
+            // No-op; thread may be interrupted to shorten the sleep()
         }
     }
 
@@ -1343,6 +1565,50 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             selectorLoopThread.setName(serviceInstanceName.getDisplayName());
         }
+        for (SelectorReactor reactor : reactors)
+        {
+            Thread reactorThr = reactor.reactorThread;
+            if (reactorThr != null)
+            {
+                reactorThr.setName(reactor.getThreadName());
+            }
+        }
+    }
+
+    /**
+     * A selector loop that performs the I/O operations on the connections registered with its selector.
+     *
+     * The reactor with index {@link #ACCEPT_REACTOR_IDX} runs on the service's main thread and also accepts
+     * new connections. All other reactors run on their own threads, which are started by {@link #start()}.
+     */
+    private class SelectorReactor implements Runnable
+    {
+        private final int reactorIdx;
+
+        // Held while registering channels with the selector, to keep the selector
+        // loop from processing a selection key before the peer object is attached
+        private final Object reactorSyncObj = new Object();
+
+        private volatile Selector selector;
+        private volatile Thread reactorThread;
+
+        private SelectorReactor(int reactorIdxRef)
+        {
+            reactorIdx = reactorIdxRef;
+        }
+
+        private String getThreadName()
+        {
+            return serviceInstanceName.getDisplayName() + "-" + reactorIdx;
+        }
+
+        @Override
+        public void run()
+        {
+            runSelectorLoop(this);
+            closeAllConnections(this);
+            reactorThread = null;
+        }
     }
 
     private static class SafeConnectionObserver implements ConnectionObserver
@@ -29,6 +29,24 @@ public class TcpHeaderOnlyMessage implements Message
         throw new ImplementationError("Cannot set Data of TcpHeaderOnlyMessage", null);
     }
 
+    @Override
+    public void allocateData(int dataSize)
+    {
+        throw new ImplementationError("Cannot allocate Data of TcpHeaderOnlyMessage", null);
+    }
+
+    @Override
+    public void releaseData()
+    {
+        // no-op, the message does not have any data
+    }
+
+    @Override
+    public void compressData()
+    {
+        // no-op, the message does not have any data
+    }
+
     @Override
     public int getType() throws IllegalMessageStateException
     {
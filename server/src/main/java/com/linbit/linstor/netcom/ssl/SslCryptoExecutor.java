@@ -0,0 +1,117 @@
+package com.linbit.linstor.netcom.ssl;
+
+import com.linbit.utils.MathUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for the CPU intensive parts of SSL connections, so that they do not block the
+ * selector threads of the {@link SslTcpConnectorService}
+ *
+ * Runs the delegated tasks of the SSLEngine during handshakes and the encryption of outbound messages.
+ * Threads are started on demand and terminate after being idle for some time.
+ * Also keeps statistics about the handshake latency.
+ */
+public class SslCryptoExecutor implements Executor
+{
+    public static final int MIN_THREAD_COUNT = 1;
+    public static final int MAX_THREAD_COUNT = 64;
+    public static final int DEFAULT_THREAD_COUNT = 1;
+
+    private static final long THREAD_KEEP_ALIVE_SECS = 60;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong handshakeCtr = new AtomicLong();
+    private final AtomicLong handshakeFailedCtr = new AtomicLong();
+    private final AtomicLong handshakeTimeTotal = new AtomicLong();
+    private final AtomicLong handshakeTimeMax = new AtomicLong();
+
+    public SslCryptoExecutor(final String threadNamePrefix, final int threadCountRef)
+    {
+        final int threadCount = MathUtils.bounds(MIN_THREAD_COUNT, threadCountRef, MAX_THREAD_COUNT);
+        final AtomicInteger threadIdx = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            THREAD_KEEP_ALIVE_SECS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable ->
+            {
+                Thread thread = new Thread(runnable);
+                thread.setName(String.format("%s_%04d", threadNamePrefix, threadIdx.getAndIncrement()));
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task)
+    {
+        executor.execute(task);
+    }
+
+    void handshakeFinished(long durationMillis)
+    {
+        handshakeCtr.incrementAndGet();
+        handshakeTimeTotal.addAndGet(durationMillis);
+        handshakeTimeMax.accumulateAndGet(durationMillis, Math::max);
+    }
+
+    void handshakeFailed()
+    {
+        handshakeFailedCtr.incrementAndGet();
+    }
+
+    public int getThreadCount()
+    {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Number of tasks waiting for a crypto thread
+     */
+    public int getQueueDepth()
+    {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount()
+    {
+        return executor.getActiveCount();
+    }
+
+    public long getHandshakeCount()
+    {
+        return handshakeCtr.get();
+    }
+
+    public long getHandshakeFailedCount()
+    {
+        return handshakeFailedCtr.get();
+    }
+
+    /**
+     * Sum of the durations of all finished handshakes in milliseconds
+     */
+    public long getHandshakeTimeTotal()
+    {
+        return handshakeTimeTotal.get();
+    }
+
+    /**
+     * Duration of the slowest finished handshake in milliseconds
+     */
+    public long getHandshakeTimeMax()
+    {
+        return handshakeTimeMax.get();
+    }
+}
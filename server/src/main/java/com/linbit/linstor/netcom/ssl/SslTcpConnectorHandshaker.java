@@ -11,6 +11,9 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SslTcpConnectorHandshaker
 {
@@ -38,9 +41,15 @@ public class SslTcpConnectorHandshaker
     private SslTcpConnectorPeer peer;
     private HandshakeFinishedListener[] finishedListeners;
 
+    private final SslCryptoExecutor cryptoExecutor;
+    // Set while the delegated tasks of the SSLEngine are running on the cryptoExecutor, guarded by the peer
+    private boolean delegatedTasksRunning = false;
+    private long handshakeStartTime;
+
     public SslTcpConnectorHandshaker(
         SslTcpConnectorPeer peerRef,
         SSLEngine sslEngine,
+        SslCryptoExecutor cryptoExecutorRef,
         HandshakeFinishedListener... finishedListenersRef
     )
     {
@@ -52,12 +61,14 @@ public class SslTcpConnectorHandshaker
         session.invalidate();
 
         peer = peerRef;
+        cryptoExecutor = cryptoExecutorRef;
         finishedListeners = finishedListenersRef;
     }
 
     void startHandshaking(SSLEngine sslEngine) throws SSLException
     {
         handshaking = true;
+        handshakeStartTime = System.currentTimeMillis();
         sslEngine.beginHandshake();
         myAppData.clear();
         myNetData.clear();
@@ -89,7 +100,18 @@ public class SslTcpConnectorHandshaker
     )
         throws IOException
     {
-        if (handshaking)
+        boolean tasksRunning;
+        synchronized (peer)
+        {
+            tasksRunning = delegatedTasksRunning;
+            if (tasksRunning)
+            {
+                // Interest ops might have been enabled by sending a message,
+                // the handshake is resumed when the delegated tasks are finished
+                peer.setOpInterest(0);
+            }
+        }
+        if (handshaking && !tasksRunning)
         {
             boolean retry;
             do
@@ -104,108 +126,127 @@ public class SslTcpConnectorHandshaker
                         "but the " + engine.getClass().getName() + " instance is not in handshake mode"
                     );
                 }
-                do
+                switch (handshakeStatus)
                 {
-                    switch (handshakeStatus)
-                    {
-                        case NEED_UNWRAP:
+                    case NEED_UNWRAP:
+                        {
+                            int read = socketChannel.read(peerNetData);
+                            if (read < 0)
                             {
-                                int read = socketChannel.read(peerNetData);
-                                if (read < 0)
+                                if (!engine.isInboundDone() || !engine.isOutboundDone())
                                 {
-                                    if (!engine.isInboundDone() || !engine.isOutboundDone())
-                                    {
-                                        engine.closeInbound();
-                                        engine.closeOutbound();
-                                        handshakeStatus = engine.getHandshakeStatus();
-                                    }
+                                    engine.closeInbound();
+                                    engine.closeOutbound();
+                                    handshakeStatus = engine.getHandshakeStatus();
+                                }
+                            }
+                            else
+                            {
+                                peerNetData.flip();
+                                SSLEngineResult result = null;
+
+                                try
+                                {
+                                    result = engine.unwrap(peerNetData, peerAppData);
+                                    // after an unwrap the data is flipped again, thus we can immediately
+                                    // read + flip + unwrap again
                                 }
-                                else
+                                catch (SSLException sslExc)
                                 {
-                                    peerNetData.flip();
-                                    SSLEngineResult result = null;
+                                    // FIXME: Error reporting required
+                                    sslExc.printStackTrace();
+                                    engine.closeOutbound();
+                                    handshakeStatus = engine.getHandshakeStatus();
+                                }
 
-                                    try
-                                    {
-                                        result = engine.unwrap(peerNetData, peerAppData);
-                                        // after an unwrap the data is flipped again, thus we can immediately
-                                        // read + flip + unwrap again
-                                    }
-                                    catch (SSLException sslExc)
-                                    {
-                                        // FIXME: Error reporting required
-                                        sslExc.printStackTrace();
-                                        engine.closeOutbound();
-                                        handshakeStatus = engine.getHandshakeStatus();
-                                    }
+                                if (result != null)
+                                {
+                                    peerNetData.compact();
+                                    handshakeStatus = result.getHandshakeStatus();
 
-                                    if (result != null)
+                                    switch (result.getStatus())
                                     {
-                                        peerNetData.compact();
-                                        handshakeStatus = result.getHandshakeStatus();
-
-                                        switch (result.getStatus())
-                                        {
-                                            case OK:
-                                                break;
-                                            case BUFFER_OVERFLOW:
-                                                peerAppData = enlargeApplicationBuffer(engine, peerAppData);
-                                                retry = true;
-                                                break;
-                                            case BUFFER_UNDERFLOW:
-                                                peerNetData = handleBufferUnderflow(engine, peerNetData);
-                                                retry = true;
-                                                break;
-                                            case CLOSED:
-                                                if (engine.isOutboundDone())
-                                                {
-                                                    throw new SSLException("Handshaking failed");
-                                                    // handshakeSuccess = false;
-                                                    // handshakeStatus = HandshakeStatus.NOT_HANDSHAKING;
-                                                }
-                                                else
-                                                {
-                                                    engine.closeOutbound();
-                                                    handshakeStatus = engine.getHandshakeStatus();
-                                                }
-                                                break;
-                                            default:
-                                                throw new IllegalStateException("Unknown SSL state: " +
-                                                    result.getStatus());
-                                        }
-                                        if (result.bytesConsumed() > 0 &&
-                                            peerNetData.position() > 0)
-                                        {
+                                        case OK:
+                                            break;
+                                        case BUFFER_OVERFLOW:
+                                            peerAppData = enlargeApplicationBuffer(engine, peerAppData);
                                             retry = true;
-                                        }
+                                            break;
+                                        case BUFFER_UNDERFLOW:
+                                            peerNetData = handleBufferUnderflow(engine, peerNetData);
+                                            retry = true;
+                                            break;
+                                        case CLOSED:
+                                            if (engine.isOutboundDone())
+                                            {
+                                                throw new SSLException("Handshaking failed");
+                                                // handshakeSuccess = false;
+                                                // handshakeStatus = HandshakeStatus.NOT_HANDSHAKING;
+                                            }
+                                            else
+                                            {
+                                                engine.closeOutbound();
+                                                handshakeStatus = engine.getHandshakeStatus();
+                                            }
+                                            break;
+                                        default:
+                                            throw new IllegalStateException("Unknown SSL state: " +
+                                                result.getStatus());
+                                    }
+                                    if (result.bytesConsumed() > 0 &&
+                                        peerNetData.position() > 0)
+                                    {
+                                        retry = true;
                                     }
                                 }
                             }
-                            break;
-                        case NEED_WRAP:
-                            myNetData.clear();
-                            SSLEngineResult result;
-                            try
-                            {
-                                result = engine.wrap(myAppData, myNetData);
-                                handshakeStatus = result.getHandshakeStatus();
-                                state = HandshakeState.WRAPPED;
-                            }
-                            catch (SSLException sslExc)
-                            {
-                                // FIXME: Error reporting required
-                                sslExc.printStackTrace();
-                                engine.closeOutbound();
-                                handshakeStatus = engine.getHandshakeStatus();
-                                result = null;
-                                state = HandshakeState.FAILED;
-                            }
+                        }
+                        break;
+                    case NEED_WRAP:
+                        myNetData.clear();
+                        SSLEngineResult result;
+                        try
+                        {
+                            result = engine.wrap(myAppData, myNetData);
+                            handshakeStatus = result.getHandshakeStatus();
+                            state = HandshakeState.WRAPPED;
+                        }
+                        catch (SSLException sslExc)
+                        {
+                            // FIXME: Error reporting required
+                            sslExc.printStackTrace();
+                            engine.closeOutbound();
+                            handshakeStatus = engine.getHandshakeStatus();
+                            result = null;
+                            state = HandshakeState.FAILED;
+                        }
 
-                            if (result != null)
+                        if (result != null)
+                        {
+                            switch (result.getStatus())
                             {
-                                switch (result.getStatus())
-                                {
-                                    case OK:
+                                case OK:
+                                    if (state == HandshakeState.WRAPPED)
+                                    {
+                                        myNetData.flip();
+                                        state = HandshakeState.SENDING;
+                                    }
+                                    socketChannel.write(myNetData);
+                                    if (!myNetData.hasRemaining())
+                                    {
+                                        state = HandshakeState.SENT;
+                                    }
+                                    break;
+                                case BUFFER_OVERFLOW:
+                                    myNetData = enlargePacketBuffer(engine, myNetData);
+                                    break;
+                                case BUFFER_UNDERFLOW:
+                                    throw new SSLException(
+                                        "Buffer underflow while handshaking - this should never occur"
+                                    );
+                                case CLOSED:
+                                    try
+                                    {
                                         if (state == HandshakeState.WRAPPED)
                                         {
                                             myNetData.flip();
@@ -216,61 +257,34 @@ public class SslTcpConnectorHandshaker
                                         {
                                             state = HandshakeState.SENT;
                                         }
-                                        break;
-                                    case BUFFER_OVERFLOW:
-                                        myNetData = enlargePacketBuffer(engine, myNetData);
-                                        break;
-                                    case BUFFER_UNDERFLOW:
-                                        throw new SSLException(
-                                            "Buffer underflow while handshaking - this should never occur"
-                                        );
-                                    case CLOSED:
-                                        try
-                                        {
-                                            if (state == HandshakeState.WRAPPED)
-                                            {
-                                                myNetData.flip();
-                                                state = HandshakeState.SENDING;
-                                            }
-                                            socketChannel.write(myNetData);
-                                            if (!myNetData.hasRemaining())
-                                            {
-                                                state = HandshakeState.SENT;
-                                            }
-                                            peerNetData.clear();
-                                        }
-                                        catch (Exception exc)
-                                        {
-                                            // FIXME: Should probably catch SSLException, IOException, others?
-                                            // Socket failed to send CLOSE message
-                                            handshakeStatus = engine.getHandshakeStatus();
-                                        }
-                                        break;
-                                    default:
-                                        throw new IllegalStateException("Unknown SSL state: " + result.getStatus());
-                                }
-                            }
-                            break;
-                        case NEED_TASK:
-                            Runnable task;
-                            while ((task = engine.getDelegatedTask()) != null)
-                            {
-                                new Thread(task).start();
+                                        peerNetData.clear();
+                                    }
+                                    catch (Exception exc)
+                                    {
+                                        // FIXME: Should probably catch SSLException, IOException, others?
+                                        // Socket failed to send CLOSE message
+                                        handshakeStatus = engine.getHandshakeStatus();
+                                    }
+                                    break;
+                                default:
+                                    throw new IllegalStateException("Unknown SSL state: " + result.getStatus());
                             }
-                            handshakeStatus = engine.getHandshakeStatus();
-                            break;
-                        case FINISHED:
-                            break;
-                        case NOT_HANDSHAKING:
-                            break;
-                        default:
-                            throw new IllegalStateException("Invalid SSL status: " + handshakeStatus);
-                    }
+                        }
+                        break;
+                    case NEED_TASK:
+                        // handled below
+                        break;
+                    case FINISHED:
+                        break;
+                    case NOT_HANDSHAKING:
+                        break;
+                    default:
+                        throw new IllegalStateException("Invalid SSL status: " + handshakeStatus);
                 }
-                while (handshakeStatus == HandshakeStatus.NEED_TASK); // do not wait if NEED_TASK
 
                 if (state == HandshakeState.FAILED)
                 {
+                    cryptoExecutor.handshakeFailed();
                     peer.closeConnection();
                     throw new SSLException("Handshaking failed");
                 }
@@ -279,6 +293,7 @@ public class SslTcpConnectorHandshaker
                 {
                     case FINISHED:
                         handshaking = false;
+                        cryptoExecutor.handshakeFinished(System.currentTimeMillis() - handshakeStartTime);
                         for (HandshakeFinishedListener listener : finishedListeners)
                         {
                             listener.handshakeFinished(socketChannel);
@@ -286,7 +301,10 @@ public class SslTcpConnectorHandshaker
                         socketChannel.finishConnect();
                         break;
                     case NEED_TASK:
-                        // should never happen - while loop before should cover this case
+                        // Do not block the selector thread while the delegated tasks are running,
+                        // the handshake is resumed when they are finished
+                        runDelegatedTasks(engine);
+                        retry = false;
                         break;
                     case NEED_UNWRAP:
                         peer.setOpInterest(SelectionKey.OP_READ);
@@ -295,6 +313,7 @@ public class SslTcpConnectorHandshaker
                         peer.setOpInterest(SelectionKey.OP_WRITE);
                         break;
                     case NOT_HANDSHAKING:
+                        cryptoExecutor.handshakeFailed();
                         peer.closeConnection();
                         throw new SSLException("Not handshaking");
                     default:
@@ -306,6 +325,59 @@ public class SslTcpConnectorHandshaker
         return !handshaking;
     }
 
+    /**
+     * Runs the delegated tasks of the SSLEngine on the crypto executor.
+     * The peer does not receive any selector events until all tasks are finished, afterwards
+     * the next handshake step is triggered by enabling OP_WRITE.
+     */
+    private void runDelegatedTasks(final SSLEngine engine)
+    {
+        List<Runnable> taskList = new ArrayList<>();
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null)
+        {
+            taskList.add(task);
+        }
+
+        if (taskList.isEmpty())
+        {
+            peer.setOpInterest(SelectionKey.OP_WRITE);
+        }
+        else
+        {
+            synchronized (peer)
+            {
+                delegatedTasksRunning = true;
+                peer.setOpInterest(0);
+            }
+
+            final AtomicInteger pendingTasks = new AtomicInteger(taskList.size());
+            for (final Runnable delegatedTask : taskList)
+            {
+                cryptoExecutor.execute(
+                    () ->
+                    {
+                        try
+                        {
+                            delegatedTask.run();
+                        }
+                        finally
+                        {
+                            if (pendingTasks.decrementAndGet() == 0)
+                            {
+                                synchronized (peer)
+                                {
+                                    delegatedTasksRunning = false;
+                                    peer.resumeHandshake();
+                                }
+                            }
+                        }
+                    }
+                );
+            }
+        }
+    }
+
     protected ByteBuffer enlargePacketBuffer(SSLEngine engine, ByteBuffer buffer)
     {
         return enlargeBuffer(buffer, engine.getSession().getPacketBufferSize());
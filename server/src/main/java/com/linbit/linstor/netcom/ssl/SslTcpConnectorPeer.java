@@ -15,22 +15,36 @@ import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.IllegalMessageStateException;
+import com.linbit.linstor.netcom.Message;
 import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.security.AccessContext;
 
 public class SslTcpConnectorPeer extends TcpConnectorPeer
 {
+    // Maximum number of SSL records that are encrypted into the encryptedWriteBuffer by one crypto task
+    private static final int ENCRYPTED_RECORDS_PER_WRITE = 16;
+
     private final boolean clientMode;
 
     private SSLEngine sslEngine;
     private SSLContext sslCtx;
     private ByteBuffer encryptedReadBuffer;
+    // Allocated by the crypto task for the current outbound message, released once the outbound queue is drained
     private ByteBuffer encryptedWriteBuffer;
     private ByteBuffer decryptedReadBuffer;
 
     private InetSocketAddress address;
     private SslTcpConnectorHandshaker handshaker;
 
+    private final SslCryptoExecutor cryptoExecutor;
+    // Plaintext header and data buffers of the message that is currently encrypted
+    private ByteBuffer[] plainWriteBuffers;
+    // Set while the cryptoExecutor encrypts the next part of the current outbound message
+    private boolean encrypting = false;
+    // Set if the encryptedWriteBuffer contains the last part of the current outbound message
+    private boolean msgOutEncrypted = false;
+    private Exception encryptionExc;
+
     public SslTcpConnectorPeer(
         final ErrorReporter errorReporter,
         final CommonSerializer commonSerializer,
@@ -47,6 +61,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         super(errorReporter, commonSerializer, peerId, sslConnectorService, connKey, peerAccCtx, node);
         sslCtx = sslCtxRef;
         address = peerAddress;
+        cryptoExecutor = sslConnectorService.getCryptoExecutor();
 
         clientMode = address != null;
 
@@ -69,6 +84,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         handshaker = new SslTcpConnectorHandshaker(
             this,
             sslEngine,
+            cryptoExecutor,
             socketChannel ->
             {
                 nextInMessage(); // prepare the next messages
@@ -89,10 +105,9 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
 
         encryptedReadBuffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
         decryptedReadBuffer = ByteBuffer.allocate(sslEngine.getSession().getApplicationBufferSize());
-        encryptedWriteBuffer = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
+        encryptedWriteBuffer = null;
         encryptedReadBuffer.limit(0);
         decryptedReadBuffer.limit(0);
-        encryptedWriteBuffer.limit(0);
     }
 
     @Override
@@ -120,6 +135,11 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
             sslEngine.setUseClientMode(false);
         }
 
+        plainWriteBuffers = null;
+        msgOutEncrypted = false;
+        encryptionExc = null;
+        encryptedWriteBuffer = null;
+
         handshaker.startHandshaking(sslEngine);
 
         super.connectionEstablished();
@@ -294,9 +314,12 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
     }
 
     /*
-     * Unlike the {@link #read(SocketChannel)} method, this method can encrypt and send only one message
-     * with each invocation. This is possible as the {@link TcpConnectorPeer} will let the
-     * {@link SelectionKey#OP_WRITE} enabled as long as it has outgoing messages.
+     * The encryption of outbound messages is performed by the {@link SslCryptoExecutor}, the selector thread
+     * only sends the already encrypted data. While the next part of a message is being encrypted,
+     * {@link SelectionKey#OP_WRITE} is disabled and re-enabled by the crypto task once it is finished.
+     * This method can only send one message with each invocation, which is possible as the
+     * {@link TcpConnectorPeer} will let the {@link SelectionKey#OP_WRITE} enabled as long as it has
+     * outgoing messages.
      */
     @Override
     public WriteState write(SocketChannel outChannel) throws IllegalMessageStateException, IOException
@@ -308,70 +331,168 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         }
         else
         {
-            /*
-             * copy the not yet consumed bytes to the beginning of the buffer
-             * after compact:
-             * pos = index of first unoccupied byte
-             * limit = capacity
-             *
-             * if there are no bytes left (pos == limit), .compact() behaves the same as .clear()
-             */
-            encryptedWriteBuffer.compact();
-            // first try to encrypt the new message
-            switch (currentWritePhase)
+            boolean encryptionPending;
+            synchronized (this)
             {
-                case HEADER:
-                    {
-                        ByteBuffer decryptedHeaderBuffer = msgOut.getHeaderBuffer();
-                        sslEngine.wrap(decryptedHeaderBuffer, encryptedWriteBuffer);
+                encryptionPending = encrypting;
+                if (encryptionPending)
+                {
+                    // The crypto task will enable OP_WRITE again when it is finished
+                    disableInterestOp(SelectionKey.OP_WRITE);
+                }
+            }
+            if (!encryptionPending)
+            {
+                throwEncryptionException();
 
-                        if (!decryptedHeaderBuffer.hasRemaining())
+                if (encryptedWriteBuffer != null && encryptedWriteBuffer.hasRemaining())
+                {
+                    outChannel.write(encryptedWriteBuffer);
+                }
+                if (encryptedWriteBuffer == null || !encryptedWriteBuffer.hasRemaining())
+                {
+                    if (msgOutEncrypted)
+                    {
+                        msgOutEncrypted = false;
+                        plainWriteBuffers = null;
+                        state = WriteState.FINISHED;
+                        nextOutMessage();
+                        if (msgOut == null)
                         {
-                            currentWritePhase = currentWritePhase.getNextPhase();
-                            state = wrapData(state);
+                            // the outbound queue is drained, do not keep the buffer for an idle connection
+                            encryptedWriteBuffer = null;
                         }
                     }
+                    else
+                    if (msgOut != null)
+                    {
+                        startEncryption(msgOut);
+                    }
+                }
+            }
+        }
+        return state;
+    }
+
+    private void startEncryption(final Message msg) throws IllegalMessageStateException
+    {
+        if (plainWriteBuffers == null)
+        {
+            // getHeaderBuffer may return a new buffer with each call, therefore the
+            // buffers are kept until the message is completely encrypted
+            plainWriteBuffers = new ByteBuffer[] {msg.getHeaderBuffer(), msg.getDataBuffer()};
+        }
+        synchronized (this)
+        {
+            encrypting = true;
+            disableInterestOp(SelectionKey.OP_WRITE);
+        }
+        cryptoExecutor.execute(this::encryptNextRecords);
+    }
+
+    /**
+     * Encrypts the next records of the current outbound message into the encryptedWriteBuffer.
+     * Runs on the crypto executor.
+     */
+    private void encryptNextRecords()
+    {
+        try
+        {
+            final int packetSize = sslEngine.getSession().getPacketBufferSize();
+            final int writeBufferSize = getEncryptedWriteBufferSize(packetSize);
+            if (encryptedWriteBuffer == null || encryptedWriteBuffer.capacity() < writeBufferSize)
+            {
+                encryptedWriteBuffer = ByteBuffer.allocate(writeBufferSize);
+            }
+            encryptedWriteBuffer.clear();
+            boolean finished = false;
+            while (!finished && encryptedWriteBuffer.remaining() >= packetSize)
+            {
+                SSLEngineResult sslResult = sslEngine.wrap(plainWriteBuffers, encryptedWriteBuffer);
+                if (sslResult.getStatus() == SSLEngineResult.Status.CLOSED)
+                {
+                    throw new SSLException("The SSL engine was closed while encrypting an outbound message");
+                }
+                finished = !plainWriteBuffers[0].hasRemaining() && !plainWriteBuffers[1].hasRemaining();
+                if (sslResult.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW)
+                {
+                    // send the encrypted data first
                     break;
-                case DATA:
-                    state = wrapData(state);
-                    break;
-                default:
-                    throw new ImplementationError(
-                        String.format(
-                            "Missing case label for enum member '%s'",
-                            currentWritePhase.name()
-                        ),
-                        null
-                    );
+                }
             }
-            // we just (partially?) encrypted data into the encrytpedWriteBuffer
-            // try to send it
-            encryptedWriteBuffer.flip(); // make ready to send
-            outChannel.write(encryptedWriteBuffer);
+            encryptedWriteBuffer.flip();
+            msgOutEncrypted = finished;
+        }
+        catch (SSLException | RuntimeException exc)
+        {
+            encryptedWriteBuffer = null;
+            encryptionExc = exc;
+        }
 
-            if (state == WriteState.FINISHED)
+        synchronized (this)
+        {
+            encrypting = false;
+            try
+            {
+                enableOpInterest(SelectionKey.OP_WRITE);
+                wakeupSelector();
+            }
+            catch (IllegalStateException illState)
             {
-                nextOutMessage();
-                currentWritePhase = Phase.HEADER; // prepare for next write
+                // No-op; Subclasses of illState can be thrown
+                // when the connection has been closed
             }
         }
-        return state;
     }
 
-    private WriteState wrapData(WriteState stateRef)
-        throws SSLException, IllegalMessageStateException
+    /**
+     * Returns the size of the encryptedWriteBuffer that is needed for the remaining plaintext of the current
+     * outbound message, so that small messages do not allocate space for ENCRYPTED_RECORDS_PER_WRITE records
+     */
+    private int getEncryptedWriteBufferSize(int packetSize)
     {
-        WriteState state = stateRef;
-        ByteBuffer decryptedDataBuffer = msgOut.getDataBuffer();
+        final long plainRemaining = (long) plainWriteBuffers[0].remaining() + plainWriteBuffers[1].remaining();
+        final int appSize = sslEngine.getSession().getApplicationBufferSize();
+        final long records = Math.max(1, (plainRemaining + appSize - 1) / appSize);
+        return (int) Math.min(records, ENCRYPTED_RECORDS_PER_WRITE) * packetSize;
+    }
 
-        sslEngine.wrap(decryptedDataBuffer, encryptedWriteBuffer);
-        if (!decryptedDataBuffer.hasRemaining())
+    /**
+     * Rethrows an exception that was thrown while encrypting an outbound message,
+     * so that it is handled by the selector thread like any other write error
+     */
+    private void throwEncryptionException() throws SSLException
+    {
+        Exception exc = encryptionExc;
+        if (exc != null)
         {
-            currentWritePhase = currentWritePhase.getNextPhase();
-            state = WriteState.FINISHED;
+            encryptionExc = null;
+            if (exc instanceof SSLException)
+            {
+                throw (SSLException) exc;
+            }
+            throw (RuntimeException) exc;
         }
+    }
 
-        return state;
+    /**
+     * Called by the {@link SslTcpConnectorHandshaker} once the delegated tasks of the SSLEngine are finished
+     */
+    void resumeHandshake()
+    {
+        synchronized (this)
+        {
+            try
+            {
+                setOpInterest(SelectionKey.OP_WRITE);
+                wakeupSelector();
+            }
+            catch (IllegalStateException illState)
+            {
+                // No-op; Subclasses of illState can be thrown
+                // when the connection has been closed
+            }
+        }
     }
 
     // overriding and only calling super so that this method is exposed to the current package
@@ -31,6 +31,7 @@ import com.linbit.linstor.security.AccessContext;
 public class SslTcpConnectorService extends TcpConnectorService
 {
     private final SSLContext sslCtx;
+    private final SslCryptoExecutor cryptoExecutor;
 
     public SslTcpConnectorService(
         final ErrorReporter errorReporter,
@@ -49,6 +50,45 @@ public class SslTcpConnectorService extends TcpConnectorService
     )
         throws IOException, NoSuchAlgorithmException, KeyManagementException,
         UnrecoverableKeyException, KeyStoreException, CertificateException
+    {
+        this(
+            errorReporter,
+            commonSerializer,
+            msgProcessorRef,
+            bindAddress,
+            peerAccCtxRef,
+            privAccCtxRef,
+            connObserverRef,
+            sslProtocol,
+            keyStoreFile,
+            keyStorePasswd,
+            keyPasswd,
+            trustStoreFile,
+            trustStorePasswd,
+            DEFAULT_SELECTOR_COUNT,
+            SslCryptoExecutor.DEFAULT_THREAD_COUNT
+        );
+    }
+
+    public SslTcpConnectorService(
+        final ErrorReporter errorReporter,
+        final CommonSerializer commonSerializer,
+        final MessageProcessor msgProcessorRef,
+        final SocketAddress bindAddress,
+        final AccessContext peerAccCtxRef,
+        final AccessContext privAccCtxRef,
+        final ConnectionObserver connObserverRef,
+        final String sslProtocol,
+        final String keyStoreFile,
+        final char[] keyStorePasswd,
+        final char[] keyPasswd,
+        final String trustStoreFile,
+        final char[] trustStorePasswd,
+        final int selectorCount,
+        final int cryptoThreadCount
+    )
+        throws IOException, NoSuchAlgorithmException, KeyManagementException,
+        UnrecoverableKeyException, KeyStoreException, CertificateException
     {
         super(
             errorReporter,
@@ -57,10 +97,12 @@ public class SslTcpConnectorService extends TcpConnectorService
             bindAddress,
             peerAccCtxRef,
             privAccCtxRef,
-            connObserverRef
+            connObserverRef,
+            selectorCount
         );
         sslCtx = SSLContext.getInstance(sslProtocol);
         initialize(keyStoreFile, keyStorePasswd, keyPasswd, trustStoreFile, trustStorePasswd);
+        cryptoExecutor = new SslCryptoExecutor(serviceInstanceName.displayValue + "_Crypto", cryptoThreadCount);
     }
 
     private void initialize(
@@ -96,6 +138,11 @@ public class SslTcpConnectorService extends TcpConnectorService
         );
     }
 
+    public SslCryptoExecutor getCryptoExecutor()
+    {
+        return cryptoExecutor;
+    }
+
     @Override
     protected SslTcpConnectorPeer createTcpConnectorPeer(
         final String peerId,
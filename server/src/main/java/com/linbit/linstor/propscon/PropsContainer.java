@@ -92,6 +92,11 @@ public class PropsContainer extends AbsTransactionObject implements Props
     protected Provider<TransactionMgr> transMgrProvider;
     private Map<String, String> cachedPropMap;
 
+    // Changes that are written to the database when the transaction is committed.
+    // Only used by the root container, a null value marks a removed property
+    private Map<String, String> pendingPropMap;
+    private boolean pendingRemoveAll;
+
     protected String instanceName;
 
     PropsContainer(
@@ -116,6 +121,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
             rootContainer = this;
             parentContainer = null;
             cachedPropMap = new HashMap<>();
+            pendingPropMap = new TreeMap<>();
         }
         else
         {
@@ -129,6 +135,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
             rootContainer = parent.getRoot();
             parentContainer = parent;
             cachedPropMap = null;
+            pendingPropMap = null;
         }
         propMap = new TreeMap<>();
         containerMap = new TreeMap<>();
@@ -861,7 +868,8 @@ public class PropsContainer extends AbsTransactionObject implements Props
     @Override
     public boolean isDirty()
     {
-        return !rootContainer.cachedPropMap.isEmpty();
+        return !rootContainer.cachedPropMap.isEmpty() || !rootContainer.pendingPropMap.isEmpty() ||
+            rootContainer.pendingRemoveAll;
     }
 
     @Override
@@ -878,10 +886,67 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
     }
 
+    /**
+     * Writes all changes of the current transaction to the database, one batch each of removed, inserted and
+     * updated properties per instance. A property is inserted if it did not exist when the transaction
+     * started or if all properties of the instance were removed, otherwise it is updated.
+     */
+    @Override
+    public void flush() throws DatabaseException
+    {
+        PropsContainer root = rootContainer;
+        if (dbDriver != null)
+        {
+            if (root.pendingRemoveAll)
+            {
+                dbDriver.removeAll(root.instanceName);
+            }
+            Set<String> removedKeys = new TreeSet<>();
+            Map<String, String> insertedProps = new TreeMap<>();
+            Map<String, String> updatedProps = new TreeMap<>();
+            for (Entry<String, String> entry : root.pendingPropMap.entrySet())
+            {
+                if (entry.getValue() == null)
+                {
+                    // already deleted by removeAll
+                    if (!root.pendingRemoveAll)
+                    {
+                        removedKeys.add(entry.getKey());
+                    }
+                }
+                else
+                if (root.pendingRemoveAll || root.cachedPropMap.get(entry.getKey()) == null)
+                {
+                    insertedProps.put(entry.getKey(), entry.getValue());
+                }
+                else
+                {
+                    updatedProps.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (!removedKeys.isEmpty())
+            {
+                dbDriver.remove(root.instanceName, removedKeys);
+            }
+            if (!updatedProps.isEmpty())
+            {
+                dbDriver.update(root.instanceName, updatedProps);
+            }
+            if (!insertedProps.isEmpty())
+            {
+                dbDriver.insert(root.instanceName, insertedProps);
+            }
+        }
+        root.pendingPropMap.clear();
+        root.pendingRemoveAll = false;
+    }
+
     @Override
     public void commitImpl()
     {
         rootContainer.cachedPropMap.clear();
+        rootContainer.pendingPropMap.clear();
+        rootContainer.pendingRemoveAll = false;
     }
 
     @Override
@@ -929,45 +994,31 @@ public class PropsContainer extends AbsTransactionObject implements Props
             }
         }
         root.cachedPropMap.clear();
+        root.pendingPropMap.clear();
+        root.pendingRemoveAll = false;
     }
 
-    private void dbPersist(String key, String value, String oldValue) throws DatabaseException
+    private void dbPersist(String key, String value, String oldValue)
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
         if (dbDriver != null)
         {
-            try
-            {
-                dbDriver.persist(rootContainer.instanceName, key, value);
-            }
-            catch (DatabaseException sqlExc)
-            {
-                rollback();
-                throw sqlExc;
-            }
+            rootContainer.pendingPropMap.put(key, value);
         }
     }
 
-    private void dbRemove(String key, String oldValue) throws DatabaseException
+    private void dbRemove(String key, String oldValue)
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
         if (dbDriver != null)
         {
-            try
-            {
-                dbDriver.remove(rootContainer.instanceName, key);
-            }
-            catch (DatabaseException sqlExc)
-            {
-                rollback();
-                throw sqlExc;
-            }
+            rootContainer.pendingPropMap.put(key, null);
         }
     }
 
-    private void dbRemoveAll() throws DatabaseException
+    private void dbRemoveAll()
     {
         rootContainer.activateTransMgr();
         Set<Entry<String, String>> entrySet = rootContainer.entrySet();
@@ -978,15 +1029,8 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
         if (dbDriver != null)
         {
-            try
-            {
-                dbDriver.removeAll(rootContainer.instanceName);
-            }
-            catch (DatabaseException dbExc)
-            {
-                rollback();
-                throw dbExc;
-            }
+            rootContainer.pendingPropMap.clear();
+            rootContainer.pendingRemoveAll = true;
         }
     }
 
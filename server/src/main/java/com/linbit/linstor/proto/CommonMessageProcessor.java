@@ -164,12 +164,15 @@ public class CommonMessageProcessor implements MessageProcessor
                     workerPool.next(() -> this.doProcessMessage(msg, connector, peer, peerSeq));
                     break;
                 case MessageTypes.PING:
+                    msg.releaseData();
                     peer.sendPong();
                     break;
                 case MessageTypes.PONG:
                     // pongReceived is called for every case, making this case a no-op.
+                    msg.releaseData();
                     break;
                 default:
+                    msg.releaseData();
                     String peerAddress = null;
                     int port = 0;
                     InetSocketAddress peerSocketAddr = peer.peerAddress();
@@ -216,9 +219,19 @@ public class CommonMessageProcessor implements MessageProcessor
     private void doProcessMessage(Message msg, TcpConnector connector, Peer peer, long peerSeq)
     {
         peer.processInOrder(peerSeq, Flux.defer(() ->
-            peer.isConnected(false) ?
-                this.doProcessInOrderMessage(msg, connector, peer, peerSeq) :
-                Flux.empty()
+            {
+                Flux<?> flux;
+                if (peer.isConnected(false))
+                {
+                    flux = this.doProcessInOrderMessage(msg, connector, peer, peerSeq);
+                }
+                else
+                {
+                    msg.releaseData();
+                    flux = Flux.empty();
+                }
+                return flux;
+            }
         ));
     }
 
@@ -265,7 +278,16 @@ public class CommonMessageProcessor implements MessageProcessor
     {
         Flux<?> flux = Flux.empty();
 
-        byte[] msgData = msg.getData();
+        byte[] msgData;
+        try
+        {
+            msgData = msg.getData();
+        }
+        finally
+        {
+            // The data was copied from the pooled receive buffer, which can be reused now
+            msg.releaseData();
+        }
         ByteArrayInputStream msgDataIn = new ByteArrayInputStream(msgData);
 
         MsgHeaderOuterClass.MsgHeader header = MsgHeaderOuterClass.MsgHeader.parseDelimitedFrom(msgDataIn);
@@ -1,7 +1,7 @@
 package com.linbit.linstor.timer;
 
 import com.linbit.timer.Action;
-import com.linbit.timer.GenericTimer;
+import com.linbit.timer.HashedWheelTimer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -12,7 +12,7 @@ import javax.inject.Singleton;
  * @author Robert Altnoeder &lt;robert.altnoeder@linbit.com&gt;
  */
 @Singleton
-public class CoreTimerImpl extends GenericTimer<String, Action<String>> implements CoreTimer
+public class CoreTimerImpl extends HashedWheelTimer<String, Action<String>> implements CoreTimer
 {
     @Inject
     public CoreTimerImpl()
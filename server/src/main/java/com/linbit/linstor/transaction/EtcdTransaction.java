@@ -96,6 +96,53 @@ public class EtcdTransaction
         return retMap;
     }
 
+    /**
+     * Reads all keys starting with the given prefix using range requests of at most <code>pageSize</code> keys,
+     * so that large prefixes do not exceed the maximum message size of the ETCD server.
+     * All pages are read at the revision of the first page.
+     */
+    public TreeMap<String, String> getPaginated(String prefix, int pageSize)
+    {
+        return getPaginated(kvClient, prefix, pageSize);
+    }
+
+    /**
+     * Same as {@link #getPaginated(String, int)}, but independent of any transaction
+     */
+    public static TreeMap<String, String> getPaginated(KvClient kvClient, String prefix, int pageSize)
+    {
+        ByteString bsPrefix = bs(prefix);
+        ByteString rangeEnd = KeyUtils.plusOne(bsPrefix);
+
+        TreeMap<String, String> retMap = new TreeMap<>();
+        ByteString startKey = bsPrefix;
+        long revision = 0;
+        boolean more = true;
+        while (more)
+        {
+            FluentRangeRequest req = kvClient.get(startKey).rangeEnd(rangeEnd).limit(pageSize);
+            if (revision != 0)
+            {
+                req = req.revision(revision);
+            }
+            RangeResponse rsp = requestWithRetry(req);
+            revision = rsp.getHeader().getRevision();
+
+            for (KeyValue keyValue : rsp.getKvsList())
+            {
+                retMap.put(keyValue.getKey().toStringUtf8(), keyValue.getValue().toStringUtf8());
+            }
+
+            more = rsp.getMore() && rsp.getKvsCount() > 0;
+            if (more)
+            {
+                // continue right after the last returned key
+                startKey = rsp.getKvs(rsp.getKvsCount() - 1).getKey().concat(ByteString.copyFrom(new byte[] {0}));
+            }
+        }
+        return retMap;
+    }
+
     /**
      * Simple wrapper of {@link #get(String)} but only returning the value of the first entry
      * (caution - that is dependent of the underlying map-implementation)
@@ -1,6 +1,7 @@
 package com.linbit.linstor.transaction;
 
 import com.linbit.ImplementationError;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 
 public interface TransactionObject
@@ -34,6 +35,15 @@ public interface TransactionObject
      */
     boolean isDirty();
 
+    /**
+     * Writes the changes that this object collected during the transaction to the database.
+     * Called by the transaction manager before the database transaction is committed.
+     */
+    default void flush() throws DatabaseException
+    {
+        // changes are written to the database immediately by default
+    }
+
     /**
      * Reverts all changes made to this object since the last commit
      * or object creation
@@ -1,7 +1,9 @@
 package com.linbit.linstor.transaction;
 
 import com.linbit.ImplementationError;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -26,6 +28,18 @@ public class TransactionObjectCollection
         transObjects.add(transObj);
     }
 
+    public void flushAll() throws DatabaseException
+    {
+        // flushing must not register further objects, iterate over a copy to be safe anyways
+        for (TransactionObject transObj : new ArrayList<>(transObjects))
+        {
+            if (transObj.isDirty())
+            {
+                transObj.flush();
+            }
+        }
+    }
+
     public void commitAll()
     {
         for (TransactionObject transObj : transObjects)
@@ -0,0 +1,38 @@
+package com.linbit.linstor.transaction.manager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies the registered listeners whenever a transaction that changed data was committed
+ *
+ * The listeners run on the committing thread after the changes of the transaction were committed to the objects,
+ * while the thread still holds the locks of the transaction. Data derived from the objects at that point is
+ * therefore consistent with the committed state.
+ */
+@Singleton
+public class CommittedDataPublisher
+{
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    @Inject
+    public CommittedDataPublisher()
+    {
+    }
+
+    public void addListener(Runnable listener)
+    {
+        listeners.add(listener);
+    }
+
+    public void dataCommitted()
+    {
+        for (Runnable listener : listeners)
+        {
+            listener.run();
+        }
+    }
+}
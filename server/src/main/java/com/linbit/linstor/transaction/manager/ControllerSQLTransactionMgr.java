@@ -1,24 +1,94 @@
 package com.linbit.linstor.transaction.manager;
 
 import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.LinStorDBRuntimeException;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
+import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 
 public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 {
+    private static final String REMOVE_CHECKPOINT_COUNTER =
+        " DELETE FROM " + DbConstants.TBL_DB_CHECKPOINT;
+
     private final ControllerSQLDatabase controllerDatabase;
     private final Connection dbCon;
     private final TransactionObjectCollection transactionObjectCollection;
+    private final CommittedDataPublisher committedDataPublisher;
+    private final DbCheckpointCounter checkpointCounter;
+    private final SQLGroupCommitter groupCommitter;
+    private final boolean writeBehind;
+
+    // Statements deferred by executeDeferred(), in the order they have to be executed
+    private final ArrayList<DeferredStatement> deferredStatements;
+    // Prepared statements of the connection, closed at the end of the transaction
+    private final SQLStatementCache statementCache;
+    // Whether the current transaction might have changed the database
+    private boolean dataWritten;
+    // Whether statements were executed on the connection of the transaction
+    private boolean connectionUsed;
+    // Whether queries were executed on the connection of the transaction, see getQueryConnection()
+    private boolean connectionQueried;
 
     public ControllerSQLTransactionMgr(ControllerSQLDatabase controllerDatabaseRef) throws SQLException
+    {
+        this(controllerDatabaseRef, null, null, null, false);
+    }
+
+    public ControllerSQLTransactionMgr(
+        ControllerSQLDatabase controllerDatabaseRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        boolean writeBehindRef
+    )
+        throws SQLException
+    {
+        this(controllerDatabaseRef, committedDataPublisherRef, null, null, writeBehindRef);
+    }
+
+    public ControllerSQLTransactionMgr(
+        ControllerSQLDatabase controllerDatabaseRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        DbCheckpointCounter checkpointCounterRef,
+        boolean writeBehindRef
+    )
+        throws SQLException
+    {
+        this(controllerDatabaseRef, committedDataPublisherRef, checkpointCounterRef, null, writeBehindRef);
+    }
+
+    /**
+     * @param committedDataPublisherRef Notified after every commit of a transaction that changed data, may be null
+     * @param checkpointCounterRef Invalidates the checkpoint counter with the first change, may be null
+     * @param groupCommitterRef Commits the deferred statements together with other transactions, may be null
+     * @param writeBehindRef Whether statements passed to {@link #executeDeferred(String, SQLStatementParameters)}
+     *     are collected and executed in batches
+     */
+    public ControllerSQLTransactionMgr(
+        ControllerSQLDatabase controllerDatabaseRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        DbCheckpointCounter checkpointCounterRef,
+        SQLGroupCommitter groupCommitterRef,
+        boolean writeBehindRef
+    )
+        throws SQLException
     {
         controllerDatabase = controllerDatabaseRef;
+        committedDataPublisher = committedDataPublisherRef;
+        checkpointCounter = checkpointCounterRef;
+        groupCommitter = groupCommitterRef;
+        writeBehind = writeBehindRef;
         dbCon = controllerDatabaseRef.getConnection();
         transactionObjectCollection = new TransactionObjectCollection();
+        deferredStatements = new ArrayList<>();
+        statementCache = new SQLStatementCache(dbCon);
     }
 
     @Override
@@ -27,21 +97,97 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
         transactionObjectCollection.register(transObj);
     }
 
+    @Override
+    public void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        dataWritten = true;
+        if (writeBehind)
+        {
+            deferredStatements.add(new DeferredStatement(sql, params));
+        }
+        else
+        {
+            connectionUsed = true;
+            PreparedStatement stmt = statementCache.get(sql);
+            params.bind(stmt);
+            stmt.executeUpdate();
+        }
+    }
+
+    private void flushDeferredStatements() throws SQLException
+    {
+        if (!deferredStatements.isEmpty())
+        {
+            connectionUsed = true;
+            try
+            {
+                statementCache.executeBatched(deferredStatements);
+            }
+            finally
+            {
+                deferredStatements.clear();
+            }
+        }
+    }
+
     @Override
     public void commit() throws TransactionException
     {
+        boolean invalidateCheckpoint;
         try
         {
-            dbCon.commit();
+            transactionObjectCollection.flushAll();
+            invalidateCheckpoint = checkpointCounter != null && checkpointCounter.isArmed() && dataWritten;
+            if (invalidateCheckpoint)
+            {
+                executeDeferred(REMOVE_CHECKPOINT_COUNTER, new SQLStatementParameters());
+            }
+            if (isGroupCommitPossible())
+            {
+                try
+                {
+                    groupCommitter.commit(dbCon, statementCache, new ArrayList<>(deferredStatements));
+                }
+                finally
+                {
+                    deferredStatements.clear();
+                }
+                if (connectionQueried)
+                {
+                    // ends the transaction of the queries, which has nothing to write
+                    dbCon.commit();
+                }
+            }
+            else
+            {
+                flushDeferredStatements();
+                dbCon.commit();
+            }
         }
         catch (SQLException sqlExc)
         {
-            throw new TransactionException("Database commit failed.", sqlExc);
+            throw new TransactionException("Database commit failed.", toDatabaseException(sqlExc));
+        }
+        catch (DatabaseException dbExc)
+        {
+            throw new TransactionException("Database commit failed.", dbExc);
+        }
+        boolean dataCommitted = dataWritten;
+        dataWritten = false;
+        connectionUsed = false;
+        connectionQueried = false;
+        if (invalidateCheckpoint)
+        {
+            checkpointCounter.disarm();
         }
 
         transactionObjectCollection.commitAll();
 
         clearTransactionObjects();
+        if (dataCommitted)
+        {
+            dataCommitted();
+        }
     }
 
 
@@ -49,6 +195,10 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     public void rollback() throws TransactionException
     {
         transactionObjectCollection.rollbackAll();
+        deferredStatements.clear();
+        dataWritten = false;
+        connectionUsed = false;
+        connectionQueried = false;
 
         try
         {
@@ -62,6 +212,52 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
         clearTransactionObjects();
     }
 
+    /**
+     * Only transactions whose changes are all still deferred can be committed with the group, as the group might
+     * be committed on the connection of another transaction. Queries by {@link #getQueryConnection(String...)}
+     * do not prevent the group commit.
+     */
+    private boolean isGroupCommitPossible()
+    {
+        return groupCommitter != null && groupCommitter.isEnabled() && !connectionUsed &&
+            !deferredStatements.isEmpty();
+    }
+
+    /**
+     * Reports a failed deferred statement, e.g. the INSERT of an object that already exists, as a
+     * {@link DatabaseException}, like the statements that are executed right away
+     */
+    private static Throwable toDatabaseException(SQLException sqlExc)
+    {
+        Throwable ret = sqlExc;
+        Throwable cause = sqlExc;
+        while (cause != null && !(cause instanceof DeferredStatementException))
+        {
+            cause = cause.getCause();
+        }
+        if (cause != null)
+        {
+            DeferredStatementException deferredExc = (DeferredStatementException) cause;
+            ret = new DatabaseException(
+                "A database statement of the transaction failed",
+                "The statement was executed when the transaction was committed",
+                deferredExc.getCause().getMessage(),
+                null,
+                "SQL: " + deferredExc.getSql(),
+                sqlExc
+            );
+        }
+        return ret;
+    }
+
+    private void dataCommitted()
+    {
+        if (committedDataPublisher != null)
+        {
+            committedDataPublisher.dataCommitted();
+        }
+    }
+
     @Override
     public void clearTransactionObjects()
     {
@@ -83,12 +279,49 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public Connection getConnection()
     {
+        // statements that use the connection directly may depend on the deferred statements
+        dataWritten = true;
+        connectionUsed = true;
+        try
+        {
+            flushDeferredStatements();
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new LinStorDBRuntimeException("Executing the deferred database statements failed", sqlExc);
+        }
+        return dbCon;
+    }
+
+    @Override
+    public Connection getQueryConnection(String... tableNames)
+    {
+        boolean flushRequired = false;
+        for (int idx = 0; !flushRequired && idx < deferredStatements.size(); ++idx)
+        {
+            flushRequired = deferredStatements.get(idx).mightChange(tableNames);
+        }
+        if (flushRequired)
+        {
+            // the deferred statements are executed in their original order, so all of them are executed
+            try
+            {
+                flushDeferredStatements();
+            }
+            catch (SQLException sqlExc)
+            {
+                throw new LinStorDBRuntimeException("Executing the deferred database statements failed", sqlExc);
+            }
+        }
+        connectionQueried = true;
         return dbCon;
     }
 
     @Override
     public void returnConnection()
     {
+        deferredStatements.clear();
+        statementCache.close();
         controllerDatabase.returnConnection(dbCon);
 
         clearTransactionObjects();
@@ -12,11 +12,22 @@ import java.sql.SQLException;
 public class ControllerSQLTransactionMgrGenerator implements TransactionMgrGenerator
 {
     private final ControllerSQLDatabase controllerDatabase;
+    private final CommittedDataPublisher committedDataPublisher;
+    private final DbCheckpointCounter checkpointCounter;
+    private final SQLGroupCommitter groupCommitter;
 
     @Inject
-    public ControllerSQLTransactionMgrGenerator(ControllerDatabase controllerDatabaseRef)
+    public ControllerSQLTransactionMgrGenerator(
+        ControllerDatabase controllerDatabaseRef,
+        CommittedDataPublisher committedDataPublisherRef,
+        DbCheckpointCounter checkpointCounterRef,
+        SQLGroupCommitter groupCommitterRef
+    )
     {
         controllerDatabase = (ControllerSQLDatabase) controllerDatabaseRef;
+        committedDataPublisher = committedDataPublisherRef;
+        checkpointCounter = checkpointCounterRef;
+        groupCommitter = groupCommitterRef;
     }
 
     @Override
@@ -25,7 +36,14 @@ public class ControllerSQLTransactionMgrGenerator implements TransactionMgrGener
         ControllerSQLTransactionMgr controllerSQLTransactionMgr;
         try
         {
-            controllerSQLTransactionMgr = new ControllerSQLTransactionMgr(controllerDatabase);
+            // row writes are collected and executed in batches when the transaction is committed
+            controllerSQLTransactionMgr = new ControllerSQLTransactionMgr(
+                controllerDatabase,
+                committedDataPublisher,
+                checkpointCounter,
+                groupCommitter,
+                true
+            );
         }
         catch (SQLException sqlExc)
         {
@@ -0,0 +1,43 @@
+package com.linbit.linstor.transaction.manager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Guards the change counter that a checkpoint of the database tables is verified against
+ *
+ * The counter is stored in the database when a checkpoint is written. While the guard is armed, the
+ * transaction managers remove the stored counter with the first transaction that changes the database,
+ * so that an outdated checkpoint is never used. The guard starts armed, as a checkpoint of a previous
+ * run might still be valid.
+ */
+@Singleton
+public class DbCheckpointCounter
+{
+    private final AtomicBoolean armed = new AtomicBoolean(true);
+
+    @Inject
+    public DbCheckpointCounter()
+    {
+    }
+
+    /**
+     * Whether the next transaction that changes the database has to remove the stored counter
+     */
+    public boolean isArmed()
+    {
+        return armed.get();
+    }
+
+    public void arm()
+    {
+        armed.set(true);
+    }
+
+    public void disarm()
+    {
+        armed.set(false);
+    }
+}
@@ -0,0 +1,48 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A statement whose execution was deferred by {@link TransactionMgrSQL#executeDeferred}
+ */
+class DeferredStatement
+{
+    private static final Pattern TABLE_PATTERN = Pattern.compile(
+        "^\\s*(?:INSERT\\s+INTO|UPDATE|DELETE\\s+FROM)\\s+([\\w.]+)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    final String sql;
+    final SQLStatementParameters params;
+    // Name of the table that the statement changes, or null if it could not be determined
+    final String table;
+
+    DeferredStatement(String sqlRef, SQLStatementParameters paramsRef)
+    {
+        sql = sqlRef;
+        params = paramsRef;
+        table = getTable(sqlRef);
+    }
+
+    /**
+     * Whether the statement might change one of the given tables
+     */
+    boolean mightChange(String... tableNames)
+    {
+        boolean ret = table == null;
+        for (int idx = 0; !ret && idx < tableNames.length; ++idx)
+        {
+            ret = table.equalsIgnoreCase(tableNames[idx]);
+        }
+        return ret;
+    }
+
+    private static String getTable(String sql)
+    {
+        Matcher matcher = TABLE_PATTERN.matcher(sql);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
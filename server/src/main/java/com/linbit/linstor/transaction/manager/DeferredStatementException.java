@@ -0,0 +1,33 @@
+package com.linbit.linstor.transaction.manager;
+
+import java.sql.SQLException;
+
+/**
+ * Reports the deferred statement whose execution failed, as the failure is only detected when the
+ * statements are executed, usually when the transaction is committed
+ */
+class DeferredStatementException extends SQLException
+{
+    private static final long serialVersionUID = 3815162429217418526L;
+
+    private final String sql;
+
+    DeferredStatementException(String sqlRef, SQLException causeRef)
+    {
+        super(
+            "Executing the deferred statement '" + sqlRef + "' failed: " + causeRef.getMessage(),
+            causeRef.getSQLState(),
+            causeRef.getErrorCode(),
+            causeRef
+        );
+        sql = sqlRef;
+    }
+
+    /**
+     * The SQL of the failed statement
+     */
+    String getSql()
+    {
+        return sql;
+    }
+}
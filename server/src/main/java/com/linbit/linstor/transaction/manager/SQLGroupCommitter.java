@@ -0,0 +1,311 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.utils.LatencyHistogram;
+import com.linbit.utils.SizeHistogram;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit stage of the {@link ControllerSQLTransactionMgr}
+ *
+ * The deferred statements of the transactions that are committed within a short window are committed with a
+ * single database commit, so that the database only has to persist one commit for all of them. The first
+ * transaction of a group becomes its leader and executes the statements of the whole group on its own
+ * connection, so the group commit never needs a connection in addition to the ones the transactions already
+ * hold. A caller only returns after the shared commit succeeded. If the shared commit fails, the transactions
+ * of the group are committed one by one, so that only the failing transaction reports the error.
+ */
+public class SQLGroupCommitter
+{
+    // Maximum number of transactions that are committed together
+    private static final int MAX_GROUP_SIZE = 256;
+
+    private final ErrorReporter errorReporter;
+    private final long windowMillis;
+
+    private final LatencyHistogram commitLatencyHistogram;
+    private final SizeHistogram groupSizeHistogram;
+
+    private final ArrayDeque<PendingCommit> pendingCommits;
+    // Whether a leader is collecting or committing the pending commits, guarded by pendingCommits
+    private boolean leaderActive;
+
+    /**
+     * @param windowMillisRef Time in milliseconds that the leader of a group waits for further transactions.
+     *     The group commit is disabled if this is not positive.
+     */
+    public SQLGroupCommitter(
+        ErrorReporter errorReporterRef,
+        long windowMillisRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        windowMillis = windowMillisRef;
+
+        commitLatencyHistogram = new LatencyHistogram();
+        groupSizeHistogram = new SizeHistogram();
+        pendingCommits = new ArrayDeque<>();
+    }
+
+    public boolean isEnabled()
+    {
+        return windowMillis > 0;
+    }
+
+    /**
+     * Time from the commit request until the shared commit finished
+     */
+    public LatencyHistogram getCommitLatencyHistogram()
+    {
+        return commitLatencyHistogram;
+    }
+
+    /**
+     * Number of transactions that were committed together
+     */
+    public SizeHistogram getGroupSizeHistogram()
+    {
+        return groupSizeHistogram;
+    }
+
+    /**
+     * Executes the given statements and commits them together with the statements of other transactions.
+     * Blocks until the shared commit finished. If the caller becomes the leader of a group, the statements of
+     * the group are executed and committed on the given connection, which must not have uncommitted changes.
+     */
+    void commit(
+        Connection dbCon,
+        SQLStatementCache statementCache,
+        List<DeferredStatement> statements
+    )
+        throws SQLException
+    {
+        long startNanos = System.nanoTime();
+        PendingCommit pendingCommit = new PendingCommit(statements);
+        synchronized (pendingCommits)
+        {
+            pendingCommits.add(pendingCommit);
+            if (!leaderActive)
+            {
+                leaderActive = true;
+                pendingCommit.promote();
+            }
+            else
+            if (pendingCommits.size() >= MAX_GROUP_SIZE)
+            {
+                pendingCommits.notifyAll();
+            }
+        }
+        if (pendingCommit.awaitLeadership())
+        {
+            lead(dbCon, statementCache);
+        }
+        pendingCommit.awaitDone();
+        commitLatencyHistogram.record(System.nanoTime() - startNanos);
+    }
+
+    private void lead(Connection dbCon, SQLStatementCache statementCache)
+    {
+        List<PendingCommit> group = takeGroup();
+        try
+        {
+            commitGroup(dbCon, statementCache, group);
+        }
+        finally
+        {
+            for (PendingCommit pendingCommit : group)
+            {
+                pendingCommit.completeIfPending(new SQLException("The group commit was aborted"));
+            }
+        }
+    }
+
+    /**
+     * Waits for the group window to elapse or the group to become full. If more transactions are pending than
+     * fit into the group, the first of them becomes the leader of the next group.
+     */
+    private List<PendingCommit> takeGroup()
+    {
+        List<PendingCommit> group = new ArrayList<>();
+        boolean interrupted = false;
+        synchronized (pendingCommits)
+        {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+            long remainingNanos = deadline - System.nanoTime();
+            while (pendingCommits.size() < MAX_GROUP_SIZE && remainingNanos > 0 && !interrupted)
+            {
+                try
+                {
+                    TimeUnit.NANOSECONDS.timedWait(pendingCommits, remainingNanos);
+                }
+                catch (InterruptedException ignored)
+                {
+                    // commit what has been collected so far
+                    interrupted = true;
+                }
+                remainingNanos = deadline - System.nanoTime();
+            }
+            while (!pendingCommits.isEmpty() && group.size() < MAX_GROUP_SIZE)
+            {
+                group.add(pendingCommits.poll());
+            }
+            if (pendingCommits.isEmpty())
+            {
+                leaderActive = false;
+            }
+            else
+            {
+                pendingCommits.peek().promote();
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return group;
+    }
+
+    private void commitGroup(Connection dbCon, SQLStatementCache statementCache, List<PendingCommit> group)
+    {
+        groupSizeHistogram.record(group.size());
+        try
+        {
+            try
+            {
+                for (PendingCommit pendingCommit : group)
+                {
+                    statementCache.executeBatched(pendingCommit.statements);
+                }
+                dbCon.commit();
+                for (PendingCommit pendingCommit : group)
+                {
+                    pendingCommit.complete(null);
+                }
+            }
+            catch (SQLException groupExc)
+            {
+                errorReporter.logDebug(
+                    "Group commit of %d transactions failed, committing them one by one: %s",
+                    group.size(),
+                    groupExc.getMessage()
+                );
+                dbCon.rollback();
+                for (PendingCommit pendingCommit : group)
+                {
+                    try
+                    {
+                        statementCache.executeBatched(pendingCommit.statements);
+                        dbCon.commit();
+                        pendingCommit.complete(null);
+                    }
+                    catch (SQLException exc)
+                    {
+                        dbCon.rollback();
+                        pendingCommit.complete(exc);
+                    }
+                }
+            }
+        }
+        catch (SQLException exc)
+        {
+            for (PendingCommit pendingCommit : group)
+            {
+                pendingCommit.completeIfPending(exc);
+            }
+        }
+    }
+
+    private static class PendingCommit
+    {
+        private final List<DeferredStatement> statements;
+
+        private boolean leader;
+        private boolean done;
+        private SQLException failure;
+
+        PendingCommit(List<DeferredStatement> statementsRef)
+        {
+            statements = statementsRef;
+        }
+
+        synchronized void promote()
+        {
+            leader = true;
+            notifyAll();
+        }
+
+        synchronized void complete(SQLException failureRef)
+        {
+            done = true;
+            failure = failureRef;
+            notifyAll();
+        }
+
+        synchronized void completeIfPending(SQLException failureRef)
+        {
+            if (!done)
+            {
+                complete(failureRef);
+            }
+        }
+
+        /**
+         * Waits until the commit either is done or has to lead the next group
+         *
+         * @return Whether the commit has to lead the next group
+         */
+        synchronized boolean awaitLeadership()
+        {
+            boolean interrupted = false;
+            while (!done && !leader)
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException exc)
+                {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return !done;
+        }
+
+        /**
+         * Waits uninterruptibly, as the statements might be committed anyway
+         */
+        synchronized void awaitDone() throws SQLException
+        {
+            boolean interrupted = false;
+            while (!done)
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException exc)
+                {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null)
+            {
+                throw new SQLException("The group commit failed", failure);
+            }
+        }
+    }
+}
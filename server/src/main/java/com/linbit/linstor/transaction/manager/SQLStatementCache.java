@@ -0,0 +1,150 @@
+package com.linbit.linstor.transaction.manager;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The prepared statements of a single connection, used to execute deferred statements in batches
+ */
+class SQLStatementCache
+{
+    // Maximum number of statements that are sent to the database in a single batch
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final Connection dbCon;
+    private final Map<String, PreparedStatement> statements;
+
+    SQLStatementCache(Connection dbConRef)
+    {
+        dbCon = dbConRef;
+        statements = new HashMap<>();
+    }
+
+    PreparedStatement get(String sql) throws SQLException
+    {
+        PreparedStatement stmt = statements.get(sql);
+        if (stmt == null)
+        {
+            stmt = dbCon.prepareStatement(sql);
+            statements.put(sql, stmt);
+        }
+        return stmt;
+    }
+
+    /**
+     * Executes the deferred statements in their original order. Consecutive statements with the same SQL
+     * are sent as one JDBC batch. If a statement fails, the statement of the failed batch is discarded, so
+     * that its pending batch entries are not executed again by a later call.
+     *
+     * @throws DeferredStatementException if a statement failed, reporting the SQL of the failed statement
+     */
+    void executeBatched(List<DeferredStatement> deferredStatements) throws DeferredStatementException
+    {
+        PreparedStatement batchStmt = null;
+        String batchSql = null;
+        int batchSize = 0;
+        // index of the first and of the last statement of the current batch
+        int batchStartIdx = 0;
+        int lastIdx = -1;
+        try
+        {
+            for (int idx = 0; idx < deferredStatements.size(); ++idx)
+            {
+                DeferredStatement deferredStmt = deferredStatements.get(idx);
+                if (batchStmt != null && (!deferredStmt.sql.equals(batchSql) || batchSize >= MAX_BATCH_SIZE))
+                {
+                    batchStmt.executeBatch();
+                    batchStmt = null;
+                }
+                if (batchStmt == null)
+                {
+                    batchSql = deferredStmt.sql;
+                    batchStartIdx = idx;
+                    batchStmt = get(batchSql);
+                    batchSize = 0;
+                }
+                lastIdx = idx;
+                deferredStmt.params.bind(batchStmt);
+                batchStmt.addBatch();
+                ++batchSize;
+            }
+            if (batchStmt != null)
+            {
+                batchStmt.executeBatch();
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            if (batchSql != null)
+            {
+                discard(batchSql);
+            }
+            DeferredStatement failedStmt = deferredStatements.get(getFailedIdx(sqlExc, batchStartIdx, lastIdx));
+            throw new DeferredStatementException(failedStmt.sql, sqlExc);
+        }
+    }
+
+    /**
+     * Returns the index of the statement that caused the exception. The statements of a batch that were
+     * executed before the failed one are reported by the update counts of a {@link BatchUpdateException}.
+     */
+    private static int getFailedIdx(SQLException sqlExc, int batchStartIdx, int lastIdx)
+    {
+        int failedIdx;
+        if (sqlExc instanceof BatchUpdateException)
+        {
+            int[] updateCounts = ((BatchUpdateException) sqlExc).getUpdateCounts();
+            int executedCount = 0;
+            while (updateCounts != null && executedCount < updateCounts.length &&
+                updateCounts[executedCount] != Statement.EXECUTE_FAILED)
+            {
+                ++executedCount;
+            }
+            failedIdx = Math.min(batchStartIdx + executedCount, lastIdx);
+        }
+        else
+        {
+            failedIdx = lastIdx;
+        }
+        return Math.max(failedIdx, batchStartIdx);
+    }
+
+    private void discard(String sql)
+    {
+        PreparedStatement stmt = statements.remove(sql);
+        if (stmt != null)
+        {
+            try
+            {
+                stmt.clearBatch();
+                stmt.close();
+            }
+            catch (SQLException ignored)
+            {
+                // the statement is not used anymore
+            }
+        }
+    }
+
+    void close()
+    {
+        for (PreparedStatement stmt : statements.values())
+        {
+            try
+            {
+                stmt.close();
+            }
+            catch (SQLException ignored)
+            {
+                // the statements are also closed with the connection
+            }
+        }
+        statements.clear();
+    }
+}
@@ -1,8 +1,43 @@
 package com.linbit.linstor.transaction.manager;
 
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
+
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 
 public interface TransactionMgrSQL extends TransactionMgr
 {
+    /**
+     * Returns the connection of the transaction, after all deferred statements were executed
+     */
     Connection getConnection();
+
+    /**
+     * Returns the connection of the transaction for statements that only read the given tables
+     *
+     * Only the deferred statements that might change one of the given tables have to be executed before the
+     * query, so that other deferred statements remain deferred.
+     */
+    default Connection getQueryConnection(String... tableNames)
+    {
+        return getConnection();
+    }
+
+    /**
+     * Executes an INSERT, UPDATE or DELETE statement, or defers its execution
+     *
+     * Deferred statements are executed in the order they were added, at the latest when the transaction is
+     * committed, when the connection is requested by {@link #getConnection()} or when a table they change is
+     * queried by {@link #getQueryConnection(String...)}. Errors of deferred statements
+     * are therefore only reported at that point.
+     */
+    default void executeDeferred(String sql, SQLStatementParameters params) throws SQLException
+    {
+        try (PreparedStatement stmt = getConnection().prepareStatement(sql))
+        {
+            params.bind(stmt);
+            stmt.executeUpdate();
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.linbit.locks;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 
 public class LockGuard implements AutoCloseable
@@ -10,6 +12,15 @@ public class LockGuard implements AutoCloseable
 
     private final Lock[] lockBundle;
 
+    // Statistics of the wait and hold times, null if the locks are not instrumented.
+    // Consecutive locks with the same name and mode are recorded as a single lock.
+    private final LockStats lockStats;
+    private final String[] lockNames;
+    private final String[] lockModes;
+    private final long[] acquiredNanos;
+    private String holderName;
+    private LockStats.Holder holder;
+
     /**
      * Constructs a new LockGuard instance
      *
@@ -27,8 +38,30 @@ public class LockGuard implements AutoCloseable
      * @param locksRef array of locks to be managed by the new LockGuard instance
      */
     LockGuard(final boolean deferred, final Lock... locksRef)
+    {
+        this(deferred, locksRef, null, null, null);
+    }
+
+    /**
+     * Constructs a new LockGuard instance that records the wait and hold times of its locks
+     *
+     * @param lockStatsRef the statistics to record the wait and hold times in
+     * @param lockNamesRef the name of each of the locks
+     * @param lockModesRef the locking mode of each of the locks
+     */
+    LockGuard(
+        final boolean deferred,
+        final Lock[] locksRef,
+        final LockStats lockStatsRef,
+        final String[] lockNamesRef,
+        final String[] lockModesRef
+    )
     {
         lockBundle = locksRef;
+        lockStats = lockStatsRef;
+        lockNames = lockNamesRef;
+        lockModes = lockModesRef;
+        acquiredNanos = lockStats == null ? null : new long[locksRef.length];
         if (!deferred)
         {
             lock();
@@ -45,12 +78,20 @@ public class LockGuard implements AutoCloseable
     {
         // Attempt to acquire all locks
         int idx = 0;
+        long waitStart = lockStats == null ? 0 : System.nanoTime();
         try
         {
             while (idx < lockBundle.length)
             {
                 lockBundle[idx].lock();
                 ++idx;
+                if (lockStats != null && isLastOfGroup(idx - 1))
+                {
+                    long now = System.nanoTime();
+                    lockStats.recordWait(lockNames[idx - 1], lockModes[idx - 1], holderName, now - waitStart);
+                    acquiredNanos[idx - 1] = now;
+                    waitStart = now;
+                }
             }
         }
         catch (RuntimeException exc)
@@ -81,6 +122,28 @@ public class LockGuard implements AutoCloseable
             throw exc;
         }
         acquired = true;
+        if (lockStats != null && lockBundle.length > 0)
+        {
+            List<String> lockDescriptions = new ArrayList<>();
+            for (int groupIdx = 0; groupIdx < lockBundle.length; ++groupIdx)
+            {
+                if (isLastOfGroup(groupIdx))
+                {
+                    lockDescriptions.add(lockNames[groupIdx] + " " + lockModes[groupIdx]);
+                }
+            }
+            holder = lockStats.acquired(holderName, lockDescriptions, acquiredNanos[0]);
+        }
+    }
+
+    /**
+     * Acquires the locks managed by the LockGuard instance, and records the wait and hold times
+     * for the specified holder, e.g. the name of an API call
+     */
+    public final void lock(final String holderNameRef)
+    {
+        holderName = holderNameRef;
+        lock();
     }
 
     /**
@@ -103,6 +166,22 @@ public class LockGuard implements AutoCloseable
     {
         if (acquired)
         {
+            if (lockStats != null)
+            {
+                long now = System.nanoTime();
+                for (int idx = 0; idx < lockBundle.length; ++idx)
+                {
+                    if (isLastOfGroup(idx))
+                    {
+                        lockStats.recordHold(lockNames[idx], lockModes[idx], holderName, now - acquiredNanos[idx]);
+                    }
+                }
+                if (holder != null)
+                {
+                    lockStats.released(holder);
+                    holder = null;
+                }
+            }
             RuntimeException savedExc = null;
             // Attempt to release all locks
             for (int idx = lockBundle.length - 1; idx >= 0; --idx)
@@ -129,6 +208,12 @@ public class LockGuard implements AutoCloseable
         }
     }
 
+    private boolean isLastOfGroup(final int idx)
+    {
+        return idx + 1 >= lockBundle.length ||
+            !lockNames[idx].equals(lockNames[idx + 1]) || !lockModes[idx].equals(lockModes[idx + 1]);
+    }
+
     /**
      * Constructs and returns a new LockGuard instance and acquires the specified locks immediately
      *
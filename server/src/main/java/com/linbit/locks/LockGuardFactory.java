@@ -65,6 +65,7 @@ public class LockGuardFactory
     private final ReadWriteLock reconfigurationLock;
     private final ReadWriteLock kvsMapLock;
     private final ReadWriteLock rscGrpMapLock;
+    private final LockStats lockStats;
 
     @Inject
     public LockGuardFactory(
@@ -74,7 +75,8 @@ public class LockGuardFactory
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         @Named(CoreModule.CTRL_CONF_LOCK) ReadWriteLock ctrlConfigLockRef,
         @Named(CoreModule.KVS_MAP_LOCK) ReadWriteLock kvsMapLockRef,
-        @Named(CoreModule.RSC_GROUP_MAP_LOCK) ReadWriteLock rscGrpMapLockRef
+        @Named(CoreModule.RSC_GROUP_MAP_LOCK) ReadWriteLock rscGrpMapLockRef,
+        LockStats lockStatsRef
     )
     {
         reconfigurationLock = reconfigurationLockRef;
@@ -84,6 +86,7 @@ public class LockGuardFactory
         ctrlConfigLock = ctrlConfigLockRef;
         kvsMapLock = kvsMapLockRef;
         rscGrpMapLock = rscGrpMapLockRef;
+        lockStats = lockStatsRef;
     }
 
     public LockGuardBuilder create()
@@ -224,6 +227,8 @@ public class LockGuardFactory
             }
 
             Lock[] lockArr = new Lock[locks.size()];
+            String[] lockNames = new String[locks.size()];
+            String[] lockModes = new String[locks.size()];
             int lockIdx = 0;
             for (Entry<LockObj, LockType> entry : locks.entrySet())
             {
@@ -237,9 +242,11 @@ public class LockGuardFactory
                     lock = lockObjToLock(entry.getKey()).writeLock();
                 }
                 lockArr[lockIdx] = lock;
+                lockNames[lockIdx] = entry.getKey().name();
+                lockModes[lockIdx] = entry.getValue().name();
                 ++lockIdx;
             }
-            return new LockGuard(defer, lockArr);
+            return new LockGuard(defer, lockArr, lockStats, lockNames, lockModes);
         }
     }
 }
@@ -0,0 +1,216 @@
+package com.linbit.locks;
+
+import com.linbit.utils.LatencyHistogram;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wait time and hold time histograms of locks, and the current holders of the locks
+ *
+ * The histograms are keyed by the name of the lock, the locking mode (e.g. READ or WRITE) and the name of the
+ * holder, which usually is the name of the API call that acquired the lock.
+ */
+@Singleton
+public class LockStats
+{
+    public static final String UNKNOWN_HOLDER = "other";
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Holder> holders = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public LockStats()
+    {
+    }
+
+    public void recordWait(String lockName, String lockMode, String holderName, long waitNanos)
+    {
+        getEntry(lockName, lockMode, holderName).waitHistogram.record(waitNanos);
+    }
+
+    public void recordHold(String lockName, String lockMode, String holderName, long holdNanos)
+    {
+        getEntry(lockName, lockMode, holderName).holdHistogram.record(holdNanos);
+    }
+
+    /**
+     * Registers a holder of the given locks, which is reported until {@link #released(Holder)} is called
+     *
+     * @param lockDescriptions The name and mode of each of the held locks
+     */
+    public Holder acquired(String holderName, List<String> lockDescriptions, long acquiredNanos)
+    {
+        Holder holder = new Holder(
+            holderName == null ? UNKNOWN_HOLDER : holderName,
+            Thread.currentThread().getName(),
+            lockDescriptions,
+            acquiredNanos
+        );
+        holders.add(holder);
+        return holder;
+    }
+
+    public void released(Holder holder)
+    {
+        holders.remove(holder);
+    }
+
+    /**
+     * Returns the statistics sorted by lock name, locking mode and holder name
+     */
+    public List<Entry> getEntries()
+    {
+        return new ArrayList<>(new TreeMap<>(entries).values());
+    }
+
+    /**
+     * Returns the current holders, the longest holder first
+     */
+    public List<Holder> getHolders()
+    {
+        List<Holder> holderList = new ArrayList<>(holders);
+        Collections.sort(holderList, (holder1st, holder2nd) -> Long.compare(holder1st.since, holder2nd.since));
+        return holderList;
+    }
+
+    private Entry getEntry(String lockName, String lockMode, String holderName)
+    {
+        Key key = new Key(lockName, lockMode, holderName == null ? UNKNOWN_HOLDER : holderName);
+        return entries.computeIfAbsent(key, Entry::new);
+    }
+
+    private static class Key implements Comparable<Key>
+    {
+        private final String lockName;
+        private final String lockMode;
+        private final String holderName;
+
+        Key(String lockNameRef, String lockModeRef, String holderNameRef)
+        {
+            lockName = lockNameRef;
+            lockMode = lockModeRef;
+            holderName = holderNameRef;
+        }
+
+        @Override
+        public int compareTo(Key other)
+        {
+            int cmp = lockName.compareTo(other.lockName);
+            if (cmp == 0)
+            {
+                cmp = lockMode.compareTo(other.lockMode);
+                if (cmp == 0)
+                {
+                    cmp = holderName.compareTo(other.holderName);
+                }
+            }
+            return cmp;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            boolean eq = obj instanceof Key;
+            if (eq)
+            {
+                Key other = (Key) obj;
+                eq = lockName.equals(other.lockName) && lockMode.equals(other.lockMode) &&
+                    holderName.equals(other.holderName);
+            }
+            return eq;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(lockName, lockMode, holderName);
+        }
+    }
+
+    public static class Entry
+    {
+        private final String lockName;
+        private final String lockMode;
+        private final String holderName;
+        private final LatencyHistogram waitHistogram = new LatencyHistogram();
+        private final LatencyHistogram holdHistogram = new LatencyHistogram();
+
+        Entry(Key key)
+        {
+            lockName = key.lockName;
+            lockMode = key.lockMode;
+            holderName = key.holderName;
+        }
+
+        public String getLockName()
+        {
+            return lockName;
+        }
+
+        public String getLockMode()
+        {
+            return lockMode;
+        }
+
+        public String getHolderName()
+        {
+            return holderName;
+        }
+
+        public LatencyHistogram getWaitHistogram()
+        {
+            return waitHistogram;
+        }
+
+        public LatencyHistogram getHoldHistogram()
+        {
+            return holdHistogram;
+        }
+    }
+
+    public static class Holder
+    {
+        private final String holderName;
+        private final String threadName;
+        private final List<String> lockDescriptions;
+        private final long since;
+
+        Holder(String holderNameRef, String threadNameRef, List<String> lockDescriptionsRef, long sinceRef)
+        {
+            holderName = holderNameRef;
+            threadName = threadNameRef;
+            lockDescriptions = lockDescriptionsRef;
+            since = sinceRef;
+        }
+
+        public String getHolderName()
+        {
+            return holderName;
+        }
+
+        public String getThreadName()
+        {
+            return threadName;
+        }
+
+        public List<String> getLockDescriptions()
+        {
+            return lockDescriptions;
+        }
+
+        public long getHoldNanos()
+        {
+            return System.nanoTime() - since;
+        }
+    }
+}
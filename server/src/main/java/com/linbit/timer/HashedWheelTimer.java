@@ -0,0 +1,329 @@
+package com.linbit.timer;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.NegativeTimeException;
+import com.linbit.ServiceName;
+import com.linbit.SystemService;
+import com.linbit.ValueOutOfRangeException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implements a timer that runs Actions at a predefined point in time
+ * or after a specified delay, with the same semantics as {@link GenericTimer}
+ *
+ * The actions are kept in a {@link TimingWheel}, so that adding and canceling an action is O(1),
+ * instead of O(log n) for the tree maps of the {@link GenericTimer}. Actions are performed up to one tick
+ * after their scheduled time.
+ *
+ * @param <K> Type of the Action's unique identifier
+ * @param <V> Type (e.g., subclass) of Action instances used by this timer
+ */
+public class HashedWheelTimer<K extends Comparable<K>, V extends Action<K>>
+    implements Timer<K, V>, SystemService
+{
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final ServiceName SERVICE_NAME;
+    private static final String SERVICE_INFO = "Timed actions scheduler";
+
+    private final TimingWheel<V> wheel;
+
+    // Maps action id to the action's entry in the wheel
+    private final Map<K, TimingWheel.Entry<V>> actionMap;
+
+    private boolean stopFlag = false;
+
+    private long schedWakeupTime = 0;
+
+    private ActionScheduler<K, V> sched;
+
+    private ServiceName serviceInstanceName;
+
+    static
+    {
+        try
+        {
+            SERVICE_NAME = new ServiceName("TimerEventService");
+        }
+        catch (InvalidNameException nameExc)
+        {
+            throw new ImplementationError(
+                String.format(
+                    "%s class contains an invalid name constant",
+                    HashedWheelTimer.class.getName()
+                ),
+                nameExc
+            );
+        }
+    }
+
+    /**
+     * Constructs a new timer instance with the default tick length and wheel size
+     */
+    public HashedWheelTimer()
+    {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Constructs a new timer instance
+     *
+     * @param tickMillis Length of a tick in milliseconds, which is the resolution of the timer
+     * @param wheelSize Number of buckets of the timing wheel
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize)
+    {
+        wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        actionMap = new HashMap<>();
+        sched = null;
+        serviceInstanceName = SERVICE_NAME;
+    }
+
+    /**
+     * Adds an action to perform after a delay
+     *
+     * Actions with a delay of zero are performed immediately in the context of the thread that called
+     * the addDelayedAction() method. See {@link GenericTimer#addDelayedAction(Long, Action)}.
+     *
+     * @param delay Delay in milliseconds
+     * @param actionObj Action to perform
+     * @throws NegativeTimeException If delay is a negative value
+     * @throws ValueOutOfRangeException If the calculated target time (delay and current time)
+     *     would overflow Long.MAX_VALUE
+     */
+    @Override
+    public void addDelayedAction(Long delay, V actionObj)
+        throws NegativeTimeException, ValueOutOfRangeException
+    {
+        if (delay < 0)
+        {
+            throw new NegativeTimeException();
+        }
+        else
+        if (delay == 0)
+        {
+            // Action without a delay triggers immediately
+            // To be consistent with scheduled execution, take this timer's lock
+            synchronized (this)
+            {
+                actionObj.run();
+            }
+        }
+        else
+        {
+            long currentTime = System.currentTimeMillis();
+            try
+            {
+                Long wakeupTime = Math.addExact(currentTime, delay);
+                addScheduledAction(wakeupTime, actionObj);
+            }
+            catch (ArithmeticException arithExc)
+            {
+                throw new ValueOutOfRangeException(ValueOutOfRangeException.ViolationType.TOO_HIGH);
+            }
+        }
+    }
+
+    /**
+     * Adds an action to perform at a specified time
+     *
+     * See {@link GenericTimer#addScheduledAction(Long, Action)}.
+     *
+     * @param scheduledTime The timestamp, in milliseconds, of the point in time
+     *     where the action should be performed. This timestamp has the same time reference
+     *     as System.currentTimeMillis()
+     * @param actionObj Action to perform
+     */
+    @Override
+    public void addScheduledAction(Long scheduledTime, V actionObj)
+    {
+        K actionId = actionObj.getId();
+        synchronized (this)
+        {
+            if (!actionMap.containsKey(actionId))
+            {
+                actionMap.put(actionId, wheel.add(actionObj, scheduledTime));
+                if (schedWakeupTime == 0 || scheduledTime < schedWakeupTime)
+                {
+                    notify();
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels an action
+     *
+     * Canceled actions are guaranteed not to be performed anymore after returning from this method.
+     *
+     * @param actionId Action to cancel
+     */
+    @Override
+    public void cancelAction(K actionId)
+    {
+        synchronized (this)
+        {
+            TimingWheel.Entry<V> entry = actionMap.remove(actionId);
+            if (entry != null)
+            {
+                wheel.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Starts this timer instance's ActionScheduler thread
+     */
+    @Override
+    public void start()
+    {
+        synchronized (this)
+        {
+            if (sched == null)
+            {
+                stopFlag = false;
+                sched = new ActionScheduler<>(this);
+                sched.setName(serviceInstanceName.getDisplayName());
+                sched.start();
+            }
+        }
+    }
+
+    /**
+     * Shuts down this timer instance's ActionScheduler thread
+     *
+     * This method does not wait for the ActionScheduler thread to end.
+     */
+    @Override
+    public void shutdown()
+    {
+        synchronized (this)
+        {
+            stopFlag = true;
+            notify();
+        }
+    }
+
+    @Override
+    public void awaitShutdown(long timeout)
+        throws InterruptedException
+    {
+        Thread joinThr = null;
+        synchronized (this)
+        {
+            joinThr = sched;
+        }
+        if (joinThr != null)
+        {
+            joinThr.join(timeout);
+        }
+    }
+
+    @Override
+    public ServiceName getServiceName()
+    {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public String getServiceInfo()
+    {
+        return SERVICE_INFO;
+    }
+
+    @Override
+    public ServiceName getInstanceName()
+    {
+        return serviceInstanceName;
+    }
+
+    @Override
+    public synchronized boolean isStarted()
+    {
+        return sched != null;
+    }
+
+    /**
+     * Sets the name of this timer and its action scheduler thread
+     *
+     * @param instanceName The name for this timer and its action scheduler thread
+     */
+    @Override
+    public synchronized void setServiceInstanceName(ServiceName instanceName)
+    {
+        if (instanceName == null)
+        {
+            serviceInstanceName = SERVICE_NAME;
+        }
+        else
+        {
+            serviceInstanceName = instanceName;
+        }
+        if (sched != null)
+        {
+            sched.setName(serviceInstanceName.getDisplayName());
+        }
+    }
+
+    private static class ActionScheduler<K extends Comparable<K>, V extends Action<K>> extends Thread
+    {
+        private final HashedWheelTimer<K, V> container;
+
+        ActionScheduler(HashedWheelTimer<K, V> containerRef)
+        {
+            container = containerRef;
+        }
+
+        @Override
+        public void run()
+        {
+            List<V> expiredActions = new ArrayList<>();
+            synchronized (container)
+            {
+                while (!container.stopFlag)
+                {
+                    container.wheel.pollExpired(System.currentTimeMillis(), expiredActions);
+                    for (V actionObj : expiredActions)
+                    {
+                        // An action that was run before may have canceled this action
+                        K actionId = actionObj.getId();
+                        TimingWheel.Entry<V> entry = container.actionMap.get(actionId);
+                        if (entry != null && entry.getValue() == actionObj)
+                        {
+                            container.actionMap.remove(actionId);
+
+                            // The action object may add new timer entries
+                            actionObj.run();
+                        }
+                    }
+                    expiredActions.clear();
+
+                    // Default to a waitTime of zero to suspend this thread until new actions are added
+                    long waitTime = 0;
+                    container.schedWakeupTime = 0;
+                    long nextExpiryTime = container.wheel.getNextExpiryTime();
+                    if (nextExpiryTime != -1)
+                    {
+                        waitTime = Math.max(1, nextExpiryTime - System.currentTimeMillis());
+                        container.schedWakeupTime = nextExpiryTime;
+                    }
+
+                    try
+                    {
+                        container.wait(waitTime);
+                    }
+                    catch (InterruptedException ignored)
+                    {
+                    }
+                }
+                container.sched = null;
+            }
+        }
+    }
+}
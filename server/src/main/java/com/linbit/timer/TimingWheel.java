@@ -0,0 +1,207 @@
+package com.linbit.timer;
+
+import java.util.Collection;
+
+/**
+ * Hashed timing wheel that keeps objects until their target time is reached
+ *
+ * Time is divided into ticks of a fixed length. An object is added to the bucket of the wheel that its target
+ * tick hashes to, so adding and removing objects are O(1) operations. Objects with a target tick that is more
+ * than one revolution of the wheel ahead share the bucket with earlier objects, and are skipped while their
+ * bucket is expired until their target tick is reached.
+ *
+ * Objects never expire before their target time, but may expire up to one tick later.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <T> Type of the objects kept in the wheel
+ */
+public class TimingWheel<T>
+{
+    private final long tickMillis;
+    private final long startTime;
+    private final int mask;
+    private final Entry<T>[] buckets;
+
+    private long processedTick;
+    private int size;
+
+    /**
+     * @param tickMillisRef Length of a tick in milliseconds
+     * @param wheelSize Number of buckets of the wheel, is rounded up to the next power of 2
+     * @param startTimeRef Start of the first tick, in the same time reference as the target times
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillisRef, int wheelSize, long startTimeRef)
+    {
+        if (tickMillisRef <= 0 || wheelSize <= 0)
+        {
+            throw new IllegalArgumentException(
+                "Invalid timing wheel parameters: tick " + tickMillisRef + " ms, wheel size " + wheelSize
+            );
+        }
+        tickMillis = tickMillisRef;
+        startTime = startTimeRef;
+        int bucketCount = Integer.highestOneBit(wheelSize);
+        if (bucketCount < wheelSize)
+        {
+            bucketCount <<= 1;
+        }
+        mask = bucketCount - 1;
+        buckets = new Entry[bucketCount];
+        processedTick = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds an object that expires as soon as the target time is reached
+     *
+     * @param targetTime Target time in milliseconds; target times in the past expire with the next tick
+     * @return The entry of the object, which is required for removing the object
+     */
+    public Entry<T> add(T value, long targetTime)
+    {
+        // round up, so that the object does not expire before its target time
+        long targetTick = -Math.floorDiv(startTime - targetTime, tickMillis);
+        if (targetTick <= processedTick)
+        {
+            targetTick = processedTick + 1;
+        }
+        Entry<T> entry = new Entry<>(value, targetTick);
+        link(entry);
+        return entry;
+    }
+
+    /**
+     * Removes an object that has not expired yet
+     *
+     * @return True if the object was removed, false if it had already expired or was removed before
+     */
+    public boolean remove(Entry<T> entry)
+    {
+        boolean removed = entry.linked;
+        if (removed)
+        {
+            unlink(entry);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all objects whose target time was reached and adds them to the specified collection
+     *
+     * @param now Current time in milliseconds
+     */
+    public void pollExpired(long now, Collection<? super T> expired)
+    {
+        long currentTick = Math.floorDiv(now - startTime, tickMillis);
+        if (currentTick > processedTick)
+        {
+            if (size > 0)
+            {
+                // after more than one revolution, each bucket must only be processed once
+                long fromTick = Math.max(processedTick + 1, currentTick - mask);
+                for (long tick = fromTick; tick <= currentTick && size > 0; ++tick)
+                {
+                    Entry<T> entry = buckets[(int) (tick & mask)];
+                    while (entry != null)
+                    {
+                        Entry<T> next = entry.next;
+                        if (entry.targetTick <= currentTick)
+                        {
+                            unlink(entry);
+                            expired.add(entry.value);
+                        }
+                        entry = next;
+                    }
+                }
+            }
+            processedTick = currentTick;
+        }
+    }
+
+    /**
+     * Returns the time when the next non-empty bucket expires, or -1 if the wheel is empty
+     *
+     * The objects of that bucket may not be due yet if their target time is more than one revolution ahead.
+     */
+    public long getNextExpiryTime()
+    {
+        long nextTime = -1;
+        if (size > 0)
+        {
+            long tick = processedTick + 1;
+            long lastTick = processedTick + mask + 1;
+            while (tick < lastTick && buckets[(int) (tick & mask)] == null)
+            {
+                ++tick;
+            }
+            nextTime = startTime + tick * tickMillis;
+        }
+        return nextTime;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    private void link(Entry<T> entry)
+    {
+        int bucketIdx = (int) (entry.targetTick & mask);
+        Entry<T> head = buckets[bucketIdx];
+        entry.next = head;
+        if (head != null)
+        {
+            head.prev = entry;
+        }
+        buckets[bucketIdx] = entry;
+        entry.linked = true;
+        ++size;
+    }
+
+    private void unlink(Entry<T> entry)
+    {
+        if (entry.prev == null)
+        {
+            buckets[(int) (entry.targetTick & mask)] = entry.next;
+        }
+        else
+        {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next != null)
+        {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.linked = false;
+        --size;
+    }
+
+    public static final class Entry<T>
+    {
+        private final T value;
+        private final long targetTick;
+        private Entry<T> prev;
+        private Entry<T> next;
+        private boolean linked;
+
+        private Entry(T valueRef, long targetTickRef)
+        {
+            value = valueRef;
+            targetTick = targetTickRef;
+        }
+
+        public T getValue()
+        {
+            return value;
+        }
+    }
+}
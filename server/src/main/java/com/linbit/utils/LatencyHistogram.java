@@ -0,0 +1,92 @@
+package com.linbit.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed buckets, so that recording a latency is a lock-free counter increment
+ * and the histogram can be exported without any conversion
+ */
+public class LatencyHistogram
+{
+    // Upper bounds of the histogram buckets, in milliseconds. Latencies above the last bound are
+    // counted in an additional overflow bucket.
+    private static final long[] BUCKET_BOUNDS_MILLIS =
+    {
+        1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000
+    };
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(getBucketCount());
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public static int getBucketCount()
+    {
+        return BUCKET_BOUNDS_MILLIS.length + 1;
+    }
+
+    /**
+     * Returns the upper bound of the bucket, in milliseconds, or Long.MAX_VALUE for the overflow bucket
+     */
+    public static long getBucketBoundMillis(int bucketIdx)
+    {
+        return bucketIdx < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[bucketIdx] : Long.MAX_VALUE;
+    }
+
+    public void record(long latencyNanos)
+    {
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        int bucketIdx = 0;
+        while (bucketIdx < BUCKET_BOUNDS_MILLIS.length && latencyMillis >= BUCKET_BOUNDS_MILLIS[bucketIdx])
+        {
+            ++bucketIdx;
+        }
+        bucketCounts.incrementAndGet(bucketIdx);
+        totalCount.increment();
+        totalNanos.add(latencyNanos);
+    }
+
+    /**
+     * Returns the number of latencies that are lower than the bucket's upper bound and not lower
+     * than the previous bucket's upper bound
+     */
+    public long getCountInBucket(int bucketIdx)
+    {
+        return bucketCounts.get(bucketIdx);
+    }
+
+    public long getCount()
+    {
+        return totalCount.sum();
+    }
+
+    public long getSumNanos()
+    {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the upper bound of the bucket that contains the given percentile of the latencies,
+     * in milliseconds, or 0 if no latency was recorded yet
+     */
+    public long getPercentileBoundMillis(double percentile)
+    {
+        long bound = 0;
+        long count = getCount();
+        if (count > 0)
+        {
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long cumulativeCount = 0;
+            int bucketIdx = 0;
+            do
+            {
+                cumulativeCount += bucketCounts.get(bucketIdx);
+                bound = getBucketBoundMillis(bucketIdx);
+                ++bucketIdx;
+            }
+            while (cumulativeCount < rank && bucketIdx < getBucketCount());
+        }
+        return bound;
+    }
+}
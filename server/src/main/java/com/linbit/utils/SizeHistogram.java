@@ -0,0 +1,66 @@
+package com.linbit.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of sizes, for example of the number of operations that were processed together, with fixed
+ * power-of-two buckets, so that recording a size is a lock-free counter increment
+ */
+public class SizeHistogram
+{
+    // Upper bounds (inclusive) of the histogram buckets. Sizes above the last bound are counted in an
+    // additional overflow bucket.
+    private static final long[] BUCKET_BOUNDS =
+    {
+        1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024
+    };
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(getBucketCount());
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSize = new LongAdder();
+
+    public static int getBucketCount()
+    {
+        return BUCKET_BOUNDS.length + 1;
+    }
+
+    /**
+     * Returns the upper bound of the bucket, or Long.MAX_VALUE for the overflow bucket
+     */
+    public static long getBucketBound(int bucketIdx)
+    {
+        return bucketIdx < BUCKET_BOUNDS.length ? BUCKET_BOUNDS[bucketIdx] : Long.MAX_VALUE;
+    }
+
+    public void record(long size)
+    {
+        int bucketIdx = 0;
+        while (bucketIdx < BUCKET_BOUNDS.length && size > BUCKET_BOUNDS[bucketIdx])
+        {
+            ++bucketIdx;
+        }
+        bucketCounts.incrementAndGet(bucketIdx);
+        totalCount.increment();
+        totalSize.add(size);
+    }
+
+    /**
+     * Returns the number of sizes that are not greater than the bucket's upper bound and greater than
+     * the previous bucket's upper bound
+     */
+    public long getCountInBucket(int bucketIdx)
+    {
+        return bucketCounts.get(bucketIdx);
+    }
+
+    public long getCount()
+    {
+        return totalCount.sum();
+    }
+
+    public long getSum()
+    {
+        return totalSize.sum();
+    }
+}
@@ -0,0 +1,164 @@
+package com.linbit;
+
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkStealingPoolTest
+{
+    private static final int THREAD_COUNT = 3;
+    private static final int QUEUE_SIZE = 10;
+    private static final long TIMEOUT_MILLIS = 15_000;
+
+    private CollectingErrorReporter errorReporter;
+    private WorkStealingPool pool;
+
+    @Before
+    public void setUp()
+    {
+        errorReporter = new CollectingErrorReporter();
+        pool = WorkStealingPool.initialize(THREAD_COUNT, QUEUE_SIZE, true, "TestStealingWorker", errorReporter, null);
+    }
+
+    @After
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSubmitManyTasks() throws Exception
+    {
+        final AtomicInteger finishedTasks = new AtomicInteger();
+        final int taskCount = QUEUE_SIZE * 100;
+        for (int idx = 0; idx < taskCount; ++idx)
+        {
+            pool.submit(finishedTasks::incrementAndGet);
+        }
+
+        finishWithTimeout();
+
+        Assert.assertEquals("Not all tasks were executed", taskCount, finishedTasks.get());
+    }
+
+    @Test
+    public void testSubmitTaskWithException() throws Exception
+    {
+        pool.submit(
+            () ->
+            {
+                throw new ImplementationError("test");
+            }
+        );
+
+        Throwable throwable = errorReporter.unexpected.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(ImplementationError.class, throwable.getClass());
+        finishWithTimeout();
+    }
+
+    @Test
+    public void testQueuedTasksDiscardedOnShutdown() throws Exception
+    {
+        CountDownLatch blockWorkers = new CountDownLatch(1);
+        CountDownLatch workersBlocked = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger finishedTasks = new AtomicInteger();
+        for (int idx = 0; idx < THREAD_COUNT; ++idx)
+        {
+            pool.submit(
+                () ->
+                {
+                    workersBlocked.countDown();
+                    awaitUninterruptibly(blockWorkers);
+                }
+            );
+        }
+        Assert.assertTrue(workersBlocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        pool.submit(finishedTasks::incrementAndGet);
+        pool.shutdown();
+        blockWorkers.countDown();
+        finishWithTimeout();
+
+        Assert.assertEquals(0, finishedTasks.get());
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception
+    {
+        WorkStealingPool virtualPool = WorkStealingPool.initializeVirtual(
+            THREAD_COUNT,
+            QUEUE_SIZE,
+            true,
+            "TestVirtualWorker",
+            errorReporter,
+            null
+        );
+        // only supported on newer JVMs
+        if (virtualPool != null)
+        {
+            pool.shutdown();
+            pool = virtualPool;
+            Assert.assertTrue(pool.isVirtualThreads());
+
+            AtomicInteger finishedTasks = new AtomicInteger();
+            for (int idx = 0; idx < QUEUE_SIZE * 10; ++idx)
+            {
+                pool.submit(finishedTasks::incrementAndGet);
+            }
+            finishWithTimeout();
+
+            Assert.assertEquals(QUEUE_SIZE * 10, finishedTasks.get());
+        }
+    }
+
+    private void finishWithTimeout() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(pool::finish).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        boolean done = false;
+        while (!done)
+        {
+            try
+            {
+                latch.await();
+                done = true;
+            }
+            catch (InterruptedException ignored)
+            {
+            }
+        }
+    }
+
+    private static class CollectingErrorReporter extends EmptyErrorReporter
+    {
+        private final BlockingQueue<Throwable> unexpected = new LinkedBlockingQueue<>();
+
+        CollectingErrorReporter()
+        {
+            super(false);
+        }
+
+        @Override
+        public String reportError(Throwable errorInfo)
+        {
+            unexpected.add(errorInfo);
+            return null;
+        }
+    }
+}
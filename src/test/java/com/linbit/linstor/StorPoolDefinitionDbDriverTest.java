@@ -11,6 +11,8 @@ import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.objects.StorPoolDefinition;
 import com.linbit.linstor.core.objects.StorPoolDefinitionDbDriver;
 import com.linbit.linstor.core.objects.TestFactory;
+import com.linbit.linstor.dbdrivers.DbEngine;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.security.GenericDbBase;
 import com.linbit.linstor.security.ObjectProtection;
 
@@ -18,6 +20,7 @@ import javax.inject.Inject;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -41,6 +44,9 @@ public class StorPoolDefinitionDbDriverTest extends GenericDbBase
     @Inject
     private StorPoolDefinitionDbDriver driver;
 
+    @Inject
+    private DbEngine dbEngine;
+
     @SuppressWarnings("checkstyle:magicnumber")
     @Before
     public void setUp() throws Exception
@@ -172,6 +178,28 @@ public class StorPoolDefinitionDbDriverTest extends GenericDbBase
         );
     }
 
+    @Test
+    public void testLoadAllPrefetched() throws Exception
+    {
+        driver.create(spdd);
+        commit();
+
+        dbEngine.prefetch(Collections.singletonList(GeneratedDatabaseTables.STOR_POOL_DEFINITIONS));
+        Map<StorPoolDefinition, StorPoolDefinition.InitMaps> storpools;
+        try
+        {
+            storpools = driver.loadAll(null);
+        }
+        finally
+        {
+            dbEngine.clearPrefetched();
+        }
+
+        StorPoolDefinition loadedSpd = findStorPoolDefinitionbyName(storpools, spName);
+        assertNotNull(loadedSpd);
+        assertEquals(uuid, loadedSpd.getUuid());
+    }
+
     @Test (expected = LinStorDataAlreadyExistsException.class)
     public void testAlreadyExists() throws Exception
     {
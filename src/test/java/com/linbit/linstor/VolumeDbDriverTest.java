@@ -340,6 +340,7 @@ public class VolumeDbDriverTest extends GenericDbBase
         String testKey = "TestKey";
         String testValue = "TestValue";
         vol.getProps(SYS_CTX).setProp(testKey, testValue);
+        commit();
 
         Map<String, String> map = new HashMap<>();
         map.put(testKey, testValue);
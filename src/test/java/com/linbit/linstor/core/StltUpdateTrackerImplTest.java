@@ -0,0 +1,69 @@
+package com.linbit.linstor.core;
+
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateBundle;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StltUpdateTrackerImplTest
+{
+    private StltUpdateTrackerImpl tracker;
+    private NodeName nodeName;
+    private ResourceName rscName;
+    private Resource.ResourceKey rscKey;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        tracker = new StltUpdateTrackerImpl(new Object(), Schedulers.immediate());
+        nodeName = new NodeName("stlt");
+        rscName = new ResourceName("rsc");
+        rscKey = new Resource.ResourceKey(nodeName, rscName);
+    }
+
+    @Test
+    public void testPushedDataApplied()
+    {
+        tracker.updateResource(UUID.randomUUID(), rscName, nodeName, true);
+
+        assertTrue(collect().rscUpdates.get(rscKey).isDataApplied());
+    }
+
+    @Test
+    public void testPulledNotificationRequiresRequest()
+    {
+        UUID rscUuid = UUID.randomUUID();
+        tracker.updateResource(rscUuid, rscName, nodeName, true);
+        // e.g. pushed data that could not be applied yet
+        tracker.updateResource(rscUuid, rscName, nodeName, false);
+
+        assertFalse(collect().rscUpdates.get(rscKey).isDataApplied());
+    }
+
+    @Test
+    public void testPushAfterPullRequiresRequest()
+    {
+        UUID rscUuid = UUID.randomUUID();
+        tracker.updateResource(rscUuid, rscName, nodeName);
+        tracker.updateResource(rscUuid, rscName, nodeName, true);
+
+        assertFalse(collect().rscUpdates.get(rscKey).isDataApplied());
+    }
+
+    private UpdateBundle collect()
+    {
+        UpdateBundle bundle = new UpdateBundle();
+        tracker.collectUpdateNotifications(bundle, new AtomicBoolean(), new AtomicBoolean(), false);
+        return bundle;
+    }
+}
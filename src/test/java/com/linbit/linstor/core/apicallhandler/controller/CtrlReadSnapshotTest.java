@@ -0,0 +1,108 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.apis.NodeApi;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.repository.NodeRepository;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.transaction.manager.CommittedDataPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CtrlReadSnapshotTest
+{
+    private AccessContext sysCtx;
+    private CommittedDataPublisher committedDataPublisher;
+    private ReentrantReadWriteLock nodesMapLock;
+    private List<Node> nodes;
+    private CtrlReadSnapshot readSnapshot;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        sysCtx = mock(AccessContext.class);
+        committedDataPublisher = new CommittedDataPublisher();
+        nodesMapLock = new ReentrantReadWriteLock();
+        nodes = new ArrayList<>();
+
+        CoreModule.NodesMap nodesMap = mock(CoreModule.NodesMap.class);
+        when(nodesMap.values()).thenReturn(nodes);
+        NodeRepository nodeRepository = mock(NodeRepository.class);
+        when(nodeRepository.getMapForView(sysCtx)).thenReturn(nodesMap);
+
+        readSnapshot = new CtrlReadSnapshot(
+            sysCtx,
+            nodeRepository,
+            mock(ResourceDefinitionRepository.class),
+            new ReentrantReadWriteLock(),
+            nodesMapLock,
+            new ReentrantReadWriteLock(),
+            committedDataPublisher
+        );
+    }
+
+    @Test
+    public void testPublishedAtCommitWhileLocked() throws Exception
+    {
+        assertNull(readSnapshot.getNodes());
+        nodes.add(mockNode("node1", null));
+        readSnapshot.publishNodes();
+        assertEquals(1, readSnapshot.getNodes().size());
+
+        // a transaction that did not lock the nodes map did not change the nodes
+        nodes.add(mockNode("node2", null));
+        committedDataPublisher.dataCommitted();
+        assertEquals(1, readSnapshot.getNodes().size());
+
+        nodesMapLock.writeLock().lock();
+        try
+        {
+            committedDataPublisher.dataCommitted();
+        }
+        finally
+        {
+            nodesMapLock.writeLock().unlock();
+        }
+        assertEquals(2, readSnapshot.getNodes().size());
+    }
+
+    @Test
+    public void testConnectionStatusOfCurrentPeer() throws Exception
+    {
+        Peer peer = mock(Peer.class);
+        when(peer.getConnectionStatus()).thenReturn(ApiConsts.ConnectionStatus.OFFLINE);
+        nodes.add(mockNode("node1", peer));
+        readSnapshot.publishNodes();
+
+        NodeApi nodeApi = readSnapshot.getNodes().get(0);
+        assertEquals("node1", nodeApi.getName());
+        assertEquals(ApiConsts.ConnectionStatus.OFFLINE, nodeApi.connectionStatus());
+
+        // the connection status changes without a transaction
+        when(peer.getConnectionStatus()).thenReturn(ApiConsts.ConnectionStatus.ONLINE);
+        assertEquals(ApiConsts.ConnectionStatus.ONLINE, nodeApi.connectionStatus());
+    }
+
+    private Node mockNode(String nodeName, Peer peer) throws Exception
+    {
+        NodeApi nodeApi = mock(NodeApi.class);
+        when(nodeApi.getName()).thenReturn(nodeName);
+        Node node = mock(Node.class);
+        when(node.getApiData(sysCtx, null, null)).thenReturn(nodeApi);
+        when(node.getPeer(sysCtx)).thenReturn(peer);
+        return node;
+    }
+}
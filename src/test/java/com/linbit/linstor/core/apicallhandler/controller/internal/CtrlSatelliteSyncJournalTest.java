@@ -0,0 +1,106 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteSyncJournal.Entry;
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteSyncJournal.ObjectType;
+import com.linbit.linstor.core.identifier.NodeName;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class CtrlSatelliteSyncJournalTest
+{
+    private static final long FULL_SYNC_ID = 5;
+
+    private CtrlSatelliteSyncJournal journal;
+    private NodeName stltName;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        journal = new CtrlSatelliteSyncJournal();
+        stltName = new NodeName("stlt");
+        // the first connection always needs a full sync
+        assertNull(journal.resync(stltName, 0, 0, FULL_SYNC_ID));
+    }
+
+    @Test
+    public void testUnansweredChangesAreResent()
+    {
+        journal.resourceChanged(stltName, UUID.randomUUID(), "rsc1");
+        journal.resourceChanged(stltName, UUID.randomUUID(), "rsc2");
+        journal.answered(stltName, ObjectType.RESOURCE, "rsc1", null, FULL_SYNC_ID, 0);
+
+        List<Entry> delta = journal.resync(stltName, FULL_SYNC_ID, 1, FULL_SYNC_ID + 1);
+        assertNotNull(delta);
+        assertEquals(1, delta.size());
+        assertEquals("rsc2", delta.get(0).getName());
+    }
+
+    @Test
+    public void testAnswersNotAppliedAreResent()
+    {
+        journal.storPoolChanged(stltName, UUID.randomUUID(), "pool");
+        journal.snapshotChanged(stltName, UUID.randomUUID(), "rsc", "snap");
+        journal.answered(stltName, ObjectType.STOR_POOL, "pool", null, FULL_SYNC_ID, 0);
+        journal.answered(stltName, ObjectType.SNAPSHOT, "rsc", "snap", FULL_SYNC_ID, 1);
+
+        // the satellite only applied update 0
+        List<Entry> delta = journal.resync(stltName, FULL_SYNC_ID, 1, FULL_SYNC_ID + 1);
+        assertEquals(1, delta.size());
+        assertEquals(ObjectType.SNAPSHOT, delta.get(0).getType());
+        assertEquals("snap", delta.get(0).getSnapshotName());
+
+        // the resent entry stays in the journal until it is answered within the new connection
+        delta = journal.resync(stltName, FULL_SYNC_ID + 1, 0, FULL_SYNC_ID + 2);
+        assertEquals(1, delta.size());
+    }
+
+    @Test
+    public void testOutdatedFullSyncId()
+    {
+        assertNull(journal.resync(stltName, FULL_SYNC_ID - 1, 0, FULL_SYNC_ID + 1));
+        // the journal was restarted for the new full sync
+        assertNotNull(journal.resync(stltName, FULL_SYNC_ID + 1, 0, FULL_SYNC_ID + 2));
+    }
+
+    @Test
+    public void testAnswerOfOldConnectionIgnored()
+    {
+        journal.nodeChanged(stltName, UUID.randomUUID(), "node");
+        assertEquals(1, journal.resync(stltName, FULL_SYNC_ID, 0, FULL_SYNC_ID + 1).size());
+
+        journal.answered(stltName, ObjectType.NODE, "node", null, FULL_SYNC_ID, 0);
+        assertEquals(1, journal.resync(stltName, FULL_SYNC_ID + 1, 1, FULL_SYNC_ID + 2).size());
+    }
+
+    @Test
+    public void testWindowExceeded()
+    {
+        for (int idx = 0; idx <= CtrlSatelliteSyncJournal.MAX_ENTRIES; ++idx)
+        {
+            journal.resourceChanged(stltName, UUID.randomUUID(), "rsc" + idx);
+        }
+        assertNull(journal.resync(stltName, FULL_SYNC_ID, 0, FULL_SYNC_ID + 1));
+    }
+
+    @Test
+    public void testPrunedAnswersRequireApplied()
+    {
+        for (int idx = 0; idx < CtrlSatelliteSyncJournal.MAX_ENTRIES; ++idx)
+        {
+            journal.resourceChanged(stltName, UUID.randomUUID(), "rsc" + idx);
+            journal.answered(stltName, ObjectType.RESOURCE, "rsc" + idx, null, FULL_SYNC_ID, idx);
+        }
+        journal.resourceChanged(stltName, UUID.randomUUID(), "other");
+
+        // the pruned answers were not applied by the satellite
+        assertNull(journal.resync(stltName, FULL_SYNC_ID, 10, FULL_SYNC_ID + 1));
+    }
+}
@@ -0,0 +1,76 @@
+package com.linbit.linstor.core.apicallhandler.satellite;
+
+import com.linbit.linstor.api.pojo.RscPojo;
+import com.linbit.linstor.api.pojo.SnapshotPojo;
+import com.linbit.linstor.api.pojo.StorPoolPojo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class StltFullSyncStageTest
+{
+    private final List<StorPoolPojo> storPools = new ArrayList<>();
+    private final List<RscPojo> rscs = new ArrayList<>();
+    private final List<SnapshotPojo> snapshots = new ArrayList<>();
+
+    @Test
+    public void testCompleteChunks()
+    {
+        StltFullSyncStage stage = new StltFullSyncStage();
+        RscPojo rsc = Mockito.mock(RscPojo.class);
+        SnapshotPojo snapshot = Mockito.mock(SnapshotPojo.class);
+        stage.addChunk(5, 0, Collections.emptyList(), Collections.singletonList(rsc), Collections.emptyList());
+        stage.addChunk(5, 1, Collections.emptyList(), Collections.emptyList(), Collections.singletonList(snapshot));
+
+        Assert.assertTrue(stage.drainTo(5, 2, storPools, rscs, snapshots));
+        Assert.assertEquals(Collections.singletonList(rsc), rscs);
+        Assert.assertEquals(Collections.singletonList(snapshot), snapshots);
+
+        // the stage is empty afterwards
+        Assert.assertFalse(stage.drainTo(5, 2, storPools, rscs, snapshots));
+    }
+
+    @Test
+    public void testNoChunks()
+    {
+        StltFullSyncStage stage = new StltFullSyncStage();
+        Assert.assertTrue(stage.drainTo(5, 0, storPools, rscs, snapshots));
+    }
+
+    @Test
+    public void testOutdatedChunksAreDiscarded()
+    {
+        StltFullSyncStage stage = new StltFullSyncStage();
+        stage.addChunk(4, 0, Collections.emptyList(), mockRscs(1), Collections.emptyList());
+        stage.addChunk(5, 0, Collections.emptyList(), mockRscs(2), Collections.emptyList());
+
+        Assert.assertFalse(stage.drainTo(4, 1, storPools, rscs, snapshots));
+        Assert.assertTrue(rscs.isEmpty());
+    }
+
+    @Test
+    public void testMissingChunk()
+    {
+        StltFullSyncStage stage = new StltFullSyncStage();
+        stage.addChunk(5, 0, Collections.emptyList(), mockRscs(1), Collections.emptyList());
+        stage.addChunk(5, 2, Collections.emptyList(), mockRscs(1), Collections.emptyList());
+
+        Assert.assertFalse(stage.drainTo(5, 2, storPools, rscs, snapshots));
+        Assert.assertTrue(rscs.isEmpty());
+    }
+
+    private static List<RscPojo> mockRscs(int count)
+    {
+        List<RscPojo> mocks = new ArrayList<>();
+        for (int idx = 0; idx < count; ++idx)
+        {
+            mocks.add(Mockito.mock(RscPojo.class));
+        }
+        return mocks;
+    }
+}
@@ -0,0 +1,58 @@
+package com.linbit.linstor.dbcp;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DbConnectionPoolTest
+{
+    private DbConnectionPool dbConnPool;
+
+    @Before
+    public void setUp()
+    {
+        dbConnPool = new TestDbConnectionPoolLoader().loadDbConnectionPool();
+    }
+
+    @After
+    public void tearDown()
+    {
+        dbConnPool.shutdown();
+    }
+
+    @Test
+    public void testLeaseTracking() throws Exception
+    {
+        Connection dbConn = dbConnPool.getConnection();
+        assertEquals(1, dbConnPool.getActiveCount());
+        assertEquals(1, dbConnPool.getAcquireHistogram().getCount());
+
+        List<DbConnectionPool.ConnectionLease> leases = dbConnPool.getLeases();
+        assertEquals(1, leases.size());
+        assertEquals(Thread.currentThread().getName(), leases.get(0).getThreadName());
+        assertFalse(leases.get(0).isLongHeld());
+
+        dbConnPool.returnConnection(dbConn);
+        assertEquals(0, dbConnPool.getActiveCount());
+        assertTrue(dbConnPool.getLeases().isEmpty());
+        assertEquals(0, dbConnPool.getLeakedCount());
+    }
+
+    @Test
+    public void testLeakedConnection() throws Exception
+    {
+        dbConnPool.getConnection();
+
+        assertTrue(dbConnPool.closeAllThreadLocalConnections());
+        assertEquals(1, dbConnPool.getLeakedCount());
+        assertTrue(dbConnPool.getLeases().isEmpty());
+        assertEquals(0, dbConnPool.getActiveCount());
+    }
+}
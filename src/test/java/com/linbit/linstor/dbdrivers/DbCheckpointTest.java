@@ -0,0 +1,49 @@
+package com.linbit.linstor.dbdrivers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DbCheckpointTest
+{
+    @Test
+    public void testValueRoundTrip() throws IOException
+    {
+        List<Object> values = Arrays.asList(null, "nodeä", 42L, 7, (short) 3, true, "");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes))
+        {
+            for (Object value : values)
+            {
+                DbCheckpoint.writeValue(out, value);
+            }
+            DbCheckpoint.writeValue(out, new byte[] {1, 2, 3});
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            for (Object value : values)
+            {
+                // the exact types have to be restored, as the drivers cast the raw values
+                assertEquals(value, DbCheckpoint.readValue(in));
+            }
+            assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) DbCheckpoint.readValue(in));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsupportedValue() throws IOException
+    {
+        DbCheckpoint.writeValue(new DataOutputStream(new ByteArrayOutputStream()), new Object());
+    }
+}
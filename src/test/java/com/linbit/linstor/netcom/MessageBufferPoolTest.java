@@ -0,0 +1,83 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MessageBufferPoolTest
+{
+    @Test
+    public void testLeaseSetsLimit()
+    {
+        MessageBufferPool pool = new MessageBufferPool();
+
+        ByteBuffer buffer = pool.lease(100);
+        assertTrue(buffer.isDirect());
+        assertEquals(0, buffer.position());
+        assertEquals(100, buffer.limit());
+        assertEquals(4096, buffer.capacity());
+
+        ByteBuffer largeBuffer = pool.lease(4097);
+        assertEquals(4097, largeBuffer.limit());
+        assertEquals(8192, largeBuffer.capacity());
+
+        assertEquals(0, pool.getHitCount());
+        assertEquals(2, pool.getMissCount());
+    }
+
+    @Test
+    public void testReleasedBufferIsReused()
+    {
+        MessageBufferPool pool = new MessageBufferPool();
+
+        ByteBuffer buffer = pool.lease(1000);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertEquals(4096, pool.getPooledBytes());
+
+        ByteBuffer reused = pool.lease(2000);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(2000, reused.limit());
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0, pool.getPooledBytes());
+
+        // different size class
+        ByteBuffer other = pool.lease(5000);
+        assertNotSame(buffer, other);
+    }
+
+    @Test
+    public void testMaxDataSize()
+    {
+        MessageBufferPool pool = new MessageBufferPool();
+
+        ByteBuffer buffer = pool.lease(Message.DEFAULT_MAX_DATA_SIZE);
+        assertEquals(Message.DEFAULT_MAX_DATA_SIZE, buffer.capacity());
+        pool.release(buffer);
+
+        // only one buffer of the largest size class is kept
+        ByteBuffer secondBuffer = pool.lease(Message.DEFAULT_MAX_DATA_SIZE);
+        pool.release(secondBuffer);
+        pool.release(ByteBuffer.allocateDirect(Message.DEFAULT_MAX_DATA_SIZE));
+        assertEquals(1, pool.getDiscardCount());
+        assertEquals(Message.DEFAULT_MAX_DATA_SIZE, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testForeignBuffersAreDiscarded()
+    {
+        MessageBufferPool pool = new MessageBufferPool();
+
+        pool.release(ByteBuffer.allocate(4096));
+        pool.release(ByteBuffer.allocateDirect(1000));
+        assertEquals(2, pool.getDiscardCount());
+        assertEquals(0, pool.getPooledBytes());
+    }
+}
@@ -0,0 +1,94 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MessageCompressionTest
+{
+    @Test
+    public void testNegotiate()
+    {
+        assertEquals(
+            MessageCompression.ALGORITHM_DEFLATE,
+            MessageCompression.negotiate(Arrays.asList("unknown", MessageCompression.ALGORITHM_DEFLATE))
+        );
+        assertEquals("", MessageCompression.negotiate(Collections.singletonList("unknown")));
+        assertEquals("", MessageCompression.negotiate(Collections.emptyList()));
+    }
+
+    @Test
+    public void testIncompressibleData()
+    {
+        byte[] data = new byte[MessageCompression.MIN_COMPRESS_SIZE];
+        new Random(1).nextBytes(data);
+        assertNull(MessageCompression.compress(data));
+    }
+
+    @Test
+    public void testMessageRoundTrip() throws Exception
+    {
+        byte[] data = createCompressibleData(MessageCompression.MIN_COMPRESS_SIZE * 3);
+
+        MessageData sendMsg = new MessageData(true);
+        sendMsg.setData(data);
+        sendMsg.compressData();
+
+        ByteBuffer sendHeader = sendMsg.getHeaderBuffer();
+        ByteBuffer sendData = sendMsg.getDataBuffer();
+        assertEquals(Message.FLAG_COMPRESSED_DEFLATE, sendHeader.getInt(Message.FLAGS_FIELD_OFFSET));
+        assertEquals(data.length, sendHeader.getInt(Message.RAW_LENGTH_FIELD_OFFSET));
+        assertEquals(sendData.remaining(), sendHeader.getInt(Message.LENGTH_FIELD_OFFSET));
+        // the sender still sees the uncompressed data
+        assertSame(data, sendMsg.getData());
+
+        MessageData recvMsg = new MessageData(false, new MessageBufferPool());
+        recvMsg.getHeaderBuffer().put(sendHeader.duplicate());
+        recvMsg.allocateData(recvMsg.getHeaderBuffer().getInt(Message.LENGTH_FIELD_OFFSET));
+        recvMsg.getDataBuffer().put(sendData.duplicate());
+
+        assertArrayEquals(data, recvMsg.getData());
+        recvMsg.releaseData();
+    }
+
+    @Test
+    public void testSmallMessageNotCompressed() throws Exception
+    {
+        byte[] data = createCompressibleData(MessageCompression.MIN_COMPRESS_SIZE - 1);
+
+        MessageData sendMsg = new MessageData(true);
+        sendMsg.setData(data);
+        sendMsg.compressData();
+
+        assertEquals(0, sendMsg.getHeaderBuffer().getInt(Message.FLAGS_FIELD_OFFSET));
+        assertEquals(data.length, sendMsg.getDataBuffer().remaining());
+    }
+
+    @Test(expected = IllegalMessageStateException.class)
+    public void testRawLengthMismatch() throws Exception
+    {
+        byte[] data = createCompressibleData(MessageCompression.MIN_COMPRESS_SIZE);
+        byte[] compressed = MessageCompression.compress(data);
+
+        MessageCompression.decompress(ByteBuffer.wrap(compressed), data.length - 1);
+    }
+
+    private static byte[] createCompressibleData(int size)
+    {
+        byte[] pattern = "Aux/prop/key=value;".getBytes();
+        byte[] data = new byte[size];
+        for (int idx = 0; idx < size; ++idx)
+        {
+            data[idx] = pattern[idx % pattern.length];
+        }
+        return data;
+    }
+}
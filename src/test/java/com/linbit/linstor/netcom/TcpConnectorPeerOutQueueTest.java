@@ -0,0 +1,179 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TcpConnectorPeerOutQueueTest
+{
+    private static final int MAX_MSG_COUNT = 3;
+
+    private CommonSerializer commonSerializer;
+    private TcpConnectorPeer peer;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        TcpConnector connector = mock(TcpConnector.class);
+        when(connector.getOutQueueMaxMsgCount()).thenReturn(MAX_MSG_COUNT);
+        when(connector.getOutQueueMaxBytes()).thenReturn(0L);
+
+        SelectionKey selKey = mock(SelectionKey.class);
+        when(selKey.selector()).thenReturn(mock(Selector.class));
+
+        commonSerializer = mock(CommonSerializer.class);
+
+        peer = new TcpConnectorPeer(
+            mock(ErrorReporter.class),
+            commonSerializer,
+            "TestPeer",
+            connector,
+            selKey,
+            null,
+            null
+        );
+        peer.connectionEstablished();
+    }
+
+    @Test
+    public void testCoalesceWhenFull()
+    {
+        peer.sendMessage(new byte[] {0});
+        peer.sendCoalescibleMessage(new byte[] {1}, "keyA");
+        peer.sendMessage(new byte[] {2});
+        peer.sendMessage(new byte[] {3});
+        assertEquals(MAX_MSG_COUNT, peer.outQueueCount());
+        assertEquals(3, peer.outQueueBytes());
+
+        peer.sendCoalescibleMessage(new byte[] {4, 4}, "keyA");
+        peer.sendCoalescibleMessage(new byte[] {5}, "keyB");
+
+        assertEquals(1, peer.msgCoalescedCount());
+        assertEquals(1, peer.msgDroppedCount());
+        assertEquals(MAX_MSG_COUNT, peer.outQueueCount());
+        assertEquals(4, peer.outQueueBytes());
+    }
+
+    @Test
+    public void testReplacedMessageKeepsPosition() throws Exception
+    {
+        peer.sendMessage(new byte[] {0});
+        peer.sendCoalescibleMessage(new byte[] {1}, "keyA");
+        peer.sendMessage(new byte[] {2});
+        peer.sendMessage(new byte[] {3});
+        peer.sendCoalescibleMessage(new byte[] {4}, "keyA");
+
+        peer.nextOutMessage();
+        assertArrayEquals(new byte[] {4}, peer.msgOut.getData());
+        assertEquals(2, peer.outQueueCount());
+
+        // the queue has free capacity again, therefore the message is queued instead of coalesced
+        peer.sendCoalescibleMessage(new byte[] {5}, "keyA");
+        assertEquals(MAX_MSG_COUNT, peer.outQueueCount());
+        assertEquals(1, peer.msgCoalescedCount());
+    }
+
+    @Test
+    public void testApiCallDeferredWhenFull()
+    {
+        mockApiCallBuilder();
+
+        for (int idx = 0; idx <= MAX_MSG_COUNT; ++idx)
+        {
+            peer.sendMessage(new byte[] {(byte) idx});
+        }
+        peer.apiCall("TestApiCall", new byte[0]).subscribe();
+        assertEquals(1, peer.outQueueDeferredCount());
+        assertEquals(MAX_MSG_COUNT, peer.outQueueCount());
+
+        peer.nextOutMessage();
+        assertEquals(0, peer.outQueueDeferredCount());
+        assertEquals(MAX_MSG_COUNT, peer.outQueueCount());
+        assertEquals(0, peer.msgDroppedCount());
+    }
+
+    @Test
+    public void testMessageStaysBehindDeferredApiCall() throws Exception
+    {
+        mockApiCallBuilder();
+
+        for (int idx = 0; idx <= MAX_MSG_COUNT; ++idx)
+        {
+            peer.sendMessage(new byte[] {(byte) idx});
+        }
+        peer.apiCall("TestApiCall", new byte[0]).subscribe();
+        peer.sendMessage(new byte[] {7});
+        assertEquals(2, peer.outQueueDeferredCount());
+
+        peer.nextOutMessage();
+        assertEquals(1, peer.outQueueDeferredCount());
+        assertArrayEquals(new byte[] {9}, peer.msgOutQueue.getLast().getData());
+
+        peer.nextOutMessage();
+        assertEquals(0, peer.outQueueDeferredCount());
+        assertArrayEquals(new byte[] {7}, peer.msgOutQueue.getLast().getData());
+    }
+
+    @Test
+    public void testApiCallWaitsForDeferredCapacity() throws Exception
+    {
+        CommonSerializer.CommonSerializerBuilder builder = mockApiCallBuilder();
+
+        for (int idx = 0; idx < 2 * MAX_MSG_COUNT + 1; ++idx)
+        {
+            peer.sendMessage(new byte[] {(byte) idx});
+        }
+        assertEquals(MAX_MSG_COUNT, peer.outQueueDeferredCount());
+
+        peer.apiCall("TestApiCall", new byte[0]).subscribe();
+        assertEquals(MAX_MSG_COUNT, peer.outQueueDeferredCount());
+        assertEquals(0, peer.openRpcCount());
+
+        // the message of the admitted API call is built by a worker thread instead of the selector thread
+        AtomicReference<Thread> buildThread = new AtomicReference<>();
+        when(builder.build()).thenAnswer(
+            invocation ->
+            {
+                buildThread.set(Thread.currentThread());
+                return new byte[] {9};
+            }
+        );
+        peer.nextOutMessage();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (peer.openRpcCount() == 0 && System.nanoTime() < deadline)
+        {
+            Thread.sleep(1);
+        }
+        assertEquals(1, peer.openRpcCount());
+        assertNotSame(Thread.currentThread(), buildThread.get());
+    }
+
+    private CommonSerializer.CommonSerializerBuilder mockApiCallBuilder()
+    {
+        CommonSerializer.CommonSerializerBuilder builder = mock(
+            CommonSerializer.CommonSerializerBuilder.class,
+            RETURNS_SELF
+        );
+        when(builder.build()).thenReturn(new byte[] {9});
+        when(commonSerializer.apiCallBuilder(anyString(), anyLong())).thenReturn(builder);
+        peer.setAuthenticated(true);
+        peer.fullSyncApplied();
+        return builder;
+    }
+}
@@ -4,26 +4,43 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.pojo.NodePojo;
 import com.linbit.linstor.api.pojo.RscDfnPojo;
 import com.linbit.linstor.api.pojo.RscGrpPojo;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.apicallhandler.ScopeLanes;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apis.NodeApi;
 import com.linbit.linstor.core.apis.ResourceDefinitionApi;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.dbcp.DbConnectionPool;
 import com.linbit.linstor.logging.StderrErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.RpcLatencyStats;
+import com.linbit.linstor.tasks.ReconnectorTask;
+import com.linbit.linstor.transaction.manager.SQLGroupCommitter;
+import com.linbit.locks.LockStats;
+import com.linbit.utils.LatencyHistogram;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 public class PrometheusBuilderTest {
 
     @Test
     public void testNullMetrics() throws IOException {
         long start = System.currentTimeMillis();
         StderrErrorReporter errReporter = new StderrErrorReporter("Test");
-        PrometheusBuilder pmb = new PrometheusBuilder(errReporter);
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, new CoreModule.PeerMapImpl(), mock(ReconnectorTask.class), new LockStats(),
+            mock(ScopeLanes.class), mock(SQLGroupCommitter.class), mock(DbConnectionPool.class));
 
         final String promText = pmb.build(
                 null,
@@ -41,7 +58,9 @@ public class PrometheusBuilderTest {
     public void testSampleMetrics() throws IOException {
         long start = System.currentTimeMillis();
         StderrErrorReporter errReporter = new StderrErrorReporter("Test");
-        PrometheusBuilder pmb = new PrometheusBuilder(errReporter);
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, new CoreModule.PeerMapImpl(), mock(ReconnectorTask.class), new LockStats(),
+            mock(ScopeLanes.class), mock(SQLGroupCommitter.class), mock(DbConnectionPool.class));
 
         ArrayList<NodeApi> nodeList = new ArrayList<>();
         nodeList.add(
@@ -97,4 +116,99 @@ public class PrometheusBuilderTest {
         Assert.assertTrue(promText.contains("linstor_node_state"));
         Assert.assertTrue(promText.contains("linstor_resource_definition_count 1.0"));
     }
+
+    @Test
+    public void testRpcMetrics() throws Exception {
+        long start = System.currentTimeMillis();
+        StderrErrorReporter errReporter = new StderrErrorReporter("Test");
+
+        Node node = mock(Node.class);
+        when(node.getName()).thenReturn(new NodeName("testnode"));
+        RpcLatencyStats rpcStats = new RpcLatencyStats();
+        rpcStats.record("TestApiCall", TimeUnit.MILLISECONDS.toNanos(3));
+        Peer peer = mock(Peer.class);
+        when(peer.getNode()).thenReturn(node);
+        when(peer.getRpcLatencyStats()).thenReturn(rpcStats);
+        when(peer.openRpcCount()).thenReturn(2);
+
+        CoreModule.PeerMapImpl peerMap = new CoreModule.PeerMapImpl();
+        peerMap.put("testpeer", peer);
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, peerMap, mock(ReconnectorTask.class), new LockStats(),
+            mock(ScopeLanes.class), mock(SQLGroupCommitter.class), mock(DbConnectionPool.class));
+
+        final String promText = pmb.build(null, null, null, null, null, 1, start);
+        Assert.assertTrue(promText.contains("linstor_rpc_open_count{node=\"testnode\"} 2.0"));
+        Assert.assertTrue(promText.contains("linstor_rpc_latency_seconds_count{"));
+        Assert.assertTrue(promText.contains("le=\"0.002\""));
+        Assert.assertTrue(promText.contains("le=\"+Inf\""));
+    }
+
+    @Test
+    public void testLockMetrics() throws Exception {
+        long start = System.currentTimeMillis();
+        StderrErrorReporter errReporter = new StderrErrorReporter("Test");
+
+        LockStats lockStats = new LockStats();
+        lockStats.recordWait("RSC_DFN_MAP", "WRITE", "CrtRsc", TimeUnit.MILLISECONDS.toNanos(30));
+        lockStats.recordHold("RSC_DFN_MAP", "WRITE", "CrtRsc", TimeUnit.MILLISECONDS.toNanos(3));
+        LockStats.Holder holder = lockStats.acquired(
+            "LstNode", Collections.singletonList("NODES_MAP READ"), System.nanoTime());
+
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, new CoreModule.PeerMapImpl(), mock(ReconnectorTask.class), lockStats,
+            mock(ScopeLanes.class), mock(SQLGroupCommitter.class), mock(DbConnectionPool.class));
+
+        final String promText = pmb.build(null, null, null, null, null, 1, start);
+        Assert.assertTrue(promText.contains("linstor_lock_wait_seconds_count{"));
+        Assert.assertTrue(promText.contains("lock=\"RSC_DFN_MAP\""));
+        Assert.assertTrue(promText.contains("api_call=\"CrtRsc\""));
+        Assert.assertTrue(promText.contains("linstor_lock_hold_seconds_bucket{"));
+        Assert.assertTrue(promText.contains("holder=\"LstNode\""));
+
+        lockStats.released(holder);
+        Assert.assertFalse(pmb.build(null, null, null, null, null, 1, start).contains("holder=\"LstNode\""));
+    }
+
+    @Test
+    public void testScopeLaneMetrics() throws Exception {
+        long start = System.currentTimeMillis();
+        StderrErrorReporter errReporter = new StderrErrorReporter("Test");
+
+        LatencyHistogram queueTimes = new LatencyHistogram();
+        queueTimes.record(TimeUnit.MILLISECONDS.toNanos(20));
+        ScopeLanes.Lane lane = mock(ScopeLanes.Lane.class);
+        when(lane.getLaneType()).thenReturn(ScopeLanes.LaneType.READ);
+        when(lane.getQueueTimeHistogram()).thenReturn(queueTimes);
+        when(lane.getRunningCount()).thenReturn(3);
+        ScopeLanes scopeLanes = mock(ScopeLanes.class);
+        when(scopeLanes.getLanes()).thenReturn(Collections.singletonList(lane));
+
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, new CoreModule.PeerMapImpl(), mock(ReconnectorTask.class), new LockStats(), scopeLanes,
+            mock(SQLGroupCommitter.class), mock(DbConnectionPool.class));
+
+        final String promText = pmb.build(null, null, null, null, null, 1, start);
+        Assert.assertTrue(promText.contains("linstor_scope_lane_queue_seconds_count{lane=\"read\"} 1.0"));
+        Assert.assertTrue(promText.contains("linstor_scope_lane_running_count{lane=\"read\"} 3.0"));
+    }
+
+    @Test
+    public void testGroupCommitMetrics() throws Exception {
+        long start = System.currentTimeMillis();
+        StderrErrorReporter errReporter = new StderrErrorReporter("Test");
+
+        SQLGroupCommitter groupCommitter = new SQLGroupCommitter(errReporter, 2);
+        groupCommitter.getCommitLatencyHistogram().record(TimeUnit.MILLISECONDS.toNanos(3));
+        groupCommitter.getGroupSizeHistogram().record(5);
+
+        PrometheusBuilder pmb = new PrometheusBuilder(
+            errReporter, new CoreModule.PeerMapImpl(), mock(ReconnectorTask.class), new LockStats(),
+            mock(ScopeLanes.class), groupCommitter, mock(DbConnectionPool.class));
+
+        final String promText = pmb.build(null, null, null, null, null, 1, start);
+        Assert.assertTrue(promText.contains("linstor_db_group_commit_latency_seconds_count 1.0"));
+        Assert.assertTrue(promText.contains("linstor_db_group_commit_size_bucket{le=\"8\"} 1.0"));
+        Assert.assertTrue(promText.contains("linstor_db_group_commit_size_sum 5.0"));
+    }
 }
@@ -1,8 +1,11 @@
 package com.linbit.linstor.propscon;
 
+import com.linbit.linstor.dbdrivers.sql.SQLEngine;
 import com.linbit.linstor.security.GenericDbBase;
 import org.junit.Before;
 
+import javax.inject.Inject;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -34,11 +37,14 @@ public class PropsConSQLDbDriverBase extends GenericDbBase
 
     protected PropsConSQLDbDriver dbDriver;
 
+    @Inject
+    private SQLEngine sqlEngine;
+
     @Before
     public void setUp() throws Exception
     {
         super.setUpAndEnterScope();
-        dbDriver = new PropsConSQLDbDriver(errorReporter, transMgrProvider);
+        dbDriver = new PropsConSQLDbDriver(errorReporter, transMgrProvider, sqlEngine);
     }
 
     protected String debugGetAllProps() throws SQLException
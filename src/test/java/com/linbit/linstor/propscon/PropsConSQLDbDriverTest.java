@@ -77,10 +77,65 @@ public class PropsConSQLDbDriverTest extends PropsConSQLDbDriverBase
 
         map.remove("a/b");
         container.removeProp("a/b");
+        commit();
 
         checkIfPresent(map, DEFAULT_INSTANCE_NAME);
     }
 
+    @Test
+    public void testPersistChangedValues() throws Throwable
+    {
+        truncate();
+        PropsContainer container = propsContainerFactory.getInstance(DEFAULT_INSTANCE_NAME);
+        container.setProp("a", "b");
+        container.setProp("c", "d");
+        commit();
+
+        // existing keys are updated, new keys are inserted
+        container.setProp("a", "e");
+        container.removeProp("c");
+        container.setProp("c", "f");
+        container.setProp("g", "h");
+        commit();
+
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "e");
+        map.put("c", "f");
+        map.put("g", "h");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+
+        // after clearing the container, all keys are inserted again
+        container.clear();
+        container.setProp("a", "i");
+        commit();
+
+        map.clear();
+        map.put("a", "i");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+    }
+
+    @Test
+    public void testPersistOnCommit() throws Throwable
+    {
+        truncate();
+        PropsContainer container = propsContainerFactory.getInstance(DEFAULT_INSTANCE_NAME);
+
+        container.setProp("a", "b");
+        container.setProp("a", "c");
+        container.setProp("d", "e");
+        container.removeProp("d");
+
+        ResultSet resultSet = getAllProps();
+        assertFalse("Properties persisted before commit", resultSet.next());
+        resultSet.close();
+
+        commit();
+
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "c");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+    }
+
     @Test
     public void testPersistMultipleContainer() throws Throwable
     {
@@ -109,6 +164,7 @@ public class PropsConSQLDbDriverTest extends PropsConSQLDbDriverBase
 
         container1.clear();
         map1.clear();
+        commit();
 
         checkIfPresent(map1, expectedInstanceName1);
         checkIfPresent(map2, expectedInstanceName2);
@@ -205,4 +261,34 @@ public class PropsConSQLDbDriverTest extends PropsConSQLDbDriverBase
         checkExpectedMap(map1, props1);
         checkExpectedMap(map2, props2);
     }
+
+    @Test
+    public void testLoadFetchedForLoadAll() throws Throwable
+    {
+        Map<String, String> map1 = new HashMap<>();
+        map1.put("a", "b");
+        map1.put("a/c", "d");
+        Map<String, String> map2 = new HashMap<>();
+        map2.put("e", "f");
+
+        String instanceName1 = "INSTANCE_1";
+        String instanceName2 = "INSTANCE_2";
+
+        insert(instanceName1, map1);
+        insert(instanceName2, map2);
+
+        dbDriver.fetchForLoadAll();
+
+        // changes after the fetch are not visible until the fetched properties are cleared
+        delete(instanceName2, "e");
+
+        assertEquals(map1, dbDriver.loadAll(instanceName1.toLowerCase()));
+        assertEquals(map2, dbDriver.loadAll(instanceName2));
+        assertTrue(dbDriver.loadAll("UNKNOWN_INSTANCE").isEmpty());
+
+        dbDriver.clearLoadAllCache();
+
+        assertEquals(map1, dbDriver.loadAll(instanceName1));
+        assertTrue(dbDriver.loadAll(instanceName2).isEmpty());
+    }
 }
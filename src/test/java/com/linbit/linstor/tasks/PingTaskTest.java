@@ -0,0 +1,75 @@
+package com.linbit.linstor.tasks;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PingTaskTest
+{
+    private static final int PEER_COUNT = 20;
+
+    private PingTask pingTask;
+    private List<Peer> peers;
+
+    @Before
+    public void setUp()
+    {
+        pingTask = new PingTask(mock(ErrorReporter.class), mock(ReconnectorTask.class));
+        peers = new ArrayList<>();
+        for (int idx = 0; idx < PEER_COUNT; ++idx)
+        {
+            Peer peer = mock(Peer.class);
+            when(peer.isConnected(false)).thenReturn(true);
+            peers.add(peer);
+            pingTask.add(peer);
+        }
+    }
+
+    @Test
+    public void testPingsSpreadAcrossRuns()
+    {
+        long delay = pingTask.run();
+        long checkedCount = peers.stream()
+            .filter(peer -> mockingDetails(peer).getInvocations().stream()
+                .anyMatch(invocation -> invocation.getMethod().getName().equals("msgRecvCount")))
+            .count();
+        assertEquals(PEER_COUNT / 10, checkedCount);
+
+        // the first check of a peer only records its message count, the second one sends a ping
+        long intervalRuns = 1_000 / delay;
+        for (int run = 1; run < intervalRuns * 2; ++run)
+        {
+            pingTask.run();
+        }
+        for (Peer peer : peers)
+        {
+            verify(peer, times(1)).sendPing();
+        }
+    }
+
+    @Test
+    public void testNoPingWithTraffic()
+    {
+        long recvCount = 0;
+        Peer busyPeer = peers.get(0);
+        for (int run = 0; run < 40; ++run)
+        {
+            when(busyPeer.msgRecvCount()).thenReturn(recvCount++);
+            pingTask.run();
+        }
+        verify(busyPeer, never()).sendPing();
+    }
+}
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.net.UnknownHostException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
 
@@ -73,7 +74,7 @@ public class ControllerProtobuf extends ProtobufIO
                 InternalApiConsts.API_AUTH,
                 getNextApiCallId()
             )
-            .authMessage(nodeUuid, nodeName, sharedSecret)
+            .authMessage(nodeUuid, nodeName, sharedSecret, Collections.emptyList())
             .build()
         );
     }
@@ -0,0 +1,386 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.core.objects.ResourceLayerIdSQLDbDriver;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.SQLStatementParameters;
+import com.linbit.linstor.logging.StderrErrorReporter;
+import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgr;
+import com.linbit.linstor.transaction.manager.DbCheckpointCounter;
+import com.linbit.linstor.transaction.manager.SQLGroupCommitter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ControllerSQLTransactionMgrTest
+{
+    private static final String INSERT_A = "INSERT INTO A (X) VALUES(?)";
+    private static final String INSERT_B = "INSERT INTO B (X) VALUES(?)";
+
+    private ControllerSQLDatabase database;
+    private Connection dbCon;
+    private PreparedStatement stmtA;
+    private PreparedStatement stmtB;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        database = mock(ControllerSQLDatabase.class);
+        dbCon = mock(Connection.class);
+        stmtA = mock(PreparedStatement.class);
+        stmtB = mock(PreparedStatement.class);
+        when(database.getConnection()).thenReturn(dbCon);
+        when(dbCon.prepareStatement(INSERT_A)).thenReturn(stmtA);
+        when(dbCon.prepareStatement(INSERT_B)).thenReturn(stmtB);
+    }
+
+    @Test
+    public void testWriteBehindBatchesInOrder() throws Exception
+    {
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database, null, true);
+        transMgr.executeDeferred(INSERT_A, params(1));
+        transMgr.executeDeferred(INSERT_A, params(2));
+        transMgr.executeDeferred(INSERT_B, params(3));
+        transMgr.executeDeferred(INSERT_A, params(4));
+
+        verify(dbCon, never()).prepareStatement(INSERT_A);
+
+        transMgr.commit();
+
+        InOrder order = inOrder(stmtA, stmtB, dbCon);
+        order.verify(stmtA, times(2)).addBatch();
+        order.verify(stmtA).executeBatch();
+        order.verify(stmtB).addBatch();
+        order.verify(stmtB).executeBatch();
+        order.verify(stmtA).addBatch();
+        order.verify(stmtA).executeBatch();
+        order.verify(dbCon).commit();
+
+        // the statement is prepared once per transaction
+        verify(dbCon, times(1)).prepareStatement(INSERT_A);
+        verify(stmtA, never()).executeUpdate();
+    }
+
+    @Test
+    public void testGetConnectionFlushes() throws Exception
+    {
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database, null, true);
+        transMgr.executeDeferred(INSERT_A, params(1));
+
+        transMgr.getConnection();
+        verify(stmtA).executeBatch();
+
+        transMgr.commit();
+        verify(stmtA, times(1)).executeBatch();
+    }
+
+    @Test
+    public void testRollbackDiscardsDeferred() throws Exception
+    {
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database, null, true);
+        transMgr.executeDeferred(INSERT_A, params(1));
+
+        transMgr.rollback();
+        transMgr.commit();
+
+        verify(dbCon, never()).prepareStatement(INSERT_A);
+    }
+
+    @Test
+    public void testImmediateMode() throws Exception
+    {
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database);
+        transMgr.executeDeferred(INSERT_A, params(1));
+
+        verify(stmtA).setLong(1, 1);
+        verify(stmtA).executeUpdate();
+        verify(stmtA, never()).addBatch();
+    }
+
+    @Test
+    public void testCheckpointCounterRemovedWithFirstChange() throws Exception
+    {
+        PreparedStatement removeStmt = mock(PreparedStatement.class);
+        when(dbCon.prepareStatement(contains("DB_CHECKPOINT"))).thenReturn(removeStmt);
+        DbCheckpointCounter checkpointCounter = new DbCheckpointCounter();
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(
+            database,
+            null,
+            checkpointCounter,
+            true
+        );
+
+        // a transaction without changes keeps the counter
+        transMgr.commit();
+        verify(dbCon, never()).prepareStatement(contains("DB_CHECKPOINT"));
+        assertTrue(checkpointCounter.isArmed());
+
+        transMgr.executeDeferred(INSERT_A, params(1));
+        transMgr.commit();
+        verify(removeStmt).executeBatch();
+        assertFalse(checkpointCounter.isArmed());
+
+        // the counter is only removed once
+        transMgr.executeDeferred(INSERT_A, params(2));
+        transMgr.commit();
+        verify(removeStmt, times(1)).executeBatch();
+    }
+
+    @Test
+    public void testDuplicateKeyReportedAtCommit() throws Exception
+    {
+        BatchUpdateException duplicateExc = new BatchUpdateException(
+            "Unique index or primary key violation",
+            "23505",
+            new int[] {1}
+        );
+        when(stmtB.executeBatch()).thenThrow(duplicateExc);
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database, null, true);
+        transMgr.executeDeferred(INSERT_A, params(1));
+        transMgr.executeDeferred(INSERT_B, params(2));
+        transMgr.executeDeferred(INSERT_B, params(3));
+
+        // the INSERTs stay deferred
+        verify(dbCon, never()).prepareStatement(INSERT_B);
+        try
+        {
+            transMgr.commit();
+            fail("Duplicate key was not reported");
+        }
+        catch (TransactionException exc)
+        {
+            // the second statement of the batch failed
+            DatabaseException dbExc = (DatabaseException) exc.getCause();
+            assertEquals("SQL: " + INSERT_B, dbExc.getDetailsText());
+            assertEquals(duplicateExc.getMessage(), dbExc.getCauseText());
+        }
+        verify(dbCon, never()).commit();
+    }
+
+    @Test
+    public void testFailedBatchIsDiscarded() throws Exception
+    {
+        when(stmtA.executeBatch()).thenThrow(new SQLException("test")).thenReturn(new int[] {1});
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(database, null, true);
+        transMgr.executeDeferred(INSERT_A, params(1));
+        try
+        {
+            transMgr.commit();
+            fail("Commit did not fail");
+        }
+        catch (TransactionException expected)
+        {
+            // expected
+        }
+        verify(stmtA).clearBatch();
+        transMgr.rollback();
+
+        // the failed statement is prepared again instead of executing the old batch entries again
+        transMgr.executeDeferred(INSERT_A, params(2));
+        transMgr.commit();
+        verify(dbCon, times(2)).prepareStatement(INSERT_A);
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception
+    {
+        SQLGroupCommitter groupCommitter = new SQLGroupCommitter(new StderrErrorReporter("Test"), 1);
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(
+            database,
+            null,
+            null,
+            groupCommitter,
+            true
+        );
+        transMgr.executeDeferred(INSERT_A, params(1));
+        transMgr.commit();
+
+        // the group was committed on the connection of its only transaction
+        verify(database, times(1)).getConnection();
+        verify(stmtA).executeBatch();
+        verify(dbCon).commit();
+        assertEquals(1, groupCommitter.getGroupSizeHistogram().getCount());
+
+        // a transaction that used its connection directly commits without the group
+        transMgr.executeDeferred(INSERT_A, params(2));
+        transMgr.getConnection();
+        transMgr.commit();
+        verify(dbCon, times(2)).commit();
+        assertEquals(1, groupCommitter.getGroupSizeHistogram().getCount());
+    }
+
+    @Test
+    public void testGroupCommitWithLayerDataAndQueries() throws Exception
+    {
+        PreparedStatement layerStmt = mock(PreparedStatement.class);
+        when(dbCon.prepareStatement(contains("LAYER_RESOURCE_IDS"))).thenReturn(layerStmt);
+        SQLGroupCommitter groupCommitter = new SQLGroupCommitter(new StderrErrorReporter("Test"), 1);
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(
+            database,
+            null,
+            null,
+            groupCommitter,
+            true
+        );
+        ResourceLayerIdSQLDbDriver layerIdDriver = new ResourceLayerIdSQLDbDriver(
+            new StderrErrorReporter("Test"),
+            () -> transMgr,
+            null
+        );
+        AbsRscLayerObject<?> rscData = mock(AbsRscLayerObject.class);
+        when(rscData.getLayerKind()).thenReturn(DeviceLayerKind.DRBD);
+        when(rscData.getRscLayerId()).thenReturn(5);
+
+        // creates a row, deletes layer data and loads the properties of another object
+        transMgr.executeDeferred(INSERT_A, params(1));
+        layerIdDriver.delete(rscData);
+        transMgr.getQueryConnection("PROPS_CONTAINERS");
+
+        // the query did not need the deferred statements
+        verify(stmtA, never()).executeBatch();
+        verify(layerStmt, never()).executeBatch();
+
+        transMgr.commit();
+
+        verify(layerStmt).setInt(1, 5);
+        verify(stmtA).executeBatch();
+        verify(layerStmt).executeBatch();
+        assertEquals(1, groupCommitter.getGroupSizeHistogram().getCount());
+    }
+
+    @Test
+    public void testQueryOfChangedTableFlushes() throws Exception
+    {
+        SQLGroupCommitter groupCommitter = new SQLGroupCommitter(new StderrErrorReporter("Test"), 1);
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(
+            database,
+            null,
+            null,
+            groupCommitter,
+            true
+        );
+        transMgr.executeDeferred(INSERT_A, params(1));
+        transMgr.executeDeferred(INSERT_B, params(2));
+
+        // the query has to see the deferred INSERT into the table, which is executed in the original order
+        transMgr.getQueryConnection("a");
+        InOrder order = inOrder(stmtA, stmtB);
+        order.verify(stmtA).executeBatch();
+        order.verify(stmtB).executeBatch();
+
+        // the changes were executed on the connection of the transaction, which therefore commits without the group
+        transMgr.commit();
+        verify(dbCon).commit();
+        assertEquals(0, groupCommitter.getGroupSizeHistogram().getCount());
+    }
+
+    @Test
+    public void testGroupCommitWithExhaustedPool() throws Exception
+    {
+        final int poolSize = 8;
+        final int committerCount = poolSize * 2;
+
+        // every transaction holds one of the pooled connections, a further connection is never available
+        AtomicInteger borrowedCount = new AtomicInteger();
+        ControllerSQLDatabase pool = mock(ControllerSQLDatabase.class);
+        List<Connection> connections = new ArrayList<>();
+        for (int idx = 0; idx < committerCount; ++idx)
+        {
+            Connection con = mock(Connection.class);
+            when(con.prepareStatement(INSERT_A)).thenReturn(mock(PreparedStatement.class));
+            connections.add(con);
+        }
+        when(pool.getConnection()).thenAnswer(
+            invocation ->
+            {
+                int idx = borrowedCount.getAndIncrement();
+                if (idx >= poolSize)
+                {
+                    throw new SQLException("Connection pool exhausted");
+                }
+                return connections.get(idx);
+            }
+        );
+
+        SQLGroupCommitter groupCommitter = new SQLGroupCommitter(new StderrErrorReporter("Test"), 5);
+        List<ControllerSQLTransactionMgr> transMgrs = new ArrayList<>();
+        for (int idx = 0; idx < poolSize; ++idx)
+        {
+            ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(
+                pool,
+                null,
+                null,
+                groupCommitter,
+                true
+            );
+            transMgr.executeDeferred(INSERT_A, params(idx));
+            transMgrs.add(transMgr);
+        }
+
+        // more commits than connections: each transaction commits twice, concurrently with the others
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ControllerSQLTransactionMgr transMgr : transMgrs)
+            {
+                futures.add(
+                    executor.submit(
+                        () ->
+                        {
+                            transMgr.commit();
+                            transMgr.executeDeferred(INSERT_A, params(0));
+                            transMgr.commit();
+                            return null;
+                        }
+                    )
+                );
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals(poolSize, borrowedCount.get());
+        assertEquals(committerCount, groupCommitter.getGroupSizeHistogram().getSum());
+    }
+
+    private static SQLStatementParameters params(long value)
+    {
+        SQLStatementParameters params = new SQLStatementParameters();
+        params.setLong(1, value);
+        return params;
+    }
+}
@@ -0,0 +1,53 @@
+package com.linbit.locks;
+
+import com.linbit.locks.LockGuardFactory.LockObj;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LockGuardFactoryTest
+{
+    @Test
+    public void testLockStatsRecorded() throws Exception
+    {
+        LockStats lockStats = new LockStats();
+        LockGuardFactory lockGuardFactory = new LockGuardFactory(
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            lockStats
+        );
+
+        LockGuard lockGuard = lockGuardFactory.create()
+            .read(LockObj.NODES_MAP)
+            .write(LockObj.RSC_DFN_MAP)
+            .buildDeferred();
+        lockGuard.lock("TestApiCall");
+        assertEquals(1, lockStats.getHolders().size());
+        assertEquals(
+            Arrays.asList("RECONFIGURATION READ", "NODES_MAP READ", "RSC_DFN_MAP WRITE"),
+            lockStats.getHolders().get(0).getLockDescriptions()
+        );
+        lockGuard.close();
+
+        assertTrue(lockStats.getHolders().isEmpty());
+        List<LockStats.Entry> entries = lockStats.getEntries();
+        assertEquals(3, entries.size());
+        for (LockStats.Entry entry : entries)
+        {
+            assertEquals("TestApiCall", entry.getHolderName());
+            assertEquals(1, entry.getWaitHistogram().getCount());
+            assertEquals(1, entry.getHoldHistogram().getCount());
+        }
+    }
+}
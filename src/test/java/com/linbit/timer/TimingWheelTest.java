@@ -0,0 +1,90 @@
+package com.linbit.timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest
+{
+    private static final long START_TIME = 1_000_000;
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private TimingWheel<String> wheel;
+    private List<String> expired;
+
+    @Before
+    public void setUp()
+    {
+        wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, START_TIME);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    public void testNotExpiredBeforeTargetTime()
+    {
+        wheel.add("a", START_TIME + 25);
+
+        wheel.pollExpired(START_TIME + 24, expired);
+        assertTrue(expired.isEmpty());
+
+        wheel.pollExpired(START_TIME + 30, expired);
+        assertEquals(Arrays.asList("a"), expired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testMultipleRevolutions()
+    {
+        // same bucket as "near", but several revolutions later
+        wheel.add("far", START_TIME + 3 * WHEEL_SIZE * TICK_MILLIS + 10);
+        wheel.add("near", START_TIME + 10);
+
+        wheel.pollExpired(START_TIME + 10, expired);
+        assertEquals(Arrays.asList("near"), expired);
+
+        expired.clear();
+        wheel.pollExpired(START_TIME + 2 * WHEEL_SIZE * TICK_MILLIS, expired);
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        // skipping many ticks at once must still expire the object
+        wheel.pollExpired(START_TIME + 10 * WHEEL_SIZE * TICK_MILLIS, expired);
+        assertEquals(Arrays.asList("far"), expired);
+    }
+
+    @Test
+    public void testRemove()
+    {
+        TimingWheel.Entry<String> entry = wheel.add("a", START_TIME + 10);
+        wheel.add("b", START_TIME + 10);
+
+        assertTrue(wheel.remove(entry));
+        assertFalse(wheel.remove(entry));
+
+        wheel.pollExpired(START_TIME + 10, expired);
+        assertEquals(Arrays.asList("b"), expired);
+    }
+
+    @Test
+    public void testTargetTimeInPast()
+    {
+        wheel.pollExpired(START_TIME + 100, expired);
+        wheel.add("a", START_TIME);
+
+        wheel.pollExpired(START_TIME + 105, expired);
+        assertTrue(expired.isEmpty());
+        assertEquals(START_TIME + 110, wheel.getNextExpiryTime());
+
+        wheel.pollExpired(START_TIME + 110, expired);
+        assertEquals(Arrays.asList("a"), expired);
+        assertEquals(-1, wheel.getNextExpiryTime());
+    }
+}